@@ -11,6 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 public class EnvVariableFeatureFlags implements FeatureFlags {
 
   public static final String USE_STREAM_CAPABLE_STATE = "USE_STREAM_CAPABLE_STATE";
+  public static final String USE_PIPELINED_REPLICATION = "USE_PIPELINED_REPLICATION";
+  public static final String USE_RECORD_PASSTHROUGH = "USE_RECORD_PASSTHROUGH";
 
   @Override
   public boolean autoDisablesFailingConnections() {
@@ -34,6 +36,16 @@ public class EnvVariableFeatureFlags implements FeatureFlags {
     return getEnvOrDefault(USE_STREAM_CAPABLE_STATE, false, Boolean::parseBoolean);
   }
 
+  @Override
+  public boolean usePipelinedReplication() {
+    return getEnvOrDefault(USE_PIPELINED_REPLICATION, false, Boolean::parseBoolean);
+  }
+
+  @Override
+  public boolean useRecordPassthrough() {
+    return getEnvOrDefault(USE_RECORD_PASSTHROUGH, false, Boolean::parseBoolean);
+  }
+
   // TODO: refactor in order to use the same method than the ones in EnvConfigs.java
   public <T> T getEnvOrDefault(final String key, final T defaultValue, final Function<String, T> parser) {
     final String value = System.getenv(key);
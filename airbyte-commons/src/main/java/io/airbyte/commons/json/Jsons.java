@@ -135,9 +135,92 @@ public class Jsons {
    * the string to byte[] and use the length of the byte[]. However, this conversion is expensive in
    * memory consumption. Given that the byte size of the serialized JSON is already an estimation of
    * the actual size of the JSON object, using a cheap operation seems an acceptable compromise.
+   * <p>
+   * The length is computed by walking the tree rather than by serializing it, so that measuring a
+   * record does not cost as much as writing it. It matches the length of {@link #serialize}.
    */
   public static int getEstimatedByteSize(final JsonNode jsonNode) {
-    return serialize(jsonNode).length();
+    switch (jsonNode.getNodeType()) {
+      case OBJECT -> {
+        int size = 2 + Math.max(jsonNode.size() - 1, 0);
+        final Iterator<Entry<String, JsonNode>> fields = jsonNode.fields();
+        while (fields.hasNext()) {
+          final Entry<String, JsonNode> field = fields.next();
+          size += getSerializedStringLength(field.getKey()) + 1 + getEstimatedByteSize(field.getValue());
+        }
+        return size;
+      }
+      case ARRAY -> {
+        int size = 2 + Math.max(jsonNode.size() - 1, 0);
+        for (final JsonNode element : jsonNode) {
+          size += getEstimatedByteSize(element);
+        }
+        return size;
+      }
+      case STRING -> {
+        return getSerializedStringLength(jsonNode.textValue());
+      }
+      case BOOLEAN -> {
+        return jsonNode.booleanValue() ? 4 : 5;
+      }
+      case NULL -> {
+        return 4;
+      }
+      case NUMBER -> {
+        return getSerializedNumberLength(jsonNode);
+      }
+      case BINARY -> {
+        // base64 without line feeds, in quotes
+        return 2 + 4 * ((jsonNode.binaryValue().length + 2) / 3);
+      }
+      default -> {
+        return serialize(jsonNode).length();
+      }
+    }
+  }
+
+  private static int getSerializedStringLength(final String value) {
+    int size = 2;
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '"' || c == '\\' || c == '\b' || c == '\t' || c == '\n' || c == '\f' || c == '\r') {
+        size += 2;
+      } else if (c < 0x20) {
+        // other control characters are written as unicode escapes
+        size += 6;
+      } else {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  private static int getSerializedNumberLength(final JsonNode jsonNode) {
+    switch (jsonNode.numberType()) {
+      case INT, LONG -> {
+        final long value = jsonNode.longValue();
+        int size = value < 0 ? 2 : 1;
+        for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+          size++;
+        }
+        return size;
+      }
+      case DOUBLE -> {
+        final double value = jsonNode.doubleValue();
+        // non-numeric values are written as quoted strings
+        return Double.toString(value).length() + (Double.isFinite(value) ? 0 : 2);
+      }
+      case FLOAT -> {
+        final float value = jsonNode.floatValue();
+        return Float.toString(value).length() + (Float.isFinite(value) ? 0 : 2);
+      }
+      case BIG_INTEGER -> {
+        return jsonNode.bigIntegerValue().toString().length();
+      }
+      default -> {
+        return jsonNode.decimalValue().toString().length();
+      }
+    }
   }
 
   public static Set<String> keys(final JsonNode jsonNode) {
@@ -8,6 +8,7 @@ import com.google.common.collect.Iterators;
 import io.airbyte.commons.concurrency.VoidCallable;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -121,6 +122,41 @@ public class AutoCloseableIterators {
     return new DefaultAutoCloseableIterator<>(iteratorCreator.apply(autoCloseableIterator), autoCloseableIterator::close);
   }
 
+  /**
+   * Reads the input iterator ahead of the returned iterator's consumer, on a thread of the provided
+   * executor. Elements are returned in order. The read starts as soon as the executor runs it, so
+   * iterators prefetched on an executor with N threads are read N at a time, in the order they were
+   * created.
+   *
+   * @param autoCloseableIterator input autocloseable iterator
+   * @param executor executor to read the input iterator on
+   * @param bufferSize maximum number of elements read ahead
+   * @param <T> type
+   * @return autocloseable iterator that returns the elements of the input iterator
+   */
+  public static <T> AutoCloseableIterator<T> prefetch(final AutoCloseableIterator<T> autoCloseableIterator,
+                                                      final ExecutorService executor,
+                                                      final int bufferSize) {
+    return new PrefetchingAutoCloseableIterator<>(autoCloseableIterator, executor, bufferSize);
+  }
+
+  /**
+   * Reads the input iterators on threads of the provided executor, into a single buffer. Elements
+   * are returned in the order they were read, not in the order of the input iterators. Iterators
+   * merged on an executor with N threads are read N at a time, in the order they are listed.
+   *
+   * @param iterators input autocloseable iterators
+   * @param executor executor to read the input iterators on
+   * @param bufferSize maximum number of elements read ahead, in total
+   * @param <T> type
+   * @return autocloseable iterator that returns the elements of all the input iterators
+   */
+  public static <T> AutoCloseableIterator<T> merge(final List<AutoCloseableIterator<T>> iterators,
+                                                   final ExecutorService executor,
+                                                   final int bufferSize) {
+    return new MergingAutoCloseableIterator<>(iterators, executor, bufferSize);
+  }
+
   @SafeVarargs
   public static <T> CompositeIterator<T> concatWithEagerClose(final AutoCloseableIterator<T>... iterators) {
     return concatWithEagerClose(List.of(iterators));
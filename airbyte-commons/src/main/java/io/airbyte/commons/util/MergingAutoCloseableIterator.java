@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link AutoCloseableIterator} that reads several input iterators on threads of the provided
+ * executor, into a single buffer of at most {@code bufferSize} elements. Elements are returned in
+ * the order they were read, so an input iterator is never held back by the ones before it. Each
+ * input iterator is iterated and closed on the executor's thread, unless this iterator is closed
+ * before the executor started reading it.
+ * <p>
+ * An exception thrown by an input iterator is rethrown once the elements read before it were
+ * returned. The other input iterators then stop being read.
+ *
+ * @param <T> type
+ */
+class MergingAutoCloseableIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final long OFFER_TIMEOUT_MS = 100;
+  // marks the end of an input in the buffer
+  private static final Object END_OF_INPUT = new Object();
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final List<AtomicBoolean> started;
+  private final BlockingQueue<Object> buffer;
+  private final AtomicBoolean closed;
+  private final CountDownLatch finished;
+
+  private int endedInputs;
+  private volatile Exception failure;
+
+  public MergingAutoCloseableIterator(final List<AutoCloseableIterator<T>> iterators, final ExecutorService executor, final int bufferSize) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkNotNull(executor);
+    Preconditions.checkArgument(bufferSize > 0);
+
+    this.iterators = List.copyOf(iterators);
+    this.started = new ArrayList<>();
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.closed = new AtomicBoolean(false);
+    this.finished = new CountDownLatch(this.iterators.size());
+    this.endedInputs = 0;
+    for (int i = 0; i < this.iterators.size(); i++) {
+      started.add(new AtomicBoolean(false));
+    }
+    for (int i = 0; i < this.iterators.size(); i++) {
+      final int index = i;
+      executor.execute(() -> read(index));
+    }
+  }
+
+  private void read(final int index) {
+    if (!started.get(index).compareAndSet(false, true)) {
+      // closed before it was read
+      return;
+    }
+
+    final AutoCloseableIterator<T> iterator = iterators.get(index);
+    try {
+      while (!closed.get() && failure == null && iterator.hasNext()) {
+        offer(iterator.next());
+      }
+    } catch (final Exception e) {
+      setFailure(e);
+    } finally {
+      try {
+        iterator.close();
+      } catch (final Exception e) {
+        setFailure(e);
+      }
+      offer(END_OF_INPUT);
+      finished.countDown();
+    }
+  }
+
+  private synchronized void setFailure(final Exception e) {
+    if (failure == null) {
+      failure = e;
+    }
+  }
+
+  /**
+   * Waits for room in the buffer, unless this iterator gets closed.
+   */
+  private void offer(final Object element) {
+    try {
+      while (!closed.get()) {
+        if (buffer.offer(element, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected T computeNext() {
+    Preconditions.checkState(!closed.get());
+
+    while (endedInputs < iterators.size()) {
+      final Object element;
+      try {
+        element = buffer.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+
+      if (element != END_OF_INPUT) {
+        return (T) element;
+      }
+      endedInputs++;
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      } else if (failure != null) {
+        throw new RuntimeException(failure);
+      }
+    }
+    return endOfData();
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+
+    Exception closeFailure = null;
+    for (int i = 0; i < iterators.size(); i++) {
+      if (started.get(i).compareAndSet(false, true)) {
+        try {
+          iterators.get(i).close();
+        } catch (final Exception e) {
+          closeFailure = closeFailure == null ? e : closeFailure;
+        }
+        finished.countDown();
+      }
+    }
+    // the reading threads stop at the next element and close their input iterator
+    finished.await();
+    buffer.clear();
+    if (closeFailure != null) {
+      throw closeFailure;
+    }
+  }
+
+}
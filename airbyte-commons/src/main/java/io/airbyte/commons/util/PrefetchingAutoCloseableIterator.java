@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link AutoCloseableIterator} that reads the input iterator ahead of its consumer, on a thread
+ * of the provided executor, into a buffer of at most {@code bufferSize} elements. Elements are
+ * returned in the order of the input iterator. The input iterator is iterated and closed on the
+ * executor's thread, unless this iterator is closed before the executor started reading it.
+ * <p>
+ * An exception thrown by the input iterator is rethrown once the elements read before it were
+ * returned.
+ *
+ * @param <T> type
+ */
+class PrefetchingAutoCloseableIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final long OFFER_TIMEOUT_MS = 100;
+  // marks the end of the input in the buffer
+  private static final Object END_OF_DATA = new Object();
+
+  private final AutoCloseableIterator<T> iterator;
+  private final BlockingQueue<Object> buffer;
+  private final AtomicBoolean started;
+  private final AtomicBoolean closed;
+  private final CountDownLatch finished;
+
+  private volatile Exception failure;
+
+  public PrefetchingAutoCloseableIterator(final AutoCloseableIterator<T> iterator, final ExecutorService executor, final int bufferSize) {
+    Preconditions.checkNotNull(iterator);
+    Preconditions.checkNotNull(executor);
+    Preconditions.checkArgument(bufferSize > 0);
+
+    this.iterator = iterator;
+    // one more slot for the end marker
+    this.buffer = new ArrayBlockingQueue<>(bufferSize + 1);
+    this.started = new AtomicBoolean(false);
+    this.closed = new AtomicBoolean(false);
+    this.finished = new CountDownLatch(1);
+    executor.execute(this::read);
+  }
+
+  private void read() {
+    if (!started.compareAndSet(false, true)) {
+      // closed before it was read
+      return;
+    }
+
+    try {
+      while (!closed.get() && iterator.hasNext()) {
+        offer(iterator.next());
+      }
+    } catch (final Exception e) {
+      failure = e;
+    } finally {
+      try {
+        iterator.close();
+      } catch (final Exception e) {
+        if (failure == null) {
+          failure = e;
+        }
+      }
+      offer(END_OF_DATA);
+      finished.countDown();
+    }
+  }
+
+  /**
+   * Waits for room in the buffer, unless this iterator gets closed.
+   */
+  private void offer(final Object element) {
+    try {
+      while (!closed.get()) {
+        if (buffer.offer(element, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected T computeNext() {
+    Preconditions.checkState(!closed.get());
+
+    final Object element;
+    try {
+      element = buffer.take();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+
+    if (element != END_OF_DATA) {
+      return (T) element;
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    } else if (failure != null) {
+      throw new RuntimeException(failure);
+    }
+    return endOfData();
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+
+    if (started.compareAndSet(false, true)) {
+      iterator.close();
+    } else {
+      // the reading thread stops at the next element and closes the input iterator
+      finished.await();
+      buffer.clear();
+    }
+  }
+
+}
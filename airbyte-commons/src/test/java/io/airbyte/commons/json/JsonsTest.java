@@ -13,11 +13,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
@@ -252,6 +254,22 @@ class JsonsTest {
     assertEquals(Jsons.toBytes(json).length, Jsons.getEstimatedByteSize(json));
   }
 
+  @Test
+  void testGetEstimatedByteSizeMatchesSerializedLength() {
+    final ObjectNode json = (ObjectNode) Jsons.deserialize(
+        "{\"empty_object\":{},\"empty_array\":[],\"null\":null,\"true\":true,\"false\":false,"
+            + "\"int\":-1234,\"zero\":0,\"long\":9223372036854775807,\"min_long\":-9223372036854775808,"
+            + "\"big_int\":123456789012345678901234567890,\"double\":-12.5e-10,"
+            + "\"nested\":{\"array\":[1,\"two\",{\"three\":3.0}]},"
+            + "\"escaped \\\"key\\\"\":\"quote \\\" backslash \\\\ tab \\t newline \\n bell \\u0007 unicode \u00e9\"}");
+    json.put("float", 1.5f);
+    json.put("big_decimal", new BigDecimal("1.50"));
+    json.put("nan", Double.NaN);
+    json.put("binary", new byte[] {1, 2, 3, 4});
+
+    assertEquals(Jsons.serialize(json).length(), Jsons.getEstimatedByteSize(json));
+  }
+
   private static class ToClass {
 
     @JsonProperty("str")
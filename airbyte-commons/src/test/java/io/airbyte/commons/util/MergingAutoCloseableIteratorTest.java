@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MergingAutoCloseableIteratorTest {
+
+  private ExecutorService executor;
+  private AtomicInteger closedInputs;
+
+  @BeforeEach
+  void setup() {
+    executor = Executors.newFixedThreadPool(2);
+    closedInputs = new AtomicInteger();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testReturnsElementsOfAllInputs() throws Exception {
+    final List<AutoCloseableIterator<Integer>> inputs = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      inputs.add(input(IntStream.range(i * 1000, (i + 1) * 1000).iterator()));
+    }
+    final AutoCloseableIterator<Integer> iterator = AutoCloseableIterators.merge(inputs, executor, 10);
+
+    final List<Integer> elements = AutoCloseableIterators.toListAndClose(iterator);
+    assertEquals(IntStream.range(0, 5000).boxed().collect(Collectors.toList()), elements.stream().sorted().collect(Collectors.toList()));
+    assertEquals(5, closedInputs.get());
+  }
+
+  @Test
+  void testInputIsNotHeldBackByPreviousInput() throws Exception {
+    // the first input only ends once the second one was read
+    final CountDownLatch secondInputRead = new CountDownLatch(1);
+    final Iterator<String> first = Iterators.concat(MoreIterators.of("a"), MoreIterators.singletonIteratorFromSupplier(() -> {
+      try {
+        secondInputRead.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "b";
+    }));
+    final AutoCloseableIterator<String> iterator = AutoCloseableIterators.merge(List.of(input(first), input(MoreIterators.of("c"))), executor, 10);
+
+    final List<String> elements = new ArrayList<>();
+    while (elements.size() < 2) {
+      elements.add(iterator.next());
+    }
+    assertTrue(elements.contains("c"));
+    secondInputRead.countDown();
+    elements.add(iterator.next());
+    assertEquals(List.of("a", "b", "c"), elements.stream().sorted().collect(Collectors.toList()));
+    iterator.close();
+  }
+
+  @Test
+  void testRethrowsInputFailure() throws Exception {
+    final Iterator<String> failing = Iterators.concat(MoreIterators.of("a"), MoreIterators.singletonIteratorFromSupplier(() -> {
+      throw new IllegalStateException("read failed");
+    }));
+    final AutoCloseableIterator<String> iterator =
+        AutoCloseableIterators.merge(List.of(input(failing), input(Iterators.cycle("b"))), executor, 10);
+
+    assertThrows(IllegalStateException.class, () -> {
+      while (iterator.hasNext()) {
+        iterator.next();
+      }
+    });
+    iterator.close();
+    assertEquals(2, closedInputs.get());
+  }
+
+  @Test
+  void testCloseWhileReading() throws Exception {
+    final List<AutoCloseableIterator<Integer>> inputs = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      inputs.add(input(Iterators.cycle(1, 2, 3)));
+    }
+    final AutoCloseableIterator<Integer> iterator = AutoCloseableIterators.merge(inputs, executor, 10);
+
+    iterator.next();
+    // the readers are blocked on the full buffer and two inputs are not started, closing must close
+    // all of them
+    iterator.close();
+    assertEquals(4, closedInputs.get());
+  }
+
+  private <T> AutoCloseableIterator<T> input(final Iterator<T> iterator) {
+    return AutoCloseableIterators.fromIterator(iterator, closedInputs::incrementAndGet);
+  }
+
+}
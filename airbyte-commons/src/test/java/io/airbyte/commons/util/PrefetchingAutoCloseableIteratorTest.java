@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.Iterators;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrefetchingAutoCloseableIteratorTest {
+
+  private ExecutorService executor;
+  private AtomicBoolean inputClosed;
+
+  @BeforeEach
+  void setup() {
+    executor = Executors.newSingleThreadExecutor();
+    inputClosed = new AtomicBoolean(false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testReturnsElementsInOrder() throws Exception {
+    final List<Integer> elements = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    final AutoCloseableIterator<Integer> iterator = AutoCloseableIterators.prefetch(input(elements.iterator()), executor, 10);
+
+    assertEquals(elements, AutoCloseableIterators.toListAndClose(iterator));
+    assertTrue(inputClosed.get());
+  }
+
+  @Test
+  void testRethrowsInputFailureAfterPreviousElements() throws Exception {
+    final Iterator<String> failing = Iterators.concat(MoreIterators.of("a", "b"), MoreIterators.singletonIteratorFromSupplier(() -> {
+      throw new IllegalStateException("read failed");
+    }));
+    final AutoCloseableIterator<String> iterator = AutoCloseableIterators.prefetch(input(failing), executor, 10);
+
+    assertEquals("a", iterator.next());
+    assertEquals("b", iterator.next());
+    assertThrows(IllegalStateException.class, iterator::hasNext);
+    iterator.close();
+    assertTrue(inputClosed.get());
+  }
+
+  @Test
+  void testCloseBeforeReadStarts() throws Exception {
+    // keep the only thread busy so that the prefetch is still queued when it is closed
+    final CountDownLatch blocker = new CountDownLatch(1);
+    executor.execute(() -> {
+      try {
+        blocker.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    final AutoCloseableIterator<String> iterator = AutoCloseableIterators.prefetch(input(MoreIterators.of("a")), executor, 10);
+
+    iterator.close();
+    assertTrue(inputClosed.get());
+    blocker.countDown();
+  }
+
+  @Test
+  void testCloseWhileReading() throws Exception {
+    final Iterator<Integer> infinite = Iterators.cycle(1, 2, 3);
+    final AutoCloseableIterator<Integer> iterator = AutoCloseableIterators.prefetch(input(infinite), executor, 10);
+
+    assertEquals(1, iterator.next());
+    // the reader is blocked on the full buffer, closing must stop it
+    iterator.close();
+    assertTrue(inputClosed.get());
+  }
+
+  private <T> AutoCloseableIterator<T> input(final Iterator<T> iterator) {
+    return AutoCloseableIterators.fromIterator(iterator, () -> inputClosed.set(true));
+  }
+
+}
@@ -318,6 +318,33 @@ public interface Configs {
    */
   int getMaxDaysOfOnlyFailedJobsBeforeConnectionDisable();
 
+  /**
+   * Defines how many records of a stream are seen per record validated against the stream's schema
+   * during a sync. Defaults to 1, i.e. every record is validated.
+   */
+  int getRecordSchemaValidationSampleRate();
+
+  /**
+   * Defines the maximum fraction of a sync's time that may be spent validating records against their
+   * stream's schema. Records are not validated while the budget is exceeded. Defaults to 1.0, i.e. no
+   * limit.
+   */
+  double getRecordSchemaValidationMaxTimeFraction();
+
+  /**
+   * Defines the minimum number of seconds between two checkpoints of the destination's state to the
+   * config database while a sync is running, so that a failed sync can resume from it. Only applies
+   * to syncs run by the worker itself, not by the container orchestrator, which has no access to the
+   * database. Defaults to 0, i.e. the state is only saved once the sync finishes.
+   */
+  int getStateCheckpointIntervalSeconds();
+
+  /**
+   * Defines the minimum number of state messages the destination must emit between two checkpoints of
+   * its state to the config database. Defaults to 1.
+   */
+  int getStateCheckpointMinStateMessages();
+
   // Jobs - Kube only
   /**
    * Define the check job container's minimum CPU request. Defaults to
@@ -132,6 +132,11 @@ public class EnvConfigs implements Configs {
   private static final String MAX_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE = "MAX_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE";
   private static final String MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE = "MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE";
 
+  public static final String RECORD_SCHEMA_VALIDATION_SAMPLE_RATE = "RECORD_SCHEMA_VALIDATION_SAMPLE_RATE";
+  public static final String RECORD_SCHEMA_VALIDATION_MAX_TIME_FRACTION = "RECORD_SCHEMA_VALIDATION_MAX_TIME_FRACTION";
+  public static final String STATE_CHECKPOINT_INTERVAL_SECONDS = "STATE_CHECKPOINT_INTERVAL_SECONDS";
+  public static final String STATE_CHECKPOINT_MIN_STATE_MESSAGES = "STATE_CHECKPOINT_MIN_STATE_MESSAGES";
+
   private static final String METRIC_CLIENT = "METRIC_CLIENT";
   private static final String OTEL_COLLECTOR_ENDPOINT = "OTEL_COLLECTOR_ENDPOINT";
 
@@ -188,6 +193,10 @@ public class EnvConfigs implements Configs {
 
   public static final int DEFAULT_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE = 100;
   public static final int DEFAULT_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE = 14;
+  public static final int DEFAULT_RECORD_SCHEMA_VALIDATION_SAMPLE_RATE = 1;
+  public static final double DEFAULT_RECORD_SCHEMA_VALIDATION_MAX_TIME_FRACTION = 1.0;
+  public static final int DEFAULT_STATE_CHECKPOINT_INTERVAL_SECONDS = 0;
+  public static final int DEFAULT_STATE_CHECKPOINT_MIN_STATE_MESSAGES = 1;
 
   private final Function<String, String> getEnv;
   private final Supplier<Set<String>> getAllEnvKeys;
@@ -745,6 +754,26 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE, DEFAULT_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE);
   }
 
+  @Override
+  public int getRecordSchemaValidationSampleRate() {
+    return getEnvOrDefault(RECORD_SCHEMA_VALIDATION_SAMPLE_RATE, DEFAULT_RECORD_SCHEMA_VALIDATION_SAMPLE_RATE);
+  }
+
+  @Override
+  public double getRecordSchemaValidationMaxTimeFraction() {
+    return getEnvOrDefault(RECORD_SCHEMA_VALIDATION_MAX_TIME_FRACTION, DEFAULT_RECORD_SCHEMA_VALIDATION_MAX_TIME_FRACTION, Double::parseDouble);
+  }
+
+  @Override
+  public int getStateCheckpointIntervalSeconds() {
+    return getEnvOrDefault(STATE_CHECKPOINT_INTERVAL_SECONDS, DEFAULT_STATE_CHECKPOINT_INTERVAL_SECONDS);
+  }
+
+  @Override
+  public int getStateCheckpointMinStateMessages() {
+    return getEnvOrDefault(STATE_CHECKPOINT_MIN_STATE_MESSAGES, DEFAULT_STATE_CHECKPOINT_MIN_STATE_MESSAGES);
+  }
+
   @Override
   public String getCheckJobMainContainerCpuRequest() {
     return getEnvOrDefault(CHECK_JOB_MAIN_CONTAINER_CPU_REQUEST, getJobMainContainerCpuRequest());
@@ -37,6 +37,13 @@ public interface CloudLogs {
    */
   List<String> tailCloudLog(LogConfigs configs, String logPath, int numLines) throws IOException;
 
+  /**
+   * Assume all the lexicographically ordered objects at the given path form one giant log file,
+   * return the page of it starting at the given byte offset, or its last page if the offset is null.
+   * Only the byte ranges of the objects overlapping with the page are downloaded.
+   */
+  LogPage readCloudLogPage(LogConfigs configs, String logPath, Long offset, int length) throws IOException;
+
   void deleteLogs(LogConfigs configs, String logPath);
 
   static CloudLogs createCloudLogClient(final LogConfigs configs) {
@@ -5,17 +5,16 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -72,39 +71,59 @@ public class GcsLogs implements CloudLogs {
     final Storage gcsClient = getOrCreateGcsClient();
 
     LOGGER.debug("Start GCS list request.");
+    final List<Blob> ascendingTimestampBlobs = getAscendingBlobs(gcsClient, configs, logPath);
 
+    LOGGER.debug("Start getting GCS objects.");
+    final List<String> lines = LogTails.tail(
+        ascendingTimestampBlobs.stream().map(Blob::getSize).toList(),
+        (objectIndex, from, to) -> getBlobRange(ascendingTimestampBlobs.get(objectIndex), from, to),
+        numLines);
+
+    LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
+    return lines;
+  }
+
+  @Override
+  public LogPage readCloudLogPage(final LogConfigs configs, final String logPath, final Long offset, final int length) throws IOException {
+    LOGGER.debug("Reading log page from GCS path: {}", logPath);
+    final Storage gcsClient = getOrCreateGcsClient();
+
+    final List<Blob> ascendingTimestampBlobs = getAscendingBlobs(gcsClient, configs, logPath);
+    final LogPage page = LogPages.read(
+        ascendingTimestampBlobs.stream().map(Blob::getSize).toList(),
+        (objectIndex, from, to) -> getBlobRange(ascendingTimestampBlobs.get(objectIndex), from, to),
+        offset,
+        length);
+
+    LOGGER.debug("Done reading log page from GCS path: {}.", logPath);
+    return page;
+  }
+
+  private static List<Blob> getAscendingBlobs(final Storage gcsClient, final LogConfigs configs, final String logPath) {
     final Page<Blob> blobs = gcsClient.list(
         configs.getStorageConfigs().getGcsConfig().getBucketName(),
         Storage.BlobListOption.prefix(logPath));
 
     final var ascendingTimestampBlobs = new ArrayList<Blob>();
+    // Objects are returned in lexicographical order.
     for (final Blob blob : blobs.iterateAll()) {
       ascendingTimestampBlobs.add(blob);
     }
-    final var descendingTimestampBlobs = Lists.reverse(ascendingTimestampBlobs);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
+    return ascendingTimestampBlobs;
+  }
 
-    LOGGER.debug("Start getting GCS objects.");
-    while (linesRead <= numLines && !descendingTimestampBlobs.isEmpty()) {
-      final var poppedBlob = descendingTimestampBlobs.remove(0);
-      try (final var inMemoryData = new ByteArrayOutputStream()) {
-        poppedBlob.downloadTo(inMemoryData);
-        final var currFileLines = inMemoryData.toString(StandardCharsets.UTF_8).split("\n");
-        final List<String> currFileLinesReversed = Lists.reverse(List.of(currFileLines));
-        for (final var line : currFileLinesReversed) {
-          if (linesRead == numLines) {
-            break;
-          }
-          lines.add(0, line);
-          linesRead++;
+  private static byte[] getBlobRange(final Blob blob, final long from, final long to) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+    try (final ReadChannel reader = blob.reader()) {
+      reader.seek(from);
+      reader.setChunkSize(buffer.capacity());
+      while (buffer.hasRemaining()) {
+        if (reader.read(buffer) < 0) {
+          break;
         }
       }
     }
-
-    LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
-    return lines;
+    return buffer.array();
   }
 
   @Override
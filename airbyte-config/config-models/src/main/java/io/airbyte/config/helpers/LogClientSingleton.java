@@ -56,6 +56,9 @@ public class LogClientSingleton {
   public static final String GOOGLE_APPLICATION_CREDENTIALS = "GOOGLE_APPLICATION_CREDENTIALS";
 
   public static final int DEFAULT_PAGE_SIZE = 1000;
+  // bytes of job logs read at once when paging through them
+  public static final int DEFAULT_LOG_PAGE_BYTES = 1024 * 1024;
+  public static final int MAX_LOG_PAGE_BYTES = 16 * 1024 * 1024;
   public static final String LOG_FILENAME = "logs.log";
   public static final String APP_LOGGING_CLOUD_PREFIX = "app-logging";
   public static final String JOB_LOGGING_CLOUD_PREFIX = "job-logging";
@@ -113,6 +116,28 @@ public class LogClientSingleton {
     return logClient.tailCloudLog(logConfigs, cloudLogPath, LOG_TAIL_SIZE);
   }
 
+  /**
+   * Reads the page of a job log starting at the given byte offset, or its last page if the offset is
+   * null, without reading the rest of the log.
+   */
+  public LogPage getJobLogPage(final WorkerEnvironment workerEnvironment,
+                               final LogConfigs logConfigs,
+                               final Path logPath,
+                               final Long offset,
+                               final int length)
+      throws IOException {
+    if (logPath == null || logPath.equals(Path.of(""))) {
+      return LogPage.EMPTY;
+    }
+
+    if (shouldUseLocalLogs(workerEnvironment)) {
+      return LogPages.readFile(logPath, offset, length);
+    }
+
+    final var cloudLogPath = JOB_LOGGING_CLOUD_PREFIX + logPath;
+    return logClient.readCloudLogPage(logConfigs, cloudLogPath, offset, length);
+  }
+
   /**
    * Primarily to clean up logs after testing. Only valid for Kube logs.
    */
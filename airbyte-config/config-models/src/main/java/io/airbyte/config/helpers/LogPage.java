@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.util.List;
+
+/**
+ * Lines read from a log, as the byte range [startOffset, endOffset) of a log of the given size.
+ * Reading the previous page stops at startOffset and reading the next one starts at endOffset.
+ */
+public record LogPage(List<String> lines, long startOffset, long endOffset, long size) {
+
+  public static final LogPage EMPTY = new LogPage(List.of(), 0, 0, 0);
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Reads pages of a log made of one or more objects, which form one log file when concatenated in
+ * order, by only reading the byte range of each object that overlaps with the page.
+ */
+public final class LogPages {
+
+  private LogPages() {}
+
+  /**
+   * Reads the bytes [from, to) of the object at the given index.
+   */
+  @FunctionalInterface
+  public interface RangeReader {
+
+    byte[] read(int objectIndex, long from, long to) throws IOException;
+
+  }
+
+  /**
+   * Reads up to length bytes of the log starting at the given offset, or its last length bytes if
+   * the offset is null. The page is trimmed to whole lines unless a single line does not fit in it.
+   *
+   * @param objectSizes size of each object of the log, in order
+   * @param reader reads byte ranges of the objects
+   * @param offset offset of the first byte to read, or null to read the end of the log
+   * @param length maximum number of bytes to read
+   */
+  public static LogPage read(final List<Long> objectSizes, final RangeReader reader, final Long offset, final int length) throws IOException {
+    final long size = objectSizes.stream().mapToLong(Long::longValue).sum();
+    final long start = offset == null ? Math.max(0, size - length) : Math.min(Math.max(0, offset), size);
+    final long end = Math.min(size, start + length);
+    if (start == end) {
+      return new LogPage(List.of(), start, end, size);
+    }
+
+    // read the byte before the page as well, to know whether the page starts on a new line
+    final long readStart = start == 0 ? 0 : start - 1;
+    final byte[] bytes = readRange(objectSizes, reader, readStart, end);
+    final int pageStart = (int) (start - readStart);
+
+    int from = pageStart;
+    if (start > 0 && bytes[pageStart - 1] != '\n') {
+      from = indexAfterNextNewLine(bytes, pageStart);
+    }
+    int to = bytes.length;
+    if (end < size && bytes[to - 1] != '\n') {
+      to = indexAfterLastNewLine(bytes, from);
+    }
+    if (from >= to) {
+      // a single line is longer than the page, return it partially rather than never moving forward
+      from = pageStart;
+      to = bytes.length;
+    }
+
+    final List<String> lines = new String(bytes, from, to - from, StandardCharsets.UTF_8).lines().toList();
+    return new LogPage(lines, readStart + from, readStart + to, size);
+  }
+
+  /**
+   * Reads a page of a local log file. A missing file is read as an empty log.
+   */
+  public static LogPage readFile(final Path path, final Long offset, final int length) throws IOException {
+    if (!Files.exists(path)) {
+      return LogPage.EMPTY;
+    }
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return read(List.of(channel.size()), (objectIndex, from, to) -> {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining()) {
+          if (channel.read(buffer, from + buffer.position()) < 0) {
+            break;
+          }
+        }
+        return buffer.array();
+      }, offset, length);
+    }
+  }
+
+  private static byte[] readRange(final List<Long> objectSizes, final RangeReader reader, final long start, final long end) throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) (end - start));
+    long objectStart = 0;
+    for (int i = 0; i < objectSizes.size() && objectStart < end; i++) {
+      final long objectEnd = objectStart + objectSizes.get(i);
+      final long from = Math.max(start, objectStart);
+      final long to = Math.min(end, objectEnd);
+      if (from < to) {
+        outputStream.write(reader.read(i, from - objectStart, to - objectStart));
+      }
+      objectStart = objectEnd;
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static int indexAfterNextNewLine(final byte[] bytes, final int from) {
+    for (int i = from; i < bytes.length; i++) {
+      if (bytes[i] == '\n') {
+        return i + 1;
+      }
+    }
+    return bytes.length;
+  }
+
+  private static int indexAfterLastNewLine(final byte[] bytes, final int from) {
+    for (int i = bytes.length - 1; i >= from; i--) {
+      if (bytes[i] == '\n') {
+        return i + 1;
+      }
+    }
+    return from;
+  }
+
+}
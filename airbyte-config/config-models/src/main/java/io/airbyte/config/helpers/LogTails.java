@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.config.helpers.LogPages.RangeReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads the last lines of a log made of one or more objects, which form one log file when
+ * concatenated in order. Objects are read newest first, in chunks read from their end with ranged
+ * reads, a few chunks being fetched concurrently, until enough lines are collected.
+ * <p>
+ * As when reading each object line by line, an object boundary is also a line boundary.
+ */
+public final class LogTails {
+
+  @VisibleForTesting
+  static final int CHUNK_BYTES = 256 * 1024;
+  private static final int CONCURRENT_CHUNKS = 4;
+
+  private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(CONCURRENT_CHUNKS,
+      new ThreadFactoryBuilder().setNameFormat("log-tail-%d").setDaemon(true).build());
+
+  private LogTails() {}
+
+  private record Chunk(int objectIndex, long from, long to, boolean startOfObject, boolean endOfObject) {}
+
+  private record FetchedChunk(Chunk chunk, Future<byte[]> bytes) {}
+
+  /**
+   * @param objectSizes size of each object of the log, in order
+   * @param reader reads byte ranges of the objects
+   * @param numLines number of lines to read from the end of the log
+   * @return the last numLines lines of the log, in order
+   */
+  public static List<String> tail(final List<Long> objectSizes, final RangeReader reader, final int numLines) throws IOException {
+    return tail(objectSizes, reader, numLines, CHUNK_BYTES);
+  }
+
+  @VisibleForTesting
+  static List<String> tail(final List<Long> objectSizes, final RangeReader reader, final int numLines, final int chunkBytes) throws IOException {
+    final Deque<String> lines = new ArrayDeque<>();
+    final Iterator<Chunk> chunks = newestFirstChunks(objectSizes, chunkBytes).iterator();
+    final Deque<FetchedChunk> fetchedChunks = new ArrayDeque<>();
+    try {
+      while (fetchedChunks.size() < CONCURRENT_CHUNKS && chunks.hasNext()) {
+        fetchedChunks.addLast(fetch(chunks.next(), reader));
+      }
+
+      byte[] partialLine = new byte[0];
+      while (lines.size() < numLines && !fetchedChunks.isEmpty()) {
+        final FetchedChunk fetchedChunk = fetchedChunks.removeFirst();
+        if (chunks.hasNext()) {
+          fetchedChunks.addLast(fetch(chunks.next(), reader));
+        }
+        partialLine = addLines(lines, numLines, fetchedChunk.chunk(), concat(get(fetchedChunk.bytes()), partialLine));
+      }
+    } finally {
+      fetchedChunks.forEach(fetchedChunk -> fetchedChunk.bytes().cancel(true));
+    }
+    return new ArrayList<>(lines);
+  }
+
+  private static List<Chunk> newestFirstChunks(final List<Long> objectSizes, final int chunkBytes) {
+    final List<Chunk> chunks = new ArrayList<>();
+    for (int i = objectSizes.size() - 1; i >= 0; i--) {
+      final long size = objectSizes.get(i);
+      for (long to = size; to > 0; to -= chunkBytes) {
+        final long from = Math.max(0, to - chunkBytes);
+        chunks.add(new Chunk(i, from, to, from == 0, to == size));
+      }
+    }
+    return chunks;
+  }
+
+  private static FetchedChunk fetch(final Chunk chunk, final RangeReader reader) {
+    return new FetchedChunk(chunk, EXECUTOR.submit(() -> reader.read(chunk.objectIndex(), chunk.from(), chunk.to())));
+  }
+
+  private static byte[] get(final Future<byte[]> bytes) throws IOException {
+    try {
+      return bytes.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading logs", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to read logs", e.getCause());
+    }
+  }
+
+  /**
+   * Adds the complete lines of the data, from the last one, to the front of the lines.
+   *
+   * @param data the bytes of the chunk followed by the partial line left from the chunk after it
+   * @return the partial line the data starts with, which continues in the chunk before it
+   */
+  private static byte[] addLines(final Deque<String> lines, final int numLines, final Chunk chunk, final byte[] data) {
+    int end = data.length;
+    if (chunk.endOfObject() && end > 0 && data[end - 1] == '\n') {
+      end--;
+    }
+    for (int i = end - 1; i >= 0; i--) {
+      if (data[i] == '\n') {
+        lines.addFirst(toLine(data, i + 1, end));
+        if (lines.size() == numLines) {
+          return new byte[0];
+        }
+        end = i;
+      }
+    }
+    if (chunk.startOfObject()) {
+      lines.addFirst(toLine(data, 0, end));
+      return new byte[0];
+    }
+    final byte[] partialLine = new byte[end];
+    System.arraycopy(data, 0, partialLine, 0, end);
+    return partialLine;
+  }
+
+  private static String toLine(final byte[] data, final int from, final int to) {
+    final int end = to > from && data[to - 1] == '\r' ? to - 1 : to;
+    return new String(data, from, end - from, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] concat(final byte[] first, final byte[] second) {
+    if (second.length == 0) {
+      return first;
+    }
+    final byte[] bytes = new byte[first.length + second.length];
+    System.arraycopy(first, 0, bytes, 0, first.length);
+    System.arraycopy(second, 0, bytes, first.length, second.length);
+    return bytes;
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.Lists;
+import io.airbyte.config.helpers.LogPages.RangeReader;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares tailing a job log made of thousands of objects by downloading whole objects, as logs
+ * used to be tailed, with {@link LogTails}. Objects are served from memory with a fixed latency
+ * per request, standing in for a MinIO or S3 bucket.
+ */
+class LogTailsPerformanceTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LogTailsPerformanceTest.class);
+
+  private static final int REQUEST_LATENCY_MILLIS = 5;
+  private static final int LINES_PER_OBJECT = 100;
+  private static final String LINE = "2022-06-01 10:00:00 INFO i.a.w.p.a.DefaultAirbyteStreamFactory(internalLog):97 - Records read: %d (%d MB)";
+
+  @ParameterizedTest
+  @CsvSource({
+    "1000, 1000",
+    "5000, 1000",
+    "5000, 100000"
+  })
+  void testTail(final int numberOfObjects, final int numLines) throws IOException {
+    final List<byte[]> objects = new ArrayList<>();
+    for (int i = 0; i < numberOfObjects; i++) {
+      final StringBuilder object = new StringBuilder();
+      for (int j = 0; j < LINES_PER_OBJECT; j++) {
+        object.append(String.format(LINE, i * LINES_PER_OBJECT + j, i)).append('\n');
+      }
+      objects.add(object.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    final List<Long> sizes = objects.stream().map(object -> (long) object.length).toList();
+    final StandInBucket bucket = new StandInBucket(objects);
+
+    long start = System.nanoTime();
+    final List<String> wholeObjectLines = tailWholeObjects(bucket, numLines);
+    final long wholeObjectNanos = System.nanoTime() - start;
+    final long wholeObjectRequests = bucket.requests.getAndSet(0);
+    final long wholeObjectBytes = bucket.bytes.getAndSet(0);
+
+    start = System.nanoTime();
+    final List<String> tailLines = LogTails.tail(sizes, bucket, numLines);
+    final long tailNanos = System.nanoTime() - start;
+
+    assertEquals(wholeObjectLines, tailLines);
+    LOGGER.info("{} objects, {} lines: whole objects {} ms ({} requests, {} MB), log tails {} ms ({} requests, {} MB)",
+        numberOfObjects,
+        numLines,
+        wholeObjectNanos / 1_000_000,
+        wholeObjectRequests,
+        wholeObjectBytes / 1024 / 1024,
+        tailNanos / 1_000_000,
+        bucket.requests.get(),
+        bucket.bytes.get() / 1024 / 1024);
+  }
+
+  /**
+   * The previous implementation of {@link CloudLogs#tailCloudLog}.
+   */
+  private static List<String> tailWholeObjects(final StandInBucket bucket, final int numLines) throws IOException {
+    final List<Integer> descendingObjects = new ArrayList<>();
+    for (int i = bucket.objects.size() - 1; i >= 0; i--) {
+      descendingObjects.add(i);
+    }
+
+    final var lines = new ArrayList<String>();
+    int linesRead = 0;
+    while (linesRead <= numLines && !descendingObjects.isEmpty()) {
+      final int objectIndex = descendingObjects.remove(0);
+      final byte[] data = bucket.read(objectIndex, 0, bucket.objects.get(objectIndex).length);
+      final var currentFileLines = new ArrayList<String>();
+      try (final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8))) {
+        String temp;
+        while ((temp = reader.readLine()) != null) {
+          currentFileLines.add(temp);
+        }
+      }
+      for (final var line : Lists.reverse(currentFileLines)) {
+        if (linesRead == numLines) {
+          break;
+        }
+        lines.add(0, line);
+        linesRead++;
+      }
+    }
+    return lines;
+  }
+
+  private static class StandInBucket implements RangeReader {
+
+    private final List<byte[]> objects;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    StandInBucket(final List<byte[]> objects) {
+      this.objects = objects;
+    }
+
+    @Override
+    public byte[] read(final int objectIndex, final long from, final long to) throws IOException {
+      try {
+        Thread.sleep(REQUEST_LATENCY_MILLIS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+      requests.incrementAndGet();
+      bytes.addAndGet(to - from);
+      return Arrays.copyOfRange(objects.get(objectIndex), (int) from, (int) to);
+    }
+
+  }
+
+}
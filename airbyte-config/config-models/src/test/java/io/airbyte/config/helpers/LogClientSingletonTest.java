@@ -17,6 +17,7 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -54,4 +55,20 @@ class LogClientSingletonTest {
     verifyNoInteractions(mockLogClient);
   }
 
+  @Test
+  void testGetJobLogPageK8s() throws IOException {
+    final LogPage page = new LogPage(List.of("line"), 10, 15, 15);
+    when(configs.getWorkerEnvironment()).thenReturn(WorkerEnvironment.KUBERNETES);
+    when(mockLogClient.readCloudLogPage(any(), eq("job-logging/job/1"), eq(10L), eq(100))).thenReturn(page);
+    assertEquals(page,
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), Path.of("/job/1"), 10L, 100));
+  }
+
+  @Test
+  void testGetJobLogPageNullPath() throws IOException {
+    assertEquals(LogPage.EMPTY,
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), null, null, 100));
+    verifyNoInteractions(mockLogClient);
+  }
+
 }
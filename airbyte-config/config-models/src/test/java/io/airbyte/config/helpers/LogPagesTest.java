@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.config.helpers.LogPages.RangeReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogPagesTest {
+
+  // "Line 0\n" to "Line 8\n", 7 bytes each, split in objects of 3 lines
+  private static final List<byte[]> OBJECTS = List.of(
+      "Line 0\nLine 1\nLine 2\n".getBytes(StandardCharsets.UTF_8),
+      "Line 3\nLine 4\nLine 5\n".getBytes(StandardCharsets.UTF_8),
+      "Line 6\nLine 7\nLine 8\n".getBytes(StandardCharsets.UTF_8));
+  private static final List<Long> OBJECT_SIZES = List.of(21L, 21L, 21L);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testReadPageAcrossObjects() throws IOException {
+    final List<String> ranges = new ArrayList<>();
+    final LogPage page = LogPages.read(OBJECT_SIZES, recordingReader(ranges), 14L, 21);
+
+    assertEquals(new LogPage(List.of("Line 2", "Line 3", "Line 4"), 14, 35, 63), page);
+    // only the byte before the page and the page itself are read
+    assertEquals(List.of("0:13-21", "1:0-14"), ranges);
+  }
+
+  @Test
+  void testReadPageTrimmedToWholeLines() throws IOException {
+    final LogPage page = LogPages.read(OBJECT_SIZES, recordingReader(new ArrayList<>()), 10L, 20);
+
+    assertEquals(new LogPage(List.of("Line 2", "Line 3"), 14, 28, 63), page);
+  }
+
+  @Test
+  void testReadLastPage() throws IOException {
+    final List<String> ranges = new ArrayList<>();
+    final LogPage page = LogPages.read(OBJECT_SIZES, recordingReader(ranges), null, 17);
+
+    assertEquals(new LogPage(List.of("Line 7", "Line 8"), 49, 63, 63), page);
+    assertEquals(List.of("2:3-21"), ranges);
+  }
+
+  @Test
+  void testReadPageOfLongLine() throws IOException {
+    final LogPage page = LogPages.read(OBJECT_SIZES, recordingReader(new ArrayList<>()), 1L, 4);
+
+    assertEquals(new LogPage(List.of("ine "), 1, 5, 63), page);
+  }
+
+  @Test
+  void testReadPastEnd() throws IOException {
+    assertEquals(new LogPage(List.of(), 63, 63, 63), LogPages.read(OBJECT_SIZES, recordingReader(new ArrayList<>()), 100L, 10));
+    assertEquals(new LogPage(List.of(), 0, 0, 0), LogPages.read(List.of(), recordingReader(new ArrayList<>()), null, 10));
+  }
+
+  @Test
+  void testReadFile() throws IOException {
+    final Path logPath = tempDir.resolve("logs.log");
+    Files.write(logPath, "Line 0\nLine 1\nLine 2\n".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(new LogPage(List.of("Line 1", "Line 2"), 7, 21, 21), LogPages.readFile(logPath, 7L, 100));
+    assertEquals(new LogPage(List.of("Line 2"), 14, 21, 21), LogPages.readFile(logPath, null, 10));
+    assertEquals(LogPage.EMPTY, LogPages.readFile(tempDir.resolve("missing.log"), null, 10));
+  }
+
+  private static RangeReader recordingReader(final List<String> ranges) {
+    return (objectIndex, from, to) -> {
+      ranges.add(objectIndex + ":" + from + "-" + to);
+      return Arrays.copyOfRange(OBJECTS.get(objectIndex), (int) from, (int) to);
+    };
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.helpers.LogPages.RangeReader;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LogTailsTest {
+
+  private static final List<byte[]> OBJECTS = List.of(
+      "Line 1\nLine 2\nLine 3\n".getBytes(StandardCharsets.UTF_8),
+      "Line 4\nLine 5\nLine 6\n".getBytes(StandardCharsets.UTF_8),
+      "Line 7\nLine 8\nLine 9\n".getBytes(StandardCharsets.UTF_8));
+
+  @Test
+  void testTail() throws IOException {
+    assertEquals(List.of("Line 4", "Line 5", "Line 6", "Line 7", "Line 8", "Line 9"), LogTails.tail(sizes(OBJECTS), reader(OBJECTS), 6));
+    assertEquals(List.of("Line 9"), LogTails.tail(sizes(OBJECTS), reader(OBJECTS), 1));
+    assertEquals(List.of(), LogTails.tail(sizes(OBJECTS), reader(OBJECTS), 0));
+    assertEquals(List.of(), LogTails.tail(List.of(), reader(List.of()), 10));
+  }
+
+  @Test
+  void testTailLongerThanLog() throws IOException {
+    assertEquals(readAllLines(OBJECTS), LogTails.tail(sizes(OBJECTS), reader(OBJECTS), 100));
+  }
+
+  @Test
+  void testObjectBoundaryIsLineBoundary() throws IOException {
+    final List<byte[]> objects = List.of(
+        "first\nsecond without new line".getBytes(StandardCharsets.UTF_8),
+        "".getBytes(StandardCharsets.UTF_8),
+        "\r\nthird\r\n\nfourth".getBytes(StandardCharsets.UTF_8));
+    final List<String> expected = List.of("first", "second without new line", "", "third", "", "fourth");
+
+    assertEquals(expected, readAllLines(objects));
+    assertEquals(expected, LogTails.tail(sizes(objects), reader(objects), 100, 2));
+  }
+
+  @Test
+  void testStopsReadingOnceLinesAreCollected() throws IOException {
+    final List<byte[]> objects = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      objects.add(String.format("Line %d\n", i).getBytes(StandardCharsets.UTF_8));
+    }
+    final Set<Integer> readObjects = ConcurrentHashMap.newKeySet();
+    final RangeReader reader = (objectIndex, from, to) -> {
+      readObjects.add(objectIndex);
+      return reader(objects).read(objectIndex, from, to);
+    };
+
+    assertEquals(List.of("Line 98", "Line 99"), LogTails.tail(sizes(objects), reader, 2));
+    // the newest objects and at most a few chunks fetched ahead
+    assertTrue(readObjects.contains(99) && readObjects.contains(98));
+    assertTrue(readObjects.stream().allMatch(objectIndex -> objectIndex >= 90), readObjects.toString());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 3, 7, 64, 1024})
+  void testSameLinesAsReadingWholeObjects(final int chunkBytes) throws IOException {
+    final Random random = new Random(chunkBytes);
+    final List<byte[]> objects = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      final StringBuilder object = new StringBuilder();
+      final int numLines = random.nextInt(5);
+      for (int j = 0; j < numLines; j++) {
+        object.append(String.join("", Collections.nCopies(random.nextInt(20), "é"))).append(i).append('-').append(j);
+        if (j < numLines - 1 || random.nextBoolean()) {
+          object.append('\n');
+        }
+      }
+      objects.add(object.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    final List<String> allLines = readAllLines(objects);
+    for (final int numLines : List.of(1, 5, 17, allLines.size(), allLines.size() + 1)) {
+      assertEquals(allLines.subList(Math.max(0, allLines.size() - numLines), allLines.size()),
+          LogTails.tail(sizes(objects), reader(objects), numLines, chunkBytes));
+    }
+  }
+
+  @Test
+  void testReadFailure() {
+    final RangeReader reader = (objectIndex, from, to) -> {
+      throw new IOException("read failed");
+    };
+    assertThrows(IOException.class, () -> LogTails.tail(sizes(OBJECTS), reader, 5));
+  }
+
+  private static List<Long> sizes(final List<byte[]> objects) {
+    return objects.stream().map(object -> (long) object.length).toList();
+  }
+
+  private static RangeReader reader(final List<byte[]> objects) {
+    return (objectIndex, from, to) -> Arrays.copyOfRange(objects.get(objectIndex), (int) from, (int) to);
+  }
+
+  /**
+   * Reads every object line by line, as logs used to be tailed.
+   */
+  private static List<String> readAllLines(final List<byte[]> objects) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    for (final byte[] object : objects) {
+      try (final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(object), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          lines.add(line);
+        }
+      }
+    }
+    return lines;
+  }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteConfig;
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.ConfigWithMetadata;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache, bounded in serialized size and time to live, of the configs read by id from
+ * the decorated ConfigPersistence.
+ * <p>
+ * Configs written or deleted through this persistence are evicted from the cache. Entries are
+ * stamped with the version of the cache they were read at, so that a config read while it was
+ * being written is not cached over the eviction. Configs written by other processes, or directly to
+ * the database, are picked up once their entry expires, so the time to live bounds how stale a
+ * config read from the cache can be.
+ */
+public class CachingConfigPersistence implements ConfigPersistence {
+
+  public static final Set<AirbyteConfig> DEFAULT_CACHED_CONFIG_TYPES = Set.of(
+      ConfigSchema.STANDARD_WORKSPACE,
+      ConfigSchema.STANDARD_SOURCE_DEFINITION,
+      ConfigSchema.STANDARD_DESTINATION_DEFINITION,
+      ConfigSchema.SOURCE_CONNECTION,
+      ConfigSchema.DESTINATION_CONNECTION,
+      ConfigSchema.STANDARD_SYNC,
+      ConfigSchema.STANDARD_SYNC_OPERATION);
+  // in characters of serialized configs, connections carry their whole configured catalog
+  private static final long DEFAULT_MAXIMUM_WEIGHT = 64 * 1024 * 1024;
+  private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+  private record CacheKey(AirbyteConfig configType, String configId) {}
+
+  /**
+   * Configs are cached serialized, so that every read gets its own copy and the cache is bounded by
+   * the size of the configs rather than by their number. An entry without config marks the config
+   * as evicted at the given version.
+   */
+  private record CachedConfig(String config, long version) {
+
+    // eviction marks weigh nothing, so that they are only dropped once they expire
+    int weight() {
+      return config == null ? 0 : config.length();
+    }
+
+  }
+
+  private final ConfigPersistence decoratedPersistence;
+  private final MetricClient metricClient;
+  private final Set<AirbyteConfig> cachedConfigTypes;
+  private final Cache<CacheKey, CachedConfig> cache;
+  private final AtomicLong version = new AtomicLong();
+  // version at which all the configs of a type were last evicted
+  private final Map<AirbyteConfig, Long> typeEvictionVersions = new ConcurrentHashMap<>();
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence, final MetricClient metricClient) {
+    this(decoratedPersistence, metricClient, DEFAULT_CACHED_CONFIG_TYPES, DEFAULT_MAXIMUM_WEIGHT, DEFAULT_TIME_TO_LIVE, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  CachingConfigPersistence(final ConfigPersistence decoratedPersistence,
+                           final MetricClient metricClient,
+                           final Set<AirbyteConfig> cachedConfigTypes,
+                           final long maximumWeight,
+                           final Duration timeToLive,
+                           final Ticker ticker) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.metricClient = metricClient;
+    this.cachedConfigTypes = cachedConfigTypes;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher((CacheKey key, CachedConfig cachedConfig) -> cachedConfig.weight())
+        .expireAfterWrite(timeToLive)
+        .ticker(ticker)
+        .build();
+  }
+
+  @Override
+  public <T> T getConfig(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    if (!cachedConfigTypes.contains(configType)) {
+      return decoratedPersistence.getConfig(configType, configId, clazz);
+    }
+
+    final CacheKey key = new CacheKey(configType, configId);
+    final CachedConfig cachedConfig = cache.getIfPresent(key);
+    if (cachedConfig != null && cachedConfig.config() != null) {
+      metricClient.count(OssMetricsRegistry.CONFIG_CACHE_HIT, 1, MetricTags.getConfigType(configType));
+      return Jsons.deserialize(cachedConfig.config(), clazz);
+    }
+
+    metricClient.count(OssMetricsRegistry.CONFIG_CACHE_MISS, 1, MetricTags.getConfigType(configType));
+    final long readVersion = version.get();
+    final T config = decoratedPersistence.getConfig(configType, configId, clazz);
+    final String serializedConfig = Jsons.serialize(config);
+    if (readVersion >= typeEvictionVersions.getOrDefault(configType, 0L)) {
+      // keep the newer entry if the config was evicted, or read again, since it was read
+      cache.asMap().compute(key, (k, current) -> current != null && current.version() > readVersion
+          ? current
+          : new CachedConfig(serializedConfig, readVersion));
+    }
+    return config;
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz) throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigs(configType, clazz);
+  }
+
+  @Override
+  public <T> ConfigWithMetadata<T> getConfigWithMetadata(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    return decoratedPersistence.getConfigWithMetadata(configType, configId, clazz);
+  }
+
+  @Override
+  public <T> List<ConfigWithMetadata<T>> listConfigsWithMetadata(final AirbyteConfig configType, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigsWithMetadata(configType, clazz);
+  }
+
+  @Override
+  public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
+    try {
+      decoratedPersistence.writeConfig(configType, configId, config);
+    } finally {
+      invalidate(configType, configId);
+    }
+  }
+
+  @Override
+  public <T> void writeConfigs(final AirbyteConfig configType, final Map<String, T> configs) throws IOException, JsonValidationException {
+    try {
+      decoratedPersistence.writeConfigs(configType, configs);
+    } finally {
+      configs.keySet().forEach(configId -> invalidate(configType, configId));
+    }
+  }
+
+  @Override
+  public void deleteConfig(final AirbyteConfig configType, final String configId) throws ConfigNotFoundException, IOException {
+    try {
+      decoratedPersistence.deleteConfig(configType, configId);
+    } finally {
+      invalidate(configType, configId);
+    }
+  }
+
+  @Override
+  public void replaceAllConfigs(final Map<AirbyteConfig, Stream<?>> configs, final boolean dryRun) throws IOException {
+    try {
+      decoratedPersistence.replaceAllConfigs(configs, dryRun);
+    } finally {
+      invalidateAll();
+    }
+  }
+
+  @Override
+  public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
+    return decoratedPersistence.dumpConfigs();
+  }
+
+  @Override
+  public void loadData(final ConfigPersistence seedPersistence) throws IOException {
+    try {
+      decoratedPersistence.loadData(seedPersistence);
+    } finally {
+      invalidateAll();
+    }
+  }
+
+  /**
+   * Evicts a config which was written without going through this persistence.
+   */
+  public void invalidate(final AirbyteConfig configType, final String configId) {
+    if (cachedConfigTypes.contains(configType)) {
+      cache.put(new CacheKey(configType, configId), new CachedConfig(null, version.incrementAndGet()));
+    }
+  }
+
+  /**
+   * Evicts all the configs of a type, for when configs of that type were written without going
+   * through this persistence.
+   */
+  public void invalidateAll(final AirbyteConfig configType) {
+    if (cachedConfigTypes.contains(configType)) {
+      typeEvictionVersions.put(configType, version.incrementAndGet());
+      cache.asMap().keySet().removeIf(key -> key.configType().equals(configType));
+    }
+  }
+
+  public void invalidateAll() {
+    cachedConfigTypes.forEach(this::invalidateAll);
+  }
+
+}
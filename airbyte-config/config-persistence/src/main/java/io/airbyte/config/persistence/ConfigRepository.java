@@ -21,6 +21,7 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.Sets;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.config.ActorCatalog;
@@ -51,6 +52,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -83,6 +85,29 @@ public class ConfigRepository {
   private final ConfigPersistence persistence;
   private final ExceptionWrappingDatabase database;
 
+  public record SourceAndDefinition(SourceConnection source, StandardSourceDefinition definition) {}
+
+  public record DestinationAndDefinition(DestinationConnection destination, StandardDestinationDefinition definition) {}
+
+  /**
+   * Filters of {@link #listStandardSyncs(StandardSyncQuery)}. Null filters match every connection.
+   * The workspace is the one of the source of the connection.
+   */
+  public record StandardSyncQuery(UUID connectionId,
+                                  StandardSync.Status status,
+                                  UUID sourceId,
+                                  UUID destinationId,
+                                  UUID workspaceId,
+                                  UUID sourceDefinitionId,
+                                  UUID destinationDefinitionId,
+                                  boolean includeDeleted) {
+
+    public static StandardSyncQuery notDeleted() {
+      return new StandardSyncQuery(null, null, null, null, null, null, null, false);
+    }
+
+  }
+
   public ConfigRepository(final ConfigPersistence persistence, final Database database) {
     this.persistence = persistence;
     this.database = new ExceptionWrappingDatabase(database);
@@ -202,15 +227,10 @@ public class ConfigRepository {
   }
 
   public List<StandardSourceDefinition> listStandardSourceDefinitions(final boolean includeTombstone) throws JsonValidationException, IOException {
-    final List<StandardSourceDefinition> sourceDefinitions = new ArrayList<>();
-    for (final StandardSourceDefinition sourceDefinition : persistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION,
-        StandardSourceDefinition.class)) {
-      if (!MoreBooleans.isTruthy(sourceDefinition.getTombstone()) || includeTombstone) {
-        sourceDefinitions.add(sourceDefinition);
-      }
-    }
-
-    return sourceDefinitions;
+    return listStandardActorDefinitions(
+        ActorType.source,
+        DbConverter::buildStandardSourceDefinition,
+        includeTombstones(ACTOR_DEFINITION.TOMBSTONE, includeTombstone));
   }
 
   public List<StandardSourceDefinition> listPublicSourceDefinitions(final boolean includeTombstone) throws IOException {
@@ -254,6 +274,7 @@ public class ConfigRepository {
       writeActorDefinitionWorkspaceGrant(sourceDefinition.getSourceDefinitionId(), workspaceId, ctx);
       return null;
     });
+    invalidateCachedConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefinition.getSourceDefinitionId());
   }
 
   public void deleteStandardSourceDefinition(final UUID sourceDefId) throws IOException {
@@ -269,9 +290,6 @@ public class ConfigRepository {
     deleteConnectorDefinitionAndAssociations(
         ConfigSchema.STANDARD_SOURCE_DEFINITION,
         ConfigSchema.SOURCE_CONNECTION,
-        SourceConnection.class,
-        SourceConnection::getSourceId,
-        SourceConnection::getSourceDefinitionId,
         sourceDefinitionId);
   }
 
@@ -301,16 +319,10 @@ public class ConfigRepository {
 
   public List<StandardDestinationDefinition> listStandardDestinationDefinitions(final boolean includeTombstone)
       throws JsonValidationException, IOException {
-    final List<StandardDestinationDefinition> destinationDefinitions = new ArrayList<>();
-
-    for (final StandardDestinationDefinition destinationDefinition : persistence.listConfigs(ConfigSchema.STANDARD_DESTINATION_DEFINITION,
-        StandardDestinationDefinition.class)) {
-      if (!MoreBooleans.isTruthy(destinationDefinition.getTombstone()) || includeTombstone) {
-        destinationDefinitions.add(destinationDefinition);
-      }
-    }
-
-    return destinationDefinitions;
+    return listStandardActorDefinitions(
+        ActorType.destination,
+        DbConverter::buildStandardDestinationDefinition,
+        includeTombstones(ACTOR_DEFINITION.TOMBSTONE, includeTombstone));
   }
 
   public List<StandardDestinationDefinition> listPublicDestinationDefinitions(final boolean includeTombstone) throws IOException {
@@ -358,6 +370,7 @@ public class ConfigRepository {
       writeActorDefinitionWorkspaceGrant(destinationDefinition.getDestinationDefinitionId(), workspaceId, ctx);
       return null;
     });
+    invalidateCachedConfig(ConfigSchema.STANDARD_DESTINATION_DEFINITION, destinationDefinition.getDestinationDefinitionId());
   }
 
   public void deleteStandardDestinationDefinition(final UUID destDefId) throws IOException {
@@ -381,35 +394,28 @@ public class ConfigRepository {
     deleteConnectorDefinitionAndAssociations(
         ConfigSchema.STANDARD_DESTINATION_DEFINITION,
         ConfigSchema.DESTINATION_CONNECTION,
-        DestinationConnection.class,
-        DestinationConnection::getDestinationId,
-        DestinationConnection::getDestinationDefinitionId,
         destinationDefinitionId);
   }
 
-  private <T> void deleteConnectorDefinitionAndAssociations(
-                                                            final ConfigSchema definitionType,
-                                                            final ConfigSchema connectorType,
-                                                            final Class<T> connectorClass,
-                                                            final Function<T, UUID> connectorIdGetter,
-                                                            final Function<T, UUID> connectorDefinitionIdGetter,
-                                                            final UUID definitionId)
-      throws JsonValidationException, IOException, ConfigNotFoundException {
-    final Set<T> connectors = persistence.listConfigs(connectorType, connectorClass)
-        .stream()
-        .filter(connector -> connectorDefinitionIdGetter.apply(connector).equals(definitionId))
-        .collect(Collectors.toSet());
-    for (final T connector : connectors) {
-      final Set<StandardSync> syncs = persistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class)
-          .stream()
-          .filter(sync -> sync.getSourceId().equals(connectorIdGetter.apply(connector))
-              || sync.getDestinationId().equals(connectorIdGetter.apply(connector)))
-          .collect(Collectors.toSet());
-
-      for (final StandardSync sync : syncs) {
-        persistence.deleteConfig(ConfigSchema.STANDARD_SYNC, sync.getConnectionId().toString());
-      }
-      persistence.deleteConfig(connectorType, connectorIdGetter.apply(connector).toString());
+  private void deleteConnectorDefinitionAndAssociations(final ConfigSchema definitionType,
+                                                        final ConfigSchema connectorType,
+                                                        final UUID definitionId)
+      throws IOException, ConfigNotFoundException {
+    final List<UUID> connectorIds = database.query(ctx -> ctx.select(ACTOR.ID)
+        .from(ACTOR)
+        .where(ACTOR.ACTOR_DEFINITION_ID.eq(definitionId))
+        .fetch(ACTOR.ID));
+    final List<UUID> connectionIds = connectorIds.isEmpty() ? List.of()
+        : database.query(ctx -> ctx.select(CONNECTION.ID)
+            .from(CONNECTION)
+            .where(CONNECTION.SOURCE_ID.in(connectorIds).or(CONNECTION.DESTINATION_ID.in(connectorIds)))
+            .fetch(CONNECTION.ID));
+
+    for (final UUID connectionId : connectionIds) {
+      persistence.deleteConfig(ConfigSchema.STANDARD_SYNC, connectionId.toString());
+    }
+    for (final UUID connectorId : connectorIds) {
+      persistence.deleteConfig(connectorType, connectorId.toString());
     }
     persistence.deleteConfig(definitionType, definitionId.toString());
   }
@@ -552,6 +558,21 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class);
   }
 
+  /**
+   * Returns the sources with the given ids along with their definitions, in a single query. Sources
+   * that cannot be found are left out. Does not contain secrets.
+   *
+   * @param sourceIds - ids of the sources to fetch.
+   * @return sources and their definitions
+   * @throws IOException - you never know when you IO
+   */
+  public List<SourceAndDefinition> getSourceAndDefinitionsFromSourceIds(final Collection<UUID> sourceIds) throws IOException {
+    return actorsJoinedWithDefinitions(ActorType.source, sourceIds)
+        .stream()
+        .map(record -> new SourceAndDefinition(DbConverter.buildSourceConnection(record), DbConverter.buildStandardSourceDefinition(record)))
+        .toList();
+  }
+
   /**
    * Returns destination with a given id. Does not contain secrets. To hydrate with secrets see
    * { @link SecretsRepositoryReader#getDestinationConnectionWithSecrets(final UUID destinationId) }.
@@ -594,6 +615,34 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class);
   }
 
+  /**
+   * Returns the destinations with the given ids along with their definitions, in a single query.
+   * Destinations that cannot be found are left out. Does not contain secrets.
+   *
+   * @param destinationIds - ids of the destinations to fetch.
+   * @return destinations and their definitions
+   * @throws IOException - you never know when you IO
+   */
+  public List<DestinationAndDefinition> getDestinationAndDefinitionsFromDestinationIds(final Collection<UUID> destinationIds) throws IOException {
+    return actorsJoinedWithDefinitions(ActorType.destination, destinationIds)
+        .stream()
+        .map(record -> new DestinationAndDefinition(DbConverter.buildDestinationConnection(record),
+            DbConverter.buildStandardDestinationDefinition(record)))
+        .toList();
+  }
+
+  private List<Record> actorsJoinedWithDefinitions(final ActorType actorType, final Collection<UUID> actorIds) throws IOException {
+    if (actorIds.isEmpty()) {
+      return List.of();
+    }
+    // the fields of both tables are selected by name, as they share column names
+    return database.query(ctx -> ctx.select(ArrayUtils.addAll(ACTOR.fields(), ACTOR_DEFINITION.fields()))
+        .from(ACTOR)
+        .join(ACTOR_DEFINITION).on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
+        .where(ACTOR.ACTOR_TYPE.eq(actorType), ACTOR.ID.in(actorIds))
+        .fetch());
+  }
+
   public StandardSync getStandardSync(final UUID connectionId) throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.STANDARD_SYNC, connectionId.toString(), StandardSync.class);
   }
@@ -606,6 +655,51 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class);
   }
 
+  /**
+   * Returns the connections matching the query, filtered in a single query.
+   *
+   * @param query - filters on the connections and on their source and destination.
+   * @return connections
+   * @throws IOException - you never know when you IO
+   */
+  public List<StandardSync> listStandardSyncs(final StandardSyncQuery query) throws IOException {
+    final List<Condition> conditions = new ArrayList<>();
+    if (!query.includeDeleted()) {
+      conditions.add(CONNECTION.STATUS.isDistinctFrom(StatusType.deprecated));
+    }
+    if (query.connectionId() != null) {
+      conditions.add(CONNECTION.ID.eq(query.connectionId()));
+    }
+    if (query.status() != null) {
+      conditions.add(CONNECTION.STATUS.eq(Enums.toEnum(query.status().value(), StatusType.class).orElseThrow()));
+    }
+    if (query.sourceId() != null) {
+      conditions.add(CONNECTION.SOURCE_ID.eq(query.sourceId()));
+    }
+    if (query.destinationId() != null) {
+      conditions.add(CONNECTION.DESTINATION_ID.eq(query.destinationId()));
+    }
+    if (query.workspaceId() != null || query.sourceDefinitionId() != null) {
+      conditions.add(CONNECTION.SOURCE_ID.in(DSL.select(ACTOR.ID)
+          .from(ACTOR)
+          .where(ACTOR.ACTOR_TYPE.eq(ActorType.source))
+          .and(query.workspaceId() == null ? DSL.trueCondition() : ACTOR.WORKSPACE_ID.eq(query.workspaceId()))
+          .and(query.sourceDefinitionId() == null ? DSL.trueCondition() : ACTOR.ACTOR_DEFINITION_ID.eq(query.sourceDefinitionId()))));
+    }
+    if (query.destinationDefinitionId() != null) {
+      conditions.add(CONNECTION.DESTINATION_ID.in(DSL.select(ACTOR.ID)
+          .from(ACTOR)
+          .where(ACTOR.ACTOR_TYPE.eq(ActorType.destination))
+          .and(ACTOR.ACTOR_DEFINITION_ID.eq(query.destinationDefinitionId()))));
+    }
+
+    final Result<Record> result = database.query(ctx -> ctx.select(CONNECTION.asterisk())
+        .from(CONNECTION)
+        .where(conditions)
+        .fetch());
+    return getStandardSyncsFromResult(result);
+  }
+
   public List<StandardSync> listStandardSyncsUsingOperation(final UUID operationId)
       throws IOException {
     final Result<Record> result = database.query(ctx -> ctx.select(CONNECTION.asterisk())
@@ -625,17 +719,19 @@ public class ConfigRepository {
   }
 
   private List<StandardSync> getStandardSyncsFromResult(final Result<Record> result) throws IOException {
+    final List<UUID> connectionIds = result.stream().map(record -> record.get(CONNECTION.ID)).toList();
+    final Map<UUID, List<UUID>> connectionOperationIds = connectionIds.isEmpty() ? Map.of()
+        : database.query(ctx -> ctx.select(asterisk())
+            .from(CONNECTION_OPERATION)
+            .where(CONNECTION_OPERATION.CONNECTION_ID.in(connectionIds))
+            .fetch())
+            .stream()
+            .collect(Collectors.groupingBy(r -> r.get(CONNECTION_OPERATION.CONNECTION_ID),
+                Collectors.mapping(r -> r.get(CONNECTION_OPERATION.OPERATION_ID), Collectors.toList())));
+
     final List<StandardSync> standardSyncs = new ArrayList<>();
     for (final Record record : result) {
-      final UUID connectionId = record.get(CONNECTION.ID);
-      final Result<Record> connectionOperationRecords = database.query(ctx -> ctx.select(asterisk())
-          .from(CONNECTION_OPERATION)
-          .where(CONNECTION_OPERATION.CONNECTION_ID.eq(connectionId))
-          .fetch());
-
-      final List<UUID> connectionOperationIds =
-          connectionOperationRecords.stream().map(r -> r.get(CONNECTION_OPERATION.OPERATION_ID)).collect(Collectors.toList());
-      standardSyncs.add(DbConverter.buildStandardSync(record, connectionOperationIds));
+      standardSyncs.add(DbConverter.buildStandardSync(record, connectionOperationIds.getOrDefault(record.get(CONNECTION.ID), new ArrayList<>())));
     }
     return standardSyncs;
   }
@@ -652,6 +748,27 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC_OPERATION, StandardSyncOperation.class);
   }
 
+  /**
+   * Returns the operations with the given ids, in a single query. Operations that cannot be found
+   * are left out.
+   *
+   * @param operationIds - ids of the operations to fetch.
+   * @return operations, tombstoned ones included
+   * @throws IOException - you never know when you IO
+   */
+  public List<StandardSyncOperation> listStandardSyncOperations(final Collection<UUID> operationIds) throws IOException {
+    if (operationIds.isEmpty()) {
+      return List.of();
+    }
+    return database.query(ctx -> ctx.select(asterisk())
+        .from(OPERATION)
+        .where(OPERATION.ID.in(operationIds))
+        .fetch())
+        .stream()
+        .map(DbConverter::buildStandardSyncOperation)
+        .toList();
+  }
+
   /**
    * Updates {@link io.airbyte.db.instance.configs.jooq.generated.tables.ConnectionOperation} records
    * for the given {@code connectionId}.
@@ -688,6 +805,7 @@ public class ConfigRepository {
 
       return null;
     });
+    invalidateCachedConfig(ConfigSchema.STANDARD_SYNC, connectionId);
   }
 
   public void deleteStandardSyncOperation(final UUID standardSyncOperationId) throws IOException {
@@ -699,6 +817,24 @@ public class ConfigRepository {
           .where(OPERATION.ID.eq(standardSyncOperationId)).execute();
       return null;
     });
+    invalidateCachedConfig(ConfigSchema.STANDARD_SYNC_OPERATION, standardSyncOperationId);
+    // the operation is removed from every connection it belonged to
+    invalidateCachedConfigs(ConfigSchema.STANDARD_SYNC);
+  }
+
+  /**
+   * Evicts a config written directly to the database from the config cache, if configs are cached.
+   */
+  private void invalidateCachedConfig(final AirbyteConfig configType, final UUID configId) {
+    if (persistence instanceof CachingConfigPersistence cachingPersistence) {
+      cachingPersistence.invalidate(configType, configId.toString());
+    }
+  }
+
+  private void invalidateCachedConfigs(final AirbyteConfig configType) {
+    if (persistence instanceof CachingConfigPersistence cachingPersistence) {
+      cachingPersistence.invalidateAll(configType);
+    }
   }
 
   public SourceOAuthParameter getSourceOAuthParams(final UUID sourceOAuthParameterId)
@@ -33,8 +33,6 @@ import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ConfigWithMetadata;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.DestinationOAuthParameter;
-import io.airbyte.config.OperatorDbt;
-import io.airbyte.config.OperatorNormalization;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -42,7 +40,6 @@ import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSourceDefinition.SourceType;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
-import io.airbyte.config.StandardSyncOperation.OperatorType;
 import io.airbyte.config.StandardSyncState;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.State;
@@ -454,7 +451,7 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
 
     final List<ConfigWithMetadata<SourceConnection>> sourceConnections = new ArrayList<>();
     for (final Record record : result) {
-      final SourceConnection sourceConnection = buildSourceConnection(record);
+      final SourceConnection sourceConnection = DbConverter.buildSourceConnection(record);
       sourceConnections.add(new ConfigWithMetadata<>(
           record.get(ACTOR.ID).toString(),
           ConfigSchema.SOURCE_CONNECTION.name(),
@@ -465,16 +462,6 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
     return sourceConnections;
   }
 
-  private SourceConnection buildSourceConnection(final Record record) {
-    return new SourceConnection()
-        .withSourceId(record.get(ACTOR.ID))
-        .withConfiguration(Jsons.deserialize(record.get(ACTOR.CONFIGURATION).data()))
-        .withWorkspaceId(record.get(ACTOR.WORKSPACE_ID))
-        .withSourceDefinitionId(record.get(ACTOR.ACTOR_DEFINITION_ID))
-        .withTombstone(record.get(ACTOR.TOMBSTONE))
-        .withName(record.get(ACTOR.NAME));
-  }
-
   private List<ConfigWithMetadata<DestinationConnection>> listDestinationConnectionWithMetadata() throws IOException {
     return listDestinationConnectionWithMetadata(Optional.empty());
   }
@@ -490,7 +477,7 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
 
     final List<ConfigWithMetadata<DestinationConnection>> destinationConnections = new ArrayList<>();
     for (final Record record : result) {
-      final DestinationConnection destinationConnection = buildDestinationConnection(record);
+      final DestinationConnection destinationConnection = DbConverter.buildDestinationConnection(record);
       destinationConnections.add(new ConfigWithMetadata<>(
           record.get(ACTOR.ID).toString(),
           ConfigSchema.DESTINATION_CONNECTION.name(),
@@ -501,16 +488,6 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
     return destinationConnections;
   }
 
-  private DestinationConnection buildDestinationConnection(final Record record) {
-    return new DestinationConnection()
-        .withDestinationId(record.get(ACTOR.ID))
-        .withConfiguration(Jsons.deserialize(record.get(ACTOR.CONFIGURATION).data()))
-        .withWorkspaceId(record.get(ACTOR.WORKSPACE_ID))
-        .withDestinationDefinitionId(record.get(ACTOR.ACTOR_DEFINITION_ID))
-        .withTombstone(record.get(ACTOR.TOMBSTONE))
-        .withName(record.get(ACTOR.NAME));
-  }
-
   private List<ConfigWithMetadata<SourceOAuthParameter>> listSourceOauthParamWithMetadata() throws IOException {
     return listSourceOauthParamWithMetadata(Optional.empty());
   }
@@ -579,7 +556,7 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
 
     final List<ConfigWithMetadata<StandardSyncOperation>> standardSyncOperations = new ArrayList<>();
     for (final Record record : result) {
-      final StandardSyncOperation standardSyncOperation = buildStandardSyncOperation(record);
+      final StandardSyncOperation standardSyncOperation = DbConverter.buildStandardSyncOperation(record);
       standardSyncOperations.add(new ConfigWithMetadata<>(
           record.get(OPERATION.ID).toString(),
           ConfigSchema.STANDARD_SYNC_OPERATION.name(),
@@ -590,17 +567,6 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
     return standardSyncOperations;
   }
 
-  private StandardSyncOperation buildStandardSyncOperation(final Record record) {
-    return new StandardSyncOperation()
-        .withOperationId(record.get(OPERATION.ID))
-        .withName(record.get(OPERATION.NAME))
-        .withWorkspaceId(record.get(OPERATION.WORKSPACE_ID))
-        .withOperatorType(Enums.toEnum(record.get(OPERATION.OPERATOR_TYPE, String.class), OperatorType.class).orElseThrow())
-        .withOperatorNormalization(Jsons.deserialize(record.get(OPERATION.OPERATOR_NORMALIZATION).data(), OperatorNormalization.class))
-        .withOperatorDbt(Jsons.deserialize(record.get(OPERATION.OPERATOR_DBT).data(), OperatorDbt.class))
-        .withTombstone(record.get(OPERATION.TOMBSTONE));
-  }
-
   private List<ConfigWithMetadata<StandardSync>> listStandardSyncWithMetadata() throws IOException {
     return listStandardSyncWithMetadata(Optional.empty());
   }
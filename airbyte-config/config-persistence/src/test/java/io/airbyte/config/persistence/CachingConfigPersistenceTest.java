@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingConfigPersistenceTest {
+
+  private static final UUID UUID_1 = new UUID(0, 1);
+  private static final StandardSourceDefinition SOURCE_1 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_1)
+      .withName("apache storm");
+  private static final StandardSourceDefinition SOURCE_1_UPDATED = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_1)
+      .withName("apache storm v2");
+  private static final long MAXIMUM_WEIGHT = 10_000;
+  private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
+  private static final String SOURCE_DEFINITION_TAG = MetricTags.getConfigType(ConfigSchema.STANDARD_SOURCE_DEFINITION);
+
+  private ConfigPersistence decoratedConfigPersistence;
+  private MetricClient metricClient;
+  private AtomicLong nanos;
+  private CachingConfigPersistence configPersistence;
+
+  @BeforeEach
+  void setUp() {
+    decoratedConfigPersistence = mock(ConfigPersistence.class);
+    metricClient = mock(MetricClient.class);
+    nanos = new AtomicLong();
+    final Ticker ticker = new Ticker() {
+
+      @Override
+      public long read() {
+        return nanos.get();
+      }
+
+    };
+    configPersistence = new CachingConfigPersistence(
+        decoratedConfigPersistence,
+        metricClient,
+        CachingConfigPersistence.DEFAULT_CACHED_CONFIG_TYPES,
+        MAXIMUM_WEIGHT,
+        TIME_TO_LIVE,
+        ticker);
+  }
+
+  @Test
+  void testGetConfigIsCached() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    assertEquals(SOURCE_1, getSourceDefinition());
+
+    verify(decoratedConfigPersistence).getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    verify(metricClient).count(OssMetricsRegistry.CONFIG_CACHE_MISS, 1, SOURCE_DEFINITION_TAG);
+    verify(metricClient).count(OssMetricsRegistry.CONFIG_CACHE_HIT, 1, SOURCE_DEFINITION_TAG);
+  }
+
+  @Test
+  void testCachedConfigsAreCopies() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(new StandardSourceDefinition().withSourceDefinitionId(UUID_1).withName("apache storm"));
+
+    final StandardSourceDefinition first = getSourceDefinition();
+    first.setName("modified by the caller");
+    final StandardSourceDefinition second = getSourceDefinition();
+
+    assertEquals(SOURCE_1, second);
+    assertNotSame(second, getSourceDefinition());
+  }
+
+  @Test
+  void testUncachedConfigTypesAreNotCached() throws ConfigNotFoundException, JsonValidationException, IOException {
+    configPersistence.getConfig(ConfigSchema.SOURCE_OAUTH_PARAM, UUID_1.toString(), Object.class);
+    configPersistence.getConfig(ConfigSchema.SOURCE_OAUTH_PARAM, UUID_1.toString(), Object.class);
+
+    verify(decoratedConfigPersistence, times(2)).getConfig(ConfigSchema.SOURCE_OAUTH_PARAM, UUID_1.toString(), Object.class);
+    verifyNoInteractions(metricClient);
+  }
+
+  @Test
+  void testConfigNotFoundIsNotCached() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenThrow(new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString()))
+        .thenReturn(SOURCE_1);
+
+    assertThrows(ConfigNotFoundException.class, this::getSourceDefinition);
+    assertEquals(SOURCE_1, getSourceDefinition());
+  }
+
+  @Test
+  void testWriteConfigInvalidates() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenReturn(SOURCE_1_UPDATED);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), SOURCE_1_UPDATED);
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+
+    verify(decoratedConfigPersistence).writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), SOURCE_1_UPDATED);
+  }
+
+  @Test
+  void testWriteConfigsInvalidates() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenReturn(SOURCE_1_UPDATED);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    configPersistence.writeConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, Map.of(UUID_1.toString(), SOURCE_1_UPDATED));
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+  }
+
+  @Test
+  void testFailedWriteInvalidates() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenReturn(SOURCE_1_UPDATED);
+    doThrow(new IOException()).when(decoratedConfigPersistence)
+        .writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), SOURCE_1_UPDATED);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    assertThrows(IOException.class,
+        () -> configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), SOURCE_1_UPDATED));
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+  }
+
+  @Test
+  void testDeleteConfigInvalidates() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenThrow(new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString()));
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    configPersistence.deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+    assertThrows(ConfigNotFoundException.class, this::getSourceDefinition);
+  }
+
+  @Test
+  void testReplaceAllConfigsInvalidatesAll() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenReturn(SOURCE_1_UPDATED);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    configPersistence.replaceAllConfigs(Map.of(ConfigSchema.STANDARD_SOURCE_DEFINITION, Stream.of(SOURCE_1_UPDATED)), false);
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+  }
+
+  @Test
+  void testWriteDuringReadIsNotOverwritten() throws ConfigNotFoundException, JsonValidationException, IOException {
+    // the config is written after it was read from the database, but before the read is cached
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenAnswer(invocation -> {
+          configPersistence.invalidate(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+          return SOURCE_1;
+        })
+        .thenReturn(SOURCE_1_UPDATED);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testInvalidateAllDuringReadIsNotOverwritten() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenAnswer(invocation -> {
+          configPersistence.invalidateAll(ConfigSchema.STANDARD_SOURCE_DEFINITION);
+          return SOURCE_1;
+        })
+        .thenReturn(SOURCE_1_UPDATED);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+  }
+
+  @Test
+  void testCachedConfigsExpire() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenReturn(SOURCE_1_UPDATED);
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+    nanos.addAndGet(TIME_TO_LIVE.minusMillis(1).toNanos());
+    assertEquals(SOURCE_1, getSourceDefinition());
+    nanos.addAndGet(Duration.ofMillis(1).toNanos());
+    assertEquals(SOURCE_1_UPDATED, getSourceDefinition());
+  }
+
+  @Test
+  void testConfigsLargerThanMaximumWeightAreNotKept() throws ConfigNotFoundException, JsonValidationException, IOException {
+    final StandardSourceDefinition largeSource = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID_1)
+        .withName("a".repeat((int) MAXIMUM_WEIGHT));
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(largeSource);
+
+    assertEquals(largeSource, getSourceDefinition());
+    assertEquals(largeSource, getSourceDefinition());
+
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  private StandardSourceDefinition getSourceDefinition() throws ConfigNotFoundException, JsonValidationException, IOException {
+    return configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+}
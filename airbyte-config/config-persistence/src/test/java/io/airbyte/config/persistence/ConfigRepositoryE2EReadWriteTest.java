@@ -24,8 +24,12 @@ import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSourceDefinition.SourceType;
 import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -43,7 +47,9 @@ import io.airbyte.test.utils.DatabaseConnectionHelper;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -205,6 +211,126 @@ class ConfigRepositoryE2EReadWriteTest {
     assertThat(MockData.standardSyncs().subList(0, 4)).hasSameElementsAs(syncs);
   }
 
+  @Test
+  void testListStandardSyncsWithQuery() throws IOException {
+    final List<StandardSync> syncs = MockData.standardSyncs();
+    final UUID workspaceId = MockData.standardWorkspaces().get(0).getWorkspaceId();
+    final UUID sourceDefinitionId = MockData.publicSourceDefinition().getSourceDefinitionId();
+    final UUID destinationDefinitionId = MockData.grantableDestinationDefinition1().getDestinationDefinitionId();
+
+    assertThat(configRepository.listStandardSyncs(StandardSyncQuery.notDeleted())).hasSameElementsAs(syncs.subList(0, 5));
+    assertThat(configRepository.listStandardSyncs(new StandardSyncQuery(null, null, null, null, workspaceId, null, null, true)))
+        .hasSameElementsAs(syncs.subList(0, 4));
+    assertThat(configRepository.listStandardSyncs(new StandardSyncQuery(null, null, null, null, null, sourceDefinitionId, null, false)))
+        .hasSameElementsAs(List.of(syncs.get(0), syncs.get(1), syncs.get(4)));
+    assertThat(configRepository.listStandardSyncs(new StandardSyncQuery(null, null, null, null, null, null, destinationDefinitionId, true)))
+        .hasSameElementsAs(List.of(syncs.get(1), syncs.get(3), syncs.get(4), syncs.get(5)));
+    assertThat(configRepository.listStandardSyncs(new StandardSyncQuery(null, Status.INACTIVE, null, null, null, null, null, false)))
+        .hasSameElementsAs(List.of(syncs.get(3)));
+    assertThat(configRepository.listStandardSyncs(new StandardSyncQuery(
+        syncs.get(0).getConnectionId(), null, syncs.get(2).getSourceId(), null, null, null, null, false))).isEmpty();
+  }
+
+  @Test
+  void testListStandardDefinitionsHandlesTombstones() throws JsonValidationException, IOException {
+    final StandardSourceDefinition tombstonedSourceDefinition = Jsons.clone(MockData.publicSourceDefinition())
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withTombstone(true);
+    configRepository.writeStandardSourceDefinition(tombstonedSourceDefinition);
+    final StandardDestinationDefinition tombstonedDestinationDefinition = Jsons.clone(MockData.publicDestinationDefinition())
+        .withDestinationDefinitionId(UUID.randomUUID())
+        .withTombstone(true);
+    configRepository.writeStandardDestinationDefinition(tombstonedDestinationDefinition);
+
+    assertThat(configRepository.listStandardSourceDefinitions(false)).hasSameElementsAs(MockData.standardSourceDefinitions());
+    final List<StandardSourceDefinition> allSourceDefinitions = new ArrayList<>(MockData.standardSourceDefinitions());
+    allSourceDefinitions.add(tombstonedSourceDefinition);
+    assertThat(configRepository.listStandardSourceDefinitions(true)).hasSameElementsAs(allSourceDefinitions);
+
+    assertThat(configRepository.listStandardDestinationDefinitions(false)).hasSameElementsAs(MockData.standardDestinationDefinitions());
+    final List<StandardDestinationDefinition> allDestinationDefinitions = new ArrayList<>(MockData.standardDestinationDefinitions());
+    allDestinationDefinitions.add(tombstonedDestinationDefinition);
+    assertThat(configRepository.listStandardDestinationDefinitions(true)).hasSameElementsAs(allDestinationDefinitions);
+  }
+
+  @Test
+  void testDeleteSourceDefinitionAndAssociations() throws JsonValidationException, IOException, ConfigNotFoundException {
+    final List<StandardSync> syncs = MockData.standardSyncs();
+    final SourceConnection sourceToDelete = MockData.sourceConnections().get(1);
+
+    configRepository.deleteSourceDefinitionAndAssociations(sourceToDelete.getSourceDefinitionId());
+
+    assertThat(configRepository.listStandardSyncs()).hasSameElementsAs(List.of(syncs.get(0), syncs.get(1), syncs.get(4), syncs.get(5)));
+    assertThat(configRepository.listSourceConnection()).doesNotContain(sourceToDelete).hasSize(MockData.sourceConnections().size() - 1);
+    assertThat(configRepository.listStandardSourceDefinitions(true))
+        .extracting(StandardSourceDefinition::getSourceDefinitionId)
+        .doesNotContain(sourceToDelete.getSourceDefinitionId())
+        .hasSize(MockData.standardSourceDefinitions().size() - 1);
+  }
+
+  @Test
+  void testDeleteDestinationDefinitionAndAssociations() throws JsonValidationException, IOException, ConfigNotFoundException {
+    final List<StandardSync> syncs = MockData.standardSyncs();
+    final DestinationConnection destinationToDelete = MockData.destinationConnections().get(0);
+
+    configRepository.deleteDestinationDefinitionAndAssociations(destinationToDelete.getDestinationDefinitionId());
+
+    assertThat(configRepository.listStandardSyncs()).hasSameElementsAs(List.of(syncs.get(1), syncs.get(3), syncs.get(4), syncs.get(5)));
+    assertThat(configRepository.listDestinationConnection())
+        .doesNotContain(destinationToDelete)
+        .hasSize(MockData.destinationConnections().size() - 1);
+    assertThat(configRepository.listStandardDestinationDefinitions(true))
+        .extracting(StandardDestinationDefinition::getDestinationDefinitionId)
+        .doesNotContain(destinationToDelete.getDestinationDefinitionId())
+        .hasSize(MockData.standardDestinationDefinitions().size() - 1);
+  }
+
+  @Test
+  void testGetSourceAndDefinitionsFromSourceIds() throws Exception {
+    final List<UUID> sourceIds = MockData.sourceConnections().subList(0, 2).stream().map(SourceConnection::getSourceId).toList();
+
+    final Set<SourceAndDefinition> expected = new HashSet<>();
+    for (final UUID sourceId : sourceIds) {
+      final SourceConnection source = configRepository.getSourceConnection(sourceId);
+      expected.add(new SourceAndDefinition(source, configRepository.getStandardSourceDefinition(source.getSourceDefinitionId())));
+    }
+
+    // unknown ids and destination ids are left out
+    final List<UUID> requestedIds = new ArrayList<>(sourceIds);
+    requestedIds.add(UUID.randomUUID());
+    requestedIds.add(MockData.destinationConnections().get(0).getDestinationId());
+    assertEquals(expected, Set.copyOf(configRepository.getSourceAndDefinitionsFromSourceIds(requestedIds)));
+    assertTrue(configRepository.getSourceAndDefinitionsFromSourceIds(List.of()).isEmpty());
+  }
+
+  @Test
+  void testGetDestinationAndDefinitionsFromDestinationIds() throws Exception {
+    final List<UUID> destinationIds = MockData.destinationConnections().stream().map(DestinationConnection::getDestinationId).toList();
+
+    final Set<DestinationAndDefinition> expected = new HashSet<>();
+    for (final UUID destinationId : destinationIds) {
+      final DestinationConnection destination = configRepository.getDestinationConnection(destinationId);
+      expected.add(new DestinationAndDefinition(destination,
+          configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId())));
+    }
+
+    assertEquals(expected, Set.copyOf(configRepository.getDestinationAndDefinitionsFromDestinationIds(destinationIds)));
+  }
+
+  @Test
+  void testListStandardSyncOperationsFromIds() throws Exception {
+    final List<StandardSyncOperation> operations = MockData.standardSyncOperations();
+    final List<UUID> operationIds = operations.stream().map(StandardSyncOperation::getOperationId).toList();
+
+    final Set<StandardSyncOperation> expected = new HashSet<>();
+    for (final UUID operationId : operationIds) {
+      expected.add(configRepository.getStandardSyncOperation(operationId));
+    }
+
+    assertEquals(expected, Set.copyOf(configRepository.listStandardSyncOperations(operationIds)));
+    assertTrue(configRepository.listStandardSyncOperations(List.of()).isEmpty());
+  }
+
   @Test
   void testGetWorkspaceBySlug()
       throws IOException {
@@ -10,7 +10,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -35,7 +34,6 @@ import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.jooq.Result;
@@ -200,65 +198,6 @@ class ConfigRepositoryTest {
     verify(configRepository).getStandardSourceDefinition(SOURCE_DEFINITION_ID);
   }
 
-  @ParameterizedTest
-  @ValueSource(ints = {0, 1, 2, 10})
-  void testListStandardSourceDefinitionsHandlesTombstoneSourceDefinitions(final int numSourceDefinitions)
-      throws JsonValidationException, IOException {
-    final List<StandardSourceDefinition> allSourceDefinitions = new ArrayList<>();
-    final List<StandardSourceDefinition> notTombstoneSourceDefinitions = new ArrayList<>();
-    for (int i = 0; i < numSourceDefinitions; i++) {
-      final boolean isTombstone = i % 2 == 0; // every other is tombstone
-      final StandardSourceDefinition sourceDefinition =
-          new StandardSourceDefinition().withSourceDefinitionId(UUID.randomUUID()).withTombstone(isTombstone);
-      allSourceDefinitions.add(sourceDefinition);
-      if (!isTombstone) {
-        notTombstoneSourceDefinitions.add(sourceDefinition);
-      }
-    }
-    when(configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
-        .thenReturn(allSourceDefinitions);
-
-    final List<StandardSourceDefinition> returnedSourceDefinitionsWithoutTombstone = configRepository.listStandardSourceDefinitions(false);
-    assertEquals(notTombstoneSourceDefinitions, returnedSourceDefinitionsWithoutTombstone);
-
-    final List<StandardSourceDefinition> returnedSourceDefinitionsWithTombstone = configRepository.listStandardSourceDefinitions(true);
-    assertEquals(allSourceDefinitions, returnedSourceDefinitionsWithTombstone);
-  }
-
-  @Test
-  void testDeleteSourceDefinitionAndAssociations() throws JsonValidationException, IOException, ConfigNotFoundException {
-    final StandardSourceDefinition sourceDefToDelete = new StandardSourceDefinition().withSourceDefinitionId(UUID.randomUUID());
-    final StandardSourceDefinition sourceDefToStay = new StandardSourceDefinition().withSourceDefinitionId(UUID.randomUUID());
-
-    final SourceConnection sourceConnectionToDelete = new SourceConnection().withSourceId(UUID.randomUUID())
-        .withSourceDefinitionId(sourceDefToDelete.getSourceDefinitionId());
-    final SourceConnection sourceConnectionToStay = new SourceConnection().withSourceId(UUID.randomUUID())
-        .withSourceDefinitionId(sourceDefToStay.getSourceDefinitionId());
-    when(configPersistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class)).thenReturn(List.of(
-        sourceConnectionToDelete,
-        sourceConnectionToStay));
-    when(configPersistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class)).thenReturn(List.of());
-
-    final StandardSync syncToDelete = new StandardSync().withConnectionId(UUID.randomUUID()).withSourceId(sourceConnectionToDelete.getSourceId())
-        .withDestinationId(UUID.randomUUID());
-    final StandardSync syncToStay = new StandardSync().withConnectionId(UUID.randomUUID()).withSourceId(sourceConnectionToStay.getSourceId())
-        .withDestinationId(UUID.randomUUID());
-
-    when(configPersistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class)).thenReturn(List.of(syncToDelete, syncToStay));
-
-    configRepository.deleteSourceDefinitionAndAssociations(sourceDefToDelete.getSourceDefinitionId());
-
-    // verify that all records associated with sourceDefToDelete were deleted
-    verify(configPersistence, times(1)).deleteConfig(ConfigSchema.STANDARD_SYNC, syncToDelete.getConnectionId().toString());
-    verify(configPersistence, times(1)).deleteConfig(ConfigSchema.SOURCE_CONNECTION, sourceConnectionToDelete.getSourceId().toString());
-    verify(configPersistence, times(1)).deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefToDelete.getSourceDefinitionId().toString());
-
-    // verify that none of the records associated with sourceDefToStay were deleted
-    verify(configPersistence, never()).deleteConfig(ConfigSchema.STANDARD_SYNC, syncToStay.getConnectionId().toString());
-    verify(configPersistence, never()).deleteConfig(ConfigSchema.SOURCE_CONNECTION, sourceConnectionToStay.getSourceId().toString());
-    verify(configPersistence, never()).deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefToStay.getSourceDefinitionId().toString());
-  }
-
   @Test
   void testDestinationDefinitionWithNullTombstone() throws JsonValidationException, ConfigNotFoundException, IOException {
     assertReturnsDestinationDefinition(new StandardDestinationDefinition().withDestinationDefinitionId(DESTINATION_DEFINITION_ID));
@@ -332,71 +271,6 @@ class ConfigRepositoryTest {
     verify(configRepository).getStandardDestinationDefinition(DESTINATION_DEFINITION_ID);
   }
 
-  @ParameterizedTest
-  @ValueSource(ints = {0, 1, 2, 10})
-  void testListStandardDestinationDefinitionsHandlesTombstoneDestinationDefinitions(final int numDestinationDefinitions)
-      throws JsonValidationException, IOException {
-    final List<StandardDestinationDefinition> allDestinationDefinitions = new ArrayList<>();
-    final List<StandardDestinationDefinition> notTombstoneDestinationDefinitions = new ArrayList<>();
-    for (int i = 0; i < numDestinationDefinitions; i++) {
-      final boolean isTombstone = i % 2 == 0; // every other is tombstone
-      final StandardDestinationDefinition destinationDefinition =
-          new StandardDestinationDefinition().withDestinationDefinitionId(UUID.randomUUID()).withTombstone(isTombstone);
-      allDestinationDefinitions.add(destinationDefinition);
-      if (!isTombstone) {
-        notTombstoneDestinationDefinitions.add(destinationDefinition);
-      }
-    }
-    when(configPersistence.listConfigs(ConfigSchema.STANDARD_DESTINATION_DEFINITION, StandardDestinationDefinition.class))
-        .thenReturn(allDestinationDefinitions);
-
-    final List<StandardDestinationDefinition> returnedDestinationDefinitionsWithoutTombstone =
-        configRepository.listStandardDestinationDefinitions(false);
-    assertEquals(notTombstoneDestinationDefinitions, returnedDestinationDefinitionsWithoutTombstone);
-
-    final List<StandardDestinationDefinition> returnedDestinationDefinitionsWithTombstone = configRepository.listStandardDestinationDefinitions(true);
-    assertEquals(allDestinationDefinitions, returnedDestinationDefinitionsWithTombstone);
-  }
-
-  @Test
-  void testDeleteDestinationDefinitionAndAssociations() throws JsonValidationException, IOException, ConfigNotFoundException {
-    final StandardDestinationDefinition destDefToDelete = new StandardDestinationDefinition().withDestinationDefinitionId(UUID.randomUUID());
-    final StandardDestinationDefinition destDefToStay = new StandardDestinationDefinition().withDestinationDefinitionId(UUID.randomUUID());
-
-    final DestinationConnection destConnectionToDelete = new DestinationConnection().withDestinationId(UUID.randomUUID())
-        .withDestinationDefinitionId(destDefToDelete.getDestinationDefinitionId());
-    final DestinationConnection destConnectionToStay = new DestinationConnection().withDestinationId(UUID.randomUUID())
-        .withDestinationDefinitionId(destDefToStay.getDestinationDefinitionId());
-    when(configPersistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class)).thenReturn(List.of(
-        destConnectionToDelete,
-        destConnectionToStay));
-    when(configPersistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class)).thenReturn(List.of());
-
-    final StandardSync syncToDelete = new StandardSync().withConnectionId(UUID.randomUUID())
-        .withDestinationId(destConnectionToDelete.getDestinationId())
-        .withSourceId(UUID.randomUUID());
-    final StandardSync syncToStay = new StandardSync().withConnectionId(UUID.randomUUID()).withDestinationId(destConnectionToStay.getDestinationId())
-        .withSourceId(UUID.randomUUID());
-
-    when(configPersistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class)).thenReturn(List.of(syncToDelete, syncToStay));
-
-    configRepository.deleteDestinationDefinitionAndAssociations(destDefToDelete.getDestinationDefinitionId());
-
-    // verify that all records associated with destDefToDelete were deleted
-    verify(configPersistence, times(1)).deleteConfig(ConfigSchema.STANDARD_SYNC, syncToDelete.getConnectionId().toString());
-    verify(configPersistence, times(1)).deleteConfig(ConfigSchema.DESTINATION_CONNECTION, destConnectionToDelete.getDestinationId().toString());
-    verify(configPersistence, times(1)).deleteConfig(
-        ConfigSchema.STANDARD_DESTINATION_DEFINITION,
-        destDefToDelete.getDestinationDefinitionId().toString());
-
-    // verify that none of the records associated with destDefToStay were deleted
-    verify(configPersistence, never()).deleteConfig(ConfigSchema.STANDARD_SYNC, syncToStay.getConnectionId().toString());
-    verify(configPersistence, never()).deleteConfig(ConfigSchema.DESTINATION_CONNECTION, destConnectionToStay.getDestinationId().toString());
-    verify(configPersistence, never()).deleteConfig(
-        ConfigSchema.STANDARD_DESTINATION_DEFINITION,
-        destDefToStay.getDestinationDefinitionId().toString());
-  }
-
   @Test
   void testDeleteStandardSync() throws IOException, ConfigNotFoundException {
     final UUID connectionId = UUID.randomUUID();
@@ -94,7 +94,7 @@ public class ReplicationJobOrchestrator implements JobOrchestrator<StandardSyncI
     final AirbyteSource airbyteSource =
         sourceLauncherConfig.getDockerImage().equals(WorkerConstants.RESET_JOB_SOURCE_DOCKER_IMAGE_STUB) ? new EmptyAirbyteSource(
             featureFlags.useStreamCapableState())
-            : new DefaultAirbyteSource(workerConfigs, sourceLauncher);
+            : new DefaultAirbyteSource(workerConfigs, sourceLauncher, featureFlags.useRecordPassthrough());
 
     log.info("Setting up replication worker...");
     final ReplicationWorker replicationWorker = new DefaultReplicationWorker(
@@ -104,7 +104,10 @@ public class ReplicationJobOrchestrator implements JobOrchestrator<StandardSyncI
         new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
         new DefaultAirbyteDestination(workerConfigs, destinationLauncher),
         new AirbyteMessageTracker(),
-        new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput)));
+        new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput),
+            workerConfigs.getRecordSchemaValidationSampleRate(),
+            workerConfigs.getRecordSchemaValidationMaxTimeFraction()),
+        featureFlags.usePipelinedReplication());
 
     log.info("Running replication worker...");
     final Path jobRoot = WorkerUtils.getJobRoot(configs.getWorkspaceRoot(), jobRunConfig.getJobId(), jobRunConfig.getAttemptId());
@@ -20,7 +20,11 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -83,6 +87,13 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final BufferingStrategy bufferingStrategy;
   private final DestStateLifecycleManager stateManager;
+  // state messages received between the starts of flushes of all buffers that are still running, for
+  // all but the oldest of them. The states received before the oldest one are pending in the
+  // stateManager.
+  private final Deque<List<AirbyteMessage>> statesOfRunningFlushes;
+  // state messages received since the last flush of all buffers started, while flushes are running
+  private List<AirbyteMessage> statesSinceLastFlush;
+  private int runningFlushCount;
 
   private boolean hasStarted;
   private boolean hasClosed;
@@ -104,6 +115,9 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     this.streamToIgnoredRecordCount = new HashMap<>();
     this.bufferingStrategy = bufferingStrategy;
     this.stateManager = new DefaultDestStateLifecycleManager();
+    this.statesOfRunningFlushes = new ArrayDeque<>();
+    this.statesSinceLastFlush = new ArrayList<>();
+    this.runningFlushCount = 0;
   }
 
   @Override
@@ -136,11 +150,20 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
       // if the buffer flushes, update the states appropriately.
       if (bufferingStrategy.addRecord(stream, message)) {
-        markStatesAsFlushedToTmpDestination();
+        if (runningFlushCount > 0) {
+          statesOfRunningFlushes.add(statesSinceLastFlush);
+          statesSinceLastFlush = new ArrayList<>();
+        }
+        runningFlushCount++;
       }
+      markStatesOfCompletedFlushesAsFlushed();
 
     } else if (message.getType() == Type.STATE) {
-      stateManager.addState(message);
+      if (runningFlushCount > 0) {
+        statesSinceLastFlush.add(message);
+      } else {
+        stateManager.addState(message);
+      }
     } else {
       LOGGER.warn("Unexpected message: " + message.getType());
     }
@@ -151,6 +174,23 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     stateManager.markPendingAsFlushed();
   }
 
+  /**
+   * Flushes of all buffers may complete in the background. Once one completes, the states received
+   * before it started are flushed, and the states received before the next one started become
+   * pending.
+   */
+  private void markStatesOfCompletedFlushesAsFlushed() throws Exception {
+    while (runningFlushCount > bufferingStrategy.getRunningFlushAllCount()) {
+      markStatesAsFlushedToTmpDestination();
+      runningFlushCount--;
+      final List<AirbyteMessage> states = runningFlushCount > 0 ? statesOfRunningFlushes.poll() : statesSinceLastFlush;
+      states.forEach(stateManager::addState);
+      if (runningFlushCount == 0) {
+        statesSinceLastFlush = new ArrayList<>();
+      }
+    }
+  }
+
   private static void throwUnrecognizedStream(final ConfiguredAirbyteCatalog catalog, final AirbyteMessage message) {
     throw new IllegalArgumentException(
         String.format("Message contained record from a stream that was not in the catalog. \ncatalog: %s , \nmessage: %s",
@@ -170,6 +210,7 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     } else {
       LOGGER.info("executing on success close procedure.");
       bufferingStrategy.flushAll();
+      markStatesOfCompletedFlushesAsFlushed();
       markStatesAsFlushedToTmpDestination();
     }
     bufferingStrategy.close();
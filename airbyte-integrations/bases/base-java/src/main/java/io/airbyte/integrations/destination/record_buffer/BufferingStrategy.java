@@ -24,11 +24,23 @@ public interface BufferingStrategy extends AutoCloseable {
    *
    * @param stream - stream associated with record
    * @param message - message to buffer
-   * @return true if this record cause ALL records in the buffer to flush, otherwise false.
+   * @return true if this record cause ALL records in the buffer to flush, otherwise false. The flush
+   *         may still be running, see {@link #getRunningFlushAllCount()}.
    * @throws Exception throw on failure
    */
   boolean addRecord(AirbyteStreamNameNamespacePair stream, AirbyteMessage message) throws Exception;
 
+  /**
+   * A flush of all buffers started by {@link #addRecord} may complete in the background, after
+   * addRecord returned. These flushes complete in the order they were started.
+   *
+   * @return number of flushes of all buffers started by addRecord that have not completed yet.
+   * @throws Exception if one of these flushes failed
+   */
+  default int getRunningFlushAllCount() throws Exception {
+    return 0;
+  }
+
   /**
    * Flush buffered messages in a writer from a particular stream
    */
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Buffers the records of a stream as serialized JSON instead of {@link AirbyteRecordMessage}
+ * objects, so that the buffer takes about as many bytes as the serialized records. The records are
+ * written in chunks of memory borrowed from a {@link ChunkPool}, or in a temporary file once the
+ * memory allowed to the buffers is used. They are only deserialized when the buffer is read.
+ */
+public class CompactRecordBuffer implements AutoCloseable {
+
+  private final ChunkPool chunkPool;
+  private final List<byte[]> chunks;
+  private final DataOutputStream memoryOutput;
+  // number of bytes written in the last chunk
+  private int lastChunkSize;
+  private long recordCount;
+  private long byteCount;
+
+  private Path spillFile;
+  private DataOutputStream spillOutput;
+
+  public CompactRecordBuffer(final ChunkPool chunkPool) {
+    this.chunkPool = chunkPool;
+    this.chunks = new ArrayList<>();
+    this.memoryOutput = new DataOutputStream(new ChunkOutputStream());
+    this.lastChunkSize = 0;
+    this.recordCount = 0;
+    this.byteCount = 0;
+  }
+
+  /**
+   * @return the record serialized the way it is stored in the buffer. Its length is the number of
+   *         bytes the record takes in the buffer, apart from a few bytes of header.
+   */
+  public static byte[] serialize(final AirbyteRecordMessage record) {
+    return Jsons.serialize(record).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Appends a record serialized with {@link #serialize(AirbyteRecordMessage)}. Once a record has been
+   * written to the temporary file, all the records that follow are written there as well, so that
+   * the records are read in the order they were appended.
+   *
+   * @param inMemory whether the record may be kept in memory
+   * @return whether the record was kept in memory
+   */
+  public boolean append(final byte[] serializedRecord, final boolean inMemory) throws IOException {
+    final boolean keptInMemory = inMemory && spillOutput == null;
+    final DataOutputStream output = keptInMemory ? memoryOutput : getSpillOutput();
+    output.writeInt(serializedRecord.length);
+    output.write(serializedRecord);
+    recordCount++;
+    byteCount += serializedRecord.length;
+    return keptInMemory;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * @return number of bytes of the serialized records, in memory and on disk.
+   */
+  public long getByteCount() {
+    return byteCount;
+  }
+
+  /**
+   * Deserializes the records in the order they were appended, and hands them over in slices, so that
+   * only the records of one slice are held as objects at a time.
+   *
+   * @param maxSliceBytes maximum number of serialized bytes of the records of a slice. A slice has at
+   *        least one record.
+   * @param sliceConsumer consumer of the slices of records
+   */
+  public void readRecords(final long maxSliceBytes, final CheckedConsumer<List<AirbyteRecordMessage>, Exception> sliceConsumer) throws Exception {
+    if (spillOutput != null) {
+      spillOutput.flush();
+    }
+
+    try (final DataInputStream input = new DataInputStream(openInput())) {
+      List<AirbyteRecordMessage> slice = new ArrayList<>();
+      long sliceBytes = 0;
+      for (long i = 0; i < recordCount; i++) {
+        final byte[] serializedRecord = new byte[input.readInt()];
+        input.readFully(serializedRecord);
+        if (!slice.isEmpty() && sliceBytes + serializedRecord.length > maxSliceBytes) {
+          sliceConsumer.accept(slice);
+          slice = new ArrayList<>();
+          sliceBytes = 0;
+        }
+        slice.add(Jsons.deserialize(new String(serializedRecord, StandardCharsets.UTF_8), AirbyteRecordMessage.class));
+        sliceBytes += serializedRecord.length;
+      }
+      if (!slice.isEmpty()) {
+        sliceConsumer.accept(slice);
+      }
+    }
+  }
+
+  private InputStream openInput() throws IOException {
+    final List<InputStream> inputs = new ArrayList<>();
+    for (int i = 0; i < chunks.size(); i++) {
+      final byte[] chunk = chunks.get(i);
+      inputs.add(new ByteArrayInputStream(chunk, 0, i == chunks.size() - 1 ? lastChunkSize : chunk.length));
+    }
+    if (spillFile != null) {
+      inputs.add(new BufferedInputStream(Files.newInputStream(spillFile)));
+    }
+    return new SequenceInputStream(Collections.enumeration(inputs));
+  }
+
+  private DataOutputStream getSpillOutput() throws IOException {
+    if (spillOutput == null) {
+      spillFile = Files.createTempFile("record-buffer-", ".tmp");
+      spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+    }
+    return spillOutput;
+  }
+
+  /**
+   * Gives the chunks back to the pool and deletes the temporary file.
+   */
+  @Override
+  public void close() throws IOException {
+    chunks.forEach(chunkPool::release);
+    chunks.clear();
+    lastChunkSize = 0;
+    if (spillOutput != null) {
+      spillOutput.close();
+      spillOutput = null;
+      Files.deleteIfExists(spillFile);
+      spillFile = null;
+    }
+  }
+
+  /**
+   * Writes into the chunks of the buffer, borrowing a new chunk from the pool when the last one is
+   * full.
+   */
+  private class ChunkOutputStream extends OutputStream {
+
+    @Override
+    public void write(final int b) {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      int written = 0;
+      while (written < length) {
+        if (chunks.isEmpty() || lastChunkSize == chunks.get(chunks.size() - 1).length) {
+          chunks.add(chunkPool.acquire());
+          lastChunkSize = 0;
+        }
+        final byte[] chunk = chunks.get(chunks.size() - 1);
+        final int count = Math.min(length - written, chunk.length - lastChunkSize);
+        System.arraycopy(bytes, offset + written, chunk, lastChunkSize, count);
+        lastChunkSize += count;
+        written += count;
+      }
+    }
+
+  }
+
+  /**
+   * Chunks of memory shared by the buffers of all the streams. The chunks given back are kept to be
+   * reused by the next buffers, up to a maximum number of free chunks.
+   */
+  public static class ChunkPool {
+
+    private final int chunkSize;
+    private final int maxFreeChunks;
+    private final Deque<byte[]> freeChunks;
+
+    public ChunkPool(final int chunkSize, final int maxFreeChunks) {
+      this.chunkSize = chunkSize;
+      this.maxFreeChunks = maxFreeChunks;
+      this.freeChunks = new ArrayDeque<>();
+    }
+
+    byte[] acquire() {
+      final byte[] chunk = freeChunks.poll();
+      return chunk != null ? chunk : new byte[chunkSize];
+    }
+
+    void release(final byte[] chunk) {
+      if (freeChunks.size() < maxFreeChunks) {
+        freeChunks.push(chunk);
+      }
+    }
+
+  }
+
+}
@@ -7,13 +7,10 @@ package io.airbyte.integrations.destination.record_buffer;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.sentry.AirbyteSentry;
 import io.airbyte.integrations.destination.buffered_stream_consumer.CheckAndRemoveRecordWriter;
-import io.airbyte.integrations.destination.buffered_stream_consumer.RecordSizeEstimator;
 import io.airbyte.integrations.destination.buffered_stream_consumer.RecordWriter;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -21,7 +18,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This is the default implementation of a {@link BufferStorage} to be backward compatible. Data is
- * being buffered in a {@link List<AirbyteRecordMessage>} as they are being consumed.
+ * being buffered as they are being consumed, in a {@link CompactRecordBuffer} per stream that holds
+ * the records serialized. The size of the buffer is the number of bytes of the serialized records.
+ * When the buffers hold more than a given number of bytes in memory, the records that follow are
+ * written to temporary files until the next flush.
+ *
+ * When flushing a stream, its records are deserialized and handed over to the
+ * {@link RecordWriter} in slices, so that only the records of a slice are held as objects at a
+ * time.
  *
  * This should be deprecated as we slowly move towards using {@link SerializedBufferingStrategy}
  * instead.
@@ -30,14 +34,23 @@ public class InMemoryRecordBufferingStrategy implements BufferingStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryRecordBufferingStrategy.class);
 
-  private Map<AirbyteStreamNameNamespacePair, List<AirbyteRecordMessage>> streamBuffer = new HashMap<>();
+  // by default, the buffers may hold up to a quarter of the heap in memory
+  private static final long DEFAULT_MAX_MEMORY_BYTES = Runtime.getRuntime().maxMemory() / 4;
+  // maximum number of bytes of the records handed over to the record writer at once
+  private static final long MAX_SLICE_BYTES = 16L * 1024 * 1024;
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int MAX_FREE_CHUNKS = 256;
+
+  private Map<AirbyteStreamNameNamespacePair, CompactRecordBuffer> streamBuffer = new HashMap<>();
   private final RecordWriter<AirbyteRecordMessage> recordWriter;
   private final CheckAndRemoveRecordWriter checkAndRemoveRecordWriter;
   private String fileName;
 
-  private final RecordSizeEstimator recordSizeEstimator;
+  private final CompactRecordBuffer.ChunkPool chunkPool;
   private final long maxQueueSizeInBytes;
+  private final long maxMemoryBytes;
   private long bufferSizeInBytes;
+  private long memorySizeInBytes;
 
   public InMemoryRecordBufferingStrategy(final RecordWriter<AirbyteRecordMessage> recordWriter,
                                          final long maxQueueSizeInBytes) {
@@ -47,27 +60,44 @@ public class InMemoryRecordBufferingStrategy implements BufferingStrategy {
   public InMemoryRecordBufferingStrategy(final RecordWriter<AirbyteRecordMessage> recordWriter,
                                          final CheckAndRemoveRecordWriter checkAndRemoveRecordWriter,
                                          final long maxQueueSizeInBytes) {
+    this(recordWriter, checkAndRemoveRecordWriter, maxQueueSizeInBytes, DEFAULT_MAX_MEMORY_BYTES);
+  }
+
+  /**
+   * @param maxQueueSizeInBytes number of bytes of records after which all the buffers are flushed
+   * @param maxMemoryBytes number of bytes of records the buffers may hold in memory. The records that
+   *        follow are written to temporary files.
+   */
+  public InMemoryRecordBufferingStrategy(final RecordWriter<AirbyteRecordMessage> recordWriter,
+                                         final CheckAndRemoveRecordWriter checkAndRemoveRecordWriter,
+                                         final long maxQueueSizeInBytes,
+                                         final long maxMemoryBytes) {
     this.recordWriter = recordWriter;
     this.checkAndRemoveRecordWriter = checkAndRemoveRecordWriter;
 
+    this.chunkPool = new CompactRecordBuffer.ChunkPool(CHUNK_SIZE, MAX_FREE_CHUNKS);
     this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+    this.maxMemoryBytes = maxMemoryBytes;
     this.bufferSizeInBytes = 0;
-    this.recordSizeEstimator = new RecordSizeEstimator();
+    this.memorySizeInBytes = 0;
   }
 
   @Override
   public boolean addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
     boolean didFlush = false;
 
-    final long messageSizeInBytes = recordSizeEstimator.getEstimatedByteSize(message.getRecord());
+    final byte[] serializedRecord = CompactRecordBuffer.serialize(message.getRecord());
+    final long messageSizeInBytes = serializedRecord.length;
     if (bufferSizeInBytes + messageSizeInBytes > maxQueueSizeInBytes) {
       flushAll();
       didFlush = true;
       bufferSizeInBytes = 0;
     }
 
-    final List<AirbyteRecordMessage> bufferedRecords = streamBuffer.computeIfAbsent(stream, k -> new ArrayList<>());
-    bufferedRecords.add(message.getRecord());
+    final CompactRecordBuffer bufferedRecords = streamBuffer.computeIfAbsent(stream, k -> new CompactRecordBuffer(chunkPool));
+    if (bufferedRecords.append(serializedRecord, memorySizeInBytes + messageSizeInBytes <= maxMemoryBytes)) {
+      memorySizeInBytes += messageSizeInBytes;
+    }
     bufferSizeInBytes += messageSizeInBytes;
 
     return didFlush;
@@ -75,17 +105,17 @@ public class InMemoryRecordBufferingStrategy implements BufferingStrategy {
 
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
-    LOGGER.info("Flushing single stream {}: {} records", stream, streamBuffer.get(stream).size());
-    recordWriter.accept(stream, streamBuffer.get(stream));
+    LOGGER.info("Flushing single stream {}: {} records", stream, streamBuffer.get(stream).getRecordCount());
+    streamBuffer.get(stream).readRecords(MAX_SLICE_BYTES, records -> recordWriter.accept(stream, records));
   }
 
   @Override
   public void flushAll() throws Exception {
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
-      for (final Map.Entry<AirbyteStreamNameNamespacePair, List<AirbyteRecordMessage>> entry : streamBuffer.entrySet()) {
-        LOGGER.info("Flushing {}: {} records ({})", entry.getKey().getName(), entry.getValue().size(),
-            FileUtils.byteCountToDisplaySize(bufferSizeInBytes));
-        recordWriter.accept(entry.getKey(), entry.getValue());
+      for (final Map.Entry<AirbyteStreamNameNamespacePair, CompactRecordBuffer> entry : streamBuffer.entrySet()) {
+        LOGGER.info("Flushing {}: {} records ({})", entry.getKey().getName(), entry.getValue().getRecordCount(),
+            FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
+        entry.getValue().readRecords(MAX_SLICE_BYTES, records -> recordWriter.accept(entry.getKey(), records));
         if (checkAndRemoveRecordWriter != null) {
           fileName = checkAndRemoveRecordWriter.apply(entry.getKey(), fileName);
         }
@@ -96,11 +126,17 @@ public class InMemoryRecordBufferingStrategy implements BufferingStrategy {
   }
 
   @Override
-  public void clear() {
+  public void clear() throws Exception {
+    close();
     streamBuffer = new HashMap<>();
   }
 
   @Override
-  public void close() throws Exception {}
+  public void close() throws Exception {
+    for (final CompactRecordBuffer buffer : streamBuffer.values()) {
+      buffer.close();
+    }
+    memorySizeInBytes = 0;
+  }
 
 }
@@ -11,19 +11,51 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.sentry.AirbyteSentry;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Buffers records in a {@link SerializableBuffer} per stream, and flushes the buffers when they are
+ * full.
+ *
+ * <p>
+ * By default, buffers are flushed on the thread adding records. With {@code flushInBackground}, full
+ * buffers are flushed by a background thread instead, while records are added to new buffers.
+ * Buffers are flushed one at a time, in the order they filled up, so that the flush function doesn't
+ * need to be thread safe. {@link #addRecord} waits for running flushes to complete before starting a
+ * new one when the buffers being flushed hold more than {@code maxInFlightBytes}.
+ * </p>
+ */
 public class SerializedBufferingStrategy implements BufferingStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SerializedBufferingStrategy.class);
 
+  /**
+   * Whether buffers are flushed by a background thread. Defaults to false, i.e. buffers are flushed
+   * on the thread adding records.
+   */
+  public static final String FLUSH_IN_BACKGROUND = "BUFFER_FLUSH_IN_BACKGROUND";
+  /**
+   * Maximum number of bytes held by the buffers being flushed in the background.
+   */
+  public static final String MAX_IN_FLIGHT_BYTES = "BUFFER_FLUSH_MAX_IN_FLIGHT_BYTES";
+  private static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 1024L * 1024L * 1024L; // 1 GiB
+
   private final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer;
   private final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush;
 
@@ -31,34 +63,53 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   private long totalBufferSizeInBytes;
   private final ConfiguredAirbyteCatalog catalog;
 
+  // null when buffers are flushed on the thread adding records
+  private final ExecutorService flushExecutor;
+  private final long maxInFlightBytes;
+  // last flush of each stream, that the next flush of the stream waits for
+  private final Map<AirbyteStreamNameNamespacePair, CompletableFuture<Void>> lastFlushOfStream = new HashMap<>();
+  // flushes of a single buffer and their size, in the order they were started
+  private final Deque<Entry<CompletableFuture<Void>, Long>> runningFlushes = new ArrayDeque<>();
+  // flushes of all buffers started by addRecord, in the order they were started
+  private final Deque<CompletableFuture<Void>> runningFlushAlls = new ArrayDeque<>();
+  private long inFlightBytes;
+
   public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
                                      final ConfiguredAirbyteCatalog catalog,
                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush) {
+    this(onCreateBuffer, catalog, onStreamFlush,
+        Optional.ofNullable(System.getenv(FLUSH_IN_BACKGROUND)).map(Boolean::parseBoolean).orElse(false),
+        Optional.ofNullable(System.getenv(MAX_IN_FLIGHT_BYTES)).map(Long::parseLong).orElse(DEFAULT_MAX_IN_FLIGHT_BYTES));
+  }
+
+  /**
+   * @param flushInBackground whether buffers are flushed by a background thread, rather than on the
+   *        thread adding records.
+   * @param maxInFlightBytes maximum number of bytes held by the buffers being flushed in the
+   *        background.
+   */
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final boolean flushInBackground,
+                                     final long maxInFlightBytes) {
     this.onCreateBuffer = onCreateBuffer;
     this.catalog = catalog;
     this.onStreamFlush = onStreamFlush;
     this.totalBufferSizeInBytes = 0;
+    this.flushExecutor = flushInBackground ? Executors.newSingleThreadExecutor() : null;
+    this.maxInFlightBytes = maxInFlightBytes;
+    this.inFlightBytes = 0;
   }
 
   @Override
   public boolean addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
+    if (flushExecutor != null) {
+      return addRecordAndFlushInBackground(stream, message);
+    }
     boolean didFlush = false;
 
-    final SerializableBuffer streamBuffer = allBuffers.computeIfAbsent(stream, k -> {
-      LOGGER.info("Starting a new buffer for stream {} (current state: {} in {} buffers)",
-          stream.getName(),
-          FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes),
-          allBuffers.size());
-      try {
-        return onCreateBuffer.apply(stream, catalog);
-      } catch (final Exception e) {
-        LOGGER.error("Failed to create a new buffer for stream {}", stream.getName(), e);
-        throw new RuntimeException(e);
-      }
-    });
-    if (streamBuffer == null) {
-      throw new RuntimeException(String.format("Failed to create/get streamBuffer for stream %s.%s", stream.getNamespace(), stream.getName()));
-    }
+    final SerializableBuffer streamBuffer = getOrCreateBuffer(stream);
     final long actualMessageSizeInBytes = streamBuffer.accept(message.getRecord());
     totalBufferSizeInBytes += actualMessageSizeInBytes;
     if (totalBufferSizeInBytes >= streamBuffer.getMaxTotalBufferSizeInBytes()
@@ -88,18 +139,173 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     return didFlush;
   }
 
+  /**
+   * Same as {@link #addRecord} but full buffers are handed to the flush executor. Returns true when a
+   * flush of all buffers started, which completes once {@link #getRunningFlushAllCount()} counts it
+   * no more.
+   */
+  private boolean addRecordAndFlushInBackground(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
+    // fail fast if a flush running in the background failed
+    reapCompletedFlushes();
+
+    final SerializableBuffer streamBuffer = getOrCreateBuffer(stream);
+    totalBufferSizeInBytes += streamBuffer.accept(message.getRecord());
+    if (totalBufferSizeInBytes >= streamBuffer.getMaxTotalBufferSizeInBytes()
+        || allBuffers.size() >= streamBuffer.getMaxConcurrentStreamsInBuffer()) {
+      runningFlushAlls.add(startFlushAll());
+      return true;
+    } else if (streamBuffer.getByteCount() >= streamBuffer.getMaxPerStreamBufferSizeInBytes()) {
+      // see the note in addRecord on why this does not count as a flush of all buffers
+      totalBufferSizeInBytes -= streamBuffer.getByteCount();
+      allBuffers.remove(stream);
+      startFlush(stream, streamBuffer);
+    }
+    return false;
+  }
+
+  private SerializableBuffer getOrCreateBuffer(final AirbyteStreamNameNamespacePair stream) {
+    final SerializableBuffer streamBuffer = allBuffers.computeIfAbsent(stream, k -> {
+      LOGGER.info("Starting a new buffer for stream {} (current state: {} in {} buffers)",
+          stream.getName(),
+          FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes),
+          allBuffers.size());
+      try {
+        return onCreateBuffer.apply(stream, catalog);
+      } catch (final Exception e) {
+        LOGGER.error("Failed to create a new buffer for stream {}", stream.getName(), e);
+        throw new RuntimeException(e);
+      }
+    });
+    if (streamBuffer == null) {
+      throw new RuntimeException(String.format("Failed to create/get streamBuffer for stream %s.%s", stream.getNamespace(), stream.getName()));
+    }
+    return streamBuffer;
+  }
+
+  /**
+   * Hands all buffers to the flush executor and starts new ones.
+   *
+   * @return future completing when all the buffers are flushed, along with every buffer whose flush
+   *         started before, so that the states received so far are only marked as flushed once all
+   *         their records are.
+   */
+  private CompletableFuture<Void> startFlushAll() throws Exception {
+    LOGGER.info("Flushing all {} current buffers in the background ({} in total)", allBuffers.size(),
+        FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
+    for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : List.copyOf(allBuffers.entrySet())) {
+      // the buffer belongs to the flush from now on, close() must not close it
+      allBuffers.remove(entry.getKey());
+      startFlush(entry.getKey(), entry.getValue());
+    }
+    totalBufferSizeInBytes = 0;
+    // flushes no longer running completed successfully, or reapCompletedFlushes would have thrown
+    return CompletableFuture.allOf(runningFlushes.stream().map(Entry::getKey).toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Hands a buffer to the flush executor, once the previous flush of its stream completed. Waits for
+   * running flushes to complete first if the buffer doesn't fit in the in-flight bytes.
+   *
+   * @return future completing when the buffer is flushed.
+   */
+  private CompletableFuture<Void> startFlush(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    final long bufferSizeInBytes = writer.getByteCount();
+    reapCompletedFlushes();
+    while (!runningFlushes.isEmpty() && inFlightBytes + bufferSizeInBytes > maxInFlightBytes) {
+      LOGGER.info("Waiting for running flushes to complete ({} in flight)", FileUtils.byteCountToDisplaySize(inFlightBytes));
+      awaitFlush(runningFlushes.peek().getKey());
+      reapCompletedFlushes();
+    }
+
+    // a failed flush of the stream fails the flushes of the stream after it, which still close their
+    // buffer
+    final CompletableFuture<Void> previousFlush = lastFlushOfStream.getOrDefault(stream, CompletableFuture.completedFuture(null));
+    final CompletableFuture<Void> flush = previousFlush.handleAsync((ignored, previousFailure) -> {
+      try (writer) {
+        if (previousFailure != null) {
+          throw previousFailure instanceof CompletionException ? (CompletionException) previousFailure : new CompletionException(previousFailure);
+        }
+        flushWriterInternal(stream, writer);
+      } catch (final CompletionException e) {
+        throw e;
+      } catch (final Exception e) {
+        throw new CompletionException(e);
+      }
+      return null;
+    }, flushExecutor);
+    lastFlushOfStream.put(stream, flush);
+    runningFlushes.add(new SimpleImmutableEntry<>(flush, bufferSizeInBytes));
+    inFlightBytes += bufferSizeInBytes;
+    return flush;
+  }
+
+  /**
+   * Forgets about the flushes that completed, in the order they were started, and rethrows the
+   * failure of any of them.
+   */
+  private void reapCompletedFlushes() throws Exception {
+    while (!runningFlushes.isEmpty() && runningFlushes.peek().getKey().isDone()) {
+      final Entry<CompletableFuture<Void>, Long> flush = runningFlushes.poll();
+      inFlightBytes -= flush.getValue();
+      awaitFlush(flush.getKey());
+    }
+    while (!runningFlushAlls.isEmpty() && runningFlushAlls.peek().isDone()) {
+      awaitFlush(runningFlushAlls.poll());
+    }
+  }
+
+  private static void awaitFlush(final CompletableFuture<Void> flush) throws Exception {
+    try {
+      flush.get();
+    } catch (final ExecutionException e) {
+      // get() unwraps the CompletionException thrown by the flush
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+  }
+
+  private void awaitAllFlushes() throws Exception {
+    runningFlushAlls.clear();
+    lastFlushOfStream.clear();
+    while (!runningFlushes.isEmpty()) {
+      final Entry<CompletableFuture<Void>, Long> flush = runningFlushes.poll();
+      inFlightBytes -= flush.getValue();
+      awaitFlush(flush.getKey());
+    }
+  }
+
+  @Override
+  public int getRunningFlushAllCount() throws Exception {
+    reapCompletedFlushes();
+    return runningFlushAlls.size();
+  }
+
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    if (flushExecutor != null) {
+      totalBufferSizeInBytes -= writer.getByteCount();
+      allBuffers.remove(stream);
+      awaitFlush(startFlush(stream, writer));
+      return;
+    }
+    flushWriterInternal(stream, writer);
+    totalBufferSizeInBytes -= writer.getByteCount();
+    allBuffers.remove(stream);
+  }
+
+  private void flushWriterInternal(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
     LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       onStreamFlush.accept(stream, writer);
     }, Map.of("bufferSizeInBytes", writer.getByteCount()));
-    totalBufferSizeInBytes -= writer.getByteCount();
-    allBuffers.remove(stream);
   }
 
   @Override
   public void flushAll() throws Exception {
+    if (flushExecutor != null) {
+      startFlushAll();
+      awaitAllFlushes();
+      return;
+    }
     LOGGER.info("Flushing all {} current buffers ({} in total)", allBuffers.size(), FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
@@ -122,6 +328,18 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void close() throws Exception {
     final List<Exception> exceptionsThrown = new ArrayList<>();
+    if (flushExecutor != null) {
+      // flushes close their buffers once done, so all of them must complete
+      while (!runningFlushes.isEmpty()) {
+        try {
+          awaitAllFlushes();
+        } catch (final Exception e) {
+          // flushAll already reported the failure if the sync got that far
+          LOGGER.error("Exception while flushing stream buffer", e);
+        }
+      }
+      flushExecutor.shutdownNow();
+    }
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       try {
         LOGGER.info("Closing buffer for stream {}", entry.getKey().getName());
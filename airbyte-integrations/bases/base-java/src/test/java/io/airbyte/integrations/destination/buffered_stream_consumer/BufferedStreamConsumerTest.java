@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -21,6 +22,7 @@ import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.destination.record_buffer.BufferingStrategy;
 import io.airbyte.integrations.destination.record_buffer.InMemoryRecordBufferingStrategy;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
@@ -294,6 +296,52 @@ public class BufferedStreamConsumerTest {
     verify(outputRecordCollector, times(1)).accept(STATE_MESSAGE2);
   }
 
+  @Test
+  void testStatesFlushedOnceBackgroundFlushCompletes() throws Exception {
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    // the first record starts a flush of all buffers, which completes while the second record is added
+    when(bufferingStrategy.addRecord(any(), any())).thenReturn(true, false);
+    when(bufferingStrategy.getRunningFlushAllCount()).thenReturn(1, 0);
+    consumer = new BufferedStreamConsumer(outputRecordCollector, onStart, bufferingStrategy, onClose, CATALOG, isValidRecord);
+    final List<AirbyteMessage> records = generateRecords(1_000);
+
+    consumer.start();
+    consumer.accept(STATE_MESSAGE1);
+    consumer.accept(records.get(0));
+    consumer.accept(STATE_MESSAGE2);
+    consumer.accept(records.get(1));
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> consumer.accept(records.get(2)));
+    consumer.close();
+
+    verifyStartAndClose();
+
+    verify(outputRecordCollector).accept(STATE_MESSAGE1);
+    verify(outputRecordCollector, never()).accept(STATE_MESSAGE2);
+  }
+
+  @Test
+  void testStatesNotFlushedWhileBackgroundFlushRuns() throws Exception {
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    when(bufferingStrategy.addRecord(any(), any())).thenReturn(true, false);
+    when(bufferingStrategy.getRunningFlushAllCount()).thenReturn(1);
+    consumer = new BufferedStreamConsumer(outputRecordCollector, onStart, bufferingStrategy, onClose, CATALOG, isValidRecord);
+    final List<AirbyteMessage> records = generateRecords(1_000);
+
+    consumer.start();
+    consumer.accept(STATE_MESSAGE1);
+    consumer.accept(records.get(0));
+    consumer.accept(records.get(1));
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> consumer.accept(records.get(2)));
+    consumer.close();
+
+    verify(onStart).call();
+    verify(onClose).accept(true);
+
+    verifyNoInteractions(outputRecordCollector);
+  }
+
   private void verifyStartAndClose() throws Exception {
     verify(onStart).call();
     verify(onClose).accept(false);
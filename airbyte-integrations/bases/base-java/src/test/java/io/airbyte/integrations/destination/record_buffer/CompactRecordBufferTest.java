@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CompactRecordBufferTest {
+
+  // smaller than a record, so that records span several chunks
+  private static final int CHUNK_SIZE = 16;
+
+  private static final List<AirbyteRecordMessage> RECORDS = IntStream.range(0, 10)
+      .mapToObj(i -> new AirbyteRecordMessage()
+          .withStream("stream")
+          .withEmittedAt((long) i)
+          .withData(Jsons.jsonNode(List.of("value " + i))))
+      .collect(Collectors.toList());
+
+  @Test
+  void testReadRecordsFromMemoryAndDisk() throws Exception {
+    try (final CompactRecordBuffer buffer = new CompactRecordBuffer(new CompactRecordBuffer.ChunkPool(CHUNK_SIZE, 4))) {
+      long byteCount = 0;
+      for (int i = 0; i < RECORDS.size(); i++) {
+        final byte[] serializedRecord = CompactRecordBuffer.serialize(RECORDS.get(i));
+        byteCount += serializedRecord.length;
+        // the first half of the records is kept in memory, the other half is written to disk
+        assertEquals(i < 5, buffer.append(serializedRecord, i < 5));
+      }
+      assertEquals(RECORDS.size(), buffer.getRecordCount());
+      assertEquals(byteCount, buffer.getByteCount());
+
+      final List<AirbyteRecordMessage> readRecords = new ArrayList<>();
+      buffer.readRecords(Long.MAX_VALUE, readRecords::addAll);
+      assertEquals(RECORDS, readRecords);
+    }
+  }
+
+  @Test
+  void testRecordsFollowingSpilledRecordStayOnDisk() throws Exception {
+    try (final CompactRecordBuffer buffer = new CompactRecordBuffer(new CompactRecordBuffer.ChunkPool(CHUNK_SIZE, 4))) {
+      assertFalse(buffer.append(CompactRecordBuffer.serialize(RECORDS.get(0)), false));
+      assertFalse(buffer.append(CompactRecordBuffer.serialize(RECORDS.get(1)), true));
+
+      final List<AirbyteRecordMessage> readRecords = new ArrayList<>();
+      buffer.readRecords(Long.MAX_VALUE, readRecords::addAll);
+      assertEquals(RECORDS.subList(0, 2), readRecords);
+    }
+  }
+
+  @Test
+  void testReadRecordsInSlices() throws Exception {
+    try (final CompactRecordBuffer buffer = new CompactRecordBuffer(new CompactRecordBuffer.ChunkPool(CHUNK_SIZE, 4))) {
+      final int recordSize = CompactRecordBuffer.serialize(RECORDS.get(0)).length;
+      for (final AirbyteRecordMessage record : RECORDS) {
+        assertTrue(buffer.append(CompactRecordBuffer.serialize(record), true));
+      }
+
+      final List<List<AirbyteRecordMessage>> slices = new ArrayList<>();
+      // all the records have the same size, so that 3 of them fit in a slice
+      buffer.readRecords(3L * recordSize, slices::add);
+      assertEquals(List.of(RECORDS.subList(0, 3), RECORDS.subList(3, 6), RECORDS.subList(6, 9), RECORDS.subList(9, 10)), slices);
+    }
+  }
+
+}
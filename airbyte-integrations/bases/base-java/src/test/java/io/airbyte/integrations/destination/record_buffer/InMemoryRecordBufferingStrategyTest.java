@@ -22,8 +22,8 @@ import org.junit.jupiter.api.Test;
 public class InMemoryRecordBufferingStrategyTest {
 
   private static final JsonNode MESSAGE_DATA = Jsons.deserialize("{ \"field1\": 10000 }");
-  // MESSAGE_DATA should be 64 bytes long, size the buffer such as it can contain at least 2 message
-  // instances
+  // the serialized records are 68 bytes long with a namespace and 44 bytes long without, size the
+  // buffer such as it can contain at least 2 message instances
   private static final int MAX_QUEUE_SIZE_IN_BYTES = 130;
 
   @SuppressWarnings("unchecked")
@@ -54,6 +54,23 @@ public class InMemoryRecordBufferingStrategyTest {
     verify(recordWriter, times(1)).accept(stream2, List.of(message3.getRecord(), message4.getRecord()));
   }
 
+  @Test
+  public void testBufferingOnDisk() throws Exception {
+    // no memory allowed, so that every record is written to a temporary file
+    final InMemoryRecordBufferingStrategy buffering = new InMemoryRecordBufferingStrategy(recordWriter, null, MAX_QUEUE_SIZE_IN_BYTES, 0);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair("stream1", "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair("stream2", null);
+    final AirbyteMessage message1 = generateMessage(stream1);
+    final AirbyteMessage message2 = generateMessage(stream2);
+
+    assertFalse(buffering.addRecord(stream1, message1));
+    assertFalse(buffering.addRecord(stream2, message2));
+
+    buffering.flushAll();
+    verify(recordWriter, times(1)).accept(stream1, List.of(message1.getRecord()));
+    verify(recordWriter, times(1)).accept(stream2, List.of(message2.getRecord()));
+  }
+
   private static AirbyteMessage generateMessage(final AirbyteStreamNameNamespacePair stream) {
     return new AirbyteMessage().withRecord(new AirbyteRecordMessage()
         .withStream(stream.getName())
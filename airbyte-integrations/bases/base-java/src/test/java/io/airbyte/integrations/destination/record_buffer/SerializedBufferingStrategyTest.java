@@ -4,10 +4,13 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +24,9 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -187,6 +193,122 @@ public class SerializedBufferingStrategyTest {
     assertThrows(RuntimeException.class, () -> buffering.addRecord(stream, generateMessage(stream)));
   }
 
+  @Test
+  public void testBackgroundFlushAll() throws Exception {
+    final CountDownLatch uploadsReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      uploadsReleased.await();
+      return null;
+    }).when(perStreamFlushHook).accept(any(), any());
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, true, Long.MAX_VALUE);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace1");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace2");
+    final AirbyteStreamNameNamespacePair stream3 = new AirbyteStreamNameNamespacePair(STREAM_3, null);
+    final AirbyteStreamNameNamespacePair stream4 = new AirbyteStreamNameNamespacePair(STREAM_4, null);
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    assertFalse(buffering.addRecord(stream3, generateMessage(stream3)));
+    // Buffer limit reached for concurrent streams, the flush of all streams starts in the background
+    assertTrue(buffering.addRecord(stream4, generateMessage(stream4)));
+    assertEquals(1, buffering.getRunningFlushAllCount());
+    // records keep being added to new buffers while the flush runs
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertEquals(1, buffering.getRunningFlushAllCount());
+
+    uploadsReleased.countDown();
+    buffering.flushAll();
+    assertEquals(0, buffering.getRunningFlushAllCount());
+    verify(perStreamFlushHook, times(2)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    verify(perStreamFlushHook, times(1)).accept(stream3, recordWriter3);
+    verify(perStreamFlushHook, times(1)).accept(stream4, recordWriter4);
+    verify(recordWriter4).close();
+    buffering.close();
+  }
+
+  @Test
+  public void testBackgroundFlushFailure() throws Exception {
+    doThrow(new IOException("induced exception")).when(perStreamFlushHook).accept(any(), any());
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, true, Long.MAX_VALUE);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+
+    when(recordWriter1.getByteCount()).thenReturn(30L);
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+
+    assertThrows(IOException.class, buffering::flushAll);
+    verify(recordWriter1).close();
+    buffering.close();
+  }
+
+  @Test
+  public void testBackgroundFlushAllWaitsForEarlierStreamFlush() throws Exception {
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace1");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace2");
+    final AirbyteStreamNameNamespacePair stream3 = new AirbyteStreamNameNamespacePair(STREAM_3, null);
+    final AirbyteStreamNameNamespacePair stream4 = new AirbyteStreamNameNamespacePair(STREAM_4, null);
+    final CountDownLatch uploadReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      uploadReleased.await();
+      throw new IOException("induced exception");
+    }).when(perStreamFlushHook).accept(stream1, recordWriter1);
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, true, Long.MAX_VALUE);
+
+    // Buffer limit reached for stream1, its flush starts in the background and fails once released
+    when(recordWriter1.getByteCount()).thenReturn(30L);
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    when(recordWriter1.getByteCount()).thenReturn(10L);
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    assertFalse(buffering.addRecord(stream3, generateMessage(stream3)));
+    assertFalse(buffering.addRecord(stream4, generateMessage(stream4)));
+    assertTrue(buffering.addRecord(stream1, generateMessage(stream1)));
+
+    // the flush of all buffers covers the records of the earlier flush of stream1
+    assertEquals(1, buffering.getRunningFlushAllCount());
+    uploadReleased.countDown();
+    assertThrows(IOException.class, () -> {
+      while (buffering.getRunningFlushAllCount() > 0) {
+        Thread.sleep(10);
+      }
+    });
+    buffering.close();
+    // the next flush of stream1 fails too, without uploading its buffer, but closes it
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    verify(recordWriter1, times(2)).close();
+  }
+
+  @Test
+  public void testBackgroundFlushWaitsForInFlightBytes() throws Exception {
+    final AtomicInteger runningUploads = new AtomicInteger();
+    final AtomicInteger maxRunningUploads = new AtomicInteger();
+    doAnswer(invocation -> {
+      maxRunningUploads.accumulateAndGet(runningUploads.incrementAndGet(), Math::max);
+      Thread.sleep(50);
+      runningUploads.decrementAndGet();
+      return null;
+    }).when(perStreamFlushHook).accept(any(), any());
+    // room for a single buffer of 10 bytes
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, true, 15L);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace1");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace2");
+    final AirbyteStreamNameNamespacePair stream3 = new AirbyteStreamNameNamespacePair(STREAM_3, null);
+    final AirbyteStreamNameNamespacePair stream4 = new AirbyteStreamNameNamespacePair(STREAM_4, null);
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    assertFalse(buffering.addRecord(stream3, generateMessage(stream3)));
+    assertTrue(buffering.addRecord(stream4, generateMessage(stream4)));
+    buffering.flushAll();
+
+    assertEquals(1, maxRunningUploads.get());
+    verify(perStreamFlushHook, times(4)).accept(any(), any());
+    buffering.close();
+  }
+
   private static AirbyteMessage generateMessage(final AirbyteStreamNameNamespacePair stream) {
     return new AirbyteMessage().withRecord(new AirbyteRecordMessage()
         .withStream(stream.getName())
@@ -66,9 +66,21 @@ public class DebeziumRecordPublisher implements AutoCloseable {
   }
 
   public void start(final Queue<ChangeEvent<String, String>> queue) {
+    start(queue, new OffsetCommitPolicy.AlwaysCommitOffsetPolicy(), () -> {});
+  }
+
+  /**
+   * Starts the engine, letting the given policy decide when offsets are committed. The policy counts
+   * the records put in the queue.
+   */
+  public void start(final Queue<ChangeEvent<String, String>> queue, final CheckpointOffsetCommitPolicy commitPolicy) {
+    start(queue, commitPolicy, commitPolicy::recordPublished);
+  }
+
+  private void start(final Queue<ChangeEvent<String, String>> queue, final OffsetCommitPolicy commitPolicy, final Runnable onPublished) {
     engine = DebeziumEngine.create(Json.class)
         .using(getDebeziumProperties())
-        .using(new OffsetCommitPolicy.AlwaysCommitOffsetPolicy())
+        .using(commitPolicy)
         .notifying(e -> {
           // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
           // interacts with kafka. we want to ignore it.
@@ -79,6 +91,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
             while (!inserted) {
               inserted = queue.offer(e);
             }
+            onPublished.run();
           }
         })
         .using((success, message, error) -> {
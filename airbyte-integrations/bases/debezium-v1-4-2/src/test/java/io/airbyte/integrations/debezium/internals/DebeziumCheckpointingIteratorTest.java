@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DebeziumCheckpointingIteratorTest {
+
+  private static final Map<String, String> OFFSETS = Map.of("key", "value");
+
+  private AirbyteFileOffsetBackingStore offsetManager;
+  private CheckpointOffsetCommitPolicy commitPolicy;
+
+  @BeforeEach
+  void setup() {
+    offsetManager = AirbyteFileOffsetBackingStore.initializeState(null);
+    commitPolicy = new CheckpointOffsetCommitPolicy(offsetManager);
+  }
+
+  @Test
+  void testCheckpointOnceCommittedRecordsAreEmitted() {
+    final DebeziumCheckpointingIterator iterator = checkpointingIterator(List.of(event("false"), event("false"), event("false")));
+    publishRecords(3);
+    assertFalse(commitPolicy.performCommit(0, Duration.ZERO));
+
+    assertEquals(Type.RECORD, iterator.next().getType());
+    // the checkpoint is due, so a commit is requested.
+    assertEquals(Type.RECORD, iterator.next().getType());
+    assertTrue(commitPolicy.performCommit(0, Duration.ZERO));
+    offsetManager.persist(Jsons.jsonNode(OFFSETS));
+    assertFalse(commitPolicy.performCommit(0, Duration.ZERO));
+
+    // the committed offsets cover the third record, which has not been emitted yet.
+    assertEquals(Type.RECORD, iterator.next().getType());
+    final AirbyteMessage stateMessage = iterator.next();
+    assertEquals(Type.STATE, stateMessage.getType());
+    assertEquals(Jsons.jsonNode(OFFSETS), stateMessage.getState().getData());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testNoCheckpointDuringSnapshot() {
+    final DebeziumCheckpointingIterator iterator = checkpointingIterator(List.of(event("true"), event("true"), event("last")));
+    publishRecords(3);
+
+    assertEquals(Type.RECORD, iterator.next().getType());
+    assertEquals(Type.RECORD, iterator.next().getType());
+    assertEquals(Type.RECORD, iterator.next().getType());
+    assertFalse(iterator.hasNext());
+    assertFalse(commitPolicy.performCommit(0, Duration.ZERO));
+  }
+
+  @Test
+  void testCommitAgainIfOffsetsCannotBeRead() {
+    publishRecords(1);
+    commitPolicy.requestCommit();
+    assertTrue(commitPolicy.performCommit(0, Duration.ZERO));
+    // the offset file is empty, so the offsets are committed again.
+    assertTrue(commitPolicy.performCommit(0, Duration.ZERO));
+    assertTrue(commitPolicy.getCommittedOffsets().isEmpty());
+
+    offsetManager.persist(Jsons.jsonNode(OFFSETS));
+    assertFalse(commitPolicy.performCommit(0, Duration.ZERO));
+    assertEquals(1, commitPolicy.getCommittedOffsets().orElseThrow().getPublishedRecords());
+    assertEquals(OFFSETS, commitPolicy.getCommittedOffsets().orElseThrow().getOffsets());
+  }
+
+  private DebeziumCheckpointingIterator checkpointingIterator(final List<ChangeEventWithMetadata> events) {
+    return new DebeziumCheckpointingIterator(
+        AutoCloseableIterators.fromIterator(events.iterator()),
+        event -> new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage().withData(event.getEventValueAsJson())),
+        commitPolicy,
+        offsets -> Optional.of(new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage().withData(Jsons.jsonNode(offsets)))),
+        1,
+        Duration.ZERO);
+  }
+
+  private void publishRecords(final int count) {
+    for (int i = 0; i < count; i++) {
+      commitPolicy.recordPublished();
+    }
+  }
+
+  private static ChangeEventWithMetadata event(final String snapshot) {
+    final ChangeEvent<String, String> mocked = mock(ChangeEvent.class);
+    when(mocked.value()).thenReturn(Jsons.serialize(Map.of("source", Map.of("snapshot", snapshot))));
+    return new ChangeEventWithMetadata(mocked);
+  }
+
+}
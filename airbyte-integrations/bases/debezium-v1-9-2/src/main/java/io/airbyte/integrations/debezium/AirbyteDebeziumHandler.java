@@ -10,6 +10,9 @@ import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.internals.CheckpointOffsetCommitPolicy;
+import io.airbyte.integrations.debezium.internals.DebeziumCheckpointingIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
@@ -19,6 +22,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
 import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Iterator;
 import java.util.Map;
@@ -46,13 +50,26 @@ public class AirbyteDebeziumHandler {
   private final JsonNode config;
   private final CdcTargetPosition targetPosition;
   private final boolean trackSchemaHistory;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
 
+  /**
+   * @param checkpointRecords number of records after which an intermediate state message is emitted
+   *        during an incremental sync, 0 to disable this trigger.
+   * @param checkpointInterval time after which an intermediate state message is emitted during an
+   *        incremental sync, zero to disable this trigger. With both triggers disabled, the state is
+   *        only emitted once all records have been read.
+   */
   public AirbyteDebeziumHandler(final JsonNode config,
                                 final CdcTargetPosition targetPosition,
-                                final boolean trackSchemaHistory) {
+                                final boolean trackSchemaHistory,
+                                final long checkpointRecords,
+                                final Duration checkpointInterval) {
     this.config = config;
     this.targetPosition = targetPosition;
     this.trackSchemaHistory = trackSchemaHistory;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
   }
 
   public AutoCloseableIterator<AirbyteMessage> getSnapshotIterators(final ConfiguredAirbyteCatalog catalog,
@@ -76,7 +93,7 @@ public class AirbyteDebeziumHandler {
         schemaHistoryManager);
     publisher.start(queue);
 
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
@@ -102,27 +119,44 @@ public class AirbyteDebeziumHandler {
     final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager = schemaHistoryManager(cdcSavedInfoFetcher);
     final DebeziumRecordPublisher publisher = new DebeziumRecordPublisher(connectorProperties, config, catalog, offsetManager,
         schemaHistoryManager);
-    publisher.start(queue);
+    final boolean checkpointing = checkpointRecords > 0 || !checkpointInterval.isZero();
+    final CheckpointOffsetCommitPolicy commitPolicy = new CheckpointOffsetCommitPolicy(offsetManager);
+    if (checkpointing) {
+      publisher.start(queue, commitPolicy);
+    } else {
+      publisher.start(queue);
+    }
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
         publisher::close);
 
-    // convert to airbyte message.
-    final AutoCloseableIterator<AirbyteMessage> messageIterator = AutoCloseableIterators
-        .transform(
-            eventIterator,
-            (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
+    // convert to airbyte message, with intermediate state messages if checkpointing is enabled.
+    final AutoCloseableIterator<AirbyteMessage> messageIterator;
+    if (checkpointing) {
+      LOGGER.info("Checkpointing CDC state every {} records or {}", checkpointRecords, checkpointInterval);
+      messageIterator = new DebeziumCheckpointingIterator(
+          eventIterator,
+          (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt),
+          commitPolicy,
+          (offset) -> checkpointState(offset, schemaHistoryManager, cdcStateHandler),
+          checkpointRecords,
+          checkpointInterval);
+    } else {
+      messageIterator = AutoCloseableIterators
+          .transform(
+              eventIterator,
+              (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
+    }
 
     // our goal is to get the state at the time this supplier is called (i.e. after all message records
     // have been produced)
     final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
       final Map<String, String> offset = offsetManager.read();
-      final String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+      final String dbHistory = trackSchemaHistory ? readSchemaHistory(schemaHistoryManager) : null;
 
       return cdcStateHandler.saveState(offset, dbHistory);
     };
@@ -137,6 +171,29 @@ public class AirbyteDebeziumHandler {
     return AutoCloseableIterators.concatWithEagerClose(messageIterator, AutoCloseableIterators.fromIterator(stateMessageIterator));
   }
 
+  /**
+   * Creates an intermediate state message. The schema history is read while debezium may be writing
+   * to it, so if it cannot be read the checkpoint is skipped. Debezium only replays the history up to
+   * the offsets when it restarts, so it does not matter that it is ahead of them.
+   */
+  private Optional<AirbyteMessage> checkpointState(final Map<String, String> offset,
+                                                   final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager,
+                                                   final CdcStateHandler cdcStateHandler) {
+    final String dbHistory;
+    try {
+      dbHistory = trackSchemaHistory ? readSchemaHistory(schemaHistoryManager) : null;
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Unable to read schema history, skipping checkpoint", e);
+      return Optional.empty();
+    }
+    return Optional.of(cdcStateHandler.saveState(offset, dbHistory));
+  }
+
+  private static String readSchemaHistory(final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager) {
+    return schemaHistoryManager
+        .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read();
+  }
+
   private Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager(final CdcSavedInfoFetcher cdcSavedInfoFetcher) {
     if (trackSchemaHistory) {
       FilteredFileDatabaseHistory.setDatabaseName(config.get("database").asText());
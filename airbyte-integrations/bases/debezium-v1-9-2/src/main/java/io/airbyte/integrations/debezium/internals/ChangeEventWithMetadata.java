@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A change event published by Debezium, with its value deserialized once so that every step of the
+ * CDC pipeline can read it.
+ */
+public class ChangeEventWithMetadata {
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+
+  public ChangeEventWithMetadata(final ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+  }
+
+  public ChangeEvent<String, String> getEvent() {
+    return event;
+  }
+
+  public JsonNode getEventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import io.debezium.engine.spi.OffsetCommitPolicy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits offsets only when a checkpoint is requested, so that the offsets written in the offset
+ * file can be matched with the records that were published before them.
+ *
+ * <p>
+ * The debezium engine commits the offsets of every record handed over to the publisher, which
+ * includes the records still waiting in the queue. The offsets read from the offset file at any
+ * time can therefore be ahead of the records emitted so far, and are not safe to emit as state. This
+ * policy counts the published records and remembers how many had been published when it let the
+ * engine commit. It reads the offset file back the next time the engine asks it, once the commit
+ * has been written and from the engine thread, which is the only writer of the file. These offsets
+ * are safe to emit as soon as that many records have been emitted.
+ *
+ * <p>
+ * Both {@link #recordPublished()} and {@link #performCommit(long, Duration)} are called from the
+ * engine thread. The offsets of the records published after the last requested commit are written
+ * by the engine when it shuts down.
+ */
+public class CheckpointOffsetCommitPolicy implements OffsetCommitPolicy {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CheckpointOffsetCommitPolicy.class);
+
+  private final AirbyteFileOffsetBackingStore offsetManager;
+  private final AtomicBoolean commitRequested;
+  private final AtomicReference<CommittedOffsets> committedOffsets;
+
+  private long publishedRecords;
+  // number of records published at the last commit, or -1 if it has been read back already
+  private long pendingCommitRecords;
+
+  public CheckpointOffsetCommitPolicy(final AirbyteFileOffsetBackingStore offsetManager) {
+    this.offsetManager = offsetManager;
+    this.commitRequested = new AtomicBoolean(false);
+    this.committedOffsets = new AtomicReference<>();
+    this.publishedRecords = 0;
+    this.pendingCommitRecords = -1;
+  }
+
+  /**
+   * Counts a record handed over by the engine. Must be called before the engine commits its offset.
+   */
+  public void recordPublished() {
+    publishedRecords++;
+  }
+
+  /**
+   * Asks the engine to commit the offsets of the records published so far, the next time it
+   * finishes a batch.
+   */
+  public void requestCommit() {
+    commitRequested.set(true);
+  }
+
+  /**
+   * @return the offsets of the last requested commit, once they have been written.
+   */
+  public Optional<CommittedOffsets> getCommittedOffsets() {
+    return Optional.ofNullable(committedOffsets.get());
+  }
+
+  @Override
+  public boolean performCommit(final long numberOfMessagesSinceLastCommit, final Duration timeSinceLastCommit) {
+    // the engine writes the offsets it commits before asking again, so the last commit is complete.
+    if (pendingCommitRecords >= 0) {
+      readCommittedOffsets(pendingCommitRecords);
+      pendingCommitRecords = -1;
+    }
+
+    if (commitRequested.compareAndSet(true, false)) {
+      pendingCommitRecords = publishedRecords;
+      return true;
+    }
+    return false;
+  }
+
+  private void readCommittedOffsets(final long records) {
+    try {
+      final Map<String, String> offsets = offsetManager.read();
+      // a commit that timed out may still be writing the file, in which case it reads as empty.
+      if (!offsets.isEmpty()) {
+        committedOffsets.set(new CommittedOffsets(records, offsets));
+        return;
+      }
+      LOGGER.warn("Offset file is empty, committing again");
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Unable to read offset file, committing again", e);
+    }
+    commitRequested.set(true);
+  }
+
+  /**
+   * Offsets read from the offset file, along with the number of records published before they were
+   * committed.
+   */
+  public static class CommittedOffsets {
+
+    private final long publishedRecords;
+    private final Map<String, String> offsets;
+
+    public CommittedOffsets(final long publishedRecords, final Map<String, String> offsets) {
+      this.publishedRecords = publishedRecords;
+      this.offsets = offsets;
+    }
+
+    public long getPublishedRecords() {
+      return publishedRecords;
+    }
+
+    public Map<String, String> getOffsets() {
+      return offsets;
+    }
+
+  }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.debezium.internals.CheckpointOffsetCommitPolicy.CommittedOffsets;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts the change events to airbyte messages and emits an intermediate state message every
+ * given number of records or period of time, so that a sync that fails while catching up with a
+ * large backlog of changes can resume from its last checkpoint.
+ *
+ * <p>
+ * A checkpoint asks the {@link CheckpointOffsetCommitPolicy} for a commit, and is emitted once the
+ * committed offsets are written and all the records published before them have been emitted. No
+ * checkpoint is taken during a snapshot, since debezium restarts a snapshot that was interrupted
+ * from the beginning anyway.
+ */
+public class DebeziumCheckpointingIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumCheckpointingIterator.class);
+
+  private final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator;
+  private final Function<ChangeEventWithMetadata, AirbyteMessage> eventConverter;
+  private final CheckpointOffsetCommitPolicy commitPolicy;
+  private final Function<Map<String, String>, Optional<AirbyteMessage>> stateMessageFunction;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
+
+  private long emittedRecords;
+  private long recordsSinceCheckpoint;
+  private Instant lastCheckpoint;
+  private long checkpointedRecords;
+  private boolean commitRequested;
+  private boolean snapshotInProgress;
+
+  /**
+   * @param eventIterator change events, in the order they were published
+   * @param eventConverter converts a change event to a record message
+   * @param commitPolicy commit policy the debezium engine publishing the events was started with
+   * @param stateMessageFunction creates the state message of the given offsets. Returns empty if the
+   *        state cannot be created at this time.
+   * @param checkpointRecords number of records between checkpoints. 0 disables the record count
+   *        trigger.
+   * @param checkpointInterval time between checkpoints. Zero disables the time trigger.
+   */
+  public DebeziumCheckpointingIterator(final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator,
+                                       final Function<ChangeEventWithMetadata, AirbyteMessage> eventConverter,
+                                       final CheckpointOffsetCommitPolicy commitPolicy,
+                                       final Function<Map<String, String>, Optional<AirbyteMessage>> stateMessageFunction,
+                                       final long checkpointRecords,
+                                       final Duration checkpointInterval) {
+    this.eventIterator = eventIterator;
+    this.eventConverter = eventConverter;
+    this.commitPolicy = commitPolicy;
+    this.stateMessageFunction = stateMessageFunction;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
+    this.emittedRecords = 0;
+    this.recordsSinceCheckpoint = 0;
+    this.lastCheckpoint = Instant.now();
+    this.checkpointedRecords = -1;
+    this.commitRequested = false;
+    this.snapshotInProgress = true;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    // the last message returned has been consumed by now, so every record counted has been emitted.
+    if (isCheckpointDue()) {
+      final Optional<AirbyteMessage> stateMessage = checkpoint();
+      if (stateMessage.isPresent()) {
+        return stateMessage.get();
+      }
+    }
+
+    if (!eventIterator.hasNext()) {
+      return endOfData();
+    }
+    final ChangeEventWithMetadata event = eventIterator.next();
+    snapshotInProgress = isSnapshotEvent(event.getEventValueAsJson());
+    emittedRecords++;
+    recordsSinceCheckpoint++;
+    return eventConverter.apply(event);
+  }
+
+  private boolean isCheckpointDue() {
+    if (snapshotInProgress || recordsSinceCheckpoint == 0) {
+      return false;
+    }
+    return (checkpointRecords > 0 && recordsSinceCheckpoint >= checkpointRecords)
+        || (!checkpointInterval.isZero() && Duration.between(lastCheckpoint, Instant.now()).compareTo(checkpointInterval) >= 0);
+  }
+
+  private Optional<AirbyteMessage> checkpoint() {
+    if (!commitRequested) {
+      commitPolicy.requestCommit();
+      commitRequested = true;
+    }
+
+    final Optional<CommittedOffsets> committedOffsets = commitPolicy.getCommittedOffsets()
+        .filter(offsets -> offsets.getPublishedRecords() > checkpointedRecords && offsets.getPublishedRecords() <= emittedRecords);
+    if (committedOffsets.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final Optional<AirbyteMessage> stateMessage = stateMessageFunction.apply(committedOffsets.get().getOffsets());
+    if (stateMessage.isPresent()) {
+      LOGGER.info("Checkpointing offsets after {} records", committedOffsets.get().getPublishedRecords());
+      checkpointedRecords = committedOffsets.get().getPublishedRecords();
+      recordsSinceCheckpoint = emittedRecords - checkpointedRecords;
+      lastCheckpoint = Instant.now();
+      commitRequested = false;
+    }
+    return stateMessage;
+  }
+
+  private static boolean isSnapshotEvent(final JsonNode eventAsJson) {
+    final SnapshotMetadata snapshot = SnapshotMetadata.valueOf(eventAsJson.get("source").get("snapshot").asText().toUpperCase());
+    return SnapshotMetadata.FALSE != snapshot;
+  }
+
+  @Override
+  public void close() throws Exception {
+    eventIterator.close();
+  }
+
+}
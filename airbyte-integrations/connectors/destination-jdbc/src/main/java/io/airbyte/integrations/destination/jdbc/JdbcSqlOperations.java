@@ -11,6 +11,7 @@ import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.base.sentry.AirbyteSentry;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
@@ -73,17 +74,26 @@ public abstract class JdbcSqlOperations implements SqlOperations {
   }
 
   protected void writeBatchToFile(final File tmpFile, final List<AirbyteRecordMessage> records) throws Exception {
-    try (final PrintWriter writer = new PrintWriter(tmpFile, StandardCharsets.UTF_8);
-        final CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
-      for (final AirbyteRecordMessage record : records) {
-        final var uuid = UUID.randomUUID().toString();
-        final var jsonData = Jsons.serialize(formatData(record.getData()));
-        final var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
-        csvPrinter.printRecord(uuid, jsonData, emittedAt);
-      }
+    try (final PrintWriter writer = new PrintWriter(tmpFile, StandardCharsets.UTF_8)) {
+      writeBatchToCsv(writer, records);
     }
   }
 
+  /**
+   * Writes the records as CSV rows of the raw table, one record at a time. The writer is flushed but
+   * not closed.
+   */
+  protected void writeBatchToCsv(final Appendable writer, final List<AirbyteRecordMessage> records) throws IOException {
+    final CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
+    for (final AirbyteRecordMessage record : records) {
+      final var uuid = UUID.randomUUID().toString();
+      final var jsonData = Jsons.serialize(formatData(record.getData()));
+      final var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
+      csvPrinter.printRecord(uuid, jsonData, emittedAt);
+    }
+    csvPrinter.flush();
+  }
+
   protected JsonNode formatData(final JsonNode data) {
     return data;
   }
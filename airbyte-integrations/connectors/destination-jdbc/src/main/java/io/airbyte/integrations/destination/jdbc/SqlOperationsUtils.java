@@ -5,20 +5,42 @@
 package io.airbyte.integrations.destination.jdbc;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 public class SqlOperationsUtils {
 
+  /**
+   * Number of connections inserting the partitions of a batch of records in parallel. Unset or 1
+   * inserts them one after the other on a single connection. It should stay below the size of the
+   * connection pool of the destination.
+   */
+  public static final String INSERT_CONCURRENCY = "INSERT_CONCURRENCY";
+
+  // TODO(sherif) this should use a smarter, destination-aware partitioning scheme instead of 10k by
+  // default
+  private static final int DEFAULT_PARTITION_SIZE = 10_000;
+
   /**
    * Inserts "raw" records in a single query. The purpose of helper to abstract away database-specific
    * SQL syntax from this query.
@@ -35,7 +57,7 @@ public class SqlOperationsUtils {
                                                    final JdbcDatabase jdbcDatabase,
                                                    final List<AirbyteRecordMessage> records)
       throws SQLException {
-    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, UUID::randomUUID, true);
+    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, DEFAULT_PARTITION_SIZE);
   }
 
   /**
@@ -56,7 +78,31 @@ public class SqlOperationsUtils {
                                                         final JdbcDatabase jdbcDatabase,
                                                         final List<AirbyteRecordMessage> records)
       throws SQLException {
-    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, UUID::randomUUID, false);
+    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, UUID::randomUUID, false, DEFAULT_PARTITION_SIZE,
+        getInsertConcurrency());
+  }
+
+  /**
+   * Inserts "raw" records in queries of at most partitionSize records each. The purpose of helper to
+   * abstract away database-specific SQL syntax from this query.
+   *
+   * @param insertQueryComponent the first line of the query e.g. INSERT INTO public.users (ab_id,
+   *        data, emitted_at)
+   * @param recordQueryComponent query template for a full record e.g. (?, ?::jsonb ?)
+   * @param jdbcDatabase jdbc database
+   * @param records records to write
+   * @param partitionSize maximum number of records per query, e.g. to stay below the number of
+   *        parameters a query may have
+   * @throws SQLException exception
+   */
+  public static void insertRawRecordsInSingleQuery(final String insertQueryComponent,
+                                                   final String recordQueryComponent,
+                                                   final JdbcDatabase jdbcDatabase,
+                                                   final List<AirbyteRecordMessage> records,
+                                                   final int partitionSize)
+      throws SQLException {
+    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, UUID::randomUUID, true, partitionSize,
+        getInsertConcurrency());
   }
 
   @VisibleForTesting
@@ -65,45 +111,140 @@ public class SqlOperationsUtils {
                                             final JdbcDatabase jdbcDatabase,
                                             final List<AirbyteRecordMessage> records,
                                             final Supplier<UUID> uuidSupplier,
-                                            final boolean sem)
+                                            final boolean sem,
+                                            final int partitionSize,
+                                            final int concurrency)
       throws SQLException {
     if (records.isEmpty()) {
       return;
     }
 
-    jdbcDatabase.execute(connection -> {
-
-      // Strategy: We want to use PreparedStatement because it handles binding values to the SQL query
-      // (e.g. handling formatting timestamps). A PreparedStatement statement is created by supplying the
-      // full SQL string at creation time. Then subsequently specifying which values are bound to the
-      // string. Thus there will be two loops below.
-      // 1) Loop over records to build the full string.
-      // 2) Loop over the records and bind the appropriate values to the string.
-      // We also partition the query to run on 10k records at a time, since some DBs set a max limit on
-      // how many records can be inserted at once
-      // TODO(sherif) this should use a smarter, destination-aware partitioning scheme instead of 10k by
-      // default
-      for (List<AirbyteRecordMessage> partition : Iterables.partition(records, 10_000)) {
-        final StringBuilder sql = new StringBuilder(insertQueryComponent);
-        partition.forEach(r -> sql.append(recordQueryComponent));
-        final String s = sql.toString();
-        final String s1 = s.substring(0, s.length() - 2) + (sem ? ";" : "");
-
-        try (final PreparedStatement statement = connection.prepareStatement(s1)) {
-          // second loop: bind values to the SQL string.
-          int i = 1;
-          for (final AirbyteRecordMessage message : partition) {
-            // 1-indexed
-            statement.setString(i, uuidSupplier.get().toString());
-            statement.setString(i + 1, Jsons.serialize(message.getData()));
-            statement.setTimestamp(i + 2, Timestamp.from(Instant.ofEpochMilli(message.getEmittedAt())));
-            i += 3;
+    // Strategy: We want to use PreparedStatement because it handles binding values to the SQL query
+    // (e.g. handling formatting timestamps). A PreparedStatement statement is created by supplying the
+    // full SQL string at creation time. Then subsequently specifying which values are bound to the
+    // string.
+    // We partition the query to run on a limited number of records at a time, since some DBs set a max
+    // limit on how many records can be inserted at once. All the partitions but the last one have the
+    // same size, so their SQL string is built once, and their statement is prepared once per
+    // connection.
+    final Queue<List<AirbyteRecordMessage>> partitions = new ConcurrentLinkedQueue<>(Lists.partition(records, partitionSize));
+    final String fullPartitionQuery = buildInsertQuery(insertQueryComponent, recordQueryComponent, partitionSize, sem);
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    final CheckedConsumer<Connection, SQLException> insertPartitions = connection -> insertPartitions(connection, partitions,
+        insertQueryComponent, recordQueryComponent, fullPartitionQuery, partitionSize, uuidSupplier, sem, failed);
+
+    final int connectionCount = Math.min(concurrency, partitions.size());
+    if (connectionCount <= 1) {
+      jdbcDatabase.execute(insertPartitions);
+      return;
+    }
+
+    // each connection takes the next partition as soon as it is done with the previous one. rows are
+    // written in no particular order, which does not matter for the raw tables.
+    final ExecutorService executor = Executors.newFixedThreadPool(connectionCount);
+    try {
+      final List<Future<?>> inserts = new ArrayList<>();
+      for (int i = 0; i < connectionCount; i++) {
+        inserts.add(executor.submit(() -> {
+          try {
+            jdbcDatabase.execute(insertPartitions);
+          } catch (final SQLException | RuntimeException e) {
+            failed.set(true);
+            throw e;
           }
+          return null;
+        }));
+      }
+      for (final Future<?> insert : inserts) {
+        awaitInsert(insert);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 
-          statement.execute();
+  private static void insertPartitions(final Connection connection,
+                                       final Queue<List<AirbyteRecordMessage>> partitions,
+                                       final String insertQueryComponent,
+                                       final String recordQueryComponent,
+                                       final String fullPartitionQuery,
+                                       final int partitionSize,
+                                       final Supplier<UUID> uuidSupplier,
+                                       final boolean sem,
+                                       final AtomicBoolean failed)
+      throws SQLException {
+    PreparedStatement fullPartitionStatement = null;
+    try {
+      List<AirbyteRecordMessage> partition;
+      while (!failed.get() && (partition = partitions.poll()) != null) {
+        if (partition.size() == partitionSize) {
+          if (fullPartitionStatement == null) {
+            fullPartitionStatement = connection.prepareStatement(fullPartitionQuery);
+          }
+          bindAndExecute(fullPartitionStatement, partition, uuidSupplier);
+        } else {
+          try (final PreparedStatement statement =
+              connection.prepareStatement(buildInsertQuery(insertQueryComponent, recordQueryComponent, partition.size(), sem))) {
+            bindAndExecute(statement, partition, uuidSupplier);
+          }
         }
       }
-    });
+    } finally {
+      if (fullPartitionStatement != null) {
+        fullPartitionStatement.close();
+      }
+    }
+  }
+
+  private static String buildInsertQuery(final String insertQueryComponent,
+                                         final String recordQueryComponent,
+                                         final int recordCount,
+                                         final boolean sem) {
+    final StringBuilder sql = new StringBuilder(insertQueryComponent.length() + recordQueryComponent.length() * recordCount);
+    sql.append(insertQueryComponent);
+    for (int i = 0; i < recordCount; i++) {
+      sql.append(recordQueryComponent);
+    }
+    // drop the separator following the last record
+    sql.setLength(sql.length() - 2);
+    if (sem) {
+      sql.append(";");
+    }
+    return sql.toString();
+  }
+
+  private static void bindAndExecute(final PreparedStatement statement,
+                                     final List<AirbyteRecordMessage> partition,
+                                     final Supplier<UUID> uuidSupplier)
+      throws SQLException {
+    int i = 1;
+    for (final AirbyteRecordMessage message : partition) {
+      // 1-indexed
+      statement.setString(i, uuidSupplier.get().toString());
+      statement.setString(i + 1, Jsons.serialize(message.getData()));
+      statement.setTimestamp(i + 2, Timestamp.from(Instant.ofEpochMilli(message.getEmittedAt())));
+      i += 3;
+    }
+
+    statement.execute();
+  }
+
+  private static void awaitInsert(final Future<?> insert) throws SQLException {
+    try {
+      insert.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof SQLException) {
+        throw (SQLException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private static int getInsertConcurrency() {
+    return Optional.ofNullable(System.getenv(INSERT_CONCURRENCY)).map(Integer::parseInt).orElse(1);
   }
 
 }
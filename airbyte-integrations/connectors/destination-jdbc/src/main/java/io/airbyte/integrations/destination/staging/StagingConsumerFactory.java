@@ -5,9 +5,11 @@
 package io.airbyte.integrations.destination.staging;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedBiFunction;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.AirbyteMessageConsumer;
@@ -28,10 +30,17 @@ import io.airbyte.protocol.models.DestinationSyncMode;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.io.FileUtils;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
@@ -51,8 +60,42 @@ public class StagingConsumerFactory {
   // This would also allow other programs/scripts
   // to load (or reload backups?) in the connection's staging area to be loaded at the next sync.
   private static final DateTime SYNC_DATETIME = DateTime.now(DateTimeZone.UTC);
+
+  /**
+   * Number of streams copied from the stage, and finalized, at the same time when the sync ends.
+   * Unset or 1 processes the streams one after the other. It should stay below the size of the
+   * connection pool of the destination. Unless streams are finalized independently, no stream is
+   * copied once the copy of a stream failed, and no stream is finalized.
+   */
+  public static final String FINALIZATION_CONCURRENCY = "FINALIZATION_CONCURRENCY";
+  /**
+   * When "true", the tmp table of each stream is moved to its final table in a transaction of its
+   * own, instead of a single transaction for all the streams. If a stream fails, the other streams
+   * are still finalized with the data of this sync, while the failed stream keeps the data of the
+   * previous sync and the sync fails. This is also the case of a stream which failed to be copied
+   * from the stage.
+   */
+  public static final String FINALIZE_STREAMS_INDEPENDENTLY = "FINALIZE_STREAMS_INDEPENDENTLY";
   private final UUID RANDOM_CONNECTION_ID = UUID.randomUUID();
 
+  private final int finalizationConcurrency;
+  private final boolean finalizeStreamsIndependently;
+
+  public StagingConsumerFactory() {
+    this(Optional.ofNullable(System.getenv(FINALIZATION_CONCURRENCY)).map(Integer::parseInt).orElse(1),
+        Boolean.parseBoolean(System.getenv(FINALIZE_STREAMS_INDEPENDENTLY)));
+  }
+
+  /**
+   * @param finalizationConcurrency number of streams copied from the stage, and finalized, at the
+   *        same time when the sync ends.
+   * @param finalizeStreamsIndependently whether each stream is finalized in a transaction of its own.
+   */
+  public StagingConsumerFactory(final int finalizationConcurrency, final boolean finalizeStreamsIndependently) {
+    this.finalizationConcurrency = finalizationConcurrency;
+    this.finalizeStreamsIndependently = finalizeStreamsIndependently;
+  }
+
   public AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
                                        final JdbcDatabase database,
                                        final StagingOperations stagingOperations,
@@ -176,45 +219,25 @@ public class StagingConsumerFactory {
     };
   }
 
-  private OnCloseFunction onCloseFunction(final JdbcDatabase database,
-                                          final StagingOperations stagingOperations,
-                                          final List<WriteConfig> writeConfigs,
-                                          final boolean purgeStagingData) {
+  @VisibleForTesting
+  OnCloseFunction onCloseFunction(final JdbcDatabase database,
+                                  final StagingOperations stagingOperations,
+                                  final List<WriteConfig> writeConfigs,
+                                  final boolean purgeStagingData) {
     return (hasFailed) -> {
       if (!hasFailed) {
-        final List<String> queryList = new ArrayList<>();
-        LOGGER.info("Copying into tables in destination started for {} streams", writeConfigs.size());
-
-        for (final WriteConfig writeConfig : writeConfigs) {
-          final String schemaName = writeConfig.getOutputSchemaName();
-          final String streamName = writeConfig.getStreamName();
-          final String srcTableName = writeConfig.getTmpTableName();
-          final String dstTableName = writeConfig.getOutputTableName();
-          final String stageName = stagingOperations.getStageName(schemaName, streamName);
-          final String stagingPath = stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, streamName, writeConfig.getWriteDatetime());
-          LOGGER.info("Copying stream {} of schema {} into tmp table {} to final table {} from stage path {} with {} file(s) [{}]",
-              streamName, schemaName, srcTableName, dstTableName, stagingPath, writeConfig.getStagedFiles().size(),
-              String.join(",", writeConfig.getStagedFiles()));
-
-          try {
-            stagingOperations.copyIntoTmpTableFromStage(database, stageName, stagingPath, writeConfig.getStagedFiles(), srcTableName, schemaName);
-          } catch (final Exception e) {
-            stagingOperations.cleanUpStage(database, stageName, writeConfig.getStagedFiles());
-            LOGGER.info("Cleaning stage path {}", stagingPath);
-            throw new RuntimeException("Failed to upload data from stage " + stagingPath, e);
-          }
-          writeConfig.clearStagedFiles();
-          stagingOperations.createTableIfNotExists(database, schemaName, dstTableName);
-          switch (writeConfig.getSyncMode()) {
-            case OVERWRITE -> queryList.add(stagingOperations.truncateTableQuery(database, schemaName, dstTableName));
-            case APPEND, APPEND_DEDUP -> {}
-            default -> throw new IllegalStateException("Unrecognized sync mode: " + writeConfig.getSyncMode());
-          }
-          queryList.add(stagingOperations.copyTableQuery(database, schemaName, srcTableName, dstTableName));
+        LOGGER.info("Copying into tables in destination started for {} streams, {} at a time", writeConfigs.size(), finalizationConcurrency);
+        if (finalizeStreamsIndependently) {
+          finalizeStreamsInOwnTransactions(database, stagingOperations, writeConfigs);
+        } else {
+          final List<Exception> failures = new ArrayList<>();
+          final List<List<String>> streamQueries = forEachStream(writeConfigs, finalizationConcurrency, true, failures,
+              writeConfig -> copyIntoTableFromStage(database, stagingOperations, writeConfig));
+          throwIfFailed(failures);
+          stagingOperations.onDestinationCloseOperations(database, writeConfigs);
+          LOGGER.info("Executing finalization of tables.");
+          stagingOperations.executeTransaction(database, streamQueries.stream().flatMap(List::stream).toList());
         }
-        stagingOperations.onDestinationCloseOperations(database, writeConfigs);
-        LOGGER.info("Executing finalization of tables.");
-        stagingOperations.executeTransaction(database, queryList);
         LOGGER.info("Finalizing tables in destination completed.");
       }
       LOGGER.info("Cleaning up destination started for {} streams", writeConfigs.size());
@@ -236,4 +259,130 @@ public class StagingConsumerFactory {
     };
   }
 
+  /**
+   * Copies every stream from its stage, then moves the tmp table of each copied stream to its final
+   * table in a transaction of its own. A stream is finalized even if other streams failed, the
+   * failures are thrown once all the streams were processed.
+   */
+  private void finalizeStreamsInOwnTransactions(final JdbcDatabase database,
+                                                final StagingOperations stagingOperations,
+                                                final List<WriteConfig> writeConfigs)
+      throws Exception {
+    final List<Exception> failures = new ArrayList<>();
+    final List<List<String>> streamQueries = forEachStream(writeConfigs, finalizationConcurrency, false, failures,
+        writeConfig -> copyIntoTableFromStage(database, stagingOperations, writeConfig));
+    final List<Integer> copiedStreams = IntStream.range(0, writeConfigs.size()).filter(i -> streamQueries.get(i) != null).boxed().toList();
+    stagingOperations.onDestinationCloseOperations(database, copiedStreams.stream().map(writeConfigs::get).toList());
+
+    LOGGER.info("Executing finalization of tables, one transaction per stream.");
+    forEachStream(copiedStreams, finalizationConcurrency, false, failures, i -> {
+      try {
+        stagingOperations.executeTransaction(database, streamQueries.get(i));
+      } catch (final Exception e) {
+        throw new RuntimeException("Failed to finalize stream " + writeConfigs.get(i).getStreamName(), e);
+      }
+      return null;
+    });
+    throwIfFailed(failures);
+  }
+
+  /**
+   * Copies the staged files of a stream into its tmp table, and creates its final table.
+   *
+   * @return queries moving the content of the tmp table to the final table.
+   */
+  private List<String> copyIntoTableFromStage(final JdbcDatabase database,
+                                              final StagingOperations stagingOperations,
+                                              final WriteConfig writeConfig)
+      throws Exception {
+    final String schemaName = writeConfig.getOutputSchemaName();
+    final String streamName = writeConfig.getStreamName();
+    final String srcTableName = writeConfig.getTmpTableName();
+    final String dstTableName = writeConfig.getOutputTableName();
+    final String stageName = stagingOperations.getStageName(schemaName, streamName);
+    final String stagingPath = stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, streamName, writeConfig.getWriteDatetime());
+    LOGGER.info("Copying stream {} of schema {} into tmp table {} to final table {} from stage path {} with {} file(s) [{}]",
+        streamName, schemaName, srcTableName, dstTableName, stagingPath, writeConfig.getStagedFiles().size(),
+        String.join(",", writeConfig.getStagedFiles()));
+
+    try {
+      stagingOperations.copyIntoTmpTableFromStage(database, stageName, stagingPath, writeConfig.getStagedFiles(), srcTableName, schemaName);
+    } catch (final Exception e) {
+      stagingOperations.cleanUpStage(database, stageName, writeConfig.getStagedFiles());
+      LOGGER.info("Cleaning stage path {}", stagingPath);
+      throw new RuntimeException("Failed to upload data from stage " + stagingPath, e);
+    }
+    writeConfig.clearStagedFiles();
+    stagingOperations.createTableIfNotExists(database, schemaName, dstTableName);
+
+    final List<String> queryList = new ArrayList<>();
+    switch (writeConfig.getSyncMode()) {
+      case OVERWRITE -> queryList.add(stagingOperations.truncateTableQuery(database, schemaName, dstTableName));
+      case APPEND, APPEND_DEDUP -> {}
+      default -> throw new IllegalStateException("Unrecognized sync mode: " + writeConfig.getSyncMode());
+    }
+    queryList.add(stagingOperations.copyTableQuery(database, schemaName, srcTableName, dstTableName));
+    return queryList;
+  }
+
+  /**
+   * Applies the function to every stream, with at most concurrency streams at a time. If
+   * stopOnFailure, no stream is started once the function failed for a stream, so that streams
+   * processed one at a time stop at the first failure. Otherwise, every stream is processed.
+   *
+   * @param failures list the failures are added to, in the order of the streams.
+   * @return results of the function, in the order of the streams. The result of a stream which
+   *         failed, or was not processed, is null.
+   */
+  private static <T, R> List<R> forEachStream(final List<T> streams,
+                                              final int concurrency,
+                                              final boolean stopOnFailure,
+                                              final List<Exception> failures,
+                                              final CheckedFunction<T, R, Exception> function)
+      throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, streams.size())));
+    try {
+      final AtomicBoolean failed = new AtomicBoolean(false);
+      final List<Future<R>> futures = new ArrayList<>(streams.size());
+      for (final T stream : streams) {
+        futures.add(executor.submit(() -> {
+          if (stopOnFailure && failed.get()) {
+            return null;
+          }
+          try {
+            return function.apply(stream);
+          } catch (final Exception e) {
+            failed.set(true);
+            throw e;
+          }
+        }));
+      }
+
+      final List<R> results = new ArrayList<>(streams.size());
+      for (final Future<R> future : futures) {
+        try {
+          results.add(future.get());
+        } catch (final ExecutionException e) {
+          failures.add(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+          results.add(null);
+        }
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Throws the first failure, with the other ones suppressed.
+   */
+  private static void throwIfFailed(final List<Exception> failures) throws Exception {
+    if (failures.isEmpty()) {
+      return;
+    }
+    final Exception failure = failures.get(0);
+    failures.subList(1, failures.size()).forEach(failure::addSuppressed);
+    throw failure;
+  }
+
 }
@@ -26,6 +26,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -85,7 +86,7 @@ class SqlOperationsUtilsTest {
             .withEmittedAt(NOW.toEpochMilli())
             .withData(Jsons.jsonNode(ImmutableMap.of("name", "mississippi", "width", 20))));
 
-    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records, uuidSupplier, true);
+    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records, uuidSupplier, true, 10_000, 1);
 
     final List<JsonNode> actualRecords = database.bufferedResultSetQuery(
         connection -> connection.createStatement().executeQuery("SELECT * FROM RIVERS"),
@@ -111,6 +112,37 @@ class SqlOperationsUtilsTest {
     assertEquals(expectedRecords, actualRecords);
   }
 
+  @Test
+  void testInsertRawRecordsInPartitionsOverSeveralConnections() throws SQLException {
+    new TestJdbcSqlOperations().createTableIfNotExists(database, SCHEMA_NAME, STREAM_NAME);
+
+    final String insertQueryComponent = String.format(
+        "INSERT INTO %s.%s (%s, %s, %s) VALUES\n",
+        SCHEMA_NAME,
+        STREAM_NAME,
+        JavaBaseConstants.COLUMN_NAME_AB_ID,
+        JavaBaseConstants.COLUMN_NAME_DATA,
+        JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+    final String recordQueryComponent = "(?, ?::jsonb, ?),\n";
+
+    final List<AirbyteRecordMessage> records = IntStream.range(0, 5)
+        .mapToObj(i -> new AirbyteRecordMessage()
+            .withStream("rivers")
+            .withEmittedAt(NOW.toEpochMilli())
+            .withData(Jsons.jsonNode(ImmutableMap.of("name", "river " + i, "width", i))))
+        .toList();
+
+    // two full partitions of 2 records and a last partition of 1 record, inserted over 2 connections.
+    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records, UUID::randomUUID, true, 2, 2);
+
+    final List<JsonNode> actualData = database.bufferedResultSetQuery(
+        connection -> connection.createStatement().executeQuery(String.format("SELECT %s FROM RIVERS ORDER BY %s->>'width'",
+            JavaBaseConstants.COLUMN_NAME_DATA, JavaBaseConstants.COLUMN_NAME_DATA)),
+        resultSet -> Jsons.deserialize(resultSet.getString(JavaBaseConstants.COLUMN_NAME_DATA)));
+
+    assertEquals(records.stream().map(AirbyteRecordMessage::getData).toList(), actualData);
+  }
+
   private JsonNode createConfig() {
     return Jsons.jsonNode(ImmutableMap.builder()
         .put("username", container.getUsername())
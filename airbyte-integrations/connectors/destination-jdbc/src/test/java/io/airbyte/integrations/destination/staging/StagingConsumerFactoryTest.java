@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.staging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.buffered_stream_consumer.OnCloseFunction;
+import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StagingConsumerFactoryTest {
+
+  private static final String SCHEMA = "public";
+
+  private JdbcDatabase database;
+  private StagingOperations stagingOperations;
+  private List<WriteConfig> writeConfigs;
+
+  @BeforeEach
+  void setup() {
+    database = mock(JdbcDatabase.class);
+    stagingOperations = mock(StagingOperations.class);
+    when(stagingOperations.getStageName(any(), any())).thenAnswer(invocation -> "stage_" + invocation.getArgument(1));
+    when(stagingOperations.truncateTableQuery(any(), any(), any())).thenAnswer(invocation -> "TRUNCATE " + invocation.getArgument(2));
+    when(stagingOperations.copyTableQuery(any(), any(), any(), any())).thenAnswer(invocation -> "COPY " + invocation.getArgument(3));
+    writeConfigs = List.of(writeConfig("stream_1"), writeConfig("stream_2"), writeConfig("stream_3"));
+  }
+
+  @Test
+  void testDefaultFinalizationUsesSingleTransaction() throws Exception {
+    onCloseFunction(2, false).accept(false);
+
+    verify(stagingOperations).onDestinationCloseOperations(database, writeConfigs);
+    verify(stagingOperations).executeTransaction(database, List.of(
+        "TRUNCATE stream_1", "COPY stream_1",
+        "TRUNCATE stream_2", "COPY stream_2",
+        "TRUNCATE stream_3", "COPY stream_3"));
+    for (final WriteConfig writeConfig : writeConfigs) {
+      verify(stagingOperations).dropTableIfExists(database, SCHEMA, writeConfig.getTmpTableName());
+    }
+  }
+
+  @Test
+  void testDefaultFinalizationStopsAtFirstFailure() throws Exception {
+    doThrow(new SQLException("copy failed")).when(stagingOperations)
+        .copyIntoTmpTableFromStage(any(), eq("stage_stream_2"), any(), any(), any(), any());
+
+    final OnCloseFunction onClose = onCloseFunction(1, false);
+    assertThrows(RuntimeException.class, () -> onClose.accept(false));
+
+    verify(stagingOperations, never()).copyIntoTmpTableFromStage(any(), eq("stage_stream_3"), any(), any(), any(), any());
+    verify(stagingOperations, never()).onDestinationCloseOperations(any(), any());
+    verify(stagingOperations, never()).executeTransaction(any(), any());
+  }
+
+  @Test
+  void testIndependentFinalizationAttemptsAllStreamsAndAggregatesFailures() throws Exception {
+    doThrow(new SQLException("copy failed")).when(stagingOperations)
+        .copyIntoTmpTableFromStage(any(), eq("stage_stream_1"), any(), any(), any(), any());
+    doThrow(new SQLException("copy failed")).when(stagingOperations)
+        .copyIntoTmpTableFromStage(any(), eq("stage_stream_3"), any(), any(), any(), any());
+
+    final OnCloseFunction onClose = onCloseFunction(2, true);
+    final Exception exception = assertThrows(RuntimeException.class, () -> onClose.accept(false));
+
+    assertEquals(1, exception.getSuppressed().length);
+    verify(stagingOperations, times(3)).copyIntoTmpTableFromStage(any(), any(), any(), any(), any(), any());
+    verify(stagingOperations).onDestinationCloseOperations(database, List.of(writeConfigs.get(1)));
+    verify(stagingOperations).executeTransaction(database, List.of("TRUNCATE stream_2", "COPY stream_2"));
+    verify(stagingOperations, times(1)).executeTransaction(any(), any());
+  }
+
+  @Test
+  void testIndependentFinalizationCommitsSuccessfulStreams() throws Exception {
+    doThrow(new SQLException("transaction failed")).when(stagingOperations)
+        .executeTransaction(database, List.of("TRUNCATE stream_2", "COPY stream_2"));
+
+    final OnCloseFunction onClose = onCloseFunction(3, true);
+    final Exception exception = assertThrows(RuntimeException.class, () -> onClose.accept(false));
+
+    assertEquals("Failed to finalize stream stream_2", exception.getMessage());
+    assertEquals(0, exception.getSuppressed().length);
+    verify(stagingOperations).executeTransaction(database, List.of("TRUNCATE stream_1", "COPY stream_1"));
+    verify(stagingOperations).executeTransaction(database, List.of("TRUNCATE stream_3", "COPY stream_3"));
+  }
+
+  private OnCloseFunction onCloseFunction(final int finalizationConcurrency, final boolean finalizeStreamsIndependently) {
+    return new StagingConsumerFactory(finalizationConcurrency, finalizeStreamsIndependently)
+        .onCloseFunction(database, stagingOperations, writeConfigs, false);
+  }
+
+  private static WriteConfig writeConfig(final String streamName) {
+    return new WriteConfig(streamName, SCHEMA, SCHEMA, "_airbyte_tmp_" + streamName, streamName, DestinationSyncMode.OVERWRITE);
+  }
+
+}
@@ -7,19 +7,18 @@ package io.airbyte.integrations.destination.postgres;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.sql.SQLException;
 import java.util.List;
-import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.core.BaseConnection;
 
 public class PostgresSqlOperations extends JdbcSqlOperations {
 
+  // size of the buffer of rows sent to the server in one COPY data message
+  private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+
   public PostgresSqlOperations() {
     super(new PostgresDataAdapter());
   }
@@ -34,26 +33,21 @@ public class PostgresSqlOperations extends JdbcSqlOperations {
       return;
     }
 
+    // the records are encoded as CSV straight into the COPY stream, without going through a file.
     database.execute(connection -> {
-      File tmpFile = null;
+      final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
+      final var copyStream = new PGCopyOutputStream(connection.unwrap(BaseConnection.class), sql, COPY_BUFFER_SIZE);
+      final var writer = new OutputStreamWriter(copyStream, StandardCharsets.UTF_8);
       try {
-        tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-        writeBatchToFile(tmpFile, records);
-
-        final var copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
-        final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
-        final var bufferedReader = new BufferedReader(new FileReader(tmpFile, StandardCharsets.UTF_8));
-        copyManager.copyIn(sql, bufferedReader);
+        writeBatchToCsv(writer, records);
+        // closing the stream ends the copy
+        writer.close();
       } catch (final Exception e) {
-        throw new RuntimeException(e);
-      } finally {
-        try {
-          if (tmpFile != null) {
-            Files.delete(tmpFile.toPath());
-          }
-        } catch (final IOException e) {
-          throw new RuntimeException(e);
+        // cancel the copy so that the rows written so far are not committed
+        if (copyStream.isActive()) {
+          copyStream.cancelCopy();
         }
+        throw new RuntimeException(e);
       }
     });
   }
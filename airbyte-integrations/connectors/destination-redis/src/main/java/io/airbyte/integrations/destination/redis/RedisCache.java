@@ -32,6 +32,11 @@ public interface RedisCache extends Closeable {
    */
   void insert(String key, Instant timestamp, String data);
 
+  /**
+   * Write the inserted data that is still buffered.
+   */
+  void flush();
+
   /**
    * Copy data from one key to another with the option to replace.
    *
@@ -5,19 +5,49 @@
 package io.airbyte.integrations.destination.redis;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import redis.clients.jedis.Jedis;
-
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Stores every record in a hash whose key is suffixed by an index taken from a counter per key.
+ * Inserted records are buffered up to a batch size, and written with one pipelined INCRBY per key
+ * reserving their indexes and pipelined HMSETs, instead of two round-trips per record.
+ */
 public class RedisHCache implements RedisCache {
 
+  public static final String WRITE_BATCH_SIZE = "REDIS_WRITE_BATCH_SIZE";
+
   private static final String PATTERN = ":[0-9]*";
 
   private final Jedis jedis;
 
+  private final int batchSize;
+
+  private final Map<String, List<PendingRecord>> pendingRecords;
+
+  private int pendingCount;
+
   public RedisHCache(RedisConfig redisConfig) {
+    this(redisConfig, getWriteBatchSize());
+  }
+
+  public RedisHCache(RedisConfig redisConfig, int batchSize) {
     this.jedis = RedisPoolManager.initConnection(redisConfig);
+    this.batchSize = batchSize;
+    this.pendingRecords = new LinkedHashMap<>();
+    this.pendingCount = 0;
+  }
+
+  private static int getWriteBatchSize() {
+    return Optional.ofNullable(System.getenv(WRITE_BATCH_SIZE)).map(Integer::parseInt).orElse(1);
   }
 
   @Override
@@ -27,33 +57,73 @@ public class RedisHCache implements RedisCache {
 
   @Override
   public void insert(String key, Instant timestamp, String data) {
-    var index = jedis.incr(key);
-    var indexKey = generateIndexKey(key, index);
-    var hash = Map.of(
-        RedisRecord.ID_PROPERTY, String.valueOf(index),
-        RedisRecord.DATA_PROPERTY, data,
-        RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(timestamp.toEpochMilli()));
-    jedis.hmset(indexKey, hash);
+    pendingRecords.computeIfAbsent(key, k -> new ArrayList<>()).add(new PendingRecord(timestamp, data));
+    pendingCount++;
+    if (pendingCount >= batchSize) {
+      flush();
+    }
+  }
+
+  @Override
+  public void flush() {
+    if (pendingCount == 0) {
+      return;
+    }
+
+    // reserve the indexes of the records of every key in one round-trip
+    var reservePipeline = jedis.pipelined();
+    var lastIndexes = new LinkedHashMap<String, Response<Long>>();
+    pendingRecords.forEach((key, records) -> lastIndexes.put(key, reservePipeline.incrBy(key, records.size())));
+    syncAndCheck(reservePipeline);
+
+    var writePipeline = jedis.pipelined();
+    pendingRecords.forEach((key, records) -> {
+      var index = lastIndexes.get(key).get() - records.size();
+      for (var record : records) {
+        index++;
+        writePipeline.hmset(generateIndexKey(key, index), Map.of(
+            RedisRecord.ID_PROPERTY, String.valueOf(index),
+            RedisRecord.DATA_PROPERTY, record.data(),
+            RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(record.timestamp().toEpochMilli())));
+      }
+    });
+    syncAndCheck(writePipeline);
+
+    pendingRecords.clear();
+    pendingCount = 0;
   }
 
   @Override
   public void copy(String sourceKey, String destinationKey, boolean replace) {
+    flush();
     if (replace) {
       delete(destinationKey);
     }
-    jedis.keys(sourceKey + PATTERN).forEach(k -> {
-      var index = jedis.incr(destinationKey);
-      jedis.rename(k, generateIndexKey(destinationKey, index));
-    });
+    var keys = jedis.keys(sourceKey + PATTERN);
+    if (keys.isEmpty()) {
+      return;
+    }
+    var index = jedis.incrBy(destinationKey, keys.size()) - keys.size();
+    var pipeline = jedis.pipelined();
+    for (var k : keys) {
+      index++;
+      pipeline.rename(k, generateIndexKey(destinationKey, index));
+    }
+    syncAndCheck(pipeline);
   }
 
   @Override
   public void delete(String key) {
+    var records = pendingRecords.remove(key);
+    if (records != null) {
+      pendingCount -= records.size();
+    }
     jedis.keys(key + PATTERN).forEach(jedis::del);
   }
 
   @Override
   public List<RedisRecord> getAll(String key) {
+    flush();
     return jedis.keys(key + PATTERN).stream()
         .map(jedis::hgetAll)
         .map(h -> objectMapper.convertValue(h, RedisRecord.class))
@@ -75,8 +145,21 @@ public class RedisHCache implements RedisCache {
     jedis.close();
   }
 
+  /**
+   * Pipelined commands failing on the server don't throw, their reply holds the error instead.
+   */
+  private static void syncAndCheck(Pipeline pipeline) {
+    for (var reply : pipeline.syncAndReturnAll()) {
+      if (reply instanceof JedisDataException e) {
+        throw e;
+      }
+    }
+  }
+
   private String generateIndexKey(String key, Long id) {
     return key + ":" + id;
   }
 
+  private record PendingRecord(Instant timestamp, String data) {}
+
 }
@@ -11,6 +11,7 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -20,6 +21,8 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RedisMessageConsumer.class);
 
+  public static final String FLUSH_ON_STATE = "REDIS_FLUSH_ON_STATE";
+
   private final Consumer<AirbyteMessage> outputRecordCollector;
 
   private final ConfiguredAirbyteCatalog configuredCatalog;
@@ -30,6 +33,8 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private final RedisCache redisCache;
 
+  private final boolean flushOnState;
+
   private AirbyteMessage lastMessage = null;
 
   public RedisMessageConsumer(RedisConfig redisConfig,
@@ -39,6 +44,7 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
     this.outputRecordCollector = outputRecordCollector;
     this.redisCache = RedisCacheFactory.newInstance(redisConfig);
     this.nameTransformer = new RedisNameTransformer();
+    this.flushOnState = Optional.ofNullable(System.getenv(FLUSH_ON_STATE)).map(Boolean::parseBoolean).orElse(true);
   }
 
   @Override
@@ -65,6 +71,9 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
       var timestamp = Instant.ofEpochMilli(messageRecord.getEmittedAt());
       redisCache.insert(streamConfig.getTmpKey(), timestamp, Jsons.serialize(messageRecord.getData()));
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
+      if (flushOnState) {
+        redisCache.flush();
+      }
       this.lastMessage = message;
     } else {
       LOGGER.warn("Unsupported airbyte message type: {}", message.getType());
@@ -73,29 +82,33 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   @Override
   protected void close(boolean hasFailed) {
-    if (!hasFailed) {
-      redisStreams.forEach((k, v) -> {
-        try {
-          switch (v.getDestinationSyncMode()) {
-            case APPEND -> redisCache.copy(v.getTmpKey(), v.getKey(), false);
-            case OVERWRITE -> redisCache.copy(v.getTmpKey(), v.getKey(), true);
-            default -> throw new UnsupportedOperationException("Unsupported destination sync mode");
+    try {
+      if (!hasFailed) {
+        // records still buffered must be written before the state is emitted, a failure fails the sync
+        redisCache.flush();
+        redisStreams.forEach((k, v) -> {
+          try {
+            switch (v.getDestinationSyncMode()) {
+              case APPEND -> redisCache.copy(v.getTmpKey(), v.getKey(), false);
+              case OVERWRITE -> redisCache.copy(v.getTmpKey(), v.getKey(), true);
+              default -> throw new UnsupportedOperationException("Unsupported destination sync mode");
+            }
+          } catch (Exception e) {
+            LOGGER.error("Error while synchronizing keys: ", e);
           }
-        } catch (Exception e) {
-          LOGGER.error("Error while synchronizing keys: ", e);
-        }
-      });
-      outputRecordCollector.accept(lastMessage);
-    }
+        });
+        outputRecordCollector.accept(lastMessage);
+      }
+    } finally {
+      try {
+        redisStreams.forEach((k, v) -> redisCache.delete(v.getTmpKey()));
+      } catch (Exception e) {
+        LOGGER.error("Error while deleting tmp keys: ", e);
+      }
 
-    try {
-      redisStreams.forEach((k, v) -> redisCache.delete(v.getTmpKey()));
-    } catch (Exception e) {
-      LOGGER.error("Error while deleting tmp keys: ", e);
+      redisCache.close();
     }
 
-    redisCache.close();
-
   }
 
 }
@@ -5,12 +5,14 @@
 package io.airbyte.integrations.destination.redis;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Instant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import redis.clients.jedis.exceptions.JedisDataException;
 
 class RedisHCacheTest {
 
@@ -56,6 +58,46 @@ class RedisHCacheTest {
         .anyMatch(r -> r.getData().equals("{\"property\":\"data3\"}"));
   }
 
+  @Test
+  void testInsertInBatches() {
+    var key = "test_key_insert_batches";
+    var jsonConfig = RedisDataFactory.jsonConfig(
+        redisContainer.getHost(),
+        redisContainer.getFirstMappedPort());
+    var batchingCache = new RedisHCache(new RedisConfig(jsonConfig), 2);
+    // given
+    batchingCache.insert(key, Instant.now(), "{\"property\":\"data1\"}");
+    batchingCache.insert(key, Instant.now(), "{\"property\":\"data2\"}");
+    batchingCache.insert(key, Instant.now(), "{\"property\":\"data3\"}");
+    // the first batch is written, the third record is still buffered
+    assertThat(redisCache.getAll(key)).hasSize(2);
+
+    // when
+    batchingCache.flush();
+    var redisRecords = redisCache.getAll(key);
+    batchingCache.close();
+
+    // then
+    assertThat(redisRecords)
+        .isNotNull()
+        .hasSize(3)
+        .anyMatch(r -> r.getId() == 1 && r.getData().equals("{\"property\":\"data1\"}"))
+        .anyMatch(r -> r.getId() == 2 && r.getData().equals("{\"property\":\"data2\"}"))
+        .anyMatch(r -> r.getId() == 3 && r.getData().equals("{\"property\":\"data3\"}"));
+  }
+
+  @Test
+  void testInsertFailure() {
+    var key = "test_key_insert_failure";
+    // given the counter of key:1, a string, where the first record of key is stored
+    redisCache.insert(key + ":1", Instant.now(), "{\"property\":\"data1\"}");
+
+    // then
+    assertThatThrownBy(() -> redisCache.insert(key, Instant.now(), "{\"property\":\"data2\"}"))
+        .isInstanceOf(JedisDataException.class)
+        .hasMessageContaining("WRONGTYPE");
+  }
+
   @Test
   void testCopyWithoutReplace() {
     var key1 = "test_key_copy1";
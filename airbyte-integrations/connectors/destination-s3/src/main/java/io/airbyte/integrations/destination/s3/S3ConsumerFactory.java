@@ -17,6 +17,7 @@ import io.airbyte.integrations.destination.buffered_stream_consumer.OnCloseFunct
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnStartFunction;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.record_buffer.SerializedBufferingStrategy;
+import io.airbyte.integrations.destination.s3.parquet.ParquetSerializedBuffer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
@@ -50,7 +51,7 @@ public class S3ConsumerFactory {
         outputRecordCollector,
         onStartFunction(storageOperations, writeConfigs),
         new SerializedBufferingStrategy(
-            onCreateBuffer,
+            createBufferFunction(storageOperations, onCreateBuffer, s3Config, writeConfigs),
             catalog,
             flushBufferFunction(storageOperations, writeConfigs, catalog)),
         onCloseFunction(storageOperations, writeConfigs),
@@ -113,6 +114,29 @@ public class S3ConsumerFactory {
     };
   }
 
+  /**
+   * Parquet buffers are uploaded to S3 while they are written when
+   * {@link ParquetSerializedBuffer#STREAMING_UPLOAD} is "true". Other buffers are uploaded once they
+   * are flushed.
+   */
+  private static CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> createBufferFunction(final BlobStorageOperations storageOperations,
+                                                                                                                                                 final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                                                                                                                                 final S3DestinationConfig s3Config,
+                                                                                                                                                 final List<WriteConfig> writeConfigs) {
+    if (s3Config.getFormatConfig().getFormat() != S3Format.PARQUET
+        || !Boolean.parseBoolean(System.getenv(ParquetSerializedBuffer.STREAMING_UPLOAD))
+        || !(storageOperations instanceof S3StorageOperations s3StorageOperations)) {
+      return onCreateBuffer;
+    }
+    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig =
+        writeConfigs.stream()
+            .collect(Collectors.toUnmodifiableMap(
+                S3ConsumerFactory::toNameNamespacePair, Function.identity()));
+    LOGGER.info("Parquet buffers are uploaded while they are written");
+    return ParquetSerializedBuffer.createStreamingFunction(s3Config,
+        pair -> s3StorageOperations.startStreamingUpload(pairToWriteConfig.get(pair).getFullOutputPath(), S3Format.PARQUET.getFileExtension()));
+  }
+
   private static AirbyteStreamNameNamespacePair toNameNamespacePair(final WriteConfig config) {
     return new AirbyteStreamNameNamespacePair(config.getStreamName(), config.getNamespace());
   }
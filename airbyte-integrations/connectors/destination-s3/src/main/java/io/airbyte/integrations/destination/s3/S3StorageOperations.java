@@ -18,6 +18,7 @@ import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.integrations.destination.s3.parquet.ParquetSerializedBuffer;
 import io.airbyte.integrations.destination.s3.util.StreamTransferManagerFactory;
 import java.io.IOException;
 import java.io.InputStream;
@@ -109,6 +110,10 @@ public class S3StorageOperations extends BlobStorageOperations {
                                       final String namespace,
                                       final String streamName,
                                       final String objectPath) {
+    if (recordsData instanceof ParquetSerializedBuffer parquetBuffer && parquetBuffer.getStreamingUpload().isPresent()) {
+      // the buffer was uploaded while it was written, its data is not kept to retry the upload
+      return parquetBuffer.getStreamingUpload().get().complete();
+    }
     final List<Exception> exceptionsThrown = new ArrayList<>();
     while (exceptionsThrown.size() < UPLOAD_RETRY_LIMIT) {
       if (!exceptionsThrown.isEmpty()) {
@@ -127,6 +132,22 @@ public class S3StorageOperations extends BlobStorageOperations {
     throw new RuntimeException(String.format("Exceptions thrown while uploading records into storage: %s", Strings.join(exceptionsThrown, "\n")));
   }
 
+  /**
+   * Starts the upload of an object which is written while its data is produced, named
+   * <uuid>.<fileExtension>. The part id is random because buffers of a stream may be uploading at
+   * the same time.
+   */
+  public StreamingUpload startStreamingUpload(final String objectPath, final String fileExtension) {
+    final String bucket = s3Config.getBucketName();
+    final String fullObjectKey = objectPath + UUID.randomUUID() + "." + fileExtension;
+    // default part size and threads, the upload holds memory for as long as the buffer is written
+    final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
+        .setUserMetadata(getUserMetadata())
+        .get()
+        .checkIntegrity(true);
+    return new StreamingUpload(s3Client, bucket, fullObjectKey, uploadManager, decorate(uploadManager.getMultiPartOutputStreams().get(0)));
+  }
+
   /**
    * Upload the file from {@code recordsData} to S3 and simplify the filename as <partId>.<extension>.
    *
@@ -137,26 +158,16 @@ public class S3StorageOperations extends BlobStorageOperations {
     final String bucket = s3Config.getBucketName();
     final String fullObjectKey = objectPath + getPartId(objectPath) + getExtension(recordsData.getFilename());
 
-    final Map<String, String> metadata = new HashMap<>();
-    for (final BlobDecorator blobDecorator : blobDecorators) {
-      blobDecorator.updateMetadata(metadata, getMetadataMapping());
-    }
     final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
         .setPartSize(partSize)
-        .setUserMetadata(metadata)
+        .setUserMetadata(getUserMetadata())
         .get()
         .checkIntegrity(true)
         .numUploadThreads(DEFAULT_UPLOAD_THREADS)
         .queueCapacity(DEFAULT_QUEUE_CAPACITY);
     boolean succeeded = false;
 
-    // Wrap output stream in decorators
-    OutputStream rawOutputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    for (final BlobDecorator blobDecorator : blobDecorators) {
-      rawOutputStream = blobDecorator.wrap(rawOutputStream);
-    }
-
-    try (final OutputStream outputStream = rawOutputStream;
+    try (final OutputStream outputStream = decorate(uploadManager.getMultiPartOutputStreams().get(0));
         final InputStream dataStream = recordsData.getInputStream()) {
       dataStream.transferTo(outputStream);
       succeeded = true;
@@ -179,6 +190,25 @@ public class S3StorageOperations extends BlobStorageOperations {
     return newFilename;
   }
 
+  private Map<String, String> getUserMetadata() {
+    final Map<String, String> metadata = new HashMap<>();
+    for (final BlobDecorator blobDecorator : blobDecorators) {
+      blobDecorator.updateMetadata(metadata, getMetadataMapping());
+    }
+    return metadata;
+  }
+
+  /**
+   * Wraps the output stream of an upload in the blob decorators.
+   */
+  private OutputStream decorate(final OutputStream outputStream) {
+    OutputStream decoratedOutputStream = outputStream;
+    for (final BlobDecorator blobDecorator : blobDecorators) {
+      decoratedOutputStream = blobDecorator.wrap(decoratedOutputStream);
+    }
+    return decoratedOutputStream;
+  }
+
   @VisibleForTesting
   static String getFilename(final String fullPath) {
     return fullPath.substring(fullPath.lastIndexOf("/") + 1);
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.amazonaws.services.s3.AmazonS3;
+import java.io.OutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multipart upload of an object written while its data is produced, rather than from a complete
+ * buffer. Parts are uploaded in the background as they fill up.
+ * <p>
+ * The output stream must be closed before the upload is completed. Unlike
+ * {@link S3StorageOperations#uploadRecordsToBucket}, a failed upload cannot be retried, since its
+ * data is not kept.
+ */
+public class StreamingUpload {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StreamingUpload.class);
+
+  private final AmazonS3 s3Client;
+  private final String bucket;
+  private final String objectKey;
+  private final StreamTransferManager uploadManager;
+  private final OutputStream outputStream;
+  private boolean isDone;
+
+  public StreamingUpload(final AmazonS3 s3Client,
+                         final String bucket,
+                         final String objectKey,
+                         final StreamTransferManager uploadManager,
+                         final OutputStream outputStream) {
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+    this.objectKey = objectKey;
+    this.uploadManager = uploadManager;
+    this.outputStream = outputStream;
+    this.isDone = false;
+  }
+
+  public OutputStream getOutputStream() {
+    return outputStream;
+  }
+
+  /**
+   * Waits for the parts to be uploaded and completes the upload.
+   *
+   * @return the name of the uploaded object
+   */
+  public String complete() {
+    isDone = true;
+    uploadManager.complete();
+    if (!s3Client.doesObjectExist(bucket, objectKey)) {
+      LOGGER.error("Failed to upload data into storage, object {} not found", objectKey);
+      throw new RuntimeException("Upload failed");
+    }
+    final String filename = S3StorageOperations.getFilename(objectKey);
+    LOGGER.info("Uploaded buffer to storage while it was written: {} (filename: {})", objectKey, filename);
+    return filename;
+  }
+
+  /**
+   * Aborts the upload, unless it was already completed or aborted.
+   */
+  public void abort() {
+    if (!isDone) {
+      isDone = true;
+      uploadManager.abort();
+    }
+  }
+
+}
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -24,13 +25,23 @@ public class AvroRecordFactory {
 
   private final Schema schema;
   private final JsonAvroConverter converter;
+  // only mirrors the default converter, other converters are always used as they are
+  private final CompiledJsonAvroConverter compiledConverter;
 
   public AvroRecordFactory(final Schema schema, final JsonAvroConverter converter) {
     this.schema = schema;
     this.converter = converter;
+    this.compiledConverter = converter == AvroConstants.JSON_CONVERTER ? new CompiledJsonAvroConverter(schema) : null;
   }
 
   public GenericData.Record getAvroRecord(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
+    if (compiledConverter != null) {
+      final Optional<GenericData.Record> record = compiledConverter.convert(id, recordMessage.getEmittedAt(), recordMessage.getData());
+      if (record.isPresent()) {
+        return record.get();
+      }
+    }
+
     final ObjectNode jsonRecord = MAPPER.createObjectNode();
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
@@ -40,6 +51,13 @@ public class AvroRecordFactory {
   }
 
   public GenericData.Record getAvroRecord(JsonNode formattedData) throws JsonProcessingException {
+    if (compiledConverter != null) {
+      final Optional<GenericData.Record> record = compiledConverter.convert(formattedData);
+      if (record.isPresent()) {
+        return record.get();
+      }
+    }
+
     var bytes = WRITER.writeValueAsBytes(formattedData);
     return converter.convertToGenericDataRecord(bytes, schema);
   }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts Json objects to Avro records of a schema created by {@link JsonToAvroSchemaConverter},
+ * by walking the Json tree against readers prepared once for each field of the schema, instead of
+ * serializing the object and having {@link AvroConstants#JSON_CONVERTER} parse it and look up
+ * every field by name.
+ *
+ * <p>
+ * Only the values that {@link AvroConstants#JSON_CONVERTER} converts as they are are handled:
+ * strings, numbers, booleans, nested objects and arrays whose Json type matches the Avro type, and
+ * nulls of nullable fields. An object that holds anything else (logical types, unions of several
+ * types, values to coerce, additional properties or fields missing from the schema) cannot be
+ * converted, so that the caller falls back to {@link AvroConstants#JSON_CONVERTER} for the whole
+ * object.
+ *
+ * <p>
+ * This class is not thread-safe, as the field name lookups are cached as they are met.
+ */
+class CompiledJsonAvroConverter {
+
+  // returned by the readers for the values they cannot convert
+  private static final Object UNCONVERTIBLE = new Object();
+
+  private final Schema schema;
+  private final RecordReader recordReader;
+  private final Schema.Field idField;
+  private final Schema.Field emittedAtField;
+
+  CompiledJsonAvroConverter(final Schema schema) {
+    this.schema = schema;
+    this.recordReader = new RecordReader(schema);
+    this.idField = schema.getField(JavaBaseConstants.COLUMN_NAME_AB_ID);
+    this.emittedAtField = schema.getField(JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+  }
+
+  /**
+   * @return the record holding the airbyte fields and the data of the record message, or empty if
+   *         it cannot be converted.
+   */
+  Optional<GenericData.Record> convert(final UUID id, final Long emittedAt, final JsonNode data) {
+    if (idField == null || emittedAtField == null || emittedAt == null || data == null || !data.isObject()) {
+      return Optional.empty();
+    }
+    final GenericData.Record record = new GenericData.Record(schema);
+    record.put(idField.pos(), id.toString());
+    record.put(emittedAtField.pos(), emittedAt);
+    return recordReader.readFields(data, record) ? Optional.of(record) : Optional.empty();
+  }
+
+  /**
+   * @return the record holding the fields of the Json object, or empty if it cannot be converted.
+   */
+  Optional<GenericData.Record> convert(final JsonNode jsonObject) {
+    final Object record = recordReader.read(jsonObject);
+    return record == UNCONVERTIBLE ? Optional.empty() : Optional.of((GenericData.Record) record);
+  }
+
+  private static ValueReader createReader(final Schema schema) {
+    if (schema.getType() == Schema.Type.UNION) {
+      final List<Schema> nonNullTypes = schema.getTypes().stream()
+          .filter(type -> type.getType() != Schema.Type.NULL)
+          .collect(Collectors.toList());
+      final boolean isNullable = nonNullTypes.size() < schema.getTypes().size();
+      // the converter tries each type of a union in turn, coercing values on the way
+      final ValueReader nonNullReader = nonNullTypes.size() == 1 ? createReader(nonNullTypes.get(0)) : node -> UNCONVERTIBLE;
+      return node -> node.isNull() ? (isNullable ? null : UNCONVERTIBLE) : nonNullReader.read(node);
+    }
+
+    // the converter parses the values of logical types from strings
+    if (schema.getLogicalType() != null) {
+      return node -> UNCONVERTIBLE;
+    }
+
+    return switch (schema.getType()) {
+      case STRING -> node -> node.isTextual() ? node.textValue() : UNCONVERTIBLE;
+      case INT -> node -> node.isIntegralNumber() && node.canConvertToInt() ? node.intValue() : UNCONVERTIBLE;
+      case LONG -> node -> node.isIntegralNumber() && node.canConvertToLong() ? node.longValue() : UNCONVERTIBLE;
+      // the converter parses decimals as doubles before narrowing them
+      case FLOAT -> node -> node.isNumber() ? (node.isFloatingPointNumber() ? (float) node.doubleValue() : node.floatValue()) : UNCONVERTIBLE;
+      case DOUBLE -> node -> node.isNumber() ? node.doubleValue() : UNCONVERTIBLE;
+      case BOOLEAN -> node -> node.isBoolean() ? node.booleanValue() : UNCONVERTIBLE;
+      case RECORD -> new RecordReader(schema);
+      case ARRAY -> new ArrayReader(createReader(schema.getElementType()));
+      default -> node -> UNCONVERTIBLE;
+    };
+  }
+
+  @FunctionalInterface
+  private interface ValueReader {
+
+    /**
+     * @return the Avro value of the Json node, or {@link #UNCONVERTIBLE}.
+     */
+    Object read(JsonNode node);
+
+  }
+
+  private static class RecordReader implements ValueReader {
+
+    private final Schema schema;
+    private final Map<String, FieldReader> readersByFieldName;
+    private final Map<String, FieldReader> readersByJsonKey;
+    // positions of the fields without a default value, which the converter fails to leave unset
+    private final List<Integer> requiredPositions;
+
+    RecordReader(final Schema schema) {
+      this.schema = schema;
+      this.readersByFieldName = new HashMap<>();
+      this.requiredPositions = new ArrayList<>();
+      for (final Schema.Field field : schema.getFields()) {
+        if (!field.hasDefaultValue()) {
+          requiredPositions.add(field.pos());
+        }
+        // additional properties are gathered in a map of strings by the converter
+        if (!AvroConstants.AVRO_EXTRA_PROPS_FIELD.equals(field.name())) {
+          readersByFieldName.put(field.name(), new FieldReader(field.pos(), createReader(field.schema())));
+        }
+      }
+      this.readersByJsonKey = new HashMap<>();
+    }
+
+    @Override
+    public Object read(final JsonNode node) {
+      if (!node.isObject()) {
+        return UNCONVERTIBLE;
+      }
+      final GenericData.Record record = new GenericData.Record(schema);
+      return readFields(node, record) ? record : UNCONVERTIBLE;
+    }
+
+    boolean readFields(final JsonNode node, final GenericData.Record record) {
+      final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        final FieldReader fieldReader = getFieldReader(field.getKey());
+        if (fieldReader == null) {
+          return false;
+        }
+        final Object value = fieldReader.reader.read(field.getValue());
+        if (value == UNCONVERTIBLE) {
+          return false;
+        }
+        record.put(fieldReader.position, value);
+      }
+      for (final int position : requiredPositions) {
+        if (record.get(position) == null) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private FieldReader getFieldReader(final String jsonKey) {
+      final FieldReader cachedReader = readersByJsonKey.get(jsonKey);
+      if (cachedReader != null) {
+        return cachedReader;
+      }
+      if (AvroConstants.JSON_EXTRA_PROPS_FIELDS.contains(jsonKey)) {
+        return null;
+      }
+      // the keys missing from the schema are not cached, as objects holding them are not converted
+      final FieldReader fieldReader = readersByFieldName.get(AvroConstants.NAME_TRANSFORMER.getIdentifier(jsonKey));
+      if (fieldReader != null) {
+        readersByJsonKey.put(jsonKey, fieldReader);
+      }
+      return fieldReader;
+    }
+
+  }
+
+  private static class ArrayReader implements ValueReader {
+
+    private final ValueReader elementReader;
+
+    ArrayReader(final ValueReader elementReader) {
+      this.elementReader = elementReader;
+    }
+
+    @Override
+    public Object read(final JsonNode node) {
+      if (!node.isArray()) {
+        return UNCONVERTIBLE;
+      }
+      final List<Object> elements = new ArrayList<>(node.size());
+      for (final JsonNode element : node) {
+        final Object value = elementReader.read(element);
+        if (value == UNCONVERTIBLE) {
+          return UNCONVERTIBLE;
+        }
+        elements.add(value);
+      }
+      return elements;
+    }
+
+  }
+
+  private static class FieldReader {
+
+    private final int position;
+    private final ValueReader reader;
+
+    FieldReader(final int position, final ValueReader reader) {
+      this.position = position;
+      this.reader = reader;
+    }
+
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * Parquet {@link PositionOutputStream} whose position is the number of bytes written to the
+ * wrapped output stream.
+ */
+class CountingPositionOutputStream extends PositionOutputStream {
+
+  private final OutputStream outputStream;
+  private long position;
+
+  CountingPositionOutputStream(final OutputStream outputStream) {
+    this.outputStream = outputStream;
+    this.position = 0;
+  }
+
+  @Override
+  public long getPos() {
+    return position;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    outputStream.write(b);
+    position++;
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    outputStream.write(bytes, offset, length);
+    position += length;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    outputStream.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    outputStream.close();
+  }
+
+}
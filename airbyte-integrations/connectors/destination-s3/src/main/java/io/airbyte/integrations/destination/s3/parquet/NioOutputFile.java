@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * Parquet {@link OutputFile} writing to a local file through a {@link FileChannel}, without going
+ * through the Hadoop local file system and its checksum files.
+ */
+public class NioOutputFile implements OutputFile {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path path;
+
+  public NioOutputFile(final Path path) {
+    this.path = path;
+  }
+
+  @Override
+  public PositionOutputStream create(final long blockSizeHint) throws IOException {
+    return open(FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite(final long blockSizeHint) throws IOException {
+    return open(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+  }
+
+  private static PositionOutputStream open(final FileChannel channel) {
+    return new CountingPositionOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+  }
+
+  @Override
+  public boolean supportsBlockSize() {
+    return false;
+  }
+
+  @Override
+  public long defaultBlockSize() {
+    return 0;
+  }
+
+}
@@ -9,6 +9,7 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.destination.record_buffer.FileBuffer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
+import io.airbyte.integrations.destination.s3.StreamingUpload;
 import io.airbyte.integrations.destination.s3.avro.AvroConstants;
 import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
 import io.airbyte.integrations.destination.s3.avro.JsonToAvroSchemaConverter;
@@ -20,7 +21,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericData.Record;
@@ -29,7 +32,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
-import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.io.OutputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,25 +42,55 @@ import org.slf4j.LoggerFactory;
  * details of the format the data is going to be stored in.
  *
  * Unfortunately, the Parquet library doesn't allow us to manipulate the output stream and forces us
- * to go through {@link HadoopOutputFile} instead. So we can't benefit from the abstraction
- * described above. Therefore, we re-implement the necessary methods to be used as
- * {@link SerializableBuffer}, while data will be buffered in such a hadoop file.
+ * to go through an {@link org.apache.parquet.io.OutputFile} instead. So we can't benefit from the
+ * abstraction described above. Therefore, we re-implement the necessary methods to be used as
+ * {@link SerializableBuffer}, while data will be buffered in a local file written through a
+ * {@link NioOutputFile}, rather than through the Hadoop local file system.
+ *
+ * When created with a {@link StreamingUpload}, the buffer has no local file. Each row group is
+ * written to the upload as soon as it is complete, and the footer once the buffer is flushed, so
+ * that encoding overlaps with the upload and only the open row group is held by the buffer.
  */
 public class ParquetSerializedBuffer implements SerializableBuffer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ParquetSerializedBuffer.class);
+  // the parquet writer only reads codec settings from the configuration, so all the buffers share it
+  private static final Configuration HADOOP_CONFIG = new Configuration();
+  private static final String FILE_EXTENSION = ".parquet";
+
+  /**
+   * When "true", Parquet buffers are uploaded to S3 while they are written rather than once they are
+   * flushed. A failed upload then fails the sync instead of being retried.
+   */
+  public static final String STREAMING_UPLOAD = "PARQUET_STREAMING_UPLOAD";
 
   private final AvroRecordFactory avroRecordFactory;
   private final ParquetWriter<Record> parquetWriter;
+  // null when the buffer is written to a streaming upload
   private final Path bufferFile;
+  private final String filename;
+  private final StreamingUpload streamingUpload;
   private InputStream inputStream;
   private Long lastByteCount;
+  private boolean isFlushed;
   private boolean isClosed;
 
   public ParquetSerializedBuffer(final S3DestinationConfig config,
                                  final AirbyteStreamNameNamespacePair stream,
                                  final ConfiguredAirbyteCatalog catalog)
       throws IOException {
+    this(config, stream, catalog, null);
+  }
+
+  /**
+   * @param streamingUpload upload the buffer is written to as its row groups are complete, or null to
+   *        write the buffer to a local file.
+   */
+  public ParquetSerializedBuffer(final S3DestinationConfig config,
+                                 final AirbyteStreamNameNamespacePair stream,
+                                 final ConfiguredAirbyteCatalog catalog,
+                                 final StreamingUpload streamingUpload)
+      throws IOException {
     final JsonToAvroSchemaConverter schemaConverter = new JsonToAvroSchemaConverter();
     final Schema schema = schemaConverter.getAvroSchema(catalog.getStreams()
         .stream()
@@ -67,12 +100,22 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
         .getStream()
         .getJsonSchema(),
         stream.getName(), stream.getNamespace());
-    bufferFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet");
-    Files.deleteIfExists(bufferFile);
+    this.streamingUpload = streamingUpload;
+    final OutputFile outputFile;
+    if (streamingUpload == null) {
+      bufferFile = Files.createTempFile(UUID.randomUUID().toString(), FILE_EXTENSION);
+      Files.deleteIfExists(bufferFile);
+      filename = bufferFile.getFileName().toString();
+      outputFile = new NioOutputFile(bufferFile);
+    } else {
+      bufferFile = null;
+      filename = UUID.randomUUID() + FILE_EXTENSION;
+      outputFile = new StreamOutputFile(streamingUpload.getOutputStream());
+    }
     avroRecordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
     final S3ParquetFormatConfig formatConfig = (S3ParquetFormatConfig) config.getFormatConfig();
-    parquetWriter = AvroParquetWriter.<GenericData.Record>builder(HadoopOutputFile
-        .fromPath(new org.apache.hadoop.fs.Path(bufferFile.toUri()), new Configuration()))
+    parquetWriter = AvroParquetWriter.<GenericData.Record>builder(outputFile)
+        .withConf(HADOOP_CONFIG)
         .withSchema(schema)
         .withCompressionCodec(formatConfig.getCompressionCodec())
         .withRowGroupSize(formatConfig.getBlockSize())
@@ -82,13 +125,14 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
         .withDictionaryEncoding(formatConfig.isDictionaryEncoding())
         .build();
     inputStream = null;
+    isFlushed = false;
     isClosed = false;
     lastByteCount = 0L;
   }
 
   @Override
   public long accept(final AirbyteRecordMessage recordMessage) throws Exception {
-    if (inputStream == null && !isClosed) {
+    if (!isFlushed && !isClosed) {
       final long startCount = getByteCount();
       parquetWriter.write(avroRecordFactory.getAvroRecord(UUID.randomUUID(), recordMessage));
       return getByteCount() - startCount;
@@ -99,17 +143,20 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
 
   @Override
   public void flush() throws Exception {
-    if (inputStream == null && !isClosed) {
+    if (!isFlushed && !isClosed) {
       getByteCount();
       parquetWriter.close();
-      inputStream = new FileInputStream(bufferFile.toFile());
+      isFlushed = true;
+      if (bufferFile != null) {
+        inputStream = new FileInputStream(bufferFile.toFile());
+      }
       LOGGER.info("Finished writing data to {} ({})", getFilename(), FileUtils.byteCountToDisplaySize(getByteCount()));
     }
   }
 
   @Override
   public long getByteCount() {
-    if (inputStream != null) {
+    if (isFlushed) {
       // once the parquetWriter is closed, we can't query how many bytes are in it, so we cache the last
       // count
       return lastByteCount;
@@ -120,19 +167,29 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
 
   @Override
   public String getFilename() throws IOException {
-    return bufferFile.getFileName().toString();
+    return filename;
   }
 
   @Override
   public File getFile() throws IOException {
+    if (bufferFile == null) {
+      throw new UnsupportedOperationException("Buffer is uploaded while it is written, it has no local file");
+    }
     return bufferFile.toFile();
   }
 
+  /**
+   * @return null when the buffer is written to a streaming upload.
+   */
   @Override
   public InputStream getInputStream() {
     return inputStream;
   }
 
+  public Optional<StreamingUpload> getStreamingUpload() {
+    return Optional.ofNullable(streamingUpload);
+  }
+
   @Override
   public long getMaxTotalBufferSizeInBytes() {
     return FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES;
@@ -151,8 +208,16 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
   @Override
   public void close() throws Exception {
     if (!isClosed) {
-      inputStream.close();
-      Files.deleteIfExists(bufferFile);
+      if (inputStream != null) {
+        inputStream.close();
+      }
+      if (bufferFile != null) {
+        Files.deleteIfExists(bufferFile);
+      }
+      if (streamingUpload != null) {
+        // no-op once the upload was completed
+        streamingUpload.abort();
+      }
       isClosed = true;
     }
   }
@@ -162,4 +227,20 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
         stream, catalog);
   }
 
+  /**
+   * @param startUpload starts the upload a new buffer of the stream is written to.
+   */
+  public static CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> createStreamingFunction(final S3DestinationConfig s3DestinationConfig,
+                                                                                                                                                   final Function<AirbyteStreamNameNamespacePair, StreamingUpload> startUpload) {
+    return (final AirbyteStreamNameNamespacePair stream, final ConfiguredAirbyteCatalog catalog) -> {
+      final StreamingUpload streamingUpload = startUpload.apply(stream);
+      try {
+        return new ParquetSerializedBuffer(s3DestinationConfig, stream, catalog, streamingUpload);
+      } catch (final Exception e) {
+        streamingUpload.abort();
+        throw e;
+      }
+    };
+  }
+
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import com.google.common.base.Preconditions;
+import java.io.OutputStream;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * Parquet {@link OutputFile} writing to an output stream that is already open, such as the output
+ * stream of an upload. The Parquet writer writes each row group to it once the row group is
+ * complete, so it can only be created once.
+ */
+public class StreamOutputFile implements OutputFile {
+
+  private final OutputStream outputStream;
+  private boolean isCreated;
+
+  public StreamOutputFile(final OutputStream outputStream) {
+    this.outputStream = outputStream;
+    this.isCreated = false;
+  }
+
+  @Override
+  public PositionOutputStream create(final long blockSizeHint) {
+    Preconditions.checkState(!isCreated, "The output stream was already written to");
+    isCreated = true;
+    return new CountingPositionOutputStream(outputStream);
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite(final long blockSizeHint) {
+    return create(blockSizeHint);
+  }
+
+  @Override
+  public boolean supportsBlockSize() {
+    return false;
+  }
+
+  @Override
+  public long defaultBlockSize() {
+    return 0;
+  }
+
+}
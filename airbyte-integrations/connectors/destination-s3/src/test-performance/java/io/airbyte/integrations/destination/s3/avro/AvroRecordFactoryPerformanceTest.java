@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares converting records by serializing them for the default Json to Avro converter with
+ * converting them through {@link AvroRecordFactory}, for wide schemas with nested objects and
+ * arrays.
+ */
+class AvroRecordFactoryPerformanceTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AvroRecordFactoryPerformanceTest.class);
+
+  private static final ObjectWriter WRITER = MoreMappers.initMapper().writer();
+  private static final int NUMBER_OF_RECORDS = 20_000;
+  private static final int NESTED_FIELDS = 10;
+
+  @ParameterizedTest
+  @CsvSource({
+    "20",
+    "100",
+    "500"
+  })
+  void testPerformance(final int numberOfFields) throws Exception {
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(jsonSchema(numberOfFields), "wide_stream", null);
+    final AvroRecordFactory recordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
+    final List<AirbyteRecordMessage> records = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+      records.add(new AirbyteRecordMessage().withStream("wide_stream").withEmittedAt((long) i).withData(data(numberOfFields, i)));
+    }
+
+    final UUID id = UUID.randomUUID();
+    assertEquals(convertWithDefaultConverter(schema, id, records.get(0)), recordFactory.getAvroRecord(id, records.get(0)));
+
+    // warm up both paths
+    for (final AirbyteRecordMessage record : records) {
+      convertWithDefaultConverter(schema, id, record);
+      recordFactory.getAvroRecord(id, record);
+    }
+
+    long start = System.nanoTime();
+    for (final AirbyteRecordMessage record : records) {
+      convertWithDefaultConverter(schema, id, record);
+    }
+    final long defaultNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (final AirbyteRecordMessage record : records) {
+      recordFactory.getAvroRecord(id, record);
+    }
+    final long factoryNanos = System.nanoTime() - start;
+
+    LOGGER.info("{} fields: default converter {} us/record, record factory {} us/record",
+        numberOfFields,
+        (double) defaultNanos / NUMBER_OF_RECORDS / 1000,
+        (double) factoryNanos / NUMBER_OF_RECORDS / 1000);
+  }
+
+  private static GenericData.Record convertWithDefaultConverter(final Schema schema, final UUID id, final AirbyteRecordMessage recordMessage)
+      throws Exception {
+    final ObjectNode jsonRecord = (ObjectNode) Jsons.emptyObject();
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
+    jsonRecord.setAll((ObjectNode) recordMessage.getData());
+    return AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema);
+  }
+
+  /**
+   * Every fifth field is an object of {@link #NESTED_FIELDS} fields, and every seventh an array of
+   * strings.
+   */
+  private static JsonNode jsonSchema(final int numberOfFields) {
+    final ObjectNode properties = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < numberOfFields; i++) {
+      properties.set("field_" + i, fieldSchema(i));
+    }
+    final ObjectNode schema = (ObjectNode) Jsons.emptyObject();
+    schema.put("type", "object");
+    schema.set("properties", properties);
+    return schema;
+  }
+
+  private static JsonNode fieldSchema(final int index) {
+    if (index % 5 == 4) {
+      final ObjectNode nestedProperties = (ObjectNode) Jsons.emptyObject();
+      for (int i = 0; i < NESTED_FIELDS; i++) {
+        nestedProperties.set("nested_" + i, primitiveSchema(i));
+      }
+      return Jsons.deserialize(String.format("{ \"type\": [\"null\", \"object\"], \"properties\": %s }", nestedProperties));
+    }
+    if (index % 7 == 6) {
+      return Jsons.deserialize("{ \"type\": [\"null\", \"array\"], \"items\": { \"type\": \"string\" } }");
+    }
+    return primitiveSchema(index);
+  }
+
+  private static JsonNode primitiveSchema(final int index) {
+    final String type = switch (index % 4) {
+      case 0 -> "string";
+      case 1 -> "integer";
+      case 2 -> "number";
+      default -> "boolean";
+    };
+    return Jsons.deserialize(String.format("{ \"type\": [\"null\", \"%s\"] }", type));
+  }
+
+  private static JsonNode data(final int numberOfFields, final int recordIndex) {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < numberOfFields; i++) {
+      if (i % 5 == 4) {
+        final ObjectNode nested = (ObjectNode) Jsons.emptyObject();
+        for (int j = 0; j < NESTED_FIELDS; j++) {
+          nested.set("nested_" + j, primitiveValue(j, recordIndex));
+        }
+        data.set("field_" + i, nested);
+      } else if (i % 7 == 6) {
+        data.set("field_" + i, Jsons.jsonNode(List.of("value_" + recordIndex, "value_" + i)));
+      } else {
+        data.set("field_" + i, primitiveValue(i, recordIndex));
+      }
+    }
+    return data;
+  }
+
+  private static JsonNode primitiveValue(final int index, final int recordIndex) {
+    return switch (index % 4) {
+      case 0 -> Jsons.jsonNode("value_" + recordIndex);
+      case 1 -> Jsons.jsonNode(recordIndex);
+      case 2 -> Jsons.jsonNode(recordIndex / 3.0);
+      default -> Jsons.jsonNode(recordIndex % 2 == 0);
+    };
+  }
+
+}
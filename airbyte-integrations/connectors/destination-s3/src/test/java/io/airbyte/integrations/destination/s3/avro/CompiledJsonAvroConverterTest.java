@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class CompiledJsonAvroConverterTest {
+
+  private static final ObjectWriter WRITER = MoreMappers.initMapper().writer();
+
+  // test cases whose objects only hold values that are converted as they are
+  private static final Set<String> CONVERTIBLE_TEST_CASES = Set.of(
+      "simple_schema",
+      "nested_record",
+      "name_with:spécial:characters",
+      "array_with_same_type",
+      "field_with_bad_first_char",
+      "schema_with_same_object_name",
+      "object_inside_array_inside_array",
+      "namespace_with_special_characters",
+      "nullable_value");
+
+  private static final JsonNode JSON_SCHEMA = Jsons.deserialize("""
+                                                                {
+                                                                  "type": "object",
+                                                                  "properties": {
+                                                                    "name": { "type": "string" },
+                                                                    "count": { "type": "integer" },
+                                                                    "created_at": { "type": "string", "format": "date-time" }
+                                                                  }
+                                                                }
+                                                                """);
+
+  public static class ConversionTestCaseProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(final ExtensionContext context) throws Exception {
+      final JsonNode testCases = Jsons.deserialize(MoreResources.readResource("parquet/json_schema_converter/json_conversion_test_cases.json"));
+      return MoreIterators.toList(testCases.elements()).stream().map(testCase -> Arguments.of(
+          testCase.get("schemaName").asText(),
+          testCase.get("avroSchema"),
+          testCase.get("jsonObject")));
+    }
+
+  }
+
+  /**
+   * The objects that are converted must be converted the same way as by the default converter.
+   */
+  @ParameterizedTest
+  @ArgumentsSource(ConversionTestCaseProvider.class)
+  public void testSameConversionAsDefaultConverter(final String schemaName, final JsonNode avroSchema, final JsonNode jsonObject)
+      throws Exception {
+    final Schema schema = new Schema.Parser().parse(Jsons.serialize(avroSchema));
+    final Optional<GenericData.Record> record = new CompiledJsonAvroConverter(schema).convert(jsonObject);
+
+    assertEquals(CONVERTIBLE_TEST_CASES.contains(schemaName), record.isPresent(), String.format("Conversion of %s", schemaName));
+    if (record.isPresent()) {
+      assertEquals(
+          AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonObject), schema),
+          record.get(),
+          String.format("Object conversion for %s failed", schemaName));
+    }
+  }
+
+  @Test
+  public void testConvertRecordWithAirbyteFields() throws Exception {
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(JSON_SCHEMA, "stream", null);
+    final CompiledJsonAvroConverter converter = new CompiledJsonAvroConverter(schema);
+    final UUID id = UUID.randomUUID();
+    final JsonNode data = Jsons.deserialize("{ \"name\": \"airbyte\", \"count\": 10 }");
+
+    final ObjectNode jsonRecord = (ObjectNode) Jsons.clone(data);
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, 1000L);
+    assertEquals(
+        AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema),
+        converter.convert(id, 1000L, data).orElseThrow());
+  }
+
+  @Test
+  public void testRecordsLeftToDefaultConverter() {
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(JSON_SCHEMA, "stream", null);
+    final CompiledJsonAvroConverter converter = new CompiledJsonAvroConverter(schema);
+    final UUID id = UUID.randomUUID();
+
+    // logical type
+    assertTrue(converter.convert(id, 1000L, Jsons.deserialize("{ \"created_at\": \"2022-01-01T00:00:00Z\" }")).isEmpty());
+    // value to coerce
+    assertTrue(converter.convert(id, 1000L, Jsons.deserialize("{ \"name\": 10 }")).isEmpty());
+    assertTrue(converter.convert(id, 1000L, Jsons.deserialize("{ \"count\": 10000000000 }")).isEmpty());
+    // field missing from the schema, to be kept in the additional properties
+    assertTrue(converter.convert(id, 1000L, Jsons.deserialize("{ \"unknown\": \"value\" }")).isEmpty());
+    assertTrue(converter.convert(id, 1000L, Jsons.deserialize("{ \"_ab_additional_properties\": { \"key\": \"value\" } }")).isEmpty());
+    // airbyte fields missing
+    assertTrue(converter.convert(Jsons.deserialize("{ \"name\": \"airbyte\" }")).isEmpty());
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.parquet.io.PositionOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NioOutputFileTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testPositionFollowsWrittenBytes() throws IOException {
+    final Path path = tempDir.resolve("buffer.parquet");
+    try (final PositionOutputStream outputStream = new NioOutputFile(path).create(0)) {
+      outputStream.write('P');
+      outputStream.write(new byte[] {'A', 'R', '1'}, 1, 2);
+      assertEquals(3, outputStream.getPos());
+    }
+    assertArrayEquals(new byte[] {'P', 'R', '1'}, Files.readAllBytes(path));
+  }
+
+  @Test
+  void testCreateOnlyNewFile() throws IOException {
+    final Path path = Files.createFile(tempDir.resolve("buffer.parquet"));
+    assertThrows(FileAlreadyExistsException.class, () -> new NioOutputFile(path).create(0));
+
+    Files.write(path, new byte[] {'X', 'Y'});
+    try (final PositionOutputStream outputStream = new NioOutputFile(path).createOrOverwrite(0)) {
+      outputStream.write('P');
+    }
+    assertArrayEquals(new byte[] {'P'}, Files.readAllBytes(path));
+  }
+
+}
@@ -5,19 +5,28 @@
 package io.airbyte.integrations.destination.s3.parquet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.util.IOUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
+import io.airbyte.integrations.destination.s3.StreamingUpload;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
@@ -77,6 +86,73 @@ public class ParquetSerializedBufferTest {
     runTest(195L, 215L, config, getExpectedString());
   }
 
+  @Test
+  public void testStreamingUploadReceivesRowGroupsBeforeFlush() throws Exception {
+    final S3DestinationConfig config = S3DestinationConfig.getS3DestinationConfig(Jsons.jsonNode(Map.of(
+        "format", Map.of(
+            "format_type", "parquet",
+            "block_size_mb", 1),
+        "s3_bucket_name", "test",
+        "s3_bucket_region", "us-east-2")));
+    final ByteArrayOutputStream uploadedBytes = new ByteArrayOutputStream();
+    final StreamTransferManager uploadManager = mock(StreamTransferManager.class);
+    final StreamingUpload upload = new StreamingUpload(mock(AmazonS3.class), "test", "stream1/0.parquet", uploadManager, uploadedBytes);
+
+    final File tempFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet").toFile();
+    try (final SerializableBuffer writer = ParquetSerializedBuffer.createStreamingFunction(config, stream -> upload).apply(streamPair, catalog)) {
+      int recordCount = 0;
+      // the magic number is written when the buffer is created, the first row group once it is complete
+      while (uploadedBytes.size() <= 4) {
+        writer.accept(new AirbyteRecordMessage()
+            .withStream(STREAM)
+            .withData(Jsons.jsonNode(Map.of("field1", recordCount, "column2", UUID.randomUUID().toString())))
+            .withEmittedAt(System.currentTimeMillis()));
+        recordCount++;
+      }
+      writer.accept(message);
+      recordCount++;
+      writer.flush();
+
+      assertNull(writer.getInputStream());
+      Files.write(tempFile.toPath(), uploadedBytes.toByteArray());
+      try (final ParquetReader<Record> parquetReader =
+          ParquetReader.<GenericData.Record>builder(new AvroReadSupport<>(), new Path(tempFile.getAbsolutePath()))
+              .withConf(new Configuration())
+              .build()) {
+        int readCount = 0;
+        while (parquetReader.read() != null) {
+          readCount++;
+        }
+        assertEquals(recordCount, readCount);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile.toPath());
+    }
+    // the buffer was not uploaded, closing it aborts the upload
+    verify(uploadManager).abort();
+  }
+
+  @Test
+  public void testStreamingUploadIsNotAbortedOnceCompleted() throws Exception {
+    final S3DestinationConfig config = S3DestinationConfig.getS3DestinationConfig(Jsons.jsonNode(Map.of(
+        "format", Map.of(
+            "format_type", "parquet"),
+        "s3_bucket_name", "test",
+        "s3_bucket_region", "us-east-2")));
+    final AmazonS3 s3Client = mock(AmazonS3.class);
+    when(s3Client.doesObjectExist("test", "stream1/0.parquet")).thenReturn(true);
+    final StreamTransferManager uploadManager = mock(StreamTransferManager.class);
+    final StreamingUpload upload = new StreamingUpload(s3Client, "test", "stream1/0.parquet", uploadManager, new ByteArrayOutputStream());
+
+    try (final SerializableBuffer writer = ParquetSerializedBuffer.createStreamingFunction(config, stream -> upload).apply(streamPair, catalog)) {
+      writer.accept(message);
+      writer.flush();
+      assertEquals("0.parquet", upload.complete());
+    }
+    verify(uploadManager).complete();
+    verify(uploadManager, never()).abort();
+  }
+
   private static String getExpectedString() {
     return "{\"_airbyte_ab_id\": \"<UUID>\", \"_airbyte_emitted_at\": \"<timestamp>\", "
         + "\"field1\": 10000.0, \"another_field\": true, "
@@ -21,6 +21,8 @@ import static io.airbyte.db.jdbc.JdbcConstants.JDBC_COLUMN_TYPE_NAME;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.zaxxer.hikari.HikariDataSource;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
@@ -36,11 +38,16 @@ import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
 import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.sql.Connection;
+import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -49,7 +56,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -68,6 +78,20 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
 
+  /**
+   * Optional config property: number of chunks of a table read at the same time during a full
+   * refresh, each on its own connection. Defaults to 1, i.e. a table is read with a single query.
+   * Tables are only split if they have a single column integer primary key. Capped so that the tables
+   * read at the same time don't use more connections than the pool has.
+   */
+  public static final String FULL_REFRESH_CHUNK_CONCURRENCY_KEY = "full_refresh_chunk_concurrency";
+  // a table is split in more chunks than are read at the same time, so that a chunk with more rows
+  // than the others does not hold back the end of the read
+  private static final int CHUNKS_PER_READER = 4;
+  // maximum number of records read ahead per table, from all its chunks
+  private static final int CHUNK_READ_BUFFER_SIZE = 1000;
+  private static final Set<JDBCType> SPLITTABLE_KEY_TYPES = Set.of(JDBCType.TINYINT, JDBCType.SMALLINT, JDBCType.INTEGER, JDBCType.BIGINT);
+
   protected final String driverClass;
   protected final Supplier<JdbcStreamingQueryConfig> streamingQueryConfigProvider;
   protected final JdbcCompatibleSourceOperations<Datatype> sourceOperations;
@@ -290,6 +314,152 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     });
   }
 
+  @Override
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final JdbcDatabase database,
+                                                                       final String streamName,
+                                                                       final String namespace,
+                                                                       final List<String> selectedDatabaseFields,
+                                                                       final TableInfo<CommonField<Datatype>> table,
+                                                                       final Instant emittedAt) {
+    // the config given to read()
+    final JsonNode sourceConfig = database.getSourceConfig();
+    final int concurrency = Math.min(getFullRefreshChunkConcurrency(sourceConfig),
+        Math.max(1, getMaximumConnections() / getTableReadConcurrency(sourceConfig)));
+    if (concurrency <= 1) {
+      return super.getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+    }
+
+    // the table is split when the read starts, not when the iterator is created
+    final AutoCloseableIterator<JsonNode> queryStream = AutoCloseableIterators.lazyIterator(() -> {
+      final Optional<String> keyColumn = getSplitKeyColumn(database, table);
+      final List<PrimaryKeyRange> ranges = keyColumn
+          .map(column -> planFullRefreshChunks(database, table, column, concurrency * CHUNKS_PER_READER))
+          .orElse(Collections.emptyList());
+      if (ranges.size() <= 1) {
+        return queryTableFullRefresh(database, selectedDatabaseFields, table.getNameSpace(), table.getName());
+      }
+
+      LOGGER.info("Reading table {} in {} chunks of column {}, {} at a time.", table.getName(), ranges.size(), keyColumn.get(), concurrency);
+      final ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+          new ThreadFactoryBuilder().setNameFormat("chunk-read-" + table.getName() + "-%d").setDaemon(true).build());
+      final List<AutoCloseableIterator<JsonNode>> chunks = ranges.stream()
+          .map(range -> queryTableFullRefreshRange(database, selectedDatabaseFields, table.getNameSpace(), table.getName(), keyColumn.get(), range))
+          .toList();
+      // chunks are emitted as they are read, so that a reader never waits for the chunks before its own
+      return AutoCloseableIterators.appendOnClose(AutoCloseableIterators.merge(chunks, executor, CHUNK_READ_BUFFER_SIZE), executor::shutdownNow);
+    });
+    return getMessageIterator(queryStream, streamName, namespace, emittedAt.toEpochMilli());
+  }
+
+  protected int getFullRefreshChunkConcurrency(final JsonNode config) {
+    return config.has(FULL_REFRESH_CHUNK_CONCURRENCY_KEY) ? config.get(FULL_REFRESH_CHUNK_CONCURRENCY_KEY).asInt() : 1;
+  }
+
+  /**
+   * @return size of the smallest connection pool of the source.
+   */
+  protected int getMaximumConnections() {
+    return dataSources.stream()
+        .filter(HikariDataSource.class::isInstance)
+        .mapToInt(dataSource -> ((HikariDataSource) dataSource).getMaximumPoolSize())
+        .min()
+        .orElse(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Splits a table on its primary key, if it is an integer column, in ranges of the same width
+   * between the smallest and the largest key.
+   *
+   * @return ranges covering the whole table, or a single unbounded range if the table can't be
+   *         split.
+   */
+  protected List<PrimaryKeyRange> planFullRefreshChunks(final JdbcDatabase database,
+                                                        final TableInfo<CommonField<Datatype>> table,
+                                                        final String keyColumn,
+                                                        final int maxChunks) {
+    final List<PrimaryKeyRange> unsplit = List.of(new PrimaryKeyRange(null, null));
+    try {
+      // empty if the table is empty or the key is not an integer
+      final List<long[]> bounds = new ArrayList<>();
+      database.execute(conn -> {
+        final String sql = String.format("SELECT MIN(%1$s), MAX(%1$s) FROM %2$s",
+            sourceOperations.enquoteIdentifier(conn, keyColumn),
+            sourceOperations.getFullyQualifiedTableNameWithQuoting(conn, table.getNameSpace(), table.getName()));
+        try (final Statement statement = conn.createStatement();
+            final ResultSet resultSet = statement.executeQuery(sql)) {
+          if (resultSet.next() && resultSet.getObject(1) != null
+              && SPLITTABLE_KEY_TYPES.contains(JDBCType.valueOf(resultSet.getMetaData().getColumnType(1)))) {
+            bounds.add(new long[] {resultSet.getLong(1), resultSet.getLong(2)});
+          }
+        }
+      });
+      return bounds.isEmpty() ? unsplit : PrimaryKeyRange.split(bounds.get(0)[0], bounds.get(0)[1], maxChunks);
+    } catch (final SQLException | IllegalArgumentException e) {
+      LOGGER.warn("Could not split table {}, reading it with a single query.", table.getName(), e);
+      return unsplit;
+    }
+  }
+
+  /**
+   * @return the primary key of the table, if it has a single column.
+   */
+  private Optional<String> getSplitKeyColumn(final JdbcDatabase database, final TableInfo<CommonField<Datatype>> table) {
+    final String fullyQualifiedTableName = sourceOperations.getFullyQualifiedTableName(table.getNameSpace(), table.getName());
+    final List<String> primaryKeys = discoverPrimaryKeys(database, List.of(table)).getOrDefault(fullyQualifiedTableName, Collections.emptyList());
+    return primaryKeys.size() == 1 ? Optional.of(primaryKeys.get(0)) : Optional.empty();
+  }
+
+  /**
+   * Read the rows of a table within a range of its primary key.
+   *
+   * @param database source database
+   * @param columnNames interested column names
+   * @param schemaName table namespace
+   * @param tableName target table
+   * @param keyColumn primary key column
+   * @param range range of the primary key to read
+   * @return iterator with read data
+   */
+  protected AutoCloseableIterator<JsonNode> queryTableFullRefreshRange(final JdbcDatabase database,
+                                                                      final List<String> columnNames,
+                                                                      final String schemaName,
+                                                                      final String tableName,
+                                                                      final String keyColumn,
+                                                                      final PrimaryKeyRange range) {
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              final String sql = String.format("SELECT %s FROM %s%s",
+                  enquoteSelectedColumns(database, connection, columnNames, schemaName, tableName),
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                  range.toWhereClause(sourceOperations.enquoteIdentifier(connection, keyColumn)));
+
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+              range.setParameters(preparedStatement);
+              LOGGER.info("Executing query for table {} in range {}", tableName, range);
+              return preparedStatement;
+            },
+            sourceOperations::rowToJson);
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  /**
+   * @return the selected columns of a query, quoted for the database.
+   */
+  protected String enquoteSelectedColumns(final JdbcDatabase database,
+                                          final Connection connection,
+                                          final List<String> columnNames,
+                                          final String schemaName,
+                                          final String tableName)
+      throws SQLException {
+    return sourceOperations.enquoteIdentifierList(connection, columnNames);
+  }
+
   protected DataSource createDataSource(final JsonNode config) {
     final JsonNode jdbcConfig = toDatabaseConfig(config);
     final DataSource dataSource = DataSourceFactory.create(
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import com.google.common.base.Preconditions;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A range of values of an integer primary key, read as one chunk of a full refresh. The lower bound
+ * is inclusive and the upper bound exclusive. A missing bound leaves the range open on that side.
+ */
+public class PrimaryKeyRange {
+
+  private final Long lowerBound;
+  private final Long upperBound;
+
+  public PrimaryKeyRange(final Long lowerBound, final Long upperBound) {
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+  }
+
+  /**
+   * Splits the values between min and max into ranges of the same width. The first range has no
+   * lower bound and the last range no upper bound, so that the ranges cover every row of the table,
+   * including rows written after min and max were queried.
+   *
+   * @param min smallest value of the key
+   * @param max largest value of the key
+   * @param maxRanges maximum number of ranges
+   * @return contiguous ranges, in ascending order of keys.
+   */
+  public static List<PrimaryKeyRange> split(final long min, final long max, final int maxRanges) {
+    Preconditions.checkArgument(maxRanges > 0);
+    // width computed as a BigInteger since max - min may overflow a long
+    final BigInteger width = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+    final int rangeCount = width.signum() > 0 ? width.min(BigInteger.valueOf(maxRanges)).intValueExact() : 1;
+    final BigInteger rangeWidth = width.divide(BigInteger.valueOf(rangeCount));
+
+    final List<PrimaryKeyRange> ranges = new ArrayList<>(rangeCount);
+    Long lowerBound = null;
+    for (int i = 1; i < rangeCount; i++) {
+      final long upperBound = BigInteger.valueOf(min).add(rangeWidth.multiply(BigInteger.valueOf(i))).longValueExact();
+      ranges.add(new PrimaryKeyRange(lowerBound, upperBound));
+      lowerBound = upperBound;
+    }
+    ranges.add(new PrimaryKeyRange(lowerBound, null));
+    return ranges;
+  }
+
+  public Long getLowerBound() {
+    return lowerBound;
+  }
+
+  public Long getUpperBound() {
+    return upperBound;
+  }
+
+  /**
+   * @param quotedKeyColumn key column, quoted for the database
+   * @return WHERE clause selecting the rows of this range, with a parameter per bound. Empty if the
+   *         range has no bounds.
+   */
+  public String toWhereClause(final String quotedKeyColumn) {
+    final List<String> conditions = new ArrayList<>();
+    if (lowerBound != null) {
+      conditions.add(quotedKeyColumn + " >= ?");
+    }
+    if (upperBound != null) {
+      conditions.add(quotedKeyColumn + " < ?");
+    }
+    return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+  }
+
+  /**
+   * Sets the parameters of the clause returned by {@link #toWhereClause(String)}.
+   */
+  public void setParameters(final PreparedStatement preparedStatement) throws SQLException {
+    int parameterIndex = 1;
+    if (lowerBound != null) {
+      preparedStatement.setLong(parameterIndex++, lowerBound);
+    }
+    if (upperBound != null) {
+      preparedStatement.setLong(parameterIndex, upperBound);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final PrimaryKeyRange that = (PrimaryKeyRange) o;
+    return Objects.equals(lowerBound, that.lowerBound) && Objects.equals(upperBound, that.upperBound);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lowerBound, upperBound);
+  }
+
+  @Override
+  public String toString() {
+    return "PrimaryKeyRange{" +
+        "lowerBound=" + lowerBound +
+        ", upperBound=" + upperBound +
+        '}';
+  }
+
+}
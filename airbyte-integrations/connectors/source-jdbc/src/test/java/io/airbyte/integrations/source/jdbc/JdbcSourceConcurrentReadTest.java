@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.factory.DatabaseDriver;
+import io.airbyte.db.jdbc.DefaultJdbcDatabase;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.db.jdbc.JdbcUtils;
+import io.airbyte.db.jdbc.streaming.AdaptiveStreamingQueryConfig;
+import io.airbyte.integrations.source.relationaldb.AbstractDbSource;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.SyncMode;
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Reads tables with the concurrency settings of {@link AbstractJdbcSource} and its parent classes,
+ * and compares the records with the ones of a serial read.
+ */
+class JdbcSourceConcurrentReadTest {
+
+  private static final String SCHEMA_NAME = "public";
+  private static final String INTEGER_KEY_TABLE = "integer_key_table";
+  private static final String TEXT_KEY_TABLE = "text_key_table";
+  private static final String SMALL_TABLE = "small_table";
+
+  private static PostgreSQLContainer<?> PSQL_DB;
+  private static JsonNode CONFIG;
+
+  @BeforeAll
+  static void init() throws Exception {
+    PSQL_DB = new PostgreSQLContainer<>("postgres:13-alpine");
+    PSQL_DB.start();
+    CONFIG = Jsons.jsonNode(ImmutableMap.builder()
+        .put("host", PSQL_DB.getHost())
+        .put("port", PSQL_DB.getFirstMappedPort())
+        .put("database", PSQL_DB.getDatabaseName())
+        .put("username", PSQL_DB.getUsername())
+        .put("password", PSQL_DB.getPassword())
+        .build());
+
+    final DataSource dataSource = DataSourceFactory.create(
+        PSQL_DB.getUsername(),
+        PSQL_DB.getPassword(),
+        DatabaseDriver.POSTGRESQL.getDriverClassName(),
+        PSQL_DB.getJdbcUrl());
+    try {
+      final JdbcDatabase database = new DefaultJdbcDatabase(dataSource);
+      // negative keys, gaps, and keys on the boundaries of the chunks
+      database.execute(String.format("CREATE TABLE %s (id INTEGER PRIMARY KEY, name VARCHAR(20));", INTEGER_KEY_TABLE));
+      database.execute(String.format("INSERT INTO %s SELECT g, 'name' || g FROM generate_series(-500, 5000) g WHERE g %% 7 <> 0;",
+          INTEGER_KEY_TABLE));
+      database.execute(String.format("CREATE TABLE %s (id VARCHAR(20) PRIMARY KEY, name VARCHAR(20));", TEXT_KEY_TABLE));
+      database.execute(String.format("INSERT INTO %s SELECT 'key' || g, 'name' || g FROM generate_series(1, 3000) g;", TEXT_KEY_TABLE));
+      database.execute(String.format("CREATE TABLE %s (id INTEGER PRIMARY KEY, name VARCHAR(20));", SMALL_TABLE));
+      database.execute(String.format("INSERT INTO %s SELECT g, 'name' || g FROM generate_series(1, 10) g;", SMALL_TABLE));
+    } finally {
+      DataSourceFactory.close(dataSource);
+    }
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    PSQL_DB.close();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {INTEGER_KEY_TABLE, TEXT_KEY_TABLE})
+  void testChunkedFullRefreshReadsSameRowsAsSerialRead(final String tableName) throws Exception {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        CatalogHelpers.createConfiguredAirbyteStream(tableName, SCHEMA_NAME,
+            Field.of("id", tableName.equals(INTEGER_KEY_TABLE) ? JsonSchemaType.NUMBER : JsonSchemaType.STRING),
+            Field.of("name", JsonSchemaType.STRING))));
+
+    final JsonNode chunkedConfig = ((ObjectNode) Jsons.clone(CONFIG)).put(AbstractJdbcSource.FULL_REFRESH_CHUNK_CONCURRENCY_KEY, 4);
+    final List<JsonNode> serialRecords = readRecords(new PostgresTestSource(), CONFIG, catalog);
+    final List<JsonNode> chunkedRecords = readRecords(new PostgresTestSource(), chunkedConfig, catalog);
+
+    assertEquals(tableName.equals(INTEGER_KEY_TABLE) ? 4715 : 3000, serialRecords.size());
+    // no duplicates nor gaps at the boundaries of the chunks
+    assertEquals(serialRecords.size(), chunkedRecords.size());
+    assertEquals(Set.copyOf(serialRecords), Set.copyOf(chunkedRecords));
+  }
+
+  @Test
+  void testConcurrentTableReadsEmitSameMessagesAsSerialRead() throws Exception {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        incrementalStream(INTEGER_KEY_TABLE, JsonSchemaType.NUMBER),
+        incrementalStream(TEXT_KEY_TABLE, JsonSchemaType.STRING),
+        incrementalStream(SMALL_TABLE, JsonSchemaType.NUMBER)));
+
+    final JsonNode concurrentConfig = ((ObjectNode) Jsons.clone(CONFIG)).put(AbstractDbSource.TABLE_READ_CONCURRENCY_KEY, 3);
+    final List<AirbyteMessage> serialMessages = readMessages(new PostgresTestSource(), CONFIG, catalog);
+    final List<AirbyteMessage> concurrentMessages = readMessages(new PostgresTestSource(), concurrentConfig, catalog);
+
+    assertEquals(4715 + 3000 + 10, serialMessages.stream().filter(message -> message.getType() == Type.RECORD).count());
+    // records of each table followed by its state, in the order of the catalog
+    assertEquals(serialMessages, concurrentMessages);
+    assertEquals(3, concurrentMessages.stream().filter(message -> message.getType() == Type.STATE).count());
+  }
+
+  private static ConfiguredAirbyteStream incrementalStream(final String tableName, final JsonSchemaType idType) {
+    return CatalogHelpers.createConfiguredAirbyteStream(tableName, SCHEMA_NAME, Field.of("id", idType), Field.of("name", JsonSchemaType.STRING))
+        .withSyncMode(SyncMode.INCREMENTAL)
+        .withCursorField(List.of("id"));
+  }
+
+  /**
+   * @return the messages read, without the time records were emitted at.
+   */
+  private static List<AirbyteMessage> readMessages(final AbstractJdbcSource<JDBCType> source,
+                                                   final JsonNode config,
+                                                   final ConfiguredAirbyteCatalog catalog)
+      throws Exception {
+    final List<AirbyteMessage> messages = AutoCloseableIterators.toListAndClose(source.read(config, catalog, null));
+    messages.stream().filter(message -> message.getType() == Type.RECORD).forEach(message -> message.getRecord().setEmittedAt(0L));
+    return messages;
+  }
+
+  private static List<JsonNode> readRecords(final AbstractJdbcSource<JDBCType> source,
+                                            final JsonNode config,
+                                            final ConfiguredAirbyteCatalog catalog)
+      throws Exception {
+    return AutoCloseableIterators.toListAndClose(source.read(config, catalog, null)).stream()
+        .filter(message -> message.getType() == Type.RECORD)
+        .map(message -> message.getRecord().getData())
+        .toList();
+  }
+
+  private static class PostgresTestSource extends AbstractJdbcSource<JDBCType> {
+
+    PostgresTestSource() {
+      super(DatabaseDriver.POSTGRESQL.getDriverClassName(), AdaptiveStreamingQueryConfig::new, JdbcUtils.getDefaultSourceOperations());
+    }
+
+    @Override
+    public JsonNode toDatabaseConfig(final JsonNode config) {
+      return Jsons.jsonNode(ImmutableMap.builder()
+          .put("username", config.get("username").asText())
+          .put("password", config.get("password").asText())
+          .put("jdbc_url", String.format(DatabaseDriver.POSTGRESQL.getUrlFormatString(),
+              config.get("host").asText(),
+              config.get("port").asInt(),
+              config.get("database").asText()))
+          .build());
+    }
+
+    @Override
+    public Set<String> getExcludedInternalNameSpaces() {
+      return Set.of("information_schema", "pg_catalog", "pg_internal", "catalog_history");
+    }
+
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PrimaryKeyRangeTest {
+
+  @Test
+  void testSplitInRangesOfSameWidth() {
+    assertEquals(List.of(
+        new PrimaryKeyRange(null, 25L),
+        new PrimaryKeyRange(25L, 50L),
+        new PrimaryKeyRange(50L, 75L),
+        new PrimaryKeyRange(75L, null)),
+        PrimaryKeyRange.split(0, 99, 4));
+  }
+
+  @Test
+  void testSplitInNoMoreRangesThanKeys() {
+    assertEquals(List.of(
+        new PrimaryKeyRange(null, 11L),
+        new PrimaryKeyRange(11L, 12L),
+        new PrimaryKeyRange(12L, null)),
+        PrimaryKeyRange.split(10, 12, 8));
+  }
+
+  @Test
+  void testSplitSingleKey() {
+    assertEquals(List.of(new PrimaryKeyRange(null, null)), PrimaryKeyRange.split(5, 5, 4));
+  }
+
+  @Test
+  void testSplitWholeLongRange() {
+    assertEquals(List.of(
+        new PrimaryKeyRange(null, 0L),
+        new PrimaryKeyRange(0L, null)),
+        PrimaryKeyRange.split(Long.MIN_VALUE, Long.MAX_VALUE, 2));
+  }
+
+  @Test
+  void testWhereClause() throws SQLException {
+    assertEquals("", new PrimaryKeyRange(null, null).toWhereClause("\"id\""));
+    assertEquals(" WHERE \"id\" < ?", new PrimaryKeyRange(null, 10L).toWhereClause("\"id\""));
+    assertEquals(" WHERE \"id\" >= ?", new PrimaryKeyRange(10L, null).toWhereClause("\"id\""));
+    assertEquals(" WHERE \"id\" >= ? AND \"id\" < ?", new PrimaryKeyRange(10L, 20L).toWhereClause("\"id\""));
+
+    final PreparedStatement unbounded = mock(PreparedStatement.class);
+    new PrimaryKeyRange(null, null).setParameters(unbounded);
+    verifyNoInteractions(unbounded);
+
+    final PreparedStatement upperBounded = mock(PreparedStatement.class);
+    new PrimaryKeyRange(null, 10L).setParameters(upperBounded);
+    verify(upperBounded).setLong(1, 10L);
+
+    final PreparedStatement bounded = mock(PreparedStatement.class);
+    new PrimaryKeyRange(10L, 20L).setParameters(bounded);
+    verify(bounded).setLong(1, 10L);
+    verify(bounded).setLong(2, 20L);
+  }
+
+}
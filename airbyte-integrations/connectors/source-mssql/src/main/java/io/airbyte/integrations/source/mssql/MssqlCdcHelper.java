@@ -6,6 +6,7 @@ package io.airbyte.integrations.source.mssql;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.debezium.annotation.VisibleForTesting;
+import java.time.Duration;
 import java.util.Properties;
 
 public class MssqlCdcHelper {
@@ -19,6 +20,8 @@ public class MssqlCdcHelper {
   private static final String REPLICATION_TYPE_FIELD = "replication_type";
   private static final String CDC_SNAPSHOT_ISOLATION_FIELD = "snapshot_isolation";
   private static final String CDC_DATA_TO_SYNC_FIELD = "data_to_sync";
+  private static final String CDC_CHECKPOINT_RECORDS_FIELD = "checkpoint_records";
+  private static final String CDC_CHECKPOINT_INTERVAL_SECONDS_FIELD = "checkpoint_interval_seconds";
 
   public enum ReplicationMethod {
     STANDARD,
@@ -124,6 +127,28 @@ public class MssqlCdcHelper {
     return DataToSync.EXISTING_AND_NEW;
   }
 
+  /**
+   * @return number of records after which an intermediate state is emitted, 0 if it is not set.
+   */
+  static long getCheckpointRecords(final JsonNode config) {
+    // new replication method config since version 0.4.0
+    if (config.hasNonNull(REPLICATION_FIELD) && config.get(REPLICATION_FIELD).hasNonNull(CDC_CHECKPOINT_RECORDS_FIELD)) {
+      return config.get(REPLICATION_FIELD).get(CDC_CHECKPOINT_RECORDS_FIELD).asLong();
+    }
+    return 0L;
+  }
+
+  /**
+   * @return time after which an intermediate state is emitted, zero if it is not set.
+   */
+  static Duration getCheckpointInterval(final JsonNode config) {
+    // new replication method config since version 0.4.0
+    if (config.hasNonNull(REPLICATION_FIELD) && config.get(REPLICATION_FIELD).hasNonNull(CDC_CHECKPOINT_INTERVAL_SECONDS_FIELD)) {
+      return Duration.ofSeconds(config.get(REPLICATION_FIELD).get(CDC_CHECKPOINT_INTERVAL_SECONDS_FIELD).asLong());
+    }
+    return Duration.ZERO;
+  }
+
   @VisibleForTesting
   static Properties getDebeziumProperties(final JsonNode config) {
     final Properties props = new Properties();
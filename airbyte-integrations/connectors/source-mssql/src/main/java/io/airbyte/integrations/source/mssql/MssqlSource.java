@@ -35,6 +35,7 @@ import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.SyncMode;
 import java.io.File;
+import java.sql.Connection;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -47,6 +48,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -127,6 +129,17 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
     });
   }
 
+  @Override
+  protected String enquoteSelectedColumns(final JdbcDatabase database,
+                                          final Connection connection,
+                                          final List<String> columnNames,
+                                          final String schemaName,
+                                          final String tableName)
+      throws SQLException {
+    final String identifierQuoteString = connection.getMetaData().getIdentifierQuoteString();
+    return String.join(",", getWrappedColumn(database, columnNames, schemaName, tableName, identifierQuoteString));
+  }
+
   /**
    * There is no support for hierarchyid even in the native SQL Server JDBC driver. Its value can be
    * converted to a nvarchar(4000) data type by calling the ToString() method. So we make a separate
@@ -362,21 +375,22 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
                                                                              final ConfiguredAirbyteCatalog catalog,
                                                                              final Map<String, TableInfo<CommonField<JDBCType>>> tableNameToTable,
                                                                              final StateManager stateManager,
-                                                                             final Instant emittedAt) {
+                                                                             final Instant emittedAt,
+                                                                             final ExecutorService tableReadExecutor) {
     final JsonNode sourceConfig = database.getSourceConfig();
     if (MssqlCdcHelper.isCdc(sourceConfig) && shouldUseCDC(catalog)) {
       LOGGER.info("using CDC: {}", true);
       final Properties props = MssqlCdcHelper.getDebeziumProperties(sourceConfig);
       final AirbyteDebeziumHandler handler = new AirbyteDebeziumHandler(sourceConfig,
           MssqlCdcTargetPosition.getTargetPosition(database, sourceConfig.get("database").asText()),
-          props, catalog, true);
+          props, catalog, true, MssqlCdcHelper.getCheckpointRecords(sourceConfig), MssqlCdcHelper.getCheckpointInterval(sourceConfig));
       return handler.getIncrementalIterators(
           new MssqlCdcSavedInfoFetcher(stateManager.getCdcStateManager().getCdcState()),
           new MssqlCdcStateHandler(stateManager), new MssqlCdcConnectorMetadataInjector(),
           emittedAt);
     } else {
       LOGGER.info("using CDC: {}", false);
-      return super.getIncrementalIterators(database, catalog, tableNameToTable, stateManager, emittedAt);
+      return super.getIncrementalIterators(database, catalog, tableNameToTable, stateManager, emittedAt, tableReadExecutor);
     }
   }
 
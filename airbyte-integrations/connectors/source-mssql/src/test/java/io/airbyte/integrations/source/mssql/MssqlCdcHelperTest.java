@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.source.mssql.MssqlCdcHelper.DataToSync;
 import io.airbyte.integrations.source.mssql.MssqlCdcHelper.SnapshotIsolation;
+import java.time.Duration;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -129,4 +130,30 @@ class MssqlCdcHelperTest {
     assertEquals(DataToSync.NEW_CHANGES_ONLY, MssqlCdcHelper.getDataToSyncConfig(mixCdcNewOnly));
   }
 
+  @Test
+  public void testGetCheckpointSettings() {
+    // legacy replication method config before version 0.4.0
+    assertEquals(0L, MssqlCdcHelper.getCheckpointRecords(LEGACY_CDC_CONFIG));
+    assertEquals(Duration.ZERO, MssqlCdcHelper.getCheckpointInterval(LEGACY_CDC_CONFIG));
+
+    // new replication method config since version 0.4.0
+    final JsonNode newCdcWithoutCheckpoints = Jsons.jsonNode(Map.of("replication",
+        Jsons.jsonNode(Map.of(
+            "replication_type", "CDC",
+            "data_to_sync", "Existing and New",
+            "snapshot_isolation", "Snapshot"))));
+    assertEquals(0L, MssqlCdcHelper.getCheckpointRecords(newCdcWithoutCheckpoints));
+    assertEquals(Duration.ZERO, MssqlCdcHelper.getCheckpointInterval(newCdcWithoutCheckpoints));
+
+    final JsonNode newCdcWithCheckpoints = Jsons.jsonNode(Map.of("replication",
+        Jsons.jsonNode(Map.of(
+            "replication_type", "CDC",
+            "data_to_sync", "Existing and New",
+            "snapshot_isolation", "Snapshot",
+            "checkpoint_records", 10000,
+            "checkpoint_interval_seconds", 300))));
+    assertEquals(10000L, MssqlCdcHelper.getCheckpointRecords(newCdcWithCheckpoints));
+    assertEquals(Duration.ofMinutes(5), MssqlCdcHelper.getCheckpointInterval(newCdcWithCheckpoints));
+  }
+
 }
@@ -36,12 +36,14 @@ import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +56,9 @@ public class MySqlSource extends AbstractJdbcSource<MysqlType> implements Source
   public static final String MYSQL_DB_HISTORY = "mysql_db_history";
   public static final String CDC_LOG_FILE = "_ab_cdc_log_file";
   public static final String CDC_LOG_POS = "_ab_cdc_log_pos";
+  // optional CDC settings, replication_method is a plain enum so they are top level properties
+  public static final String CDC_CHECKPOINT_RECORDS = "cdc_checkpoint_records";
+  public static final String CDC_CHECKPOINT_INTERVAL_SECONDS = "cdc_checkpoint_interval_seconds";
   public static final List<String> SSL_PARAMETERS = List.of(
       "useSSL=true",
       "requireSSL=true",
@@ -169,17 +174,26 @@ public class MySqlSource extends AbstractJdbcSource<MysqlType> implements Source
             .equals(ReplicationMethod.CDC);
   }
 
+  private static long getCdcCheckpointRecords(final JsonNode config) {
+    return config.has(CDC_CHECKPOINT_RECORDS) ? config.get(CDC_CHECKPOINT_RECORDS).asLong() : 0L;
+  }
+
+  private static Duration getCdcCheckpointInterval(final JsonNode config) {
+    return config.has(CDC_CHECKPOINT_INTERVAL_SECONDS) ? Duration.ofSeconds(config.get(CDC_CHECKPOINT_INTERVAL_SECONDS).asLong()) : Duration.ZERO;
+  }
+
   @Override
   public List<AutoCloseableIterator<AirbyteMessage>> getIncrementalIterators(final JdbcDatabase database,
                                                                              final ConfiguredAirbyteCatalog catalog,
                                                                              final Map<String, TableInfo<CommonField<MysqlType>>> tableNameToTable,
                                                                              final StateManager stateManager,
-                                                                             final Instant emittedAt) {
+                                                                             final Instant emittedAt,
+                                                                             final ExecutorService tableReadExecutor) {
     final JsonNode sourceConfig = database.getSourceConfig();
     if (isCdc(sourceConfig) && shouldUseCDC(catalog)) {
       final AirbyteDebeziumHandler handler =
           new AirbyteDebeziumHandler(sourceConfig, MySqlCdcTargetPosition.targetPosition(database), MySqlCdcProperties.getDebeziumProperties(),
-              catalog, true);
+              catalog, true, getCdcCheckpointRecords(sourceConfig), getCdcCheckpointInterval(sourceConfig));
 
       final Optional<CdcState> cdcState = Optional.ofNullable(stateManager.getCdcStateManager().getCdcState());
       final MySqlCdcSavedInfoFetcher fetcher = new MySqlCdcSavedInfoFetcher(cdcState.orElse(null));
@@ -187,8 +201,7 @@ public class MySqlSource extends AbstractJdbcSource<MysqlType> implements Source
       return handler.getIncrementalIterators(fetcher, new MySqlCdcStateHandler(stateManager), new MySqlCdcConnectorMetadataInjector(), emittedAt);
     } else {
       LOGGER.info("using CDC: {}", false);
-      return super.getIncrementalIterators(database, catalog, tableNameToTable, stateManager,
-          emittedAt);
+      return super.getIncrementalIterators(database, catalog, tableNameToTable, stateManager, emittedAt, tableReadExecutor);
     }
   }
 
@@ -5,6 +5,7 @@
 package io.airbyte.integrations.source.postgres;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +14,8 @@ public class PostgresUtils {
   private static final Logger LOGGER = LoggerFactory.getLogger(PostgresUtils.class);
 
   private static final String PGOUTPUT_PLUGIN = "pgoutput";
+  private static final String CHECKPOINT_RECORDS = "checkpoint_records";
+  private static final String CHECKPOINT_INTERVAL_SECONDS = "checkpoint_interval_seconds";
 
   public static String getPluginValue(final JsonNode field) {
     return field.has("plugin") ? field.get("plugin").asText() : PGOUTPUT_PLUGIN;
@@ -26,4 +29,22 @@ public class PostgresUtils {
     return isCdc;
   }
 
+  /**
+   * @return number of records after which an intermediate CDC state is emitted, 0 if it is not set.
+   */
+  public static long getCheckpointRecords(final JsonNode config) {
+    final JsonNode replicationMethod = config.get("replication_method");
+    return replicationMethod.has(CHECKPOINT_RECORDS) ? replicationMethod.get(CHECKPOINT_RECORDS).asLong() : 0L;
+  }
+
+  /**
+   * @return time after which an intermediate CDC state is emitted, zero if it is not set.
+   */
+  public static Duration getCheckpointInterval(final JsonNode config) {
+    final JsonNode replicationMethod = config.get("replication_method");
+    return replicationMethod.has(CHECKPOINT_INTERVAL_SECONDS)
+        ? Duration.ofSeconds(replicationMethod.get(CHECKPOINT_INTERVAL_SECONDS).asLong())
+        : Duration.ZERO;
+  }
+
 }
@@ -4,12 +4,14 @@
 
 package io.airbyte.integrations.source.postgres;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 
 class PostgresUtilsTest {
@@ -25,4 +27,21 @@ class PostgresUtilsTest {
     assertTrue(PostgresUtils.isCdc(config));
   }
 
+  @Test
+  void testGetCheckpointSettings() {
+    final ObjectNode config = (ObjectNode) Jsons.jsonNode(ImmutableMap.of("replication_method", ImmutableMap.of(
+        "replication_slot", "slot",
+        "publication", "ab_pub")));
+    assertEquals(0L, PostgresUtils.getCheckpointRecords(config));
+    assertEquals(Duration.ZERO, PostgresUtils.getCheckpointInterval(config));
+
+    config.set("replication_method", Jsons.jsonNode(ImmutableMap.of(
+        "replication_slot", "slot",
+        "publication", "ab_pub",
+        "checkpoint_records", 10000,
+        "checkpoint_interval_seconds", 300)));
+    assertEquals(10000L, PostgresUtils.getCheckpointRecords(config));
+    assertEquals(Duration.ofMinutes(5), PostgresUtils.getCheckpointInterval(config));
+  }
+
 }
@@ -7,6 +7,7 @@ package io.airbyte.integrations.source.relationaldb;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.functional.CheckedConsumer;
@@ -52,6 +53,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -71,6 +74,15 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
   // TODO: Remove when the flag is not use anymore
   private final FeatureFlags featureFlags = new EnvVariableFeatureFlags();
 
+  /**
+   * Optional config property: number of tables read at the same time, each on its own connection.
+   * Defaults to 1, i.e. tables are read one after another. Must stay below the size of the
+   * connection pool.
+   */
+  public static final String TABLE_READ_CONCURRENCY_KEY = "table_read_concurrency";
+  // maximum number of records read ahead per table when tables are read concurrently
+  private static final int TABLE_READ_BUFFER_SIZE = 1000;
+
   @Override
   public AirbyteConnectionStatus check(final JsonNode config) throws Exception {
     try {
@@ -125,23 +137,67 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
             .collect(Collectors.toMap(t -> String.format("%s.%s", t.getNameSpace(), t.getName()), Function
                 .identity()));
 
-    final List<AutoCloseableIterator<AirbyteMessage>> incrementalIterators =
-        getIncrementalIterators(database, catalog, fullyQualifiedTableNameToInfo, stateManager, emittedAt);
-    final List<AutoCloseableIterator<AirbyteMessage>> fullRefreshIterators =
-        getFullRefreshIterators(database, catalog, fullyQualifiedTableNameToInfo, stateManager, emittedAt);
-    final List<AutoCloseableIterator<AirbyteMessage>> iteratorList = Stream
-        .of(incrementalIterators, fullRefreshIterators)
-        .flatMap(Collection::stream)
-        .collect(Collectors.toList());
+    final int tableReadConcurrency = getTableReadConcurrency(config);
+    final ExecutorService tableReadExecutor = tableReadConcurrency > 1
+        ? Executors.newFixedThreadPool(tableReadConcurrency, new ThreadFactoryBuilder().setNameFormat("table-read-%d").setDaemon(true).build())
+        : null;
+    if (tableReadExecutor != null) {
+      LOGGER.info("Reading up to {} tables concurrently.", tableReadConcurrency);
+    }
+
+    final List<AutoCloseableIterator<AirbyteMessage>> iteratorList;
+    try {
+      final List<AutoCloseableIterator<AirbyteMessage>> incrementalIterators =
+          getIncrementalIterators(database, catalog, fullyQualifiedTableNameToInfo, stateManager, emittedAt, tableReadExecutor);
+      final List<AutoCloseableIterator<AirbyteMessage>> fullRefreshIterators =
+          getFullRefreshIterators(database, catalog, fullyQualifiedTableNameToInfo, stateManager, emittedAt, tableReadExecutor);
+      iteratorList = Stream
+          .of(incrementalIterators, fullRefreshIterators)
+          .flatMap(Collection::stream)
+          .collect(Collectors.toList());
+    } catch (final Exception e) {
+      // tables may already be read ahead, the iterators are never returned to be closed
+      if (tableReadExecutor != null) {
+        tableReadExecutor.shutdownNow();
+      }
+      throw e;
+    }
 
     return AutoCloseableIterators
         .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+          if (tableReadExecutor != null) {
+            tableReadExecutor.shutdownNow();
+          }
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(this::close);
           LOGGER.info("Closed database connection pool.");
         });
   }
 
+  /**
+   * Tables read concurrently are still emitted one after another, in the order of the catalog: while
+   * a table is emitted, the records of the following tables are read ahead into bounded buffers. This
+   * keeps the records and the state message of each table together, so state is emitted exactly as
+   * when tables are read sequentially.
+   *
+   * @return number of tables read at the same time.
+   */
+  protected int getTableReadConcurrency(final JsonNode config) {
+    return config.has(TABLE_READ_CONCURRENCY_KEY) ? config.get(TABLE_READ_CONCURRENCY_KEY).asInt() : 1;
+  }
+
+  /**
+   * @param tableReadExecutor executor reading tables ahead, null if tables are read one after another
+   * @return the iterator, read ahead on its own thread if tables are read concurrently.
+   */
+  private static AutoCloseableIterator<AirbyteMessage> readAhead(final AutoCloseableIterator<AirbyteMessage> iterator,
+                                                                 final ExecutorService tableReadExecutor) {
+    if (tableReadExecutor == null) {
+      return iterator;
+    }
+    return AutoCloseableIterators.prefetch(iterator, tableReadExecutor, TABLE_READ_BUFFER_SIZE);
+  }
+
   protected List<TableInfo<CommonField<DataType>>> discoverWithoutSystemTables(final Database database) throws Exception {
     final Set<String> systemNameSpaces = getExcludedInternalNameSpaces();
     final List<TableInfo<CommonField<DataType>>> discoveredTables = discoverInternal(database);
@@ -154,13 +210,15 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
                                                                                 final ConfiguredAirbyteCatalog catalog,
                                                                                 final Map<String, TableInfo<CommonField<DataType>>> tableNameToTable,
                                                                                 final StateManager stateManager,
-                                                                                final Instant emittedAt) {
+                                                                                final Instant emittedAt,
+                                                                                final ExecutorService tableReadExecutor) {
     return getSelectedIterators(
         database,
         catalog,
         tableNameToTable,
         stateManager,
         emittedAt,
+        tableReadExecutor,
         configuredStream -> configuredStream.getSyncMode().equals(SyncMode.FULL_REFRESH));
   }
 
@@ -168,13 +226,15 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
                                                                                 final ConfiguredAirbyteCatalog catalog,
                                                                                 final Map<String, TableInfo<CommonField<DataType>>> tableNameToTable,
                                                                                 final StateManager stateManager,
-                                                                                final Instant emittedAt) {
+                                                                                final Instant emittedAt,
+                                                                                final ExecutorService tableReadExecutor) {
     return getSelectedIterators(
         database,
         catalog,
         tableNameToTable,
         stateManager,
         emittedAt,
+        tableReadExecutor,
         configuredStream -> configuredStream.getSyncMode().equals(SyncMode.INCREMENTAL));
   }
 
@@ -183,6 +243,7 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
                                                                              final Map<String, TableInfo<CommonField<DataType>>> tableNameToTable,
                                                                              final StateManager stateManager,
                                                                              final Instant emittedAt,
+                                                                             final ExecutorService tableReadExecutor,
                                                                              final Predicate<ConfiguredAirbyteStream> selector) {
     final List<AutoCloseableIterator<AirbyteMessage>> iteratorList = new ArrayList<>();
     for (final ConfiguredAirbyteStream airbyteStream : catalog.getStreams()) {
@@ -203,7 +264,8 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
             airbyteStream,
             table,
             stateManager,
-            emittedAt);
+            emittedAt,
+            tableReadExecutor);
         iteratorList.add(tableReadIterator);
       }
     }
@@ -215,7 +277,8 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
                                                                      final ConfiguredAirbyteStream airbyteStream,
                                                                      final TableInfo<CommonField<DataType>> table,
                                                                      final StateManager stateManager,
-                                                                     final Instant emittedAt) {
+                                                                     final Instant emittedAt,
+                                                                     final ExecutorService tableReadExecutor) {
     final String streamName = airbyteStream.getStream().getName();
     final String namespace = airbyteStream.getStream().getNamespace();
     final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
@@ -233,10 +296,14 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
       final AutoCloseableIterator<AirbyteMessage> airbyteMessageIterator;
       if (cursorOptional.isPresent()) {
-        airbyteMessageIterator = getIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, cursorOptional.get(), emittedAt);
+        airbyteMessageIterator = readAhead(
+            getIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, cursorOptional.get(), emittedAt),
+            tableReadExecutor);
       } else {
         // if no cursor is present then this is the first read for is the same as doing a full refresh read.
-        airbyteMessageIterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+        airbyteMessageIterator = readAhead(
+            getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt),
+            tableReadExecutor);
       }
 
       final JsonSchemaPrimitive cursorType = IncrementalUtils
@@ -251,7 +318,7 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           cursorType),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      iterator = readAhead(getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt), tableReadExecutor);
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(String.format("%s requires a source sync mode", this.getClass()));
     } else {
@@ -6,6 +6,7 @@ package io.airbyte.validation.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.SpecVersion;
@@ -14,7 +15,9 @@ import io.airbyte.commons.string.Strings;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import me.andrz.jackson.JsonContext;
 import me.andrz.jackson.JsonReferenceException;
@@ -28,12 +31,43 @@ public class JsonSchemaValidator {
 
   private final SchemaValidatorsConfig schemaValidatorsConfig;
   private final JsonSchemaFactory jsonSchemaFactory;
+  // schemas compiled once by initializeSchemaValidator, keyed by a name chosen by the caller.
+  private final Map<String, JsonSchema> schemaToValidators = new ConcurrentHashMap<>();
 
   public JsonSchemaValidator() {
     this.schemaValidatorsConfig = new SchemaValidatorsConfig();
     this.jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
   }
 
+  /**
+   * Compiles a schema once so that many objects can be validated against it without parsing the
+   * schema every time. Use the *InitializedSchema methods to validate against it.
+   *
+   * @param schemaName - name under which the compiled schema is kept
+   * @param schemaJson - the schema
+   */
+  public void initializeSchemaValidator(final String schemaName, final JsonNode schemaJson) {
+    schemaToValidators.put(schemaName, jsonSchemaFactory.getSchema(schemaJson, schemaValidatorsConfig));
+  }
+
+  public boolean testInitializedSchema(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchemaInternal(schemaName, objectJson).isEmpty();
+  }
+
+  public List<String[]> getInitializedSchemaValidationMessageArgs(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchemaInternal(schemaName, objectJson)
+        .stream()
+        .map(ValidationMessage::getArguments)
+        .collect(Collectors.toList());
+  }
+
+  public List<String> getInitializedSchemaValidationMessagePaths(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchemaInternal(schemaName, objectJson)
+        .stream()
+        .map(ValidationMessage::getPath)
+        .collect(Collectors.toList());
+  }
+
   public Set<String> validate(final JsonNode schemaJson, final JsonNode objectJson) {
     return validateInternal(schemaJson, objectJson)
         .stream()
@@ -64,6 +98,14 @@ public class JsonSchemaValidator {
         .validate(objectJson);
   }
 
+  private Set<ValidationMessage> validateInitializedSchemaInternal(final String schemaName, final JsonNode objectJson) {
+    final JsonSchema schema = schemaToValidators.get(schemaName);
+    Preconditions.checkNotNull(schema, "No schema was initialized under name %s", schemaName);
+    Preconditions.checkNotNull(objectJson);
+
+    return schema.validate(objectJson);
+  }
+
   public boolean test(final JsonNode schemaJson, final JsonNode objectJson) {
     final Set<ValidationMessage> validationMessages = validateInternal(schemaJson, objectJson);
 
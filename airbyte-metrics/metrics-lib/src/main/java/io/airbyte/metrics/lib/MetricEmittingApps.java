@@ -22,6 +22,7 @@ import lombok.AllArgsConstructor;
 public enum MetricEmittingApps implements MetricEmittingApp {
 
   METRICS_REPORTER("metrics-reporter"),
+  SERVER("server"),
   WORKER("worker");
 
   private String applicationName;
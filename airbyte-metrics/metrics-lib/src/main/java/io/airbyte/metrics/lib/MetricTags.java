@@ -4,6 +4,7 @@
 
 package io.airbyte.metrics.lib;
 
+import io.airbyte.config.AirbyteConfig;
 import io.airbyte.config.FailureReason.FailureOrigin;
 import io.airbyte.db.instance.configs.jooq.generated.enums.ReleaseStage;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
@@ -13,10 +14,15 @@ import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
  */
 public class MetricTags {
 
+  private static final String CONFIG_TYPE = "config_type";
   private static final String RELEASE_STAGE = "release_stage";
   private static final String FAILURE_ORIGIN = "failure_origin";
   private static final String JOB_STATUS = "job_status";
 
+  public static String getConfigType(final AirbyteConfig configType) {
+    return tagDelimit(CONFIG_TYPE, configType.name());
+  }
+
   public static String getReleaseStage(final ReleaseStage stage) {
     return tagDelimit(RELEASE_STAGE, stage.getLiteral());
   }
@@ -47,6 +47,14 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       MetricEmittingApps.WORKER,
       "attempt_succeeded_by_release_stage",
       "increments when an attempts succeeds. attempts are double counted as this is tagged by release stage."),
+  CONFIG_CACHE_HIT(
+      MetricEmittingApps.SERVER,
+      "config_cache_hit",
+      "increments when a config read by id is found in the in-process config cache. tagged by config type."),
+  CONFIG_CACHE_MISS(
+      MetricEmittingApps.SERVER,
+      "config_cache_miss",
+      "increments when a config read by id is not found in the in-process config cache and is read from the database. tagged by config type."),
   EST_NUM_METRICS_EMITTED_BY_REPORTER(
       MetricEmittingApps.METRICS_REPORTER,
       "est_num_metrics_emitted_by_reporter",
@@ -44,6 +44,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -402,6 +403,52 @@ public class DefaultJobPersistence implements JobPersistence {
         .toList();
   }
 
+  @Override
+  public Map<UUID, JobWithStatusAndTimestamp> getLatestJobStatusAndTimestampByConnection(final List<UUID> connectionIds,
+                                                                                          final Set<ConfigType> configTypes)
+      throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    // DISTINCT ON keeps the first row of each scope, which is its latest job
+    return jobDatabase.query(ctx -> ctx
+        .fetch("SELECT DISTINCT ON (scope) scope, id, status, created_at, updated_at FROM jobs WHERE " +
+            "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " AND " +
+            "scope IN " + toBindInFragment(connectionIds) + " " +
+            "ORDER BY scope, created_at DESC, id DESC",
+            connectionIds.stream().map(UUID::toString).toArray()))
+        .stream()
+        .collect(Collectors.toMap(
+            r -> UUID.fromString(r.get("scope", String.class)),
+            r -> new JobWithStatusAndTimestamp(
+                r.get("id", Long.class),
+                JobStatus.valueOf(r.get("status", String.class).toUpperCase()),
+                r.get("created_at", Long.class) / 1000,
+                r.get("updated_at", Long.class) / 1000)));
+  }
+
+  @Override
+  public Set<UUID> getConnectionIdsWithNonTerminalJobs(final List<UUID> connectionIds, final Set<ConfigType> configTypes) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    return jobDatabase.query(ctx -> ctx
+        .fetch("SELECT DISTINCT scope FROM jobs WHERE " +
+            "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " AND " +
+            "CAST(status AS VARCHAR) IN " + Sqls.toSqlInFragment(JobStatus.NON_TERMINAL_STATUSES) + " AND " +
+            "scope IN " + toBindInFragment(connectionIds),
+            connectionIds.stream().map(UUID::toString).toArray()))
+        .stream()
+        .map(r -> UUID.fromString(r.get("scope", String.class)))
+        .collect(Collectors.toSet());
+  }
+
+  private static String toBindInFragment(final List<?> values) {
+    return values.stream().map(value -> "?").collect(Collectors.joining(",", "(", ")"));
+  }
+
   @Override
   public Optional<Job> getLastReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
@@ -177,6 +177,26 @@ public interface JobPersistence {
                                                                           Instant jobCreatedAtTimestamp)
       throws IOException;
 
+  /**
+   * @param connectionIds The IDs of the connections
+   * @param configTypes The types of jobs
+   * @return For each of the connections that has jobs of these types, its latest job with only
+   *         information regarding id, status and timestamps
+   * @throws IOException
+   */
+  Map<UUID, JobWithStatusAndTimestamp> getLatestJobStatusAndTimestampByConnection(List<UUID> connectionIds,
+                                                                                   Set<JobConfig.ConfigType> configTypes)
+      throws IOException;
+
+  /**
+   * @param connectionIds The IDs of the connections
+   * @param configTypes The types of jobs
+   * @return The IDs of the connections that have a job of these types which is not in a terminal
+   *         status
+   * @throws IOException
+   */
+  Set<UUID> getConnectionIdsWithNonTerminalJobs(List<UUID> connectionIds, Set<JobConfig.ConfigType> configTypes) throws IOException;
+
   Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException;
 
   Optional<Job> getFirstReplicationJob(UUID connectionId) throws IOException;
@@ -1568,4 +1568,69 @@ class DefaultJobPersistenceTest {
 
   }
 
+
+  @Nested
+  @DisplayName("When getting the latest jobs and running jobs of several connections")
+  class GetJobsByConnection {
+
+    @Test
+    @DisplayName("Should return nothing if no connection is given")
+    public void testNoConnection() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+
+      assertTrue(jobPersistence.getLatestJobStatusAndTimestampByConnection(List.of(), Set.of(ConfigType.SYNC)).isEmpty());
+      assertTrue(jobPersistence.getConnectionIdsWithNonTerminalJobs(List.of(), Set.of(ConfigType.SYNC)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return the latest job of each connection of the given config types")
+    public void testLatestJobByConnection() throws IOException {
+      final Supplier<Instant> timeSupplier = incrementingSecondSupplier(NOW);
+      jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, DEFAULT_MINIMUM_AGE_IN_DAYS, DEFAULT_EXCESSIVE_NUMBER_OF_JOBS,
+          DEFAULT_MINIMUM_RECENCY_COUNT);
+      final UUID otherConnectionId = UUID.randomUUID();
+      final UUID connectionIdWithoutJob = UUID.randomUUID();
+
+      final long syncJobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failJob(syncJobId1);
+      final long syncJobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(syncJobId2, jobPersistence.createAttempt(syncJobId2, LOG_PATH));
+      // this job should be ignored since it's not in the configTypes we're querying for
+      jobPersistence.enqueueJob(SCOPE, CHECK_JOB_CONFIG).orElseThrow();
+      final long otherSyncJobId = jobPersistence.enqueueJob(otherConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+
+      final Map<UUID, JobWithStatusAndTimestamp> latestJobs = jobPersistence.getLatestJobStatusAndTimestampByConnection(
+          List.of(CONNECTION_ID, otherConnectionId, connectionIdWithoutJob),
+          Set.of(ConfigType.SYNC));
+
+      assertEquals(Set.of(CONNECTION_ID, otherConnectionId), latestJobs.keySet());
+      assertEquals(syncJobId2, latestJobs.get(CONNECTION_ID).getId());
+      assertEquals(JobStatus.SUCCEEDED, latestJobs.get(CONNECTION_ID).getStatus());
+      assertEquals(otherSyncJobId, latestJobs.get(otherConnectionId).getId());
+      assertEquals(JobStatus.PENDING, latestJobs.get(otherConnectionId).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should return the connections with a job that is not in a terminal status")
+    public void testConnectionIdsWithNonTerminalJobs() throws IOException {
+      final UUID runningConnectionId = UUID.randomUUID();
+      final UUID incompleteConnectionId = UUID.randomUUID();
+      final UUID succeededConnectionId = UUID.randomUUID();
+
+      final long runningJobId = jobPersistence.enqueueJob(runningConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.createAttempt(runningJobId, LOG_PATH);
+      final long incompleteJobId = jobPersistence.enqueueJob(incompleteConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failAttempt(incompleteJobId, jobPersistence.createAttempt(incompleteJobId, LOG_PATH));
+      final long succeededJobId = jobPersistence.enqueueJob(succeededConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(succeededJobId, jobPersistence.createAttempt(succeededJobId, LOG_PATH));
+      // this job should be ignored since it's not in the configTypes we're querying for
+      jobPersistence.enqueueJob(SCOPE, CHECK_JOB_CONFIG).orElseThrow();
+
+      assertEquals(Set.of(runningConnectionId, incompleteConnectionId), jobPersistence.getConnectionIdsWithNonTerminalJobs(
+          List.of(CONNECTION_ID, runningConnectionId, incompleteConnectionId, succeededConnectionId),
+          Set.of(ConfigType.SYNC)));
+    }
+
+  }
+
 }
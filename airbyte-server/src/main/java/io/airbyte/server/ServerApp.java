@@ -18,9 +18,11 @@ import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.init.YamlSeedConfigPersistence;
+import io.airbyte.config.persistence.CachingConfigPersistence;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigPersistence;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.config.persistence.DatabaseConfigPersistence;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
@@ -36,6 +38,8 @@ import io.airbyte.db.factory.DatabaseCheckFactory;
 import io.airbyte.db.factory.FlywayFactory;
 import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
 import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricEmittingApps;
 import io.airbyte.scheduler.client.DefaultSynchronousSchedulerClient;
 import io.airbyte.scheduler.client.EventRunner;
 import io.airbyte.scheduler.client.TemporalEventRunner;
@@ -173,7 +177,9 @@ public class ServerApp implements ServerRunnable {
         .maskSecrets(!featureFlags.exposeSecretsInExport())
         .copySecrets(false)
         .build();
-    final ConfigPersistence configPersistence = DatabaseConfigPersistence.createWithValidation(configsDatabase, jsonSecretsProcessor);
+    final ConfigPersistence configPersistence = new CachingConfigPersistence(
+        DatabaseConfigPersistence.createWithValidation(configsDatabase, jsonSecretsProcessor),
+        MetricClientFactory.getMetricClient());
     final SecretsHydrator secretsHydrator = SecretPersistence.getSecretsHydrator(configsDslContext, configs);
     final Optional<SecretPersistence> secretPersistence = SecretPersistence.getLongLived(configsDslContext, configs);
     final Optional<SecretPersistence> ephemeralSecretPersistence = SecretPersistence.getEphemeral(configsDslContext, configs);
@@ -253,7 +259,7 @@ public class ServerApp implements ServerRunnable {
 
     LOGGER.info("Start migration to the new scheduler...");
     final Set<UUID> connectionIds =
-        configRepository.listStandardSyncs().stream()
+        configRepository.listStandardSyncs(StandardSyncQuery.notDeleted()).stream()
             .filter(standardSync -> standardSync.getStatus() == Status.ACTIVE || standardSync.getStatus() == Status.INACTIVE)
             .map(standardSync -> standardSync.getConnectionId()).collect(Collectors.toSet());
     eventRunner.migrateSyncIfNeeded(connectionIds);
@@ -265,6 +271,8 @@ public class ServerApp implements ServerRunnable {
     try {
       final Configs configs = new EnvConfigs();
 
+      MetricClientFactory.initialize(MetricEmittingApps.SERVER);
+
       // Manual configuration that will be replaced by Dependency Injection in the future
       final DataSource configsDataSource =
           DataSourceFactory.create(configs.getConfigDatabaseUser(), configs.getConfigDatabasePassword(), DRIVER_CLASS_NAME,
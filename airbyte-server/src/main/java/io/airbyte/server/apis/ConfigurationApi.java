@@ -47,7 +47,10 @@ import io.airbyte.api.model.generated.JobDebugInfoRead;
 import io.airbyte.api.model.generated.JobIdRequestBody;
 import io.airbyte.api.model.generated.JobInfoRead;
 import io.airbyte.api.model.generated.JobListRequestBody;
+import io.airbyte.api.model.generated.JobLogsRequestBody;
 import io.airbyte.api.model.generated.JobReadList;
+import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogPageRead;
 import io.airbyte.api.model.generated.LogsRequestBody;
 import io.airbyte.api.model.generated.Notification;
 import io.airbyte.api.model.generated.NotificationRead;
@@ -769,6 +772,16 @@ public class ConfigurationApi implements io.airbyte.api.generated.V1Api {
     return execute(() -> jobHistoryHandler.getJobInfo(jobIdRequestBody));
   }
 
+  @Override
+  public JobWithAttemptsRead getJobInfoLight(final JobIdRequestBody jobIdRequestBody) {
+    return execute(() -> jobHistoryHandler.getJobInfoLight(jobIdRequestBody));
+  }
+
+  @Override
+  public LogPageRead getJobLogs(final JobLogsRequestBody jobLogsRequestBody) {
+    return execute(() -> jobHistoryHandler.getJobLogs(jobLogsRequestBody));
+  }
+
   @Override
   public JobDebugInfoRead getJobDebugInfo(final JobIdRequestBody jobIdRequestBody) {
     return execute(() -> jobHistoryHandler.getJobDebugInfo(jobIdRequestBody));
@@ -20,6 +20,7 @@ import io.airbyte.api.model.generated.JobInfoRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobStatus;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogPageRead;
 import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.ResetConfig;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
@@ -36,6 +37,7 @@ import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.scheduler.client.SynchronousJobMetadata;
 import io.airbyte.scheduler.client.SynchronousResponse;
 import io.airbyte.scheduler.models.Attempt;
@@ -49,6 +51,9 @@ import java.util.stream.Collectors;
 
 public class JobConverter {
 
+  // bytes at the end of the attempt logs embedded in job reads
+  private static final int EMBEDDED_LOG_TAIL_BYTES = 10 * 1024 * 1024;
+
   private final WorkerEnvironment workerEnvironment;
   private final LogConfigs logConfigs;
 
@@ -200,9 +205,30 @@ public class JobConverter {
         .partialSuccess(failureSummary.getPartialSuccess());
   }
 
+  /**
+   * Only the end of the logs is embedded in the reads, the logs can be paged through with
+   * {@link #getLogPageRead(Path, Long, Integer)}.
+   */
   public LogRead getLogRead(final Path logPath) {
     try {
-      return new LogRead().logLines(LogClientSingleton.getInstance().getJobLogFile(workerEnvironment, logConfigs, logPath));
+      return new LogRead().logLines(
+          LogClientSingleton.getInstance().getJobLogPage(workerEnvironment, logConfigs, logPath, null, EMBEDDED_LOG_TAIL_BYTES).lines());
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public LogPageRead getLogPageRead(final Path logPath, final Long offset, final Integer length) {
+    final int pageLength = length == null
+        ? LogClientSingleton.DEFAULT_LOG_PAGE_BYTES
+        : Math.max(1, Math.min(length, LogClientSingleton.MAX_LOG_PAGE_BYTES));
+    try {
+      final LogPage page = LogClientSingleton.getInstance().getJobLogPage(workerEnvironment, logConfigs, logPath, offset, pageLength);
+      return new LogPageRead()
+          .logLines(page.lines())
+          .startOffset(page.startOffset())
+          .endOffset(page.endOffset())
+          .size(page.size());
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
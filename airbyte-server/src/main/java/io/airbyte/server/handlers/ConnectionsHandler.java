@@ -34,6 +34,9 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.scheduler.client.EventRunner;
@@ -48,12 +51,15 @@ import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.helper.ConnectionHelper;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -244,10 +250,7 @@ public class ConnectionsHandler {
   public ConnectionReadList listConnections() throws JsonValidationException, ConfigNotFoundException, IOException {
     final List<ConnectionRead> connectionReads = Lists.newArrayList();
 
-    for (final StandardSync standardSync : configRepository.listStandardSyncs()) {
-      if (standardSync.getStatus() == StandardSync.Status.DEPRECATED) {
-        continue;
-      }
+    for (final StandardSync standardSync : configRepository.listStandardSyncs(StandardSyncQuery.notDeleted())) {
       connectionReads.add(ApiPojoConverters.internalToConnectionRead(standardSync));
     }
 
@@ -281,19 +284,49 @@ public class ConnectionsHandler {
 
   public ConnectionReadList searchConnections(final ConnectionSearch connectionSearch)
       throws JsonValidationException, IOException, ConfigNotFoundException {
+    // the filters on ids and status are applied by the query, the others on the fetched connections
+    final List<StandardSync> standardSyncs = configRepository.listStandardSyncs(toStandardSyncQuery(connectionSearch));
+
+    final Map<UUID, SourceRead> sourceReads = new HashMap<>();
+    for (final SourceAndDefinition source : configRepository.getSourceAndDefinitionsFromSourceIds(
+        standardSyncs.stream().map(StandardSync::getSourceId).collect(Collectors.toSet()))) {
+      sourceReads.put(source.source().getSourceId(), SourceHandler.toSourceRead(source.source(), source.definition()));
+    }
+    final Map<UUID, DestinationRead> destinationReads = new HashMap<>();
+    for (final DestinationAndDefinition destination : configRepository.getDestinationAndDefinitionsFromDestinationIds(
+        standardSyncs.stream().map(StandardSync::getDestinationId).collect(Collectors.toSet()))) {
+      destinationReads.put(destination.destination().getDestinationId(),
+          DestinationHandler.toDestinationRead(destination.destination(), destination.definition()));
+    }
+
     final List<ConnectionRead> reads = Lists.newArrayList();
-    for (final StandardSync standardSync : configRepository.listStandardSyncs()) {
-      if (standardSync.getStatus() != StandardSync.Status.DEPRECATED) {
-        final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-        if (matchSearch(connectionSearch, connectionRead)) {
-          reads.add(connectionRead);
-        }
+    for (final StandardSync standardSync : standardSyncs) {
+      final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
+      final SourceRead sourceRead = sourceReads.get(standardSync.getSourceId());
+      final DestinationRead destinationRead = destinationReads.get(standardSync.getDestinationId());
+      if (sourceRead != null && destinationRead != null && matchSearch(connectionSearch, connectionRead, sourceRead, destinationRead)) {
+        reads.add(connectionRead);
       }
     }
 
     return new ConnectionReadList().connections(reads);
   }
 
+  private static StandardSyncQuery toStandardSyncQuery(final ConnectionSearch connectionSearch) {
+    final SourceSearch sourceSearch = connectionSearch.getSource() == null ? new SourceSearch() : connectionSearch.getSource();
+    final DestinationSearch destinationSearch =
+        connectionSearch.getDestination() == null ? new DestinationSearch() : connectionSearch.getDestination();
+    return new StandardSyncQuery(
+        connectionSearch.getConnectionId(),
+        Enums.convertTo(connectionSearch.getStatus(), StandardSync.Status.class),
+        connectionSearch.getSourceId() != null ? connectionSearch.getSourceId() : sourceSearch.getSourceId(),
+        connectionSearch.getDestinationId() != null ? connectionSearch.getDestinationId() : destinationSearch.getDestinationId(),
+        sourceSearch.getWorkspaceId(),
+        sourceSearch.getSourceDefinitionId(),
+        destinationSearch.getDestinationDefinitionId(),
+        false);
+  }
+
   public boolean matchSearch(final ConnectionSearch connectionSearch, final ConnectionRead connectionRead)
       throws JsonValidationException, ConfigNotFoundException, IOException {
 
@@ -307,6 +340,13 @@ public class ConnectionsHandler {
         configRepository.getStandardDestinationDefinition(destinationConnection.getDestinationDefinitionId());
     final DestinationRead destinationRead = DestinationHandler.toDestinationRead(destinationConnection, destinationDefinition);
 
+    return matchSearch(connectionSearch, connectionRead, sourceRead, destinationRead);
+  }
+
+  private boolean matchSearch(final ConnectionSearch connectionSearch,
+                              final ConnectionRead connectionRead,
+                              final SourceRead sourceRead,
+                              final DestinationRead destinationRead) {
     final ConnectionMatcher connectionMatcher = new ConnectionMatcher(connectionSearch);
     final ConnectionRead connectionReadFromSearch = connectionMatcher.match(connectionRead);
 
@@ -23,6 +23,7 @@ import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
@@ -31,7 +32,10 @@ import io.airbyte.server.converters.ConfigurationUpdate;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -170,6 +174,24 @@ public class DestinationHandler {
     return buildDestinationRead(destinationIdRequestBody.getDestinationId());
   }
 
+  /**
+   * Builds the reads of several destinations at once, fetching them along with their definitions in
+   * a single query.
+   *
+   * @return the reads of the destinations that exist, by destination id
+   */
+  public Map<UUID, DestinationRead> getDestinations(final Collection<UUID> destinationIds) throws IOException {
+    final Map<UUID, DestinationRead> destinationReads = new HashMap<>();
+    for (final DestinationAndDefinition destinationAndDefinition : configRepository.getDestinationAndDefinitionsFromDestinationIds(destinationIds)) {
+      // remove secrets from config before returning the read
+      final DestinationConnection dci = destinationAndDefinition.destination();
+      dci.setConfiguration(secretsProcessor.prepareSecretsForOutput(dci.getConfiguration(),
+          destinationAndDefinition.definition().getSpec().getConnectionSpecification()));
+      destinationReads.put(dci.getDestinationId(), toDestinationRead(dci, destinationAndDefinition.definition()));
+    }
+    return destinationReads;
+  }
+
   public DestinationRead cloneDestination(final DestinationCloneRequestBody destinationCloneRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     // read destination configuration from db
@@ -15,8 +15,10 @@ import io.airbyte.api.model.generated.JobDebugRead;
 import io.airbyte.api.model.generated.JobIdRequestBody;
 import io.airbyte.api.model.generated.JobInfoRead;
 import io.airbyte.api.model.generated.JobListRequestBody;
+import io.airbyte.api.model.generated.JobLogsRequestBody;
 import io.airbyte.api.model.generated.JobReadList;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogPageRead;
 import io.airbyte.api.model.generated.SourceDefinitionIdRequestBody;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
@@ -28,12 +30,16 @@ import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.helpers.LogConfigs;
 import io.airbyte.config.persistence.ConfigNotFoundException;
+import io.airbyte.scheduler.models.Attempt;
 import io.airbyte.scheduler.models.Job;
+import io.airbyte.scheduler.models.JobWithStatusAndTimestamp;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.server.converters.JobConverter;
+import io.airbyte.server.errors.IdNotFoundKnownException;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -91,11 +97,41 @@ public class JobHistoryHandler {
     return new JobReadList().jobs(jobReads);
   }
 
+  /**
+   * @return for each of the connections that has sync jobs, its latest one
+   */
+  public Map<UUID, JobWithStatusAndTimestamp> getLatestSyncJobs(final List<UUID> connectionIds) throws IOException {
+    return jobPersistence.getLatestJobStatusAndTimestampByConnection(connectionIds, Set.of(ConfigType.SYNC));
+  }
+
+  /**
+   * @return the connections that have a sync job which is not in a terminal status
+   */
+  public Set<UUID> getConnectionIdsWithRunningSyncJobs(final List<UUID> connectionIds) throws IOException {
+    return jobPersistence.getConnectionIdsWithNonTerminalJobs(connectionIds, Set.of(ConfigType.SYNC));
+  }
+
   public JobInfoRead getJobInfo(final JobIdRequestBody jobIdRequestBody) throws IOException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
     return jobConverter.getJobInfoRead(job);
   }
 
+  public JobWithAttemptsRead getJobInfoLight(final JobIdRequestBody jobIdRequestBody) throws IOException {
+    final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
+    return JobConverter.getJobWithAttemptsRead(job);
+  }
+
+  public LogPageRead getJobLogs(final JobLogsRequestBody jobLogsRequestBody) throws IOException {
+    final Job job = jobPersistence.getJob(jobLogsRequestBody.getJobId());
+    final Attempt attempt = job.getAttempts().stream()
+        .filter(candidate -> candidate.getId() == jobLogsRequestBody.getAttemptNumber())
+        .findFirst()
+        .orElseThrow(() -> new IdNotFoundKnownException(
+            String.format("Could not find attempt %s of job %s", jobLogsRequestBody.getAttemptNumber(), job.getId()),
+            String.valueOf(jobLogsRequestBody.getAttemptNumber())));
+    return jobConverter.getLogPageRead(attempt.getLogPath(), jobLogsRequestBody.getOffset(), jobLogsRequestBody.getLength());
+  }
+
   public JobDebugInfoRead getJobDebugInfo(final JobIdRequestBody jobIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
@@ -22,6 +22,7 @@ import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
@@ -30,7 +31,10 @@ import io.airbyte.server.converters.ConfigurationUpdate;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -132,6 +136,24 @@ public class SourceHandler {
     return buildSourceRead(sourceIdRequestBody.getSourceId());
   }
 
+  /**
+   * Builds the reads of several sources at once, fetching them along with their definitions in a
+   * single query.
+   *
+   * @return the reads of the sources that exist, by source id
+   */
+  public Map<UUID, SourceRead> getSources(final Collection<UUID> sourceIds) throws IOException {
+    final Map<UUID, SourceRead> sourceReads = new HashMap<>();
+    for (final SourceAndDefinition sourceAndDefinition : configRepository.getSourceAndDefinitionsFromSourceIds(sourceIds)) {
+      final SourceConnection sourceConnection = sourceAndDefinition.source();
+      final JsonNode sanitizedConfig = secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(),
+          sourceAndDefinition.definition().getSpec().getConnectionSpecification());
+      sourceConnection.setConfiguration(sanitizedConfig);
+      sourceReads.put(sourceConnection.getSourceId(), toSourceRead(sourceConnection, sourceAndDefinition.definition()));
+    }
+    return sourceReads;
+  }
+
   public SourceRead cloneSource(final SourceCloneRequestBody sourceCloneRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     // read source configuration from db
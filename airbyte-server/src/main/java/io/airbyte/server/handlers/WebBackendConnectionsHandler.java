@@ -48,9 +48,11 @@ import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.scheduler.client.EventRunner;
+import io.airbyte.scheduler.models.JobWithStatusAndTimestamp;
 import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.temporal.TemporalClient.ManualOperationResult;
 import java.io.IOException;
@@ -61,6 +63,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -100,19 +103,52 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
-    }
-    return new WebBackendConnectionReadList().connections(reads);
+    return buildWebBackendConnectionReadList(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
   }
 
   public WebBackendConnectionReadList webBackendListAllConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
+    return buildWebBackendConnectionReadList(connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
+  }
+
+  /**
+   * Builds the reads of several connections with a fixed number of queries, by fetching the sources,
+   * destinations, operations and sync job summaries of all the connections at once rather than one
+   * connection at a time.
+   */
+  private WebBackendConnectionReadList buildWebBackendConnectionReadList(final List<ConnectionRead> connectionReads)
+      throws ConfigNotFoundException, IOException {
+    final List<UUID> connectionIds = connectionReads.stream().map(ConnectionRead::getConnectionId).toList();
+    final Map<UUID, SourceRead> sourceReads = sourceHandler.getSources(
+        connectionReads.stream().map(ConnectionRead::getSourceId).collect(Collectors.toSet()));
+    final Map<UUID, DestinationRead> destinationReads = destinationHandler.getDestinations(
+        connectionReads.stream().map(ConnectionRead::getDestinationId).collect(Collectors.toSet()));
+    final Map<UUID, OperationReadList> operationReadLists = operationsHandler.listOperationsForConnections(connectionReads);
+    final Map<UUID, JobWithStatusAndTimestamp> latestSyncJobs = jobHistoryHandler.getLatestSyncJobs(connectionIds);
+    final Set<UUID> runningConnectionIds = jobHistoryHandler.getConnectionIdsWithRunningSyncJobs(connectionIds);
+
     final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
+    for (final ConnectionRead connectionRead : connectionReads) {
+      final SourceRead source = sourceReads.get(connectionRead.getSourceId());
+      if (source == null) {
+        throw new ConfigNotFoundException(ConfigSchema.SOURCE_CONNECTION, connectionRead.getSourceId().toString());
+      }
+      final DestinationRead destination = destinationReads.get(connectionRead.getDestinationId());
+      if (destination == null) {
+        throw new ConfigNotFoundException(ConfigSchema.DESTINATION_CONNECTION, connectionRead.getDestinationId().toString());
+      }
+
+      final WebBackendConnectionRead webBackendConnectionRead =
+          getWebBackendConnectionRead(connectionRead, source, destination, operationReadLists.get(connectionRead.getConnectionId()))
+              .catalogId(connectionRead.getSourceCatalogId())
+              .isSyncing(runningConnectionIds.contains(connectionRead.getConnectionId()));
+      final JobWithStatusAndTimestamp latestSyncJob = latestSyncJobs.get(connectionRead.getConnectionId());
+      if (latestSyncJob != null) {
+        webBackendConnectionRead.setLatestSyncJobCreatedAt(latestSyncJob.getCreatedAtInSecond());
+        webBackendConnectionRead.setLatestSyncJobStatus(Enums.convertTo(latestSyncJob.getStatus(), JobStatus.class));
+      }
+      reads.add(webBackendConnectionRead);
     }
     return new WebBackendConnectionReadList().connections(reads);
   }
@@ -195,14 +231,10 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendSearchConnections(final WebBackendConnectionSearch webBackendConnectionSearch)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connectionRead : connectionsHandler.listConnections().getConnections()) {
-      if (connectionsHandler.matchSearch(toConnectionSearch(webBackendConnectionSearch), connectionRead)) {
-        reads.add(buildWebBackendConnectionRead(connectionRead));
-      }
-    }
+    final List<ConnectionRead> connectionReads =
+        connectionsHandler.searchConnections(toConnectionSearch(webBackendConnectionSearch)).getConnections();
 
-    return new WebBackendConnectionReadList().connections(reads);
+    return buildWebBackendConnectionReadList(connectionReads);
   }
 
   // todo (cgardens) - This logic is a headache to follow it stems from the internal data model not
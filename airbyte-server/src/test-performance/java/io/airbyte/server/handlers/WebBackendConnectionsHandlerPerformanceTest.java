@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import io.airbyte.analytics.TrackingClient;
+import io.airbyte.api.model.generated.WebBackendConnectionRead;
+import io.airbyte.api.model.generated.WebBackendConnectionRequestBody;
+import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.version.AirbyteVersion;
+import io.airbyte.config.Configs.WorkerEnvironment;
+import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.JobConfig;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.config.OperatorNormalization;
+import io.airbyte.config.OperatorNormalization.Option;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSourceDefinition.SourceType;
+import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSyncOperation;
+import io.airbyte.config.StandardSyncOperation.OperatorType;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.DatabaseConfigPersistence;
+import io.airbyte.config.persistence.SecretsRepositoryReader;
+import io.airbyte.config.persistence.SecretsRepositoryWriter;
+import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
+import io.airbyte.db.Database;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConnectorSpecification;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.scheduler.client.EventRunner;
+import io.airbyte.scheduler.persistence.DefaultJobPersistence;
+import io.airbyte.scheduler.persistence.JobPersistence;
+import io.airbyte.scheduler.persistence.WorkspaceHelper;
+import io.airbyte.test.utils.DatabaseConnectionHelper;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Measures the latency of listing the connections of a workspace against the number of connections
+ * it holds, compared with building the same connections one at a time.
+ */
+class WebBackendConnectionsHandlerPerformanceTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WebBackendConnectionsHandlerPerformanceTest.class);
+
+  private static final int NUMBER_OF_RUNS = 5;
+  private static final JobConfig SYNC_JOB_CONFIG = new JobConfig()
+      .withConfigType(ConfigType.SYNC)
+      .withSync(new JobSyncConfig());
+
+  private static PostgreSQLContainer<?> container;
+
+  @BeforeAll
+  public static void dbSetup() {
+    container = new PostgreSQLContainer<>("postgres:13-alpine")
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker");
+    container.start();
+  }
+
+  @AfterAll
+  public static void dbDown() {
+    container.close();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "10",
+    "100",
+    "800"
+  })
+  void testListConnectionsForWorkspace(final int numberOfConnections) throws Exception {
+    final DataSource dataSource = DatabaseConnectionHelper.createDataSource(container);
+    final DSLContext dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES);
+    final TestDatabaseProviders databaseProviders = new TestDatabaseProviders(dataSource, dslContext);
+    final Database configDatabase = databaseProviders.createNewConfigsDatabase();
+    final Database jobDatabase = databaseProviders.createNewJobsDatabase();
+    final JsonSecretsProcessor secretsProcessor = JsonSecretsProcessor.builder()
+        .maskSecrets(true)
+        .copySecrets(true)
+        .build();
+    final ConfigRepository configRepository = new ConfigRepository(new DatabaseConfigPersistence(configDatabase, secretsProcessor), configDatabase);
+    final JobPersistence jobPersistence = new DefaultJobPersistence(jobDatabase);
+
+    final UUID workspaceId = createWorkspace(configRepository, jobPersistence, numberOfConnections);
+    final WebBackendConnectionsHandler handler = createHandler(configRepository, jobPersistence);
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(workspaceId);
+
+    final List<WebBackendConnectionRead> connectionReads = handler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody).getConnections();
+    assertEquals(numberOfConnections, connectionReads.size());
+
+    long start = System.nanoTime();
+    for (int i = 0; i < NUMBER_OF_RUNS; i++) {
+      handler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
+    }
+    final long listNanos = (System.nanoTime() - start) / NUMBER_OF_RUNS;
+
+    start = System.nanoTime();
+    for (final WebBackendConnectionRead connectionRead : connectionReads) {
+      handler.webBackendGetConnection(new WebBackendConnectionRequestBody().connectionId(connectionRead.getConnectionId()));
+    }
+    final long oneByOneNanos = System.nanoTime() - start;
+
+    LOGGER.info("{} connections: listed in {} ms, built one at a time in {} ms",
+        numberOfConnections,
+        listNanos / 1_000_000,
+        oneByOneNanos / 1_000_000);
+  }
+
+  private static WebBackendConnectionsHandler createHandler(final ConfigRepository configRepository, final JobPersistence jobPersistence) {
+    final EventRunner eventRunner = mock(EventRunner.class);
+    final ConnectionsHandler connectionsHandler = new ConnectionsHandler(
+        configRepository,
+        new WorkspaceHelper(configRepository, jobPersistence),
+        mock(TrackingClient.class),
+        eventRunner);
+    final SourceHandler sourceHandler = new SourceHandler(
+        configRepository,
+        mock(SecretsRepositoryReader.class),
+        mock(SecretsRepositoryWriter.class),
+        new JsonSchemaValidator(),
+        connectionsHandler);
+    final DestinationHandler destinationHandler = new DestinationHandler(
+        configRepository,
+        mock(SecretsRepositoryReader.class),
+        mock(SecretsRepositoryWriter.class),
+        new JsonSchemaValidator(),
+        connectionsHandler);
+    final JobHistoryHandler jobHistoryHandler = new JobHistoryHandler(
+        jobPersistence,
+        WorkerEnvironment.DOCKER,
+        LogConfigs.EMPTY,
+        connectionsHandler,
+        sourceHandler,
+        mock(SourceDefinitionsHandler.class),
+        destinationHandler,
+        mock(DestinationDefinitionsHandler.class),
+        new AirbyteVersion("0.1.0-alpha"));
+    return new WebBackendConnectionsHandler(
+        connectionsHandler,
+        mock(StateHandler.class),
+        sourceHandler,
+        destinationHandler,
+        jobHistoryHandler,
+        mock(SchedulerHandler.class),
+        new OperationsHandler(configRepository),
+        eventRunner,
+        configRepository);
+  }
+
+  /**
+   * Creates a workspace whose connections each have their own source and destination, an operation,
+   * a failed sync job and a running one.
+   */
+  private static UUID createWorkspace(final ConfigRepository configRepository, final JobPersistence jobPersistence, final int numberOfConnections)
+      throws Exception {
+    final UUID workspaceId = UUID.randomUUID();
+    configRepository.writeStandardWorkspace(new StandardWorkspace()
+        .withWorkspaceId(workspaceId)
+        .withName("workspace-" + numberOfConnections)
+        .withSlug("workspace-" + numberOfConnections)
+        .withInitialSetupComplete(true)
+        .withTombstone(false));
+
+    final ConnectorSpecification spec = new ConnectorSpecification().withConnectionSpecification(Jsons.deserialize(
+        "{ \"type\": \"object\", \"properties\": { \"host\": { \"type\": \"string\" }, "
+            + "\"password\": { \"type\": \"string\", \"airbyte_secret\": true } } }"));
+    final UUID sourceDefinitionId = UUID.randomUUID();
+    configRepository.writeStandardSourceDefinition(new StandardSourceDefinition()
+        .withSourceDefinitionId(sourceDefinitionId)
+        .withSourceType(SourceType.DATABASE)
+        .withName("source-definition")
+        .withDockerRepository("repository")
+        .withDockerImageTag("tag")
+        .withSpec(spec)
+        .withTombstone(false)
+        .withPublic(true)
+        .withCustom(false));
+    final UUID destinationDefinitionId = UUID.randomUUID();
+    configRepository.writeStandardDestinationDefinition(new StandardDestinationDefinition()
+        .withDestinationDefinitionId(destinationDefinitionId)
+        .withName("destination-definition")
+        .withDockerRepository("repository")
+        .withDockerImageTag("tag")
+        .withSpec(spec)
+        .withTombstone(false)
+        .withPublic(true)
+        .withCustom(false));
+
+    for (int i = 0; i < numberOfConnections; i++) {
+      final SourceConnection source = new SourceConnection()
+          .withSourceId(UUID.randomUUID())
+          .withSourceDefinitionId(sourceDefinitionId)
+          .withWorkspaceId(workspaceId)
+          .withName("source-" + i)
+          .withConfiguration(Jsons.jsonNode(Map.of("host", "localhost", "password", "secret")))
+          .withTombstone(false);
+      configRepository.writeSourceConnectionNoSecrets(source);
+      final DestinationConnection destination = new DestinationConnection()
+          .withDestinationId(UUID.randomUUID())
+          .withDestinationDefinitionId(destinationDefinitionId)
+          .withWorkspaceId(workspaceId)
+          .withName("destination-" + i)
+          .withConfiguration(Jsons.jsonNode(Map.of("host", "localhost", "password", "secret")))
+          .withTombstone(false);
+      configRepository.writeDestinationConnectionNoSecrets(destination);
+      final StandardSyncOperation operation = new StandardSyncOperation()
+          .withOperationId(UUID.randomUUID())
+          .withWorkspaceId(workspaceId)
+          .withName("operation-" + i)
+          .withOperatorType(OperatorType.NORMALIZATION)
+          .withOperatorNormalization(new OperatorNormalization().withOption(Option.BASIC))
+          .withTombstone(false);
+      configRepository.writeStandardSyncOperation(operation);
+
+      final UUID connectionId = UUID.randomUUID();
+      configRepository.writeStandardSync(new StandardSync()
+          .withConnectionId(connectionId)
+          .withSourceId(source.getSourceId())
+          .withDestinationId(destination.getDestinationId())
+          .withOperationIds(List.of(operation.getOperationId()))
+          .withName("connection-" + i)
+          .withNamespaceDefinition(NamespaceDefinitionType.SOURCE)
+          .withCatalog(CatalogHelpers.createConfiguredAirbyteCatalog("users", null, Field.of("id", JsonSchemaType.NUMBER)))
+          .withManual(true)
+          .withStatus(StandardSync.Status.ACTIVE));
+
+      final long failedJobId = jobPersistence.enqueueJob(connectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failJob(failedJobId);
+      final long runningJobId = jobPersistence.enqueueJob(connectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.createAttempt(runningJobId, Path.of("/tmp/logs", connectionId.toString()));
+    }
+    return workspaceId;
+  }
+
+}
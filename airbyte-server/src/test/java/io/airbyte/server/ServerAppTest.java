@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.scheduler.client.EventRunner;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import java.util.List;
@@ -51,7 +52,8 @@ class ServerAppTest {
     final StandardSync activeConnection = new StandardSync().withStatus(Status.ACTIVE).withConnectionId(UUID.randomUUID());
     final StandardSync inactiveConnection = new StandardSync().withStatus(Status.INACTIVE).withConnectionId(UUID.randomUUID());
     final StandardSync deprecatedConnection = new StandardSync().withStatus(Status.DEPRECATED).withConnectionId(UUID.randomUUID());
-    when(mConfigRepository.listStandardSyncs()).thenReturn(List.of(activeConnection, inactiveConnection, deprecatedConnection));
+    when(mConfigRepository.listStandardSyncs(StandardSyncQuery.notDeleted()))
+        .thenReturn(List.of(activeConnection, inactiveConnection, deprecatedConnection));
 
     ServerApp.migrateExistingConnectionsToTemporalScheduler(mConfigRepository, mJobPersistence, mEventRunner);
 
@@ -7,6 +7,7 @@ package io.airbyte.server.handlers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,6 +42,9 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.scheduler.client.EventRunner;
 import io.airbyte.scheduler.persistence.WorkspaceHelper;
@@ -51,6 +55,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.Assert;
@@ -405,7 +410,7 @@ class ConnectionsHandlerTest {
 
     @Test
     void testListConnections() throws JsonValidationException, ConfigNotFoundException, IOException {
-      when(configRepository.listStandardSyncs())
+      when(configRepository.listStandardSyncs(StandardSyncQuery.notDeleted()))
           .thenReturn(Lists.newArrayList(standardSync));
       when(configRepository.getSourceConnection(source.getSourceId()))
           .thenReturn(source);
@@ -443,20 +448,12 @@ class ConnectionsHandlerTest {
           .withName("destination-test")
           .withDestinationDefinitionId(UUID.randomUUID());
 
-      when(configRepository.listStandardSyncs())
+      when(configRepository.listStandardSyncs(any(StandardSyncQuery.class)))
           .thenReturn(Lists.newArrayList(standardSync, standardSync2));
-      when(configRepository.getSourceConnection(source.getSourceId()))
-          .thenReturn(source);
-      when(configRepository.getDestinationConnection(destination.getDestinationId()))
-          .thenReturn(destination);
-      when(configRepository.getStandardSync(standardSync.getConnectionId()))
-          .thenReturn(standardSync);
-      when(configRepository.getStandardSync(standardSync2.getConnectionId()))
-          .thenReturn(standardSync2);
-      when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
-          .thenReturn(sourceDefinition);
-      when(configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId()))
-          .thenReturn(destinationDefinition);
+      when(configRepository.getSourceAndDefinitionsFromSourceIds(Set.of(source.getSourceId())))
+          .thenReturn(List.of(new SourceAndDefinition(source, sourceDefinition)));
+      when(configRepository.getDestinationAndDefinitionsFromDestinationIds(Set.of(destination.getDestinationId())))
+          .thenReturn(List.of(new DestinationAndDefinition(destination, destinationDefinition)));
 
       final ConnectionSearch connectionSearch = new ConnectionSearch();
       ConnectionReadList actualConnectionReadList = connectionsHandler.searchConnections(connectionSearch);
@@ -550,6 +547,28 @@ class ConnectionsHandlerTest {
       assertEquals(connectionRead2, actualConnectionReadList.getConnections().get(0));
     }
 
+    @Test
+    void testSearchConnectionsFiltersInQuery() throws JsonValidationException, ConfigNotFoundException, IOException {
+      final ConnectionSearch connectionSearch = new ConnectionSearch()
+          .connectionId(connectionId)
+          .status(ConnectionStatus.ACTIVE)
+          .source(new SourceSearch().sourceId(sourceId).workspaceId(workspaceId).sourceDefinitionId(sourceDefinitionId))
+          .destination(new DestinationSearch().destinationDefinitionId(destinationDefinitionId));
+      final StandardSyncQuery expectedQuery = new StandardSyncQuery(
+          connectionId,
+          StandardSync.Status.ACTIVE,
+          sourceId,
+          null,
+          workspaceId,
+          sourceDefinitionId,
+          destinationDefinitionId,
+          false);
+      when(configRepository.listStandardSyncs(expectedQuery)).thenReturn(List.of());
+
+      assertEquals(List.of(), connectionsHandler.searchConnections(connectionSearch).getConnections());
+      verify(configRepository).listStandardSyncs(expectedQuery);
+    }
+
     @Test
     void testDeleteConnection() {
       connectionsHandler.deleteConnection(connectionId);
@@ -29,6 +29,7 @@ import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
@@ -39,6 +40,9 @@ import io.airbyte.server.helpers.DestinationHelpers;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -214,6 +218,29 @@ class DestinationHandlerTest {
         .prepareSecretsForOutput(destinationConnection.getConfiguration(), destinationDefinitionSpecificationRead.getConnectionSpecification());
   }
 
+  @Test
+  void testGetDestinations() throws IOException {
+    final DestinationRead expectedDestinationRead = new DestinationRead()
+        .name(destinationConnection.getName())
+        .destinationDefinitionId(standardDestinationDefinition.getDestinationDefinitionId())
+        .workspaceId(destinationConnection.getWorkspaceId())
+        .destinationId(destinationConnection.getDestinationId())
+        .connectionConfiguration(destinationConnection.getConfiguration())
+        .destinationName(standardDestinationDefinition.getName());
+
+    when(secretsProcessor.prepareSecretsForOutput(destinationConnection.getConfiguration(),
+        destinationDefinitionSpecificationRead.getConnectionSpecification()))
+            .thenReturn(destinationConnection.getConfiguration());
+    when(configRepository.getDestinationAndDefinitionsFromDestinationIds(Set.of(destinationConnection.getDestinationId())))
+        .thenReturn(List.of(new DestinationAndDefinition(destinationConnection, standardDestinationDefinition)));
+
+    final Map<UUID, DestinationRead> actualDestinationReads = destinationHandler.getDestinations(Set.of(destinationConnection.getDestinationId()));
+
+    assertEquals(Map.of(destinationConnection.getDestinationId(), expectedDestinationRead), actualDestinationReads);
+    verify(secretsProcessor)
+        .prepareSecretsForOutput(destinationConnection.getConfiguration(), destinationDefinitionSpecificationRead.getConnectionSpecification());
+  }
+
   @Test
   void testListDestinationForWorkspace() throws JsonValidationException, ConfigNotFoundException, IOException {
     final DestinationRead expectedDestinationRead = new DestinationRead()
@@ -5,6 +5,7 @@
 package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -23,6 +24,7 @@ import io.airbyte.scheduler.models.AttemptStatus;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.models.JobStatus;
 import io.airbyte.scheduler.persistence.JobPersistence;
+import io.airbyte.server.errors.IdNotFoundKnownException;
 import io.airbyte.server.helpers.ConnectionHelpers;
 import io.airbyte.server.helpers.DestinationDefinitionHelpers;
 import io.airbyte.server.helpers.DestinationHelpers;
@@ -31,6 +33,7 @@ import io.airbyte.server.helpers.SourceHelpers;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Function;
@@ -39,6 +42,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @DisplayName("Job History Handler")
 public class JobHistoryHandlerTest {
@@ -220,6 +224,40 @@ public class JobHistoryHandlerTest {
     assertEquals(exp, jobInfoActual);
   }
 
+  @Test
+  @DisplayName("Should return the job info without logs")
+  public void testGetJobInfoLight() throws IOException {
+    when(jobPersistence.getJob(JOB_ID)).thenReturn(testJob);
+
+    final JobIdRequestBody requestBody = new JobIdRequestBody().id(JOB_ID);
+    final JobWithAttemptsRead jobInfoLightActual = jobHistoryHandler.getJobInfoLight(requestBody);
+
+    final JobWithAttemptsRead exp = new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)));
+
+    assertEquals(exp, jobInfoLightActual);
+  }
+
+  @Test
+  @DisplayName("Should return the requested page of the attempt logs")
+  public void testGetJobLogs(@TempDir final Path tempDir) throws IOException {
+    final Path logPath = tempDir.resolve("logs.log");
+    Files.writeString(logPath, "Line 0\nLine 1\nLine 2\n");
+    final Attempt attempt = new Attempt(ATTEMPT_ID, JOB_ID, logPath, null, AttemptStatus.SUCCEEDED, null, CREATED_AT, CREATED_AT, CREATED_AT);
+    final Job job = new Job(JOB_ID, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, ImmutableList.of(attempt), JOB_STATUS, null, CREATED_AT,
+        CREATED_AT);
+    when(jobPersistence.getJob(JOB_ID)).thenReturn(job);
+
+    final LogPageRead firstPage =
+        jobHistoryHandler.getJobLogs(new JobLogsRequestBody().jobId(JOB_ID).attemptNumber(ATTEMPT_ID).offset(0L).length(16));
+    assertEquals(new LogPageRead().logLines(List.of("Line 0", "Line 1")).startOffset(0L).endOffset(14L).size(21L), firstPage);
+
+    final LogPageRead lastPage = jobHistoryHandler.getJobLogs(new JobLogsRequestBody().jobId(JOB_ID).attemptNumber(ATTEMPT_ID));
+    assertEquals(new LogPageRead().logLines(List.of("Line 0", "Line 1", "Line 2")).startOffset(0L).endOffset(21L).size(21L), lastPage);
+
+    assertThrows(IdNotFoundKnownException.class,
+        () -> jobHistoryHandler.getJobLogs(new JobLogsRequestBody().jobId(JOB_ID).attemptNumber(ATTEMPT_ID + 1)));
+  }
+
   @Test
   @DisplayName("Should return the right info to debug this job")
   public void testGetDebugJobInfo() throws IOException, JsonValidationException, ConfigNotFoundException, URISyntaxException {
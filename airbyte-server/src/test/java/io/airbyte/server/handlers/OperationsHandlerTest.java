@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
+import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.OperationCreate;
 import io.airbyte.api.model.generated.OperationIdRequestBody;
 import io.airbyte.api.model.generated.OperationRead;
@@ -23,6 +24,7 @@ import io.airbyte.api.model.generated.OperatorNormalization;
 import io.airbyte.api.model.generated.OperatorNormalization.OptionEnum;
 import io.airbyte.api.model.generated.OperatorType;
 import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.OperatorNormalization.Option;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
@@ -32,6 +34,8 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -182,6 +186,30 @@ class OperationsHandlerTest {
     assertEquals(generateOperationRead(), actualOperationReadList.getOperations().get(0));
   }
 
+  @Test
+  void testListOperationsForConnections() throws ConfigNotFoundException, IOException {
+    final StandardSyncOperation tombstonedOperation = Jsons.clone(standardSyncOperation)
+        .withOperationId(UUID.randomUUID())
+        .withTombstone(true);
+    final ConnectionRead connectionRead = new ConnectionRead()
+        .connectionId(UUID.randomUUID())
+        .operationIds(List.of(standardSyncOperation.getOperationId(), tombstonedOperation.getOperationId()));
+    final ConnectionRead connectionReadWithoutOperation = new ConnectionRead()
+        .connectionId(UUID.randomUUID())
+        .operationIds(List.of());
+
+    when(configRepository.listStandardSyncOperations(Set.of(standardSyncOperation.getOperationId(), tombstonedOperation.getOperationId())))
+        .thenReturn(List.of(standardSyncOperation, tombstonedOperation));
+
+    final Map<UUID, OperationReadList> actualOperationReadLists =
+        operationsHandler.listOperationsForConnections(List.of(connectionRead, connectionReadWithoutOperation));
+
+    assertEquals(Map.of(
+        connectionRead.getConnectionId(), new OperationReadList().operations(List.of(generateOperationRead())),
+        connectionReadWithoutOperation.getConnectionId(), new OperationReadList().operations(List.of())),
+        actualOperationReadLists);
+  }
+
   @Test
   void testDeleteOperation() throws IOException {
     final OperationIdRequestBody operationIdRequestBody = new OperationIdRequestBody().operationId(standardSyncOperation.getOperationId());
@@ -33,6 +33,7 @@ import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
@@ -45,6 +46,9 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -199,6 +203,23 @@ class SourceHandlerTest {
         sourceDefinitionSpecificationRead.getConnectionSpecification());
   }
 
+  @Test
+  void testGetSources() throws IOException {
+    final SourceRead expectedSourceRead = SourceHelpers.getSourceRead(sourceConnection, standardSourceDefinition);
+
+    when(configRepository.getSourceAndDefinitionsFromSourceIds(Set.of(sourceConnection.getSourceId())))
+        .thenReturn(List.of(new SourceAndDefinition(sourceConnection, standardSourceDefinition)));
+    when(
+        secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(), sourceDefinitionSpecificationRead.getConnectionSpecification()))
+            .thenReturn(sourceConnection.getConfiguration());
+
+    final Map<UUID, SourceRead> actualSourceReads = sourceHandler.getSources(Set.of(sourceConnection.getSourceId()));
+
+    assertEquals(Map.of(sourceConnection.getSourceId(), expectedSourceRead), actualSourceReads);
+    verify(secretsProcessor).prepareSecretsForOutput(sourceConnection.getConfiguration(),
+        sourceDefinitionSpecificationRead.getConnectionSpecification());
+  }
+
   @Test
   void testCloneSourceWithoutConfigChange() throws JsonValidationException, ConfigNotFoundException, IOException {
     final SourceConnection clonedConnection = SourceHelpers.generateSource(standardSourceDefinition.getSourceDefinitionId());
@@ -76,6 +76,7 @@ import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.scheduler.client.EventRunner;
+import io.airbyte.scheduler.models.JobWithStatusAndTimestamp;
 import io.airbyte.server.helpers.ConnectionHelpers;
 import io.airbyte.server.helpers.DestinationDefinitionHelpers;
 import io.airbyte.server.helpers.DestinationHelpers;
@@ -89,6 +90,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -101,6 +103,7 @@ class WebBackendConnectionsHandlerTest {
 
   private ConnectionsHandler connectionsHandler;
   private OperationsHandler operationsHandler;
+  private JobHistoryHandler jobHistoryHandler;
   private SchedulerHandler schedulerHandler;
   private WebBackendConnectionsHandler wbHandler;
 
@@ -119,7 +122,7 @@ class WebBackendConnectionsHandlerTest {
     operationsHandler = mock(OperationsHandler.class);
     final SourceHandler sourceHandler = mock(SourceHandler.class);
     final DestinationHandler destinationHandler = mock(DestinationHandler.class);
-    final JobHistoryHandler jobHistoryHandler = mock(JobHistoryHandler.class);
+    jobHistoryHandler = mock(JobHistoryHandler.class);
     configRepository = mock(ConfigRepository.class);
     schedulerHandler = mock(SchedulerHandler.class);
     eventRunner = mock(EventRunner.class);
@@ -182,6 +185,12 @@ class WebBackendConnectionsHandlerTest {
     jobListRequestBody.setConfigId(connectionRead.getConnectionId().toString());
     when(jobHistoryHandler.listJobsFor(jobListRequestBody)).thenReturn(jobReadList);
 
+    when(sourceHandler.getSources(Set.of(connectionRead.getSourceId()))).thenReturn(Map.of(connectionRead.getSourceId(), sourceRead));
+    when(destinationHandler.getDestinations(Set.of(connectionRead.getDestinationId())))
+        .thenReturn(Map.of(connectionRead.getDestinationId(), destinationRead));
+    when(jobHistoryHandler.getLatestSyncJobs(List.of(connectionRead.getConnectionId()))).thenReturn(Map.of(connectionRead.getConnectionId(),
+        new JobWithStatusAndTimestamp(10L, io.airbyte.scheduler.models.JobStatus.SUCCEEDED, now.getEpochSecond(), now.getEpochSecond())));
+
     expected = new WebBackendConnectionRead()
         .connectionId(connectionRead.getConnectionId())
         .sourceId(connectionRead.getSourceId())
@@ -281,10 +290,9 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
+    when(operationsHandler.listOperationsForConnections(List.of(connectionRead)))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), operationReadList));
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
@@ -298,33 +306,50 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
+    when(operationsHandler.listOperationsForConnections(List.of(connectionRead)))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), operationReadList));
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListAllConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
     assertEquals(expected, WebBackendConnectionReadList.getConnections().get(0));
   }
 
+  @Test
+  public void testWebBackendListConnectionsWithRunningSyncForWorkspace() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody();
+    workspaceIdRequestBody.setWorkspaceId(sourceRead.getWorkspaceId());
+
+    final ConnectionReadList connectionReadList = new ConnectionReadList();
+    connectionReadList.setConnections(Collections.singletonList(connectionRead));
+    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
+    when(operationsHandler.listOperationsForConnections(List.of(connectionRead)))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), operationReadList));
+    when(jobHistoryHandler.getLatestSyncJobs(List.of(connectionRead.getConnectionId()))).thenReturn(Map.of());
+    when(jobHistoryHandler.getConnectionIdsWithRunningSyncJobs(List.of(connectionRead.getConnectionId())))
+        .thenReturn(Set.of(connectionRead.getConnectionId()));
+
+    final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
+    expected.latestSyncJobCreatedAt(null).latestSyncJobStatus(null).isSyncing(true);
+    assertEquals(1, WebBackendConnectionReadList.getConnections().size());
+    assertEquals(expected, WebBackendConnectionReadList.getConnections().get(0));
+  }
+
   @Test
   public void testWebBackendSearchConnections() throws ConfigNotFoundException, IOException, JsonValidationException {
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
 
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
-    when(connectionsHandler.listConnections()).thenReturn(connectionReadList);
-    when(connectionsHandler.matchSearch(new ConnectionSearch(), connectionRead)).thenReturn(true);
+    when(operationsHandler.listOperationsForConnections(List.of(connectionRead)))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), operationReadList));
+    when(connectionsHandler.searchConnections(new ConnectionSearch())).thenReturn(connectionReadList);
 
     final WebBackendConnectionSearch webBackendConnectionSearch = new WebBackendConnectionSearch();
     WebBackendConnectionReadList webBackendConnectionReadList = wbHandler.webBackendSearchConnections(webBackendConnectionSearch);
     assertEquals(1, webBackendConnectionReadList.getConnections().size());
     assertEquals(expected, webBackendConnectionReadList.getConnections().get(0));
 
-    when(connectionsHandler.matchSearch(new ConnectionSearch(), connectionRead)).thenReturn(false);
+    when(connectionsHandler.searchConnections(new ConnectionSearch())).thenReturn(new ConnectionReadList().connections(List.of()));
     webBackendConnectionReadList = wbHandler.webBackendSearchConnections(webBackendConnectionSearch);
     assertEquals(0, webBackendConnectionReadList.getConnections().size());
   }
@@ -8,8 +8,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.validation.json.JsonSchemaValidator;
-import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.exception.RecordSchemaValidationException;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -20,60 +20,114 @@ import org.slf4j.LoggerFactory;
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
  * configured catalog
+ *
+ * <p>
+ * The schema of each stream is compiled once when the validator is created. To bound the cost of
+ * validation on large syncs, only a sample of the records can be validated: one record out of every
+ * {@code sampleRate} per stream, and none while the time spent validating exceeds
+ * {@code maxTimeFraction} of the time elapsed since the first validation.
  */
 
 public class RecordSchemaValidator {
 
-  private final Map<String, JsonNode> streams;
   private static final Logger LOGGER = LoggerFactory.getLogger(RecordSchemaValidator.class);
 
+  private final JsonSchemaValidator validator;
+  private final int sampleRate;
+  private final double maxTimeFraction;
+  // number of records seen per stream, used to pick the records to validate
+  private final Map<String, long[]> streamToRecordCount;
+
+  private long firstValidationNanos = -1;
+  private long validationNanos = 0;
+
   public RecordSchemaValidator(final Map<String, JsonNode> streamNamesToSchemas) {
-    // streams is Map of a stream source namespace + name mapped to the stream schema
-    // for easy access when we check each record's schema
-    this.streams = streamNamesToSchemas;
+    this(streamNamesToSchemas, 1, 1.0);
+  }
+
+  /**
+   * @param streamNamesToSchemas stream source namespace + name mapped to the stream schema
+   * @param sampleRate validate one record out of this many per stream. 1 (or less) validates every
+   *        record.
+   * @param maxTimeFraction maximum fraction of time that may be spent validating, in (0, 1). Any other
+   *        value disables the time budget.
+   */
+  public RecordSchemaValidator(final Map<String, JsonNode> streamNamesToSchemas, final int sampleRate, final double maxTimeFraction) {
+    this.validator = new JsonSchemaValidator();
+    this.sampleRate = Math.max(sampleRate, 1);
+    this.maxTimeFraction = maxTimeFraction;
+    this.streamToRecordCount = new HashMap<>();
+
+    streamNamesToSchemas.forEach((stream, schema) -> {
+      // We must choose a JSON validator version for validating the schema
+      // Rather than allowing connectors to use any version, we enforce validation using V7
+      final ObjectNode matchingSchema = schema.deepCopy();
+      matchingSchema.put("$schema", "http://json-schema.org/draft-07/schema#");
+      validator.initializeSchemaValidator(stream, matchingSchema);
+      streamToRecordCount.put(stream, new long[1]);
+    });
   }
 
   /**
    * Takes an AirbyteRecordMessage and uses the JsonSchemaValidator to validate that its data conforms
-   * to the stream's schema If it does not, this method throws a RecordSchemaValidationException
+   * to the stream's schema If it does not, this method throws a RecordSchemaValidationException.
+   * Records that are not part of the validated sample are accepted without being checked.
    *
    * @param message
    * @throws RecordSchemaValidationException
    */
   public void validateSchema(final AirbyteRecordMessage message, final String messageStream) throws RecordSchemaValidationException {
-    final JsonNode messageData = message.getData();
-    final JsonNode matchingSchema = streams.get(messageStream);
+    if (!isSampled(messageStream)) {
+      return;
+    }
+
+    final long start = System.nanoTime();
+    if (firstValidationNanos < 0) {
+      firstValidationNanos = start;
+    }
+    try {
+      validateInternal(message.getData(), messageStream);
+    } finally {
+      validationNanos += System.nanoTime() - start;
+    }
+  }
 
-    final JsonSchemaValidator validator = new JsonSchemaValidator();
+  private boolean isSampled(final String messageStream) {
+    final long[] recordCount = streamToRecordCount.get(messageStream);
+    if (recordCount != null && recordCount[0]++ % sampleRate != 0) {
+      return false;
+    }
+    if (maxTimeFraction > 0 && maxTimeFraction < 1 && firstValidationNanos >= 0) {
+      return validationNanos <= maxTimeFraction * (System.nanoTime() - firstValidationNanos);
+    }
+    return true;
+  }
 
-    // We must choose a JSON validator version for validating the schema
-    // Rather than allowing connectors to use any version, we enforce validation using V7
-    ((ObjectNode) matchingSchema).put("$schema", "http://json-schema.org/draft-07/schema#");
+  private void validateInternal(final JsonNode messageData, final String messageStream) throws RecordSchemaValidationException {
+    if (validator.testInitializedSchema(messageStream, messageData)) {
+      return;
+    }
 
-    try {
-      validator.ensure(matchingSchema, messageData);
-    } catch (final JsonValidationException e) {
-      final List<String[]> invalidRecordDataAndType = validator.getValidationMessageArgs(matchingSchema, messageData);
-      final List<String> invalidFields = validator.getValidationMessagePaths(matchingSchema, messageData);
-
-      final Set<String> validationMessagesToDisplay = new HashSet<>();
-      for (int i = 0; i < invalidFields.size(); i++) {
-        final StringBuilder expectedType = new StringBuilder();
-        if (invalidRecordDataAndType.size() > i && invalidRecordDataAndType.get(i).length > 1) {
-          expectedType.append(invalidRecordDataAndType.get(i)[1]);
-        }
-        final StringBuilder newMessage = new StringBuilder();
-        newMessage.append(invalidFields.get(i));
-        newMessage.append(" is of an incorrect type.");
-        if (expectedType.length() > 0) {
-          newMessage.append(" Expected it to be " + expectedType);
-        }
-        validationMessagesToDisplay.add(newMessage.toString());
-      }
+    final List<String[]> invalidRecordDataAndType = validator.getInitializedSchemaValidationMessageArgs(messageStream, messageData);
+    final List<String> invalidFields = validator.getInitializedSchemaValidationMessagePaths(messageStream, messageData);
 
-      throw new RecordSchemaValidationException(validationMessagesToDisplay,
-          String.format("Record schema validation failed for %s", messageStream));
+    final Set<String> validationMessagesToDisplay = new HashSet<>();
+    for (int i = 0; i < invalidFields.size(); i++) {
+      final StringBuilder expectedType = new StringBuilder();
+      if (invalidRecordDataAndType.size() > i && invalidRecordDataAndType.get(i).length > 1) {
+        expectedType.append(invalidRecordDataAndType.get(i)[1]);
+      }
+      final StringBuilder newMessage = new StringBuilder();
+      newMessage.append(invalidFields.get(i));
+      newMessage.append(" is of an incorrect type.");
+      if (expectedType.length() > 0) {
+        newMessage.append(" Expected it to be " + expectedType);
+      }
+      validationMessagesToDisplay.add(newMessage.toString());
     }
+
+    throw new RecordSchemaValidationException(validationMessagesToDisplay,
+        String.format("Record schema validation failed for %s", messageStream));
   }
 
 }
@@ -277,8 +277,9 @@ public class WorkerApp {
         workerEnvironment,
         logConfigs,
         jobPersistence,
+        statePersistence,
         airbyteVersion,
-        featureFlags.useStreamCapableState());
+        featureFlags);
   }
 
   private NormalizationActivityImpl getNormalizationActivityImpl(final WorkerConfigs workerConfigs,
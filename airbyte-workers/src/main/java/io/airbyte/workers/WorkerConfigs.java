@@ -26,6 +26,10 @@ public class WorkerConfigs {
   private final String jobBusyboxImage;
   private final String jobCurlImage;
   private final Map<String, String> envMap;
+  private final int recordSchemaValidationSampleRate;
+  private final double recordSchemaValidationMaxTimeFraction;
+  private final int stateCheckpointIntervalSeconds;
+  private final int stateCheckpointMinStateMessages;
 
   /**
    * Constructs a job-type-agnostic WorkerConfigs. For WorkerConfigs customized for specific
@@ -48,7 +52,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getRecordSchemaValidationSampleRate(),
+        configs.getRecordSchemaValidationMaxTimeFraction(),
+        configs.getStateCheckpointIntervalSeconds(),
+        configs.getStateCheckpointMinStateMessages());
   }
 
   /**
@@ -79,7 +87,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getRecordSchemaValidationSampleRate(),
+        configs.getRecordSchemaValidationMaxTimeFraction(),
+        configs.getStateCheckpointIntervalSeconds(),
+        configs.getStateCheckpointMinStateMessages());
   }
 
   /**
@@ -110,7 +122,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getRecordSchemaValidationSampleRate(),
+        configs.getRecordSchemaValidationMaxTimeFraction(),
+        configs.getStateCheckpointIntervalSeconds(),
+        configs.getStateCheckpointMinStateMessages());
   }
 
   /**
@@ -141,7 +157,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getRecordSchemaValidationSampleRate(),
+        configs.getRecordSchemaValidationMaxTimeFraction(),
+        configs.getStateCheckpointIntervalSeconds(),
+        configs.getStateCheckpointMinStateMessages());
   }
 
   public static WorkerConfigs buildReplicationWorkerConfigs(final Configs configs) {
@@ -161,7 +181,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getRecordSchemaValidationSampleRate(),
+        configs.getRecordSchemaValidationMaxTimeFraction(),
+        configs.getStateCheckpointIntervalSeconds(),
+        configs.getStateCheckpointMinStateMessages());
   }
 
   public Configs.WorkerEnvironment getWorkerEnvironment() {
@@ -212,4 +236,20 @@ public class WorkerConfigs {
     return envMap;
   }
 
+  public int getRecordSchemaValidationSampleRate() {
+    return recordSchemaValidationSampleRate;
+  }
+
+  public double getRecordSchemaValidationMaxTimeFraction() {
+    return recordSchemaValidationMaxTimeFraction;
+  }
+
+  public int getStateCheckpointIntervalSeconds() {
+    return stateCheckpointIntervalSeconds;
+  }
+
+  public int getStateCheckpointMinStateMessages() {
+    return stateCheckpointMinStateMessages;
+  }
+
 }
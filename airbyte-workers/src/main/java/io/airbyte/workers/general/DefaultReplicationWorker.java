@@ -31,7 +31,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -66,6 +69,13 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
 
+  // number of messages that may be in flight between two stages of the pipelined replication before
+  // the upstream stage blocks.
+  private static final int PIPELINE_BUFFER_CAPACITY = 1000;
+  private static final long PIPELINE_POLL_TIMEOUT_MS = 100;
+  // identity sentinel handed down the pipeline once the source has no more messages.
+  private static final AirbyteMessage END_OF_STREAM = new AirbyteMessage();
+
   private final String jobId;
   private final int attempt;
   private final AirbyteSource source;
@@ -77,6 +87,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final AtomicBoolean cancelled;
   private final AtomicBoolean hasFailed;
   private final RecordSchemaValidator recordSchemaValidator;
+  private final boolean usePipelinedReplication;
 
   public DefaultReplicationWorker(final String jobId,
                                   final int attempt,
@@ -85,6 +96,22 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final AirbyteDestination destination,
                                   final MessageTracker messageTracker,
                                   final RecordSchemaValidator recordSchemaValidator) {
+    this(jobId, attempt, source, mapper, destination, messageTracker, recordSchemaValidator, false);
+  }
+
+  /**
+   * @param usePipelinedReplication if true, reading from the source, validating/mapping/tracking and
+   *        writing to the destination each run on their own thread, connected by bounded buffers.
+   *        Message ordering and state tracking are the same as in the single threaded mode.
+   */
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final AirbyteSource source,
+                                  final AirbyteMapper mapper,
+                                  final AirbyteDestination destination,
+                                  final MessageTracker messageTracker,
+                                  final RecordSchemaValidator recordSchemaValidator,
+                                  final boolean usePipelinedReplication) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -93,6 +120,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     this.messageTracker = messageTracker;
     this.executors = Executors.newFixedThreadPool(2);
     this.recordSchemaValidator = recordSchemaValidator;
+    this.usePipelinedReplication = usePipelinedReplication;
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
@@ -152,9 +180,10 @@ public class DefaultReplicationWorker implements ReplicationWorker {
               }
             });
 
-        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(
-            getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator),
-            executors).whenComplete((msg, ex) -> {
+        final Runnable replicationRunnable = usePipelinedReplication
+            ? getPipelinedReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator)
+            : getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator);
+        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(replicationRunnable, executors).whenComplete((msg, ex) -> {
               if (ex != null) {
                 if (ex.getCause() instanceof SourceException) {
                   replicationRunnableFailureRef.set(FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt));
@@ -366,6 +395,234 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     };
   }
 
+  /**
+   * Pipelined variant of {@link #getReplicationRunnable}. The work done per message is split in
+   * three stages that each run on their own thread:
+   * <ol>
+   * <li>read: pull messages from the source (this thread)</li>
+   * <li>process: validate, map and track messages</li>
+   * <li>write: serialize and send messages to the destination</li>
+   * </ol>
+   * Stages are connected by bounded queues so a slow stage applies backpressure to the ones before
+   * it. Each stage is a single thread consuming a FIFO queue, so messages reach the destination in
+   * the order the source emitted them, and the message tracker sees every message before the
+   * destination does, exactly like the single threaded path.
+   */
+  private static Runnable getPipelinedReplicationRunnable(final AirbyteSource source,
+                                                          final AirbyteDestination destination,
+                                                          final AtomicBoolean cancelled,
+                                                          final AirbyteMapper mapper,
+                                                          final MessageTracker messageTracker,
+                                                          final Map<String, String> mdc,
+                                                          final RecordSchemaValidator recordSchemaValidator) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Pipelined replication thread started.");
+      final BlockingQueue<AirbyteMessage> readQueue = new ArrayBlockingQueue<>(PIPELINE_BUFFER_CAPACITY);
+      final BlockingQueue<AirbyteMessage> writeQueue = new ArrayBlockingQueue<>(PIPELINE_BUFFER_CAPACITY);
+      // set as soon as any stage fails so that the other stages stop instead of blocking on a queue.
+      final AtomicBoolean aborted = new AtomicBoolean(false);
+      final ExecutorService stageExecutors = Executors.newFixedThreadPool(2);
+      try {
+        final CompletableFuture<?> processStageFuture = CompletableFuture.runAsync(
+            getProcessStageRunnable(readQueue, writeQueue, cancelled, aborted, mapper, messageTracker, mdc, recordSchemaValidator),
+            stageExecutors).whenComplete((msg, ex) -> {
+              if (ex != null) {
+                aborted.set(true);
+              }
+            });
+        final CompletableFuture<?> writeStageFuture = CompletableFuture.runAsync(
+            getWriteStageRunnable(writeQueue, destination, cancelled, aborted, mdc),
+            stageExecutors).whenComplete((msg, ex) -> {
+              if (ex != null) {
+                aborted.set(true);
+              }
+            });
+
+        try {
+          runReadStage(source, readQueue, cancelled, aborted);
+        } catch (final Exception e) {
+          aborted.set(true);
+          throw e;
+        }
+
+        try {
+          CompletableFuture.allOf(processStageFuture, writeStageFuture).get();
+        } catch (final ExecutionException e) {
+          // surface the stage failure itself so that it is classified the same way as in the single
+          // threaded path.
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          throw e;
+        }
+
+        if (!cancelled.get() && source.getExitValue() != 0) {
+          throw new SourceException("Source process exited with non-zero exit code " + source.getExitValue());
+        }
+      } catch (final Exception e) {
+        if (!cancelled.get()) {
+          if (e instanceof SourceException || e instanceof DestinationException) {
+            throw (RuntimeException) e;
+          } else {
+            throw new RuntimeException(e);
+          }
+        }
+      } finally {
+        stageExecutors.shutdownNow();
+      }
+    };
+  }
+
+  private static void runReadStage(final AirbyteSource source,
+                                   final BlockingQueue<AirbyteMessage> readQueue,
+                                   final AtomicBoolean cancelled,
+                                   final AtomicBoolean aborted)
+      throws InterruptedException {
+    while (!cancelled.get() && !aborted.get() && !source.isFinished()) {
+      final Optional<AirbyteMessage> messageOptional;
+      try {
+        messageOptional = source.attemptRead();
+      } catch (final Exception e) {
+        throw new SourceException("Source process read attempt failed", e);
+      }
+
+      if (messageOptional.isPresent()) {
+        if (!offer(readQueue, messageOptional.get(), cancelled, aborted)) {
+          return;
+        }
+      } else {
+        LOGGER.info("Source has no more messages, closing connection.");
+        try {
+          source.close();
+        } catch (final Exception e) {
+          throw new SourceException("Source cannot be stopped!", e);
+        }
+      }
+    }
+    offer(readQueue, END_OF_STREAM, cancelled, aborted);
+  }
+
+  private static Runnable getProcessStageRunnable(final BlockingQueue<AirbyteMessage> readQueue,
+                                                  final BlockingQueue<AirbyteMessage> writeQueue,
+                                                  final AtomicBoolean cancelled,
+                                                  final AtomicBoolean aborted,
+                                                  final AirbyteMapper mapper,
+                                                  final MessageTracker messageTracker,
+                                                  final Map<String, String> mdc,
+                                                  final RecordSchemaValidator recordSchemaValidator) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      var recordsRead = 0;
+      final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors = new HashMap<>();
+      try {
+        while (true) {
+          final AirbyteMessage airbyteMessage = poll(readQueue, cancelled, aborted);
+          if (airbyteMessage == null) {
+            return;
+          }
+          if (airbyteMessage == END_OF_STREAM) {
+            offer(writeQueue, END_OF_STREAM, cancelled, aborted);
+            break;
+          }
+
+          validateSchema(recordSchemaValidator, validationErrors, airbyteMessage);
+          final AirbyteMessage message = mapper.mapMessage(airbyteMessage);
+
+          messageTracker.acceptFromSource(message);
+          if (!offer(writeQueue, message, cancelled, aborted)) {
+            return;
+          }
+          recordsRead += 1;
+
+          if (recordsRead % 1000 == 0) {
+            LOGGER.info("Records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+          }
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      LOGGER.info("Total records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+      if (!validationErrors.isEmpty()) {
+        validationErrors.forEach((stream, errorPair) -> {
+          LOGGER.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getLeft());
+        });
+      }
+    };
+  }
+
+  private static Runnable getWriteStageRunnable(final BlockingQueue<AirbyteMessage> writeQueue,
+                                                final AirbyteDestination destination,
+                                                final AtomicBoolean cancelled,
+                                                final AtomicBoolean aborted,
+                                                final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      try {
+        while (true) {
+          final AirbyteMessage message = poll(writeQueue, cancelled, aborted);
+          if (message == null) {
+            return;
+          }
+          if (message == END_OF_STREAM) {
+            break;
+          }
+          try {
+            destination.accept(message);
+          } catch (final Exception e) {
+            throw new DestinationException("Destination process message delivery failed", e);
+          }
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+
+      try {
+        destination.notifyEndOfInput();
+      } catch (final Exception e) {
+        throw new DestinationException("Destination process end of stream notification failed", e);
+      }
+    };
+  }
+
+  /**
+   * Blocks until the message is accepted by the queue.
+   *
+   * @return false if the pipeline was stopped before the message could be queued
+   */
+  private static boolean offer(final BlockingQueue<AirbyteMessage> queue,
+                               final AirbyteMessage message,
+                               final AtomicBoolean cancelled,
+                               final AtomicBoolean aborted)
+      throws InterruptedException {
+    while (!cancelled.get() && !aborted.get()) {
+      if (queue.offer(message, PIPELINE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Blocks until a message is available in the queue.
+   *
+   * @return the next message, or null if the pipeline was stopped before one became available
+   */
+  private static AirbyteMessage poll(final BlockingQueue<AirbyteMessage> queue,
+                                     final AtomicBoolean cancelled,
+                                     final AtomicBoolean aborted)
+      throws InterruptedException {
+    while (!cancelled.get() && !aborted.get()) {
+      final AirbyteMessage message = queue.poll(PIPELINE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      if (message != null) {
+        return message;
+      }
+    }
+    return null;
+  }
+
   private static void validateSchema(RecordSchemaValidator recordSchemaValidator,
                                      Map<String, ImmutablePair<Set<String>, Integer>> validationErrors,
                                      AirbyteMessage message) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The routing information of a serialized AirbyteMessage: its type and, for records, the stream
+ * and namespace. It is read with a streaming token scan that skips over the record data, so it is
+ * much cheaper to extract than deserializing the whole message.
+ */
+public class AirbyteMessageEnvelope {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final Map<String, Type> TYPES = Arrays.stream(Type.values())
+      .collect(Collectors.toMap(Type::value, Function.identity()));
+
+  private final Type type;
+  private final String stream;
+  private final String namespace;
+  private final int length;
+
+  private AirbyteMessageEnvelope(final Type type, final String stream, final String namespace, final int length) {
+    this.type = type;
+    this.stream = stream;
+    this.namespace = namespace;
+    this.length = length;
+  }
+
+  /**
+   * Scans the envelope of the JSON object at the start of the line.
+   *
+   * @param line serialized AirbyteMessage, possibly followed by other characters.
+   * @return the envelope, or empty if the line does not start with a JSON object of a known message
+   *         type. RECORD messages must also have a stream, an object data and an integer emitted_at.
+   */
+  public static Optional<AirbyteMessageEnvelope> scan(final String line) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(line)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      Type type = null;
+      boolean hasRecord = false;
+      String stream = null;
+      String namespace = null;
+      boolean hasData = false;
+      boolean hasEmittedAt = false;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        final JsonToken value = parser.nextToken();
+        if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+          type = TYPES.get(parser.getText());
+        } else if ("record".equals(field) && value == JsonToken.START_OBJECT) {
+          hasRecord = true;
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String recordField = parser.getCurrentName();
+            final JsonToken recordValue = parser.nextToken();
+            switch (recordField) {
+              case "stream" -> stream = recordValue == JsonToken.VALUE_STRING ? parser.getText() : null;
+              case "namespace" -> namespace = recordValue == JsonToken.VALUE_STRING ? parser.getText() : null;
+              case "data" -> hasData = recordValue == JsonToken.START_OBJECT;
+              case "emitted_at" -> hasEmittedAt = recordValue == JsonToken.VALUE_NUMBER_INT;
+              default -> {}
+            }
+            parser.skipChildren();
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (parser.currentToken() != JsonToken.END_OBJECT || type == null) {
+        return Optional.empty();
+      }
+      if (type == Type.RECORD && !(hasRecord && stream != null && hasData && hasEmittedAt)) {
+        return Optional.empty();
+      }
+      return Optional.of(new AirbyteMessageEnvelope(type, stream, namespace, (int) parser.getCurrentLocation().getCharOffset()));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public String getStream() {
+    return stream;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * @return number of characters of the line taken by the message itself, i.e. without anything that
+   *         follows the closing brace.
+   */
+  public int getLength() {
+    return length;
+  }
+
+}
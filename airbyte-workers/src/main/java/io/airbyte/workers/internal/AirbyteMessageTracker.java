@@ -4,11 +4,12 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.json.Jsons;
@@ -21,10 +22,14 @@ import io.airbyte.protocol.models.AirbyteTraceMessage;
 import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.internal.state_aggregator.DefaultStateAggregator;
 import io.airbyte.workers.internal.state_aggregator.StateAggregator;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,15 +40,14 @@ import lombok.extern.slf4j.Slf4j;
 public class AirbyteMessageTracker implements MessageTracker {
 
   private static final long STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES = 20L * 1024L * 1024L; // 20 MiB, ~10% of default cloud worker memory
+  private static final long STATE_DELTA_TRACKER_SPILL_LIMIT_BYTES = 1024L * 1024L * 1024L; // 1 GiB of disk once memory is full
+  private static final int INITIAL_STREAM_CAPACITY = 16;
 
   private final AtomicReference<State> sourceOutputState;
   private final AtomicReference<State> destinationOutputState;
   private final AtomicLong totalEmittedStateMessages;
-  private final Map<Short, Long> streamToRunningCount;
   private final HashFunction hashFunction;
   private final BiMap<String, Short> streamNameToIndex;
-  private final Map<Short, Long> streamToTotalBytesEmitted;
-  private final Map<Short, Long> streamToTotalRecordsEmitted;
   private final StateDeltaTracker stateDeltaTracker;
   private final List<AirbyteTraceMessage> destinationErrorTraceMessages;
   private final List<AirbyteTraceMessage> sourceErrorTraceMessages;
@@ -51,6 +55,15 @@ public class AirbyteMessageTracker implements MessageTracker {
 
   private short nextStreamIndex;
 
+  /**
+   * Per-stream counters, indexed by stream index. Records are counted on the source thread for every
+   * message, so primitive arrays are used instead of maps to avoid boxing on that path. They grow as
+   * new streams are seen.
+   */
+  private long[] streamToRunningCount;
+  private long[] streamToTotalRecordsEmitted;
+  private long[] streamToTotalBytesEmitted;
+
   /**
    * If the StateDeltaTracker throws an exception, this flag is set to true and committed counts are
    * not returned.
@@ -63,7 +76,7 @@ public class AirbyteMessageTracker implements MessageTracker {
   }
 
   public AirbyteMessageTracker() {
-    this(new StateDeltaTracker(STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES),
+    this(new StateDeltaTracker(STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES, STATE_DELTA_TRACKER_SPILL_LIMIT_BYTES),
         new DefaultStateAggregator(new EnvVariableFeatureFlags().useStreamCapableState()));
   }
 
@@ -72,11 +85,11 @@ public class AirbyteMessageTracker implements MessageTracker {
     this.sourceOutputState = new AtomicReference<>();
     this.destinationOutputState = new AtomicReference<>();
     this.totalEmittedStateMessages = new AtomicLong(0L);
-    this.streamToRunningCount = new HashMap<>();
+    this.streamToRunningCount = new long[INITIAL_STREAM_CAPACITY];
     this.streamNameToIndex = HashBiMap.create();
     this.hashFunction = Hashing.murmur3_32_fixed();
-    this.streamToTotalBytesEmitted = new HashMap<>();
-    this.streamToTotalRecordsEmitted = new HashMap<>();
+    this.streamToTotalBytesEmitted = new long[INITIAL_STREAM_CAPACITY];
+    this.streamToTotalRecordsEmitted = new long[INITIAL_STREAM_CAPACITY];
     this.stateDeltaTracker = stateDeltaTracker;
     this.nextStreamIndex = 0;
     this.unreliableCommittedCounts = false;
@@ -111,15 +124,9 @@ public class AirbyteMessageTracker implements MessageTracker {
   private void handleSourceEmittedRecord(final AirbyteRecordMessage recordMessage) {
     final short streamIndex = getStreamIndex(recordMessage.getStream());
 
-    final long currentRunningCount = streamToRunningCount.getOrDefault(streamIndex, 0L);
-    streamToRunningCount.put(streamIndex, currentRunningCount + 1);
-
-    final long currentTotalCount = streamToTotalRecordsEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalRecordsEmitted.put(streamIndex, currentTotalCount + 1);
-
-    final int estimatedNumBytes = Jsons.getEstimatedByteSize(recordMessage.getData());
-    final long currentTotalStreamBytes = streamToTotalBytesEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalBytesEmitted.put(streamIndex, currentTotalStreamBytes + estimatedNumBytes);
+    streamToRunningCount[streamIndex]++;
+    streamToTotalRecordsEmitted[streamIndex]++;
+    streamToTotalBytesEmitted[streamIndex] += Jsons.getEstimatedByteSize(recordMessage.getData());
   }
 
   /**
@@ -134,7 +141,7 @@ public class AirbyteMessageTracker implements MessageTracker {
     final int stateHash = getStateHashCode(stateMessage);
     try {
       if (!unreliableCommittedCounts) {
-        stateDeltaTracker.addState(stateHash, streamToRunningCount);
+        stateDeltaTracker.addState(stateHash, getRunningCounts());
       }
     } catch (final StateDeltaTracker.StateDeltaTrackerException e) {
       log.warn("The message tracker encountered an issue that prevents committed record counts from being reliably computed.");
@@ -142,7 +149,20 @@ public class AirbyteMessageTracker implements MessageTracker {
       log.warn(e.getMessage(), e);
       unreliableCommittedCounts = true;
     }
-    streamToRunningCount.clear();
+    Arrays.fill(streamToRunningCount, 0L);
+  }
+
+  /**
+   * @return stream index to record count for the streams that emitted records since the last state.
+   */
+  private Map<Short, Long> getRunningCounts() {
+    final Map<Short, Long> runningCounts = new HashMap<>();
+    for (short streamIndex = 0; streamIndex < nextStreamIndex; streamIndex++) {
+      if (streamToRunningCount[streamIndex] > 0) {
+        runningCounts.put(streamIndex, streamToRunningCount[streamIndex]);
+      }
+    }
+    return runningCounts;
   }
 
   /**
@@ -184,15 +204,89 @@ public class AirbyteMessageTracker implements MessageTracker {
   }
 
   private short getStreamIndex(final String streamName) {
-    if (!streamNameToIndex.containsKey(streamName)) {
-      streamNameToIndex.put(streamName, nextStreamIndex);
-      nextStreamIndex++;
+    final Short streamIndex = streamNameToIndex.get(streamName);
+    if (streamIndex != null) {
+      return streamIndex;
+    }
+
+    final short newStreamIndex = nextStreamIndex++;
+    streamNameToIndex.put(streamName, newStreamIndex);
+    if (newStreamIndex >= streamToRunningCount.length) {
+      final int capacity = streamToRunningCount.length * 2;
+      streamToRunningCount = Arrays.copyOf(streamToRunningCount, capacity);
+      streamToTotalRecordsEmitted = Arrays.copyOf(streamToTotalRecordsEmitted, capacity);
+      streamToTotalBytesEmitted = Arrays.copyOf(streamToTotalBytesEmitted, capacity);
+    }
+    return newStreamIndex;
+  }
+
+  /**
+   * @return stream name to value for every stream seen so far.
+   */
+  private Map<String, Long> byStreamName(final long[] streamIndexToValue) {
+    final Map<String, Long> streamNameToValue = new HashMap<>();
+    streamNameToIndex.forEach((streamName, streamIndex) -> streamNameToValue.put(streamName, streamIndexToValue[streamIndex]));
+    return streamNameToValue;
+  }
+
+  /**
+   * Hashes the state data by walking its tree, which is much cheaper than serializing it first when
+   * states are large (e.g. CDC states carrying a database schema history). Source and destination
+   * states are both parsed from JSON, so equal states have the same tree and hash.
+   */
+  @VisibleForTesting
+  int getStateHashCode(final AirbyteStateMessage stateMessage) {
+    final Hasher hasher = hashFunction.newHasher();
+    putJson(hasher, stateMessage.getData());
+    return hasher.hash().hashCode();
+  }
+
+  /**
+   * Feeds the JSON tree to the hasher. Node types and sizes are hashed along with the values so that
+   * differently shaped trees with the same values do not collide.
+   */
+  private static void putJson(final Hasher hasher, final JsonNode node) {
+    if (node == null) {
+      hasher.putByte((byte) -1);
+      return;
+    }
+
+    hasher.putByte((byte) node.getNodeType().ordinal());
+    switch (node.getNodeType()) {
+      case OBJECT -> {
+        hasher.putInt(node.size());
+        final Iterator<Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          final Entry<String, JsonNode> field = fields.next();
+          putText(hasher, field.getKey());
+          putJson(hasher, field.getValue());
+        }
+      }
+      case ARRAY -> {
+        hasher.putInt(node.size());
+        for (final JsonNode element : node) {
+          putJson(hasher, element);
+        }
+      }
+      case STRING -> putText(hasher, node.textValue());
+      case NUMBER -> {
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+          hasher.putLong(node.longValue());
+        } else if (node.isDouble() || node.isFloat()) {
+          hasher.putDouble(node.doubleValue());
+        } else {
+          putText(hasher, node.asText());
+        }
+      }
+      case BOOLEAN -> hasher.putBoolean(node.booleanValue());
+      case NULL, MISSING -> {}
+      default -> putText(hasher, node.toString());
     }
-    return streamNameToIndex.get(streamName);
   }
 
-  private int getStateHashCode(final AirbyteStateMessage stateMessage) {
-    return hashFunction.hashBytes(Jsons.serialize(stateMessage.getData()).getBytes(Charsets.UTF_8)).hashCode();
+  private static void putText(final Hasher hasher, final String text) {
+    hasher.putInt(text.length());
+    hasher.putString(text, StandardCharsets.UTF_8);
   }
 
   @Override
@@ -271,9 +365,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedRecords() {
-    return streamToTotalRecordsEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return byStreamName(streamToTotalRecordsEmitted);
   }
 
   /**
@@ -281,9 +373,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedBytes() {
-    return streamToTotalBytesEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return byStreamName(streamToTotalBytesEmitted);
   }
 
   /**
@@ -291,7 +381,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalRecordsEmitted() {
-    return streamToTotalRecordsEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalRecordsEmitted).sum();
   }
 
   /**
@@ -299,7 +389,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalBytesEmitted() {
-    return streamToTotalBytesEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalBytesEmitted).sum();
   }
 
   /**
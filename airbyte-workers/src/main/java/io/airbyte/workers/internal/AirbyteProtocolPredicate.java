@@ -5,27 +5,86 @@
 package io.airbyte.workers.internal;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteProtocolSchema;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.List;
 import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Verify that the provided JsonNode is a valid AirbyteMessage. Any AirbyteMessage type is allowed
  * (e.g. Record, State, Log, etc).
+ *
+ * <p>
+ * Records make up almost all of the messages of a sync, so their envelope is checked by hand
+ * against the fields the protocol requires for them. Anything that does not pass that check, as
+ * well as every other message type, is validated against the full protocol schema. Setting
+ * {@code fullValidation} (the default when debug logging is enabled) validates every message
+ * against the schema.
  */
 public class AirbyteProtocolPredicate implements Predicate<JsonNode> {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteProtocolPredicate.class);
+
+  private static final String PROTOCOL_SCHEMA_NAME = "AirbyteMessage";
+  // properties of the other message types, which only the schema knows how to check
+  private static final List<String> NON_RECORD_FIELDS = List.of("log", "spec", "connectionStatus", "catalog", "state", "trace");
+
   private final JsonSchemaValidator jsonSchemaValidator;
-  private final JsonNode schema;
+  private final boolean fullValidation;
 
   public AirbyteProtocolPredicate() {
-    jsonSchemaValidator = new JsonSchemaValidator();
-    schema = JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), "AirbyteMessage");
+    this(LOGGER.isDebugEnabled());
+  }
+
+  public AirbyteProtocolPredicate(final boolean fullValidation) {
+    this.jsonSchemaValidator = new JsonSchemaValidator();
+    this.fullValidation = fullValidation;
+    jsonSchemaValidator.initializeSchemaValidator(PROTOCOL_SCHEMA_NAME,
+        JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), PROTOCOL_SCHEMA_NAME));
   }
 
   @Override
   public boolean test(final JsonNode s) {
-    return jsonSchemaValidator.test(schema, s);
+    if (!fullValidation && isValidRecord(s)) {
+      return true;
+    }
+    return jsonSchemaValidator.testInitializedSchema(PROTOCOL_SCHEMA_NAME, s);
+  }
+
+  /**
+   * @return true if the node is a RECORD message with a string stream, an object data, an integer
+   *         emitted_at and, if present, a string namespace. A false result does not mean the message
+   *         is invalid, only that it has to go through schema validation.
+   */
+  static boolean isValidRecord(final JsonNode message) {
+    if (message == null || !message.isObject()) {
+      return false;
+    }
+    final JsonNode type = message.get("type");
+    if (type == null || !Type.RECORD.value().equals(type.textValue())) {
+      return false;
+    }
+    for (final String field : NON_RECORD_FIELDS) {
+      if (message.has(field)) {
+        return false;
+      }
+    }
+
+    final JsonNode record = message.get("record");
+    if (record == null || !record.isObject()) {
+      return false;
+    }
+    final JsonNode stream = record.get("stream");
+    final JsonNode data = record.get("data");
+    final JsonNode emittedAt = record.get("emitted_at");
+    final JsonNode namespace = record.get("namespace");
+    return stream != null && stream.isTextual()
+        && data != null && data.isObject()
+        && emittedAt != null && emittedAt.isIntegralNumber()
+        && (namespace == null || namespace.isTextual());
   }
 
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.config.FailureReason;
+import io.airbyte.config.State;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteTraceMessage;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link MessageTracker} that periodically hands the destination's state to a checkpointer while
+ * the sync is running (e.g. to save it to the config database), so that a sync that fails late can
+ * resume from the last state the destination committed instead of from the start.
+ * <p>
+ * Checkpoints are rate limited: one is taken when the destination emits a state, at least
+ * {@code minInterval} after the previous checkpoint (or the start of the sync) and after at least
+ * {@code minStateMessages} states since the previous checkpoint. A failing checkpoint is logged and
+ * does not fail the sync, since the state is saved again once the sync finishes.
+ */
+@Slf4j
+public class CheckpointingMessageTracker implements MessageTracker {
+
+  private final MessageTracker delegate;
+  private final CheckedConsumer<State, Exception> checkpointer;
+  private final long minIntervalMs;
+  private final int minStateMessages;
+  private final LongSupplier clock;
+
+  // only accessed from the destination output thread
+  private long lastCheckpointMs;
+  private int stateMessagesSinceCheckpoint;
+
+  public CheckpointingMessageTracker(final MessageTracker delegate,
+                                     final CheckedConsumer<State, Exception> checkpointer,
+                                     final Duration minInterval,
+                                     final int minStateMessages) {
+    this(delegate, checkpointer, minInterval, minStateMessages, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  CheckpointingMessageTracker(final MessageTracker delegate,
+                              final CheckedConsumer<State, Exception> checkpointer,
+                              final Duration minInterval,
+                              final int minStateMessages,
+                              final LongSupplier clock) {
+    this.delegate = delegate;
+    this.checkpointer = checkpointer;
+    this.minIntervalMs = minInterval.toMillis();
+    this.minStateMessages = minStateMessages;
+    this.clock = clock;
+    this.lastCheckpointMs = clock.getAsLong();
+    this.stateMessagesSinceCheckpoint = 0;
+  }
+
+  @Override
+  public void acceptFromSource(final AirbyteMessage message) {
+    delegate.acceptFromSource(message);
+  }
+
+  @Override
+  public void acceptFromDestination(final AirbyteMessage message) {
+    delegate.acceptFromDestination(message);
+    if (message.getType() != Type.STATE) {
+      return;
+    }
+
+    stateMessagesSinceCheckpoint++;
+    final long now = clock.getAsLong();
+    if (stateMessagesSinceCheckpoint < minStateMessages || now - lastCheckpointMs < minIntervalMs) {
+      return;
+    }
+
+    final Optional<State> state = delegate.getDestinationOutputState();
+    if (state.isEmpty()) {
+      return;
+    }
+    try {
+      checkpointer.accept(state.get());
+      log.info("Checkpointed destination state after {} state messages.", stateMessagesSinceCheckpoint);
+    } catch (final Exception e) {
+      log.warn("Failed to checkpoint destination state, it will be saved when the sync finishes.", e);
+    }
+    // also wait for the next interval after a failure, so that a failing checkpointer is not retried
+    // for every state message
+    lastCheckpointMs = now;
+    stateMessagesSinceCheckpoint = 0;
+  }
+
+  @Override
+  public Optional<State> getSourceOutputState() {
+    return delegate.getSourceOutputState();
+  }
+
+  @Override
+  public Optional<State> getDestinationOutputState() {
+    return delegate.getDestinationOutputState();
+  }
+
+  @Override
+  public Optional<Map<String, Long>> getStreamToCommittedRecords() {
+    return delegate.getStreamToCommittedRecords();
+  }
+
+  @Override
+  public Map<String, Long> getStreamToEmittedRecords() {
+    return delegate.getStreamToEmittedRecords();
+  }
+
+  @Override
+  public Map<String, Long> getStreamToEmittedBytes() {
+    return delegate.getStreamToEmittedBytes();
+  }
+
+  @Override
+  public long getTotalRecordsEmitted() {
+    return delegate.getTotalRecordsEmitted();
+  }
+
+  @Override
+  public long getTotalBytesEmitted() {
+    return delegate.getTotalBytesEmitted();
+  }
+
+  @Override
+  public Optional<Long> getTotalRecordsCommitted() {
+    return delegate.getTotalRecordsCommitted();
+  }
+
+  @Override
+  public Long getTotalStateMessagesEmitted() {
+    return delegate.getTotalStateMessagesEmitted();
+  }
+
+  @Override
+  public AirbyteTraceMessage getFirstDestinationErrorTraceMessage() {
+    return delegate.getFirstDestinationErrorTraceMessage();
+  }
+
+  @Override
+  public AirbyteTraceMessage getFirstSourceErrorTraceMessage() {
+    return delegate.getFirstSourceErrorTraceMessage();
+  }
+
+  @Override
+  public FailureReason errorTraceMessageFailure(final Long jobId, final Integer attempt) {
+    return delegate.errorTraceMessageFailure(jobId, attempt);
+  }
+
+}
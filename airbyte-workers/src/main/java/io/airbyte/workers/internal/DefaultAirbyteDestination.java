@@ -87,7 +87,12 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   public void accept(final AirbyteMessage message) throws IOException {
     Preconditions.checkState(destinationProcess != null && !inputHasEnded.get());
 
-    writer.write(Jsons.serialize(message));
+    // records that were not modified since they were read from the source are forwarded as is.
+    if (message instanceof PassthroughAirbyteMessage && ((PassthroughAirbyteMessage) message).getSerialized().isPresent()) {
+      writer.write(((PassthroughAirbyteMessage) message).getSerialized().get());
+    } else {
+      writer.write(Jsons.serialize(message));
+    }
     writer.newLine();
   }
 
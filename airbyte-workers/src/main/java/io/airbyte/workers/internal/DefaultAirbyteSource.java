@@ -50,7 +50,15 @@ public class DefaultAirbyteSource implements AirbyteSource {
   private Integer exitValue = null;
 
   public DefaultAirbyteSource(final WorkerConfigs workerConfigs, final IntegrationLauncher integrationLauncher) {
-    this(workerConfigs, integrationLauncher, new DefaultAirbyteStreamFactory(CONTAINER_LOG_MDC_BUILDER),
+    this(workerConfigs, integrationLauncher, false);
+  }
+
+  /**
+   * @param passthroughRecords if true, RECORD messages keep the line they were read from so that it
+   *        can be forwarded to the destination as is. See {@link PassthroughAirbyteMessage}.
+   */
+  public DefaultAirbyteSource(final WorkerConfigs workerConfigs, final IntegrationLauncher integrationLauncher, final boolean passthroughRecords) {
+    this(workerConfigs, integrationLauncher, new DefaultAirbyteStreamFactory(CONTAINER_LOG_MDC_BUILDER, passthroughRecords),
         new HeartbeatMonitor(HEARTBEAT_FRESH_DURATION));
   }
 
@@ -32,19 +32,38 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
   private final MdcScope.Builder containerLogMdcBuilder;
   private final AirbyteProtocolPredicate protocolValidator;
   private final Logger logger;
+  private final boolean passthroughRecords;
 
   public DefaultAirbyteStreamFactory() {
     this(MdcScope.DEFAULT_BUILDER);
   }
 
   public DefaultAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder) {
-    this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder);
+    this(containerLogMdcBuilder, false);
+  }
+
+  /**
+   * @param passthroughRecords if true, RECORD lines are recognized from their envelope (see
+   *        {@link AirbyteMessageEnvelope}) and deserialized straight into a
+   *        {@link PassthroughAirbyteMessage} that keeps the original line, instead of going through an
+   *        intermediate JsonNode and the full protocol schema validation.
+   */
+  public DefaultAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder, final boolean passthroughRecords) {
+    this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder, passthroughRecords);
   }
 
   DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger, final MdcScope.Builder containerLogMdcBuilder) {
+    this(protocolPredicate, logger, containerLogMdcBuilder, false);
+  }
+
+  DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate,
+                              final Logger logger,
+                              final MdcScope.Builder containerLogMdcBuilder,
+                              final boolean passthroughRecords) {
     protocolValidator = protocolPredicate;
     this.logger = logger;
     this.containerLogMdcBuilder = containerLogMdcBuilder;
+    this.passthroughRecords = passthroughRecords;
   }
 
   @Override
@@ -52,31 +71,13 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
     return bufferedReader
         .lines()
         .flatMap(line -> {
-          final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
-          if (jsonLine.isEmpty()) {
-            // we log as info all the lines that are not valid json
-            // some sources actually log their process on stdout, we
-            // want to make sure this info is available in the logs.
-            try (final var mdcScope = containerLogMdcBuilder.build()) {
-              logger.info(line);
+          if (passthroughRecords) {
+            final Optional<AirbyteMessage> record = tryPassthroughRecord(line);
+            if (record.isPresent()) {
+              return record.stream();
             }
           }
-          return jsonLine.stream();
-        })
-        // filter invalid messages
-        .filter(jsonLine -> {
-          final boolean res = protocolValidator.test(jsonLine);
-          if (!res) {
-            logger.error("Validation failed: {}", Jsons.serialize(jsonLine));
-          }
-          return res;
-        })
-        .flatMap(jsonLine -> {
-          final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine, AirbyteMessage.class);
-          if (m.isEmpty()) {
-            logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine));
-          }
-          return m.stream();
+          return parseMessage(line).stream();
         })
         // filter logs
         .filter(airbyteMessage -> {
@@ -90,6 +91,45 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
         });
   }
 
+  private Optional<AirbyteMessage> parseMessage(final String line) {
+    final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
+    if (jsonLine.isEmpty()) {
+      // we log as info all the lines that are not valid json
+      // some sources actually log their process on stdout, we
+      // want to make sure this info is available in the logs.
+      try (final var mdcScope = containerLogMdcBuilder.build()) {
+        logger.info(line);
+      }
+      return Optional.empty();
+    }
+
+    // filter invalid messages
+    if (!protocolValidator.test(jsonLine.get())) {
+      logger.error("Validation failed: {}", Jsons.serialize(jsonLine.get()));
+      return Optional.empty();
+    }
+
+    final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine.get(), AirbyteMessage.class);
+    if (m.isEmpty()) {
+      logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine.get()));
+    }
+    return m;
+  }
+
+  /**
+   * @return the record, or empty if the line is not a well-formed RECORD message, in which case it
+   *         goes through the regular parsing so that it is logged the same way as before.
+   */
+  private Optional<AirbyteMessage> tryPassthroughRecord(final String line) {
+    final Optional<AirbyteMessageEnvelope> envelope = AirbyteMessageEnvelope.scan(line);
+    if (envelope.isEmpty() || envelope.get().getType() != AirbyteMessage.Type.RECORD) {
+      return Optional.empty();
+    }
+    final String serialized = envelope.get().getLength() == line.length() ? line : line.substring(0, envelope.get().getLength());
+    return Jsons.tryDeserialize(serialized, PassthroughAirbyteMessage.class)
+        .<AirbyteMessage>map(message -> message.withSerialized(serialized));
+  }
+
   private void internalLog(final AirbyteLogMessage logMessage) {
     switch (logMessage.getLevel()) {
       case FATAL, ERROR -> logger.error(logMessage.getMessage());
@@ -61,8 +61,15 @@ public class NamespacingMapper implements AirbyteMapper {
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
     if (inputMessage.getType() == Type.RECORD) {
-      final AirbyteMessage message = Jsons.clone(inputMessage);
       // Default behavior if namespaceDefinition is not set is to follow SOURCE
+      final boolean keepsNamespace = namespaceDefinition == null || namespaceDefinition.equals(NamespaceDefinitionType.SOURCE);
+      if (keepsNamespace && Strings.isBlank(streamPrefix)) {
+        // nothing to change, so avoid copying the message. this also lets a serialized record be
+        // forwarded to the destination as is.
+        return inputMessage;
+      }
+
+      final AirbyteMessage message = Jsons.clone(inputMessage);
       if (namespaceDefinition != null) {
         if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
           message.getRecord().withNamespace(null);
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.Optional;
+
+/**
+ * An AirbyteMessage that remembers the line it was deserialized from. As long as the message is not
+ * modified, the destination can write that line as is instead of serializing the message again.
+ *
+ * <p>
+ * Mappers that change a message must copy it (e.g. with {@link io.airbyte.commons.json.Jsons#clone})
+ * instead of mutating it in place. A copy does not carry the original line and is serialized
+ * normally.
+ */
+public class PassthroughAirbyteMessage extends AirbyteMessage {
+
+  @JsonIgnore
+  private String serialized;
+
+  /**
+   * @return the line this message was read from, if it was read from a connector.
+   */
+  @JsonIgnore
+  public Optional<String> getSerialized() {
+    return Optional.ofNullable(serialized);
+  }
+
+  PassthroughAirbyteMessage withSerialized(final String serialized) {
+    this.serialized = serialized;
+    return this;
+  }
+
+}
@@ -5,144 +5,282 @@
 package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * This class tracks "deltas" between states in compact {@code byte[]}s with the following schema:
+ * This class tracks "deltas" between states in compact binary records with the following schema:
  *
  * <pre>
- *  [(state hash),(stream index),(record count)...] with the last two elements repeating per stream in the delta.
+ *  [(state hash),(stream count),(stream index),(record count)...] with the last two elements repeating per stream in the delta.
  * </pre>
  * <p>
  * This class also maintains a {@code Set} of {@code committedStateHashes} so that it can accumulate
  * both committed and total record counts per stream.
  * <p>
- * The StateDeltaTracker is initialized with a memory limit. If this memory limit is exceeded, new
- * states deltas will not be added and per-stream record counts will not be able to be computed.
- * This is to prevent OutOfMemoryErrors from crashing the sync.
+ * Deltas are appended by the source thread ({@link #addState}) and consumed by the destination
+ * thread ({@link #commitStateHash}), which is the only pairing this class supports. They are stored
+ * in a single-producer/single-consumer queue of off-heap segments, so neither side takes a lock:
+ * the producer publishes a delta by advancing the volatile write position of its segment, and links
+ * a new segment once the current one is full. The consumer drops segments it has read completely.
+ * <p>
+ * The StateDeltaTracker is initialized with a memory limit. Once the segments held in memory reach
+ * that limit, new segments are memory-mapped from a temporary file instead, up to the spill limit.
+ * If both limits are exceeded, new states deltas will not be added and per-stream record counts
+ * will not be able to be computed. This is to prevent OutOfMemoryErrors from crashing the sync.
  */
 @Slf4j
 public class StateDeltaTracker {
 
   private static final int STATE_HASH_BYTES = Integer.BYTES;
+  private static final int STREAM_COUNT_BYTES = Integer.BYTES;
   private static final int STREAM_INDEX_BYTES = Short.BYTES;
   private static final int RECORD_COUNT_BYTES = Long.BYTES;
   private static final int BYTES_PER_STREAM = STREAM_INDEX_BYTES + RECORD_COUNT_BYTES;
 
+  @VisibleForTesting
+  static final int SEGMENT_BYTES = 64 * 1024;
+
+  private final long memoryLimitBytes;
+  private final long spillLimitBytes;
+  private final AtomicLong memoryInUse;
+
+  // only accessed by the consumer
   private final Set<Integer> committedStateHashes;
+  private Segment head;
+
+  // only accessed by the producer
+  private Segment tail;
+  private FileChannel spillChannel;
+  private long spilledBytes;
+
   private final Map<Short, Long> streamToCommittedRecords;
 
-  /**
-   * Every time a state is added, a new byte[] containing the state hash and per-stream delta will be
-   * added to this list. Every time a state is committed, state deltas up to the committed state are
-   * removed from the head of the list and aggregated into the committed count map. The source thread
-   * adds while the destination thread removes, so synchronization is necessary to provide
-   * thread-safety.
-   */
-  @VisibleForTesting
-  protected final List<byte[]> stateDeltas;
+  // each is only written by one side, so a volatile is enough to publish it to the other
+  private volatile long addedStates;
+  private volatile long committedStates;
 
   @VisibleForTesting
-  protected long remainingCapacity;
-  @VisibleForTesting
-  protected boolean capacityExceeded;
+  protected volatile boolean capacityExceeded;
 
   public StateDeltaTracker(final long memoryLimitBytes) {
+    this(memoryLimitBytes, 0L);
+  }
+
+  /**
+   * @param memoryLimitBytes maximum size of the segments held in (off-heap) memory.
+   * @param spillLimitBytes maximum size of the segments mapped from disk once memory is full, over the
+   *        whole life of the tracker. 0 disables spilling.
+   */
+  public StateDeltaTracker(final long memoryLimitBytes, final long spillLimitBytes) {
+    this.memoryLimitBytes = memoryLimitBytes;
+    this.spillLimitBytes = spillLimitBytes;
+    this.memoryInUse = new AtomicLong(0L);
     this.committedStateHashes = new HashSet<>();
-    this.streamToCommittedRecords = new HashMap<>();
-    this.stateDeltas = new ArrayList<>();
-    this.remainingCapacity = memoryLimitBytes;
+    this.streamToCommittedRecords = new ConcurrentHashMap<>();
+    // empty segment, so that head and tail are never null
+    this.head = new Segment(ByteBuffer.allocate(0), false);
+    this.tail = head;
+    this.spilledBytes = 0L;
+    this.addedStates = 0L;
+    this.committedStates = 0L;
     this.capacityExceeded = false;
   }
 
   /**
-   * Converts the given state hash and per-stream record count map into a {@code byte[]} and stores
-   * it.
-   * <p>
-   * This method leverages a synchronized block to provide thread safety between the source thread
-   * calling addState while the destination thread calls commitStateHash.
+   * Writes the given state hash and per-stream record count map as a delta and publishes it to the
+   * consumer. Must only be called from a single thread.
    *
-   * @throws StateDeltaTrackerException thrown when the memory footprint of stateDeltas exceeds
-   *         available capacity.
+   * @throws StateDeltaTrackerException thrown when the footprint of the deltas exceeds both the
+   *         memory and the spill capacity.
    */
   public void addState(final int stateHash, final Map<Short, Long> streamIndexToRecordCount) throws StateDeltaTrackerException {
-    synchronized (this) {
-      final int size = STATE_HASH_BYTES + (streamIndexToRecordCount.size() * BYTES_PER_STREAM);
-
-      if (capacityExceeded || remainingCapacity < size) {
-        capacityExceeded = true;
-        throw new StateDeltaTrackerException("Memory capacity is exceeded for StateDeltaTracker.");
-      }
-
-      final ByteBuffer delta = ByteBuffer.allocate(size);
-
-      delta.putInt(stateHash);
+    if (capacityExceeded) {
+      throw new StateDeltaTrackerException("Memory capacity is exceeded for StateDeltaTracker.");
+    }
 
-      for (final Map.Entry<Short, Long> entry : streamIndexToRecordCount.entrySet()) {
-        delta.putShort(entry.getKey());
-        delta.putLong(entry.getValue());
-      }
+    final int size = STATE_HASH_BYTES + STREAM_COUNT_BYTES + (streamIndexToRecordCount.size() * BYTES_PER_STREAM);
+    Segment segment = tail;
+    if (segment.buffer.capacity() - segment.writePosition < size) {
+      segment = allocateSegment(size);
+      tail.next = segment;
+      tail = segment;
+    }
 
-      stateDeltas.add(delta.array());
-      remainingCapacity -= delta.array().length;
+    final ByteBuffer buffer = segment.buffer;
+    int position = segment.writePosition;
+    buffer.putInt(position, stateHash);
+    position += STATE_HASH_BYTES;
+    buffer.putInt(position, streamIndexToRecordCount.size());
+    position += STREAM_COUNT_BYTES;
+    for (final Map.Entry<Short, Long> entry : streamIndexToRecordCount.entrySet()) {
+      buffer.putShort(position, entry.getKey());
+      position += STREAM_INDEX_BYTES;
+      buffer.putLong(position, entry.getValue());
+      position += RECORD_COUNT_BYTES;
     }
+
+    // the volatile write makes the delta visible to the consumer
+    segment.writePosition = position;
+    addedStates = addedStates + 1;
   }
 
   /**
-   * Mark the given {@code stateHash} as committed.
-   * <p>
-   * This method leverages a synchronized block to provide thread safety between the source thread
-   * calling addState while the destination thread calls commitStateHash.
+   * Mark the given {@code stateHash} as committed. Must only be called from a single thread, which
+   * may be a different one than the one adding states.
    *
    * @throws StateDeltaTrackerException thrown when committed counts can no longer be reliably
    *         computed.
    */
   public void commitStateHash(final int stateHash) throws StateDeltaTrackerException {
-    synchronized (this) {
-      if (capacityExceeded) {
-        throw new StateDeltaTrackerException("Memory capacity exceeded for StateDeltaTracker, so states cannot be reliably committed");
-      }
-      if (committedStateHashes.contains(stateHash)) {
-        throw new StateDeltaTrackerException(
-            String.format("State hash %d was already committed, likely indicating a state hash collision", stateHash));
+    if (capacityExceeded) {
+      throw new StateDeltaTrackerException("Memory capacity exceeded for StateDeltaTracker, so states cannot be reliably committed");
+    }
+    if (committedStateHashes.contains(stateHash)) {
+      throw new StateDeltaTrackerException(
+          String.format("State hash %d was already committed, likely indicating a state hash collision", stateHash));
+    }
+
+    committedStateHashes.add(stateHash);
+    int currStateHash;
+    do {
+      final Segment segment = nextReadableSegment();
+      if (segment == null) {
+        throw new StateDeltaTrackerException(String.format("Delta was not stored for state hash %d", stateHash));
       }
 
-      committedStateHashes.add(stateHash);
-      int currStateHash;
-      do {
-        if (stateDeltas.isEmpty()) {
-          throw new StateDeltaTrackerException(String.format("Delta was not stored for state hash %d", stateHash));
-        }
-        // as deltas are removed and aggregated into committed count map, reclaim capacity
-        final ByteBuffer currDelta = ByteBuffer.wrap(stateDeltas.remove(0));
-        remainingCapacity += currDelta.capacity();
-
-        currStateHash = currDelta.getInt();
-
-        final int numStreams = (currDelta.capacity() - STATE_HASH_BYTES) / BYTES_PER_STREAM;
-        for (int i = 0; i < numStreams; i++) {
-          final short streamIndex = currDelta.getShort();
-          final long recordCount = currDelta.getLong();
-
-          // aggregate delta into committed count map
-          final long committedRecordCount = streamToCommittedRecords.getOrDefault(streamIndex, 0L);
-          streamToCommittedRecords.put(streamIndex, committedRecordCount + recordCount);
-        }
-      } while (currStateHash != stateHash); // repeat until each delta up to the committed state is aggregated
-    }
+      final ByteBuffer buffer = segment.buffer;
+      int position = segment.readPosition;
+      currStateHash = buffer.getInt(position);
+      position += STATE_HASH_BYTES;
+      final int numStreams = buffer.getInt(position);
+      position += STREAM_COUNT_BYTES;
+      for (int i = 0; i < numStreams; i++) {
+        final short streamIndex = buffer.getShort(position);
+        position += STREAM_INDEX_BYTES;
+        final long recordCount = buffer.getLong(position);
+        position += RECORD_COUNT_BYTES;
+
+        // aggregate delta into committed count map
+        streamToCommittedRecords.merge(streamIndex, recordCount, Long::sum);
+      }
+      segment.readPosition = position;
+      committedStates = committedStates + 1;
+    } while (currStateHash != stateHash); // repeat until each delta up to the committed state is aggregated
   }
 
   public Map<Short, Long> getStreamToCommittedRecords() {
     return streamToCommittedRecords;
   }
 
+  /**
+   * @return number of states that were added but not committed yet.
+   */
+  @VisibleForTesting
+  protected long getUncommittedStateCount() {
+    return addedStates - committedStates;
+  }
+
+  @VisibleForTesting
+  protected long getMemoryInUse() {
+    return memoryInUse.get();
+  }
+
+  @VisibleForTesting
+  protected long getSpilledBytes() {
+    return spilledBytes;
+  }
+
+  /**
+   * @return the segment holding the next delta to consume, or null if every added delta was consumed.
+   *         Segments that were read completely are dropped and their memory reclaimed.
+   */
+  private Segment nextReadableSegment() {
+    while (true) {
+      if (head.readPosition < head.writePosition) {
+        return head;
+      }
+      final Segment next = head.next;
+      if (next == null) {
+        return null;
+      }
+      // the producer links the next segment only once it stopped writing to this one, so this read
+      // of the write position is final
+      if (head.readPosition < head.writePosition) {
+        return head;
+      }
+      if (head.inMemory) {
+        memoryInUse.addAndGet(-head.buffer.capacity());
+      }
+      head = next;
+    }
+  }
+
+  private Segment allocateSegment(final int minimumBytes) throws StateDeltaTrackerException {
+    final int preferredBytes = Math.max(SEGMENT_BYTES, minimumBytes);
+
+    final long memoryBytes = Math.min(preferredBytes, memoryLimitBytes - memoryInUse.get());
+    if (memoryBytes >= minimumBytes) {
+      memoryInUse.addAndGet(memoryBytes);
+      return new Segment(ByteBuffer.allocateDirect((int) memoryBytes), true);
+    }
+
+    final long spillBytes = Math.min(preferredBytes, spillLimitBytes - spilledBytes);
+    if (spillBytes >= minimumBytes) {
+      try {
+        final ByteBuffer buffer = getSpillChannel().map(MapMode.READ_WRITE, spilledBytes, spillBytes);
+        spilledBytes += spillBytes;
+        return new Segment(buffer, false);
+      } catch (final IOException e) {
+        log.warn("Failed to spill state deltas to disk.", e);
+      }
+    }
+
+    capacityExceeded = true;
+    throw new StateDeltaTrackerException("Memory capacity is exceeded for StateDeltaTracker.");
+  }
+
+  private FileChannel getSpillChannel() throws IOException {
+    if (spillChannel == null) {
+      log.info("StateDeltaTracker memory limit of {} bytes reached, spilling state deltas to disk.", memoryLimitBytes);
+      final Path spillFile = Files.createTempFile("state-deltas", ".bin");
+      spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      // the channel and its mappings keep the data reachable, and the disk space is released once
+      // they are garbage collected
+      Files.delete(spillFile);
+    }
+    return spillChannel;
+  }
+
+  /**
+   * A fixed size block of deltas, either off-heap or mapped from the spill file.
+   */
+  private static final class Segment {
+
+    private final ByteBuffer buffer;
+    private final boolean inMemory;
+    private volatile int writePosition;
+    private volatile Segment next;
+    private int readPosition;
+
+    private Segment(final ByteBuffer buffer, final boolean inMemory) {
+      this.buffer = buffer;
+      this.inMemory = inMemory;
+    }
+
+  }
+
   /**
    * Thrown when the StateDeltaTracker encounters an issue that prevents it from reliably computing
    * committed record deltas.
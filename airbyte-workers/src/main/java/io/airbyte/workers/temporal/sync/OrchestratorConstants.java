@@ -42,6 +42,8 @@ public class OrchestratorConstants {
           EnvConfigs.JOB_MAIN_CONTAINER_MEMORY_LIMIT,
           EnvConfigs.JOB_DEFAULT_ENV_MAP,
           EnvConfigs.LOCAL_ROOT,
+          EnvConfigs.RECORD_SCHEMA_VALIDATION_SAMPLE_RATE,
+          EnvConfigs.RECORD_SCHEMA_VALIDATION_MAX_TIME_FRACTION,
           LOG_LEVEL,
           LogClientSingleton.GCS_LOG_BUCKET,
           LogClientSingleton.GOOGLE_APPLICATION_CREDENTIALS,
@@ -61,7 +63,9 @@ public class OrchestratorConstants {
           EnvConfigs.STATE_STORAGE_S3_ACCESS_KEY,
           EnvConfigs.STATE_STORAGE_S3_SECRET_ACCESS_KEY,
           EnvConfigs.STATE_STORAGE_S3_REGION,
-          EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE))
+          EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE,
+          EnvVariableFeatureFlags.USE_PIPELINED_REPLICATION,
+          EnvVariableFeatureFlags.USE_RECORD_PASSTHROUGH))
       .build();
 
   public static final String INIT_FILE_ENV_MAP = "envMap.json";
@@ -5,6 +5,7 @@
 package io.airbyte.workers.temporal.sync;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.AirbyteConfigValidator;
@@ -15,7 +16,10 @@ import io.airbyte.config.ResourceRequirements;
 import io.airbyte.config.StandardSyncInput;
 import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.StateWrapper;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.helpers.StateMessageHelper;
+import io.airbyte.config.persistence.StatePersistence;
 import io.airbyte.config.persistence.split_secrets.SecretsHydrator;
 import io.airbyte.scheduler.models.IntegrationLauncherConfig;
 import io.airbyte.scheduler.models.JobRunConfig;
@@ -30,9 +34,11 @@ import io.airbyte.workers.WorkerUtils;
 import io.airbyte.workers.general.DefaultReplicationWorker;
 import io.airbyte.workers.internal.AirbyteMessageTracker;
 import io.airbyte.workers.internal.AirbyteSource;
+import io.airbyte.workers.internal.CheckpointingMessageTracker;
 import io.airbyte.workers.internal.DefaultAirbyteDestination;
 import io.airbyte.workers.internal.DefaultAirbyteSource;
 import io.airbyte.workers.internal.EmptyAirbyteSource;
+import io.airbyte.workers.internal.MessageTracker;
 import io.airbyte.workers.internal.NamespacingMapper;
 import io.airbyte.workers.process.AirbyteIntegrationLauncher;
 import io.airbyte.workers.process.IntegrationLauncher;
@@ -44,6 +50,7 @@ import io.temporal.activity.Activity;
 import io.temporal.activity.ActivityExecutionContext;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -64,8 +71,9 @@ public class ReplicationActivityImpl implements ReplicationActivity {
   private final LogConfigs logConfigs;
 
   private final JobPersistence jobPersistence;
+  private final StatePersistence statePersistence;
   private final String airbyteVersion;
-  private final boolean useStreamCapableState;
+  private final FeatureFlags featureFlags;
 
   public ReplicationActivityImpl(final Optional<WorkerApp.ContainerOrchestratorConfig> containerOrchestratorConfig,
                                  final WorkerConfigs workerConfigs,
@@ -75,10 +83,11 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                                  final WorkerEnvironment workerEnvironment,
                                  final LogConfigs logConfigs,
                                  final JobPersistence jobPersistence,
+                                 final StatePersistence statePersistence,
                                  final String airbyteVersion,
-                                 final boolean useStreamCapableState) {
+                                 final FeatureFlags featureFlags) {
     this(containerOrchestratorConfig, workerConfigs, processFactory, secretsHydrator, workspaceRoot, workerEnvironment, logConfigs,
-        new AirbyteConfigValidator(), jobPersistence, airbyteVersion, useStreamCapableState);
+        new AirbyteConfigValidator(), jobPersistence, statePersistence, airbyteVersion, featureFlags);
   }
 
   @VisibleForTesting
@@ -91,8 +100,9 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                           final LogConfigs logConfigs,
                           final AirbyteConfigValidator validator,
                           final JobPersistence jobPersistence,
+                          final StatePersistence statePersistence,
                           final String airbyteVersion,
-                          final boolean useStreamCapableState) {
+                          final FeatureFlags featureFlags) {
     this.containerOrchestratorConfig = containerOrchestratorConfig;
     this.workerConfigs = workerConfigs;
     this.processFactory = processFactory;
@@ -102,8 +112,9 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     this.workerEnvironment = workerEnvironment;
     this.logConfigs = logConfigs;
     this.jobPersistence = jobPersistence;
+    this.statePersistence = statePersistence;
     this.airbyteVersion = airbyteVersion;
-    this.useStreamCapableState = useStreamCapableState;
+    this.featureFlags = featureFlags;
   }
 
   @Override
@@ -208,8 +219,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
       // reset jobs use an empty source to induce resetting all data in destination.
       final AirbyteSource airbyteSource =
           sourceLauncherConfig.getDockerImage().equals(WorkerConstants.RESET_JOB_SOURCE_DOCKER_IMAGE_STUB)
-              ? new EmptyAirbyteSource(useStreamCapableState)
-              : new DefaultAirbyteSource(workerConfigs, sourceLauncher);
+              ? new EmptyAirbyteSource(featureFlags.useStreamCapableState())
+              : new DefaultAirbyteSource(workerConfigs, sourceLauncher, featureFlags.useRecordPassthrough());
 
       return new DefaultReplicationWorker(
           jobRunConfig.getJobId(),
@@ -217,11 +228,37 @@ public class ReplicationActivityImpl implements ReplicationActivity {
           airbyteSource,
           new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
           new DefaultAirbyteDestination(workerConfigs, destinationLauncher),
-          new AirbyteMessageTracker(),
-          new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput)));
+          getMessageTracker(jobRunConfig),
+          new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput),
+              workerConfigs.getRecordSchemaValidationSampleRate(),
+              workerConfigs.getRecordSchemaValidationMaxTimeFraction()),
+          featureFlags.usePipelinedReplication());
     };
   }
 
+  /**
+   * If a state checkpoint interval is configured, the destination's state is saved to the config
+   * database while the sync is running, and not only once it finishes.
+   */
+  private MessageTracker getMessageTracker(final JobRunConfig jobRunConfig) throws IOException {
+    final MessageTracker messageTracker = new AirbyteMessageTracker();
+    if (workerConfigs.getStateCheckpointIntervalSeconds() <= 0) {
+      return messageTracker;
+    }
+
+    final UUID connectionId = UUID.fromString(jobPersistence.getJob(Long.parseLong(jobRunConfig.getJobId())).getScope());
+    return new CheckpointingMessageTracker(
+        messageTracker,
+        state -> {
+          final Optional<StateWrapper> maybeStateWrapper = StateMessageHelper.getTypedState(state.getState(), featureFlags.useStreamCapableState());
+          if (maybeStateWrapper.isPresent()) {
+            statePersistence.updateOrCreateState(connectionId, maybeStateWrapper.get());
+          }
+        },
+        Duration.ofSeconds(workerConfigs.getStateCheckpointIntervalSeconds()),
+        workerConfigs.getStateCheckpointMinStateMessages());
+  }
+
   private CheckedSupplier<Worker<StandardSyncInput, ReplicationOutput>, Exception> getContainerLauncherWorkerFactory(
                                                                                                                      final ContainerOrchestratorConfig containerOrchestratorConfig,
                                                                                                                      final IntegrationLauncherConfig sourceLauncherConfig,
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the records/sec that {@link RecordSchemaValidator} can process without validation, with
+ * every record validated, and with sampled validation.
+ */
+class RecordSchemaValidatorPerformanceTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RecordSchemaValidatorPerformanceTest.class);
+
+  private static final String STREAM_NAME = "wide_stream";
+  private static final int NUMBER_OF_RECORDS = 1_000_000;
+
+  @ParameterizedTest
+  @CsvSource({
+    "10",
+    "100"
+  })
+  void testPerformance(final int numberOfColumns) throws Exception {
+    final List<Field> fields = IntStream.range(0, numberOfColumns)
+        .mapToObj(i -> Field.of("column_" + i, i % 2 == 0 ? JsonSchemaType.STRING : JsonSchemaType.NUMBER))
+        .collect(Collectors.toList());
+    final JsonNode schema = CatalogHelpers.fieldsToJsonSchema(fields);
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    IntStream.range(0, numberOfColumns).forEach(i -> {
+      if (i % 2 == 0) {
+        data.put("column_" + i, "value " + i);
+      } else {
+        data.put("column_" + i, i);
+      }
+    });
+    final AirbyteRecordMessage record = new AirbyteRecordMessage().withStream(STREAM_NAME).withData(data);
+
+    // only the first record is validated, which measures the bookkeeping cost of skipping validation
+    final long offMs = run(new RecordSchemaValidator(Map.of(STREAM_NAME, schema), Integer.MAX_VALUE, 1.0), record);
+    final long onMs = run(new RecordSchemaValidator(Map.of(STREAM_NAME, schema)), record);
+    final long sampledMs = run(new RecordSchemaValidator(Map.of(STREAM_NAME, schema), 100, 1.0), record);
+    final long budgetedMs = run(new RecordSchemaValidator(Map.of(STREAM_NAME, schema), 1, 0.1), record);
+
+    LOGGER.info("{} columns: off {} records/s, every record {} records/s, 1 in 100 {} records/s, 10% time budget {} records/s",
+        numberOfColumns,
+        recordsPerSecond(offMs),
+        recordsPerSecond(onMs),
+        recordsPerSecond(sampledMs),
+        recordsPerSecond(budgetedMs));
+  }
+
+  private static long run(final RecordSchemaValidator validator, final AirbyteRecordMessage record) throws Exception {
+    final long start = System.currentTimeMillis();
+    for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+      validator.validateSchema(record, STREAM_NAME);
+    }
+    return System.currentTimeMillis() - start;
+  }
+
+  private static long recordsPerSecond(final long durationMs) {
+    return NUMBER_OF_RECORDS * 1000L / Math.max(durationMs, 1);
+  }
+
+}
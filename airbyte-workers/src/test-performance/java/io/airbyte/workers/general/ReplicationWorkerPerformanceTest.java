@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.config.ReplicationOutput;
+import io.airbyte.config.StandardSyncInput;
+import io.airbyte.config.StandardSyncSummary.ReplicationStatus;
+import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerUtils;
+import io.airbyte.workers.internal.AirbyteDestination;
+import io.airbyte.workers.internal.AirbyteMessageTracker;
+import io.airbyte.workers.internal.AirbyteSource;
+import io.airbyte.workers.internal.NamespacingMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of the single threaded and pipelined replication paths of
+ * {@link DefaultReplicationWorker}. Source and destination are in-memory stand-ins so that the
+ * measurement only covers the work done by the worker itself (validation, mapping, tracking and
+ * serialization).
+ */
+class ReplicationWorkerPerformanceTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationWorkerPerformanceTest.class);
+
+  private static final String STREAM_NAME = "wide_stream";
+
+  @ParameterizedTest
+  @CsvSource({
+    "500000, 10",
+    "200000, 100"
+  })
+  void testPerformance(final int numberOfRecords, final int numberOfColumns) throws Exception {
+    final long singleThreadedMs = runSync(numberOfRecords, numberOfColumns, false);
+    final long pipelinedMs = runSync(numberOfRecords, numberOfColumns, true);
+
+    LOGGER.info("{} records x {} columns: single threaded {} ms ({} records/s), pipelined {} ms ({} records/s)",
+        numberOfRecords,
+        numberOfColumns,
+        singleThreadedMs,
+        numberOfRecords * 1000L / Math.max(singleThreadedMs, 1),
+        pipelinedMs,
+        numberOfRecords * 1000L / Math.max(pipelinedMs, 1));
+  }
+
+  private static long runSync(final int numberOfRecords, final int numberOfColumns, final boolean pipelined) throws Exception {
+    final List<Field> fields = IntStream.range(0, numberOfColumns)
+        .mapToObj(i -> Field.of("column_" + i, JsonSchemaType.STRING))
+        .collect(Collectors.toList());
+    final ConfiguredAirbyteCatalog catalog = CatalogHelpers.createConfiguredAirbyteCatalog(STREAM_NAME, null, fields);
+    final StandardSyncInput syncInput = new StandardSyncInput()
+        .withNamespaceDefinition(NamespaceDefinitionType.SOURCE)
+        .withSourceConfiguration(Jsons.emptyObject())
+        .withDestinationConfiguration(Jsons.emptyObject())
+        .withCatalog(catalog);
+
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    fields.forEach(field -> data.put(field.getName(), "value of " + field.getName()));
+
+    final CountingDestination destination = new CountingDestination();
+    final DefaultReplicationWorker worker = new DefaultReplicationWorker(
+        "0",
+        0,
+        new InMemorySource(numberOfRecords, data),
+        new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null),
+        destination,
+        new AirbyteMessageTracker(),
+        new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput)),
+        pipelined);
+
+    final Path jobRoot = Files.createTempDirectory("replication_performance");
+    final long start = System.currentTimeMillis();
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+    final long duration = System.currentTimeMillis() - start;
+
+    assertEquals(ReplicationStatus.COMPLETED, output.getReplicationAttemptSummary().getStatus());
+    assertEquals(numberOfRecords, destination.recordCount);
+    return duration;
+  }
+
+  private static class InMemorySource implements AirbyteSource {
+
+    private final int numberOfRecords;
+    private final ObjectNode data;
+    private int emitted = 0;
+
+    InMemorySource(final int numberOfRecords, final ObjectNode data) {
+      this.numberOfRecords = numberOfRecords;
+      this.data = data;
+    }
+
+    @Override
+    public void start(final WorkerSourceConfig sourceConfig, final Path jobRoot) {}
+
+    @Override
+    public boolean isFinished() {
+      return emitted >= numberOfRecords;
+    }
+
+    @Override
+    public int getExitValue() {
+      return 0;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      emitted++;
+      return Optional.of(new AirbyteMessage()
+          .withType(Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withStream(STREAM_NAME)
+              .withEmittedAt(System.currentTimeMillis())
+              .withData(data.deepCopy())));
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void cancel() {}
+
+  }
+
+  /**
+   * Serializes every message like {@link io.airbyte.workers.internal.DefaultAirbyteDestination}
+   * does, but discards the output.
+   */
+  private static class CountingDestination implements AirbyteDestination {
+
+    private final Writer writer = Writer.nullWriter();
+    private final CountDownLatch endOfInput = new CountDownLatch(1);
+    private volatile int recordCount = 0;
+
+    @Override
+    public void start(final WorkerDestinationConfig destinationConfig, final Path jobRoot) {}
+
+    @Override
+    public void accept(final AirbyteMessage message) throws IOException {
+      writer.write(Jsons.serialize(message));
+      writer.write('\n');
+      recordCount++;
+    }
+
+    @Override
+    public void notifyEndOfInput() {
+      endOfInput.countDown();
+    }
+
+    @Override
+    public boolean isFinished() {
+      return endOfInput.getCount() == 0;
+    }
+
+    @Override
+    public int getExitValue() {
+      return 0;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      try {
+        endOfInput.await(100, TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return Optional.empty();
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void cancel() {}
+
+  }
+
+}
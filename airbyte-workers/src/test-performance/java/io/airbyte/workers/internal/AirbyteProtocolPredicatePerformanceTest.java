@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the messages/sec that {@link AirbyteProtocolPredicate} can validate with the record fast
+ * path and with full schema validation. Records are shaped like the ones of the e2e-test continuous
+ * feed source: a handful of random string, number, boolean and nested object columns.
+ */
+class AirbyteProtocolPredicatePerformanceTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteProtocolPredicatePerformanceTest.class);
+
+  private static final int NUMBER_OF_RECORDS = 1_000_000;
+  // records are generated once and cycled over to keep the heap out of the measurement
+  private static final int NUMBER_OF_DISTINCT_RECORDS = 1_000;
+
+  @Test
+  void testPerformance() {
+    final Random random = new Random(0);
+    final List<JsonNode> messages = IntStream.range(0, NUMBER_OF_DISTINCT_RECORDS)
+        .mapToObj(i -> Jsons.deserialize(Jsons.serialize(new AirbyteMessage()
+            .withType(Type.RECORD)
+            .withRecord(new AirbyteRecordMessage()
+                .withStream("stream" + i % 3)
+                .withEmittedAt(Instant.now().toEpochMilli())
+                .withData(randomData(random))))))
+        .collect(Collectors.toList());
+
+    final long fastPathMs = run(new AirbyteProtocolPredicate(false), messages);
+    final long fullValidationMs = run(new AirbyteProtocolPredicate(true), messages);
+
+    LOGGER.info("fast path {} records/s, full validation {} records/s", recordsPerSecond(fastPathMs), recordsPerSecond(fullValidationMs));
+  }
+
+  private static long run(final AirbyteProtocolPredicate predicate, final List<JsonNode> messages) {
+    final long start = System.currentTimeMillis();
+    for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+      assertTrue(predicate.test(messages.get(i % messages.size())));
+    }
+    return System.currentTimeMillis() - start;
+  }
+
+  private static JsonNode randomData(final Random random) {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    data.put("id", random.nextLong());
+    data.put("name", Long.toHexString(random.nextLong()));
+    data.put("score", random.nextDouble());
+    data.put("active", random.nextBoolean());
+    final ObjectNode address = (ObjectNode) Jsons.emptyObject();
+    address.put("street", Long.toHexString(random.nextLong()));
+    address.put("zip", random.nextInt(100_000));
+    data.set("address", address);
+    return data;
+  }
+
+  private static long recordsPerSecond(final long durationMs) {
+    return NUMBER_OF_RECORDS * 1000L / Math.max(durationMs, 1);
+  }
+
+}
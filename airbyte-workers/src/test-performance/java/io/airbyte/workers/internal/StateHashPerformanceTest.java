@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares hashing a state by serializing it with hashing it by walking its tree, for CDC-like
+ * states whose dbHistory holds several MB of DDL statements.
+ */
+class StateHashPerformanceTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StateHashPerformanceTest.class);
+
+  private static final int NUMBER_OF_HASHES = 100;
+  private static final String DDL = "CREATE TABLE `inventory`.`products` (`id` INT NOT NULL AUTO_INCREMENT, `name` VARCHAR(255) NOT NULL, "
+      + "`description` VARCHAR(512), `weight` FLOAT, PRIMARY KEY (`id`)) ENGINE=InnoDB AUTO_INCREMENT=101 DEFAULT CHARSET=latin1";
+
+  @ParameterizedTest
+  @CsvSource({
+    "1",
+    "5",
+    "20"
+  })
+  void testPerformance(final int dbHistoryMegabytes) {
+    final AirbyteStateMessage state = new AirbyteStateMessage().withData(cdcState(dbHistoryMegabytes));
+    final AirbyteMessageTracker messageTracker = new AirbyteMessageTracker();
+    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
+
+    long start = System.currentTimeMillis();
+    for (int i = 0; i < NUMBER_OF_HASHES; i++) {
+      hashFunction.hashBytes(Jsons.serialize(state.getData()).getBytes(StandardCharsets.UTF_8)).hashCode();
+    }
+    final long serializedMs = System.currentTimeMillis() - start;
+
+    start = System.currentTimeMillis();
+    for (int i = 0; i < NUMBER_OF_HASHES; i++) {
+      messageTracker.getStateHashCode(state);
+    }
+    final long treeMs = System.currentTimeMillis() - start;
+
+    LOGGER.info("{} MB dbHistory: serialized hash {} ms/state, tree hash {} ms/state",
+        dbHistoryMegabytes,
+        (double) serializedMs / NUMBER_OF_HASHES,
+        (double) treeMs / NUMBER_OF_HASHES);
+  }
+
+  private static JsonNode cdcState(final int dbHistoryMegabytes) {
+    final ArrayNode dbHistory = Jsons.arrayNode();
+    final int numberOfStatements = dbHistoryMegabytes * 1024 * 1024 / DDL.length();
+    for (int i = 0; i < numberOfStatements; i++) {
+      final ObjectNode entry = (ObjectNode) Jsons.emptyObject();
+      entry.put("source", "mysql");
+      entry.put("position", i);
+      entry.put("ddl", DDL);
+      dbHistory.add(entry);
+    }
+
+    final ObjectNode offset = (ObjectNode) Jsons.emptyObject();
+    offset.put("[\"inventory\",{\"server\":\"inventory\"}]", "{\"file\":\"mysql-bin.000003\",\"pos\":154}");
+    final ObjectNode cdcState = (ObjectNode) Jsons.emptyObject();
+    cdcState.set("mysql_cdc_offset", offset);
+    cdcState.put("mysql_db_history", Jsons.serialize(dbHistory));
+    final ObjectNode wrapper = (ObjectNode) Jsons.emptyObject();
+    wrapper.set("state", cdcState);
+    final ObjectNode state = (ObjectNode) Jsons.emptyObject();
+    state.set("cdc_state", wrapper);
+    return state;
+  }
+
+}
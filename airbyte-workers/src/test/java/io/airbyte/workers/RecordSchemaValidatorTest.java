@@ -4,13 +4,18 @@
 
 package io.airbyte.workers;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncInput;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.workers.exception.RecordSchemaValidationException;
 import io.airbyte.workers.internal.AirbyteMessageUtils;
+import java.util.Map;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,4 +46,23 @@ public class RecordSchemaValidatorTest {
     assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
   }
 
+  @Test
+  void testValidateSampledRecords() throws Exception {
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput), 2, 1.0);
+    // records 0, 2, 4... are validated
+    assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+    assertDoesNotThrow(() -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+    assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+  }
+
+  @Test
+  void testDoesNotModifyCatalogSchema() {
+    final Map<String, JsonNode> streamNamesToSchemas = WorkerUtils.mapStreamNamesToSchemas(syncInput);
+    final JsonNode originalSchema = Jsons.clone(streamNamesToSchemas.get(STREAM_NAME));
+
+    new RecordSchemaValidator(streamNamesToSchemas);
+
+    assertEquals(originalSchema, streamNamesToSchemas.get(STREAM_NAME));
+  }
+
 }
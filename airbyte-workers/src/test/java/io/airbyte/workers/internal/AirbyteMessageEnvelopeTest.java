@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageEnvelopeTest {
+
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+
+  @Test
+  void testRecord() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
+    record.getRecord().withNamespace("public");
+    final String line = Jsons.serialize(record);
+
+    final AirbyteMessageEnvelope envelope = AirbyteMessageEnvelope.scan(line + "  ").orElseThrow();
+
+    assertEquals(Type.RECORD, envelope.getType());
+    assertEquals(STREAM_NAME, envelope.getStream());
+    assertEquals("public", envelope.getNamespace());
+    assertEquals(line.length(), envelope.getLength());
+  }
+
+  @Test
+  void testFieldOrderDoesNotMatter() {
+    final String line = "{\"record\":{\"data\":{\"stream\":\"not_the_stream\"},\"emitted_at\":1,\"stream\":\"users\"},\"type\":\"RECORD\"}";
+
+    final AirbyteMessageEnvelope envelope = AirbyteMessageEnvelope.scan(line).orElseThrow();
+
+    assertEquals(Type.RECORD, envelope.getType());
+    assertEquals("users", envelope.getStream());
+    assertNull(envelope.getNamespace());
+  }
+
+  @Test
+  void testState() {
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+
+    final AirbyteMessageEnvelope envelope = AirbyteMessageEnvelope.scan(Jsons.serialize(state)).orElseThrow();
+
+    assertEquals(Type.STATE, envelope.getType());
+    assertNull(envelope.getStream());
+  }
+
+  @Test
+  void testInvalid() {
+    assertTrue(AirbyteMessageEnvelope.scan("not json").isEmpty());
+    assertTrue(AirbyteMessageEnvelope.scan("{\"type\":\"UNKNOWN\"}").isEmpty());
+    assertTrue(AirbyteMessageEnvelope.scan("{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"emitted_at\":1}}").isEmpty());
+    assertTrue(AirbyteMessageEnvelope.scan("{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":{}}}").isEmpty());
+    assertTrue(AirbyteMessageEnvelope.scan("{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":{}").isEmpty());
+  }
+
+}
@@ -5,12 +5,14 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.State;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.internal.StateDeltaTracker.StateDeltaTrackerException;
 import io.airbyte.workers.internal.state_aggregator.StateAggregator;
@@ -19,6 +21,7 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -137,6 +140,55 @@ class AirbyteMessageTrackerTest {
     assertEquals(expected, messageTracker.getStreamToEmittedBytes());
   }
 
+  @Test
+  public void testEmittedRecordsWithManyStreams() {
+    final Map<String, Long> expected = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      final String streamName = "stream_" + i;
+      for (int j = 0; j <= i; j++) {
+        messageTracker.acceptFromSource(AirbyteMessageUtils.createRecordMessage(streamName, j));
+      }
+      expected.put(streamName, (long) i + 1);
+    }
+
+    assertEquals(expected, messageTracker.getStreamToEmittedRecords());
+    assertEquals(5050L, messageTracker.getTotalRecordsEmitted());
+  }
+
+  @Test
+  public void testRunningCountsResetOnState() throws Exception {
+    final AirbyteMessage r1 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 1);
+    final AirbyteMessage r2 = AirbyteMessageUtils.createRecordMessage(STREAM_2, 2);
+    final AirbyteMessage s1 = AirbyteMessageUtils.createStateMessage(1);
+    final AirbyteMessage s2 = AirbyteMessageUtils.createStateMessage(2);
+
+    messageTracker.acceptFromSource(r1);
+    messageTracker.acceptFromSource(r2);
+    messageTracker.acceptFromSource(r2);
+    messageTracker.acceptFromSource(s1);
+    messageTracker.acceptFromSource(r2);
+    messageTracker.acceptFromSource(s2);
+
+    // only the streams with records since the previous state are part of a delta
+    final InOrder inOrder = Mockito.inOrder(mStateDeltaTracker);
+    inOrder.verify(mStateDeltaTracker).addState(Mockito.anyInt(), Mockito.eq(Map.of((short) 0, 1L, (short) 1, 2L)));
+    inOrder.verify(mStateDeltaTracker).addState(Mockito.anyInt(), Mockito.eq(Map.of((short) 1, 1L)));
+  }
+
+  @Test
+  public void testStateHashCode() {
+    final AirbyteStateMessage state = new AirbyteStateMessage()
+        .withData(Jsons.deserialize("{\"cursor\": 10, \"history\": [\"CREATE TABLE a\", {\"pos\": 1.5}], \"done\": null}"));
+    final AirbyteStateMessage sameState = new AirbyteStateMessage()
+        .withData(Jsons.deserialize("{\"cursor\":10,\"history\":[\"CREATE TABLE a\",{\"pos\":1.5}],\"done\":null}"));
+
+    assertEquals(messageTracker.getStateHashCode(state), messageTracker.getStateHashCode(sameState));
+    assertNotEquals(messageTracker.getStateHashCode(new AirbyteStateMessage().withData(Jsons.deserialize("{\"ab\": \"c\"}"))),
+        messageTracker.getStateHashCode(new AirbyteStateMessage().withData(Jsons.deserialize("{\"a\": \"bc\"}"))));
+    assertNotEquals(messageTracker.getStateHashCode(new AirbyteStateMessage().withData(Jsons.deserialize("{\"a\": 1}"))),
+        messageTracker.getStateHashCode(new AirbyteStateMessage().withData(Jsons.deserialize("{\"a\": \"1\"}"))));
+  }
+
   @Test
   public void testGetCommittedRecordsByStream() {
     final AirbyteMessage r1 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 1);
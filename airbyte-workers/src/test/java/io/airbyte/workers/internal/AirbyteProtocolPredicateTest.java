@@ -5,9 +5,13 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteLogMessage.Level;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +19,7 @@ class AirbyteProtocolPredicateTest {
 
   private static final String STREAM_NAME = "user_preferences";
   private static final String FIELD_NAME = "favorite_color";
+  private static final String RECORD = "{\"stream\": \"s\", \"namespace\": \"n\", \"data\": {\"a\": 1}, \"emitted_at\": 1}";
 
   private AirbyteProtocolPredicate predicate;
 
@@ -60,4 +65,49 @@ class AirbyteProtocolPredicateTest {
     assertFalse(predicate.test(Jsons.deserialize(concatenated)));
   }
 
+  @Test
+  void testValidNonRecordMessages() {
+    assertTrue(predicate.test(Jsons.jsonNode(AirbyteMessageUtils.createStateMessage("checkpoint", "1"))));
+    assertTrue(predicate.test(Jsons.jsonNode(AirbyteMessageUtils.createLogMessage(Level.INFO, "a log line"))));
+  }
+
+  @Test
+  void testUnknownType() {
+    assertFalse(predicate.test(Jsons.deserialize("{\"type\": \"FISH\", \"record\": " + RECORD + "}")));
+  }
+
+  @Test
+  void testRecordFastPath() {
+    assertTrue(AirbyteProtocolPredicate.isValidRecord(Jsons.deserialize("{\"type\": \"RECORD\", \"record\": " + RECORD + "}")));
+    // the other message types are left to the schema
+    assertFalse(AirbyteProtocolPredicate.isValidRecord(Jsons.jsonNode(AirbyteMessageUtils.createStateMessage("checkpoint", "1"))));
+  }
+
+  @Test
+  void testInvalidRecords() {
+    final List<String> invalidRecords = List.of(
+        "{\"type\": \"RECORD\"}",
+        "{\"type\": \"RECORD\", \"record\": \"not an object\"}",
+        "{\"type\": \"RECORD\", \"record\": {\"data\": {}, \"emitted_at\": 1}}",
+        "{\"type\": \"RECORD\", \"record\": {\"stream\": 1, \"data\": {}, \"emitted_at\": 1}}",
+        "{\"type\": \"RECORD\", \"record\": {\"stream\": \"s\", \"data\": [], \"emitted_at\": 1}}",
+        "{\"type\": \"RECORD\", \"record\": {\"stream\": \"s\", \"data\": {}}}",
+        "{\"type\": \"RECORD\", \"record\": {\"stream\": \"s\", \"data\": {}, \"emitted_at\": 1.5}}",
+        "{\"type\": \"RECORD\", \"record\": {\"stream\": \"s\", \"data\": {}, \"emitted_at\": 1, \"namespace\": 1}}");
+
+    for (final String invalidRecord : invalidRecords) {
+      final JsonNode message = Jsons.deserialize(invalidRecord);
+      assertFalse(AirbyteProtocolPredicate.isValidRecord(message));
+      assertEquals(new AirbyteProtocolPredicate(true).test(message), predicate.test(message));
+    }
+  }
+
+  @Test
+  void testFullValidation() {
+    final AirbyteProtocolPredicate fullValidationPredicate = new AirbyteProtocolPredicate(true);
+    final JsonNode record = Jsons.jsonNode(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green"));
+    assertTrue(fullValidationPredicate.test(record));
+    assertFalse(fullValidationPredicate.test(Jsons.deserialize("{ \"fish\": \"tuna\"}")));
+  }
+
 }
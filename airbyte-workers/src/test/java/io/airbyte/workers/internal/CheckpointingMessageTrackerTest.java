@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.State;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CheckpointingMessageTrackerTest {
+
+  private static final Duration MIN_INTERVAL = Duration.ofMinutes(1);
+  private static final State STATE = new State().withState(Jsons.jsonNode(1));
+
+  private MessageTracker delegate;
+  private List<State> checkpoints;
+  private AtomicLong now;
+
+  @BeforeEach
+  void setup() {
+    delegate = mock(MessageTracker.class);
+    when(delegate.getDestinationOutputState()).thenReturn(Optional.of(STATE));
+    checkpoints = new ArrayList<>();
+    now = new AtomicLong(0L);
+  }
+
+  @Test
+  void testRateLimitedByTime() {
+    final MessageTracker tracker = new CheckpointingMessageTracker(delegate, checkpoints::add, MIN_INTERVAL, 1, now::get);
+
+    tracker.acceptFromDestination(AirbyteMessageUtils.createStateMessage(1));
+    assertEquals(0, checkpoints.size());
+
+    now.set(MIN_INTERVAL.toMillis());
+    tracker.acceptFromDestination(AirbyteMessageUtils.createStateMessage(2));
+    assertEquals(List.of(STATE), checkpoints);
+
+    // the interval restarts at the last checkpoint
+    now.set(MIN_INTERVAL.toMillis() * 3 / 2);
+    tracker.acceptFromDestination(AirbyteMessageUtils.createStateMessage(3));
+    assertEquals(1, checkpoints.size());
+  }
+
+  @Test
+  void testRateLimitedByStateMessages() {
+    final MessageTracker tracker = new CheckpointingMessageTracker(delegate, checkpoints::add, MIN_INTERVAL, 3, now::get);
+    now.set(MIN_INTERVAL.toMillis());
+
+    tracker.acceptFromDestination(AirbyteMessageUtils.createStateMessage(1));
+    tracker.acceptFromDestination(AirbyteMessageUtils.createStateMessage(2));
+    assertEquals(0, checkpoints.size());
+
+    tracker.acceptFromDestination(AirbyteMessageUtils.createStateMessage(3));
+    assertEquals(1, checkpoints.size());
+  }
+
+  @Test
+  void testIgnoresNonStateMessages() {
+    final MessageTracker tracker = new CheckpointingMessageTracker(delegate, checkpoints::add, Duration.ZERO, 1, now::get);
+
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", 1);
+    tracker.acceptFromSource(record);
+    tracker.acceptFromDestination(new AirbyteMessage().withType(Type.TRACE).withTrace(AirbyteMessageUtils.createErrorTraceMessage("error", 1.0)));
+    assertEquals(0, checkpoints.size());
+  }
+
+  @Test
+  void testCheckpointFailureDoesNotFailSync() {
+    final MessageTracker tracker = new CheckpointingMessageTracker(delegate, state -> {
+      throw new RuntimeException("database unavailable");
+    }, Duration.ZERO, 1, now::get);
+
+    tracker.acceptFromDestination(AirbyteMessageUtils.createStateMessage(1));
+    assertEquals(Optional.of(STATE), tracker.getDestinationOutputState());
+  }
+
+}
@@ -5,6 +5,8 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -23,6 +25,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,6 +108,46 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  public void testPassthroughRecord() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final String line = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessageStream(line, true).collect(Collectors.toList());
+
+    assertEquals(List.of(record1), messages);
+    assertTrue(messages.get(0) instanceof PassthroughAirbyteMessage);
+    assertEquals(Optional.of(line), ((PassthroughAirbyteMessage) messages.get(0)).getSerialized());
+    verifyNoInteractions(protocolPredicate);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  public void testPassthroughRecordIgnoresTrailingCharacters() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final String line = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessageStream(line + " trailing", true).collect(Collectors.toList());
+
+    assertEquals(List.of(record1), messages);
+    assertEquals(Optional.of(line), ((PassthroughAirbyteMessage) messages.get(0)).getSerialized());
+  }
+
+  @Test
+  public void testPassthroughFallsBackForOtherMessages() {
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+    final String invalidRecord = "{ \"type\": \"RECORD\", \"record\": { \"stream\": \"users\" } }";
+
+    when(protocolPredicate.test(Jsons.deserialize(invalidRecord))).thenReturn(false);
+
+    final List<AirbyteMessage> messages = stringToMessageStream(Jsons.serialize(state) + "\n" + invalidRecord, true).collect(Collectors.toList());
+
+    assertEquals(List.of(state), messages);
+    assertFalse(messages.get(0) instanceof PassthroughAirbyteMessage);
+    verify(logger).error(anyString(), anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
   @Test
   @Disabled
   public void testMissingNewLineBetweenValidRecords() {
@@ -120,9 +164,13 @@ class DefaultAirbyteStreamFactoryTest {
   }
 
   private Stream<AirbyteMessage> stringToMessageStream(final String inputString) {
+    return stringToMessageStream(inputString, false);
+  }
+
+  private Stream<AirbyteMessage> stringToMessageStream(final String inputString, final boolean passthroughRecords) {
     final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
     final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
-    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder()).create(bufferedReader);
+    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder(), passthroughRecords).create(bufferedReader);
   }
 
 }
@@ -5,6 +5,7 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
@@ -56,6 +57,16 @@ class NamespacingMapperTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  void testSourceNamespaceWithoutPrefix() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null);
+
+    final AirbyteMessage actualMessage = mapper.mapMessage(RECORD_MESSAGE);
+
+    // nothing to change, the message is not copied
+    assertSame(RECORD_MESSAGE, actualMessage);
+  }
+
   @Test
   void testEmptySourceNamespace() {
     final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, OUTPUT_PREFIX);
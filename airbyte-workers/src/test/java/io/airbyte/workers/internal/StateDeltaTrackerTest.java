@@ -33,9 +33,9 @@ public class StateDeltaTrackerTest {
   private static final long STATE_3_STREAM_3_COUNT = 33L;
   private static final long STATE_3_STREAM_4_COUNT = 34L;
 
-  // enough capacity for above 3 states, which are each 24 bytes (8 byte hash + two 10 byte stream
-  // counts
-  private static final long INITIAL_DELTA_MEMORY_CAPACITY = 72L;
+  // enough capacity for above 3 states, which are each 28 bytes (4 byte hash + 4 byte stream count +
+  // two 10 byte stream counts)
+  private static final long INITIAL_DELTA_MEMORY_CAPACITY = 84L;
 
   private StateDeltaTracker stateDeltaTracker;
 
@@ -89,13 +89,13 @@ public class StateDeltaTrackerTest {
     // before anything is committed, returned map should be empty and deltas should contain three states
     final Map<Short, Long> expected = new HashMap<>();
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
-    Assertions.assertEquals(3, stateDeltaTracker.stateDeltas.size());
+    Assertions.assertEquals(3, stateDeltaTracker.getUncommittedStateCount());
 
     stateDeltaTracker.commitStateHash(STATE_1_HASH);
     expected.put(STREAM_INDEX_1, STATE_1_STREAM_1_COUNT);
     expected.put(STREAM_INDEX_2, STATE_1_STREAM_2_COUNT);
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
-    Assertions.assertEquals(2, stateDeltaTracker.stateDeltas.size());
+    Assertions.assertEquals(2, stateDeltaTracker.getUncommittedStateCount());
     expected.clear();
 
     stateDeltaTracker.commitStateHash(STATE_2_HASH);
@@ -103,7 +103,7 @@ public class StateDeltaTrackerTest {
     expected.put(STREAM_INDEX_2, STATE_1_STREAM_2_COUNT);
     expected.put(STREAM_INDEX_3, STATE_2_STREAM_3_COUNT);
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
-    Assertions.assertEquals(1, stateDeltaTracker.stateDeltas.size());
+    Assertions.assertEquals(1, stateDeltaTracker.getUncommittedStateCount());
     expected.clear();
 
     stateDeltaTracker.commitStateHash(STATE_3_HASH);
@@ -113,9 +113,70 @@ public class StateDeltaTrackerTest {
     expected.put(STREAM_INDEX_4, STATE_3_STREAM_4_COUNT);
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
 
-    // since all states are committed, capacity should be freed and the delta queue should be empty
-    Assertions.assertEquals(INITIAL_DELTA_MEMORY_CAPACITY, stateDeltaTracker.remainingCapacity);
-    Assertions.assertEquals(0, stateDeltaTracker.stateDeltas.size());
+    // since all states are committed, the delta queue should be empty
+    Assertions.assertEquals(0, stateDeltaTracker.getUncommittedStateCount());
+    Assertions.assertEquals(0, stateDeltaTracker.getSpilledBytes());
+  }
+
+  @Test
+  public void testSpillWhenMemoryCapacityExceeded() throws Exception {
+    final StateDeltaTracker spillingTracker = new StateDeltaTracker(INITIAL_DELTA_MEMORY_CAPACITY, StateDeltaTracker.SEGMENT_BYTES);
+    for (int i = 0; i < 3; i++) {
+      spillingTracker.addState(i, Collections.singletonMap(STREAM_INDEX_1, 1L));
+    }
+    // does not fit in the remaining memory
+    spillingTracker.addState(STATE_3_HASH, Map.of(STREAM_INDEX_1, 1L, STREAM_INDEX_2, 2L, STREAM_INDEX_3, 3L));
+    Assertions.assertEquals(StateDeltaTracker.SEGMENT_BYTES, spillingTracker.getSpilledBytes());
+    Assertions.assertFalse(spillingTracker.capacityExceeded);
+
+    spillingTracker.commitStateHash(STATE_3_HASH);
+    Assertions.assertEquals(Map.of(STREAM_INDEX_1, 4L, STREAM_INDEX_2, 2L, STREAM_INDEX_3, 3L), spillingTracker.getStreamToCommittedRecords());
+    // the memory segment was read completely and released
+    Assertions.assertEquals(0, spillingTracker.getMemoryInUse());
+  }
+
+  @Test
+  public void testMemoryReclaimedAcrossSegments() throws Exception {
+    final StateDeltaTracker tracker = new StateDeltaTracker(2L * StateDeltaTracker.SEGMENT_BYTES);
+    final int numStates = 10 * StateDeltaTracker.SEGMENT_BYTES / 18;
+    for (int i = 0; i < numStates; i++) {
+      tracker.addState(i, Collections.singletonMap(STREAM_INDEX_1, 1L));
+      if (i % 100 == 99) {
+        tracker.commitStateHash(i);
+      }
+    }
+
+    Assertions.assertFalse(tracker.capacityExceeded);
+    Assertions.assertTrue(tracker.getMemoryInUse() <= 2L * StateDeltaTracker.SEGMENT_BYTES);
+    Assertions.assertEquals((long) numStates / 100 * 100, tracker.getStreamToCommittedRecords().get(STREAM_INDEX_1));
+  }
+
+  @Test
+  public void testConcurrentAddAndCommit() throws Exception {
+    final StateDeltaTracker tracker = new StateDeltaTracker(2L * StateDeltaTracker.SEGMENT_BYTES, 64L * StateDeltaTracker.SEGMENT_BYTES);
+    final int numStates = 100_000;
+
+    final Thread producer = new Thread(() -> {
+      try {
+        for (int i = 0; i < numStates; i++) {
+          tracker.addState(i, Collections.singletonMap(STREAM_INDEX_1, 1L));
+        }
+      } catch (final StateDeltaTrackerException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    producer.start();
+
+    for (int i = 0; i < numStates; i++) {
+      while (tracker.getUncommittedStateCount() == 0) {
+        Thread.onSpinWait();
+      }
+      tracker.commitStateHash(i);
+    }
+    producer.join();
+
+    Assertions.assertEquals(numStates, tracker.getStreamToCommittedRecords().get(STREAM_INDEX_1));
+    Assertions.assertEquals(0, tracker.getUncommittedStateCount());
   }
 
 }